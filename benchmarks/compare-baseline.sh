@@ -0,0 +1,48 @@
+#!/bin/bash
+# MCP Marketing Suite - JMH baseline comparison
+# Description: Compare a JMH JSON result (-rf json) against a baseline. Fails when throughput
+#              drops, or bytes allocated per operation (gc.alloc.rate.norm, from -prof gc) rise,
+#              by more than the threshold.
+# Usage: ./compare-baseline.sh <baseline.json> <current.json> [threshold-percent, default 10]
+
+set -euo pipefail
+
+if [ $# -lt 2 ]; then
+  echo "Usage: $0 <baseline.json> <current.json> [threshold-percent]" >&2
+  exit 2
+fi
+
+BASELINE="$1"
+CURRENT="$2"
+THRESHOLD="${3:-10}"
+
+# One line per benchmark and parameter set: key, ops/s, bytes/op
+flatten() {
+  jq -r '.[] | [
+      (.benchmark + ([(.params // {}) | to_entries[] | ":" + .key + "=" + .value] | join(""))),
+      .primaryMetric.score,
+      (.secondaryMetrics["gc.alloc.rate.norm"].score // -1)
+    ] | @tsv' "$1" | sort
+}
+
+report=$(join -t $'\t' <(flatten "$BASELINE") <(flatten "$CURRENT") | awk -F'\t' -v threshold="$THRESHOLD" '
+  function pct(base, now) { return base > 0 ? (now - base) * 100 / base : 0 }
+  {
+    throughput = pct($2, $4)
+    allocation = ($3 >= 0 && $5 >= 0) ? pct($3, $5) : 0
+    flag = ""
+    if (throughput < -threshold) flag = flag " REGRESSED:throughput"
+    if (allocation > threshold) flag = flag " REGRESSED:allocation"
+    printf "%-70s %14.0f %14.0f %+8.1f%% %14.0f %14.0f %+8.1f%%%s\n", $1, $2, $4, throughput, $3, $5, allocation, flag
+  }')
+
+printf "%-70s %14s %14s %9s %14s %14s %9s\n" "Benchmark" "base ops/s" "ops/s" "delta" "base B/op" "B/op" "delta"
+echo "$report"
+
+if grep -q "REGRESSED" <<< "$report"; then
+  echo ""
+  echo "❌ Regression beyond ${THRESHOLD}% against $BASELINE"
+  exit 1
+fi
+echo ""
+echo "✅ Within ${THRESHOLD}% of $BASELINE"
@@ -0,0 +1,92 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Marketing contexts of increasing size shared by the benchmark suites
+ * <ul>
+ *     <li>{@code minimal}: required fields only, so every builder falls back to its defaults</li>
+ *     <li>{@code typical}: the payload of the {@code examples/} scripts</li>
+ *     <li>{@code maximal}: every optional field, all platforms and channels, 50 keywords and the
+ *     longest CRM sequence (5 steps)</li>
+ * </ul>
+ */
+public final class BenchmarkContexts {
+
+    public static final String MINIMAL = "minimal";
+    public static final String TYPICAL = "typical";
+    public static final String MAXIMAL = "maximal";
+
+    private BenchmarkContexts() {
+    }
+
+    public static MarketingContext of(String size) {
+        return switch (size) {
+            case MINIMAL -> minimal();
+            case TYPICAL -> typical();
+            case MAXIMAL -> maximal();
+            default -> throw new IllegalArgumentException("Unknown context size: " + size);
+        };
+    }
+
+    private static MarketingContext minimal() {
+        return MarketingContext.builder()
+                .requestId("bench-minimal")
+                .product("CRM")
+                .audience("SMBs")
+                .brandVoice("Direct")
+                .goals("Leads")
+                .language("en-US")
+                .executionMode(ExecutionMode.DETERMINISTIC)
+                .build();
+    }
+
+    private static MarketingContext typical() {
+        return MarketingContext.builder()
+                .requestId("bench-typical")
+                .product("Cloud CRM Platform")
+                .audience("Small Business Owners")
+                .brandVoice("Professional and Approachable")
+                .goals("Generate 100 qualified leads per month")
+                .language("en-US")
+                .executionMode(ExecutionMode.DETERMINISTIC)
+                .platforms(List.of("google", "meta", "linkedin"))
+                .budget("5000")
+                .duration("3 months")
+                .keywords(List.of("crm software", "small business crm", "sales pipeline", "lead tracking", "cloud crm"))
+                .sequenceLength(3)
+                .build();
+    }
+
+    private static MarketingContext maximal() {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            keywords.add("cloud crm platform keyword variant " + i);
+        }
+        return MarketingContext.builder()
+                .requestId("bench-maximal")
+                .product("Cloud CRM Platform with AI Forecasting, Pipeline Automation and Omnichannel Inbox")
+                .audience("Operations and sales leaders at small and mid-sized B2B companies in North America and Europe")
+                .brandVoice("Professional, approachable and data-driven with a confident but never pushy tone")
+                .goals("Generate 100 qualified leads per month and raise trial-to-paid conversion to 25% within two quarters")
+                .language("en-US")
+                .executionMode(ExecutionMode.DETERMINISTIC)
+                .platforms(List.of("google", "meta", "linkedin"))
+                .budget("25000")
+                .duration("6 months")
+                .keywords(List.copyOf(keywords))
+                .domain("https://www.example.com")
+                .monthlyBudget(8000)
+                .sequenceLength(5)
+                .conversionGoal("Book a product demo")
+                .channels(List.of("email", "sms", "whatsapp", "linkedin"))
+                .marketSegment("B2B SaaS")
+                .competitorAnalysis("Competitors lead on integrations but lag on onboarding time and support quality")
+                .timeframe("Two quarters")
+                .build();
+    }
+}
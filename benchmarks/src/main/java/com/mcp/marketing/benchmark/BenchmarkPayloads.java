@@ -0,0 +1,64 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.ArtifactType;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response envelopes of increasing size, shaped like the ones the tools and controllers build
+ * <ul>
+ *     <li>{@code small}: ads for the minimal context</li>
+ *     <li>{@code medium}: strategy for the typical context</li>
+ *     <li>{@code large}: bundle of every artifact plus the strategy for the maximal context</li>
+ * </ul>
+ */
+public final class BenchmarkPayloads {
+
+    public static final String SMALL = "small";
+    public static final String MEDIUM = "medium";
+    public static final String LARGE = "large";
+
+    private static final OrchestratorService ORCHESTRATOR = new OrchestratorService(new ValidationService());
+
+    private BenchmarkPayloads() {
+    }
+
+    public static StandardResponse<Map<String, Object>> of(String size) {
+        return switch (size) {
+            case SMALL -> envelope("ads", ORCHESTRATOR.generateAds(BenchmarkContexts.of(BenchmarkContexts.MINIMAL)));
+            case MEDIUM -> envelope("strategy", ORCHESTRATOR.generateStrategy(BenchmarkContexts.of(BenchmarkContexts.TYPICAL)));
+            case LARGE -> bundle(BenchmarkContexts.of(BenchmarkContexts.MAXIMAL));
+            default -> throw new IllegalArgumentException("Unknown payload size: " + size);
+        };
+    }
+
+    private static StandardResponse<Map<String, Object>> envelope(String artifactType, Object result) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("artifact_type", artifactType);
+        data.put("execution_time_ms", 3L);
+        data.put("result", result);
+        return StandardResponse.success("bench-" + artifactType, data);
+    }
+
+    private static StandardResponse<Map<String, Object>> bundle(MarketingContext context) {
+        Map<String, Object> parts = new LinkedHashMap<>();
+        parts.put(ArtifactType.ADS.getId(), ORCHESTRATOR.generateAds(context));
+        parts.put(ArtifactType.SEO_PLAN.getId(), ORCHESTRATOR.generateSeoPlan(context));
+        parts.put(ArtifactType.CRM_SEQUENCES.getId(), ORCHESTRATOR.generateCrmSequences(context));
+        parts.put("strategy", ORCHESTRATOR.generateStrategy(context));
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("artifact_type", "bundle");
+        data.put("artifacts", List.copyOf(parts.keySet()));
+        data.put("execution_time_ms", 12L);
+        data.put("partial", false);
+        data.put("parts", parts);
+        return StandardResponse.success("bench-bundle", data);
+    }
+}
@@ -0,0 +1,73 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.CrmSequencesResult;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.SeoPlanResult;
+import com.mcp.marketing.domain.model.StrategyResult;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of each generator and of the strategy aggregation
+ * <p>
+ * The builders are private, so each generator is measured through its public entry point, which
+ * also validates the context. That is the cost every REST and MCP call pays. Run with the GC
+ * profiler to get {@code gc.alloc.rate.norm} (bytes per operation):
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar OrchestratorBenchmark -prof gc -rf json -rff target/jmh-orchestrator.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OrchestratorBenchmark {
+
+    @Param({BenchmarkContexts.MINIMAL, BenchmarkContexts.TYPICAL, BenchmarkContexts.MAXIMAL})
+    public String contextSize;
+
+    private OrchestratorService orchestratorService;
+    private MarketingContext context;
+
+    @Setup
+    public void setUp() {
+        orchestratorService = new OrchestratorService(new ValidationService());
+        context = BenchmarkContexts.of(contextSize);
+    }
+
+    @Benchmark
+    public AdsResult ads() {
+        return orchestratorService.generateAds(context);
+    }
+
+    @Benchmark
+    public SeoPlanResult seoPlan() {
+        return orchestratorService.generateSeoPlan(context);
+    }
+
+    @Benchmark
+    public CrmSequencesResult crmSequences() {
+        return orchestratorService.generateCrmSequences(context);
+    }
+
+    @Benchmark
+    public StrategyResult strategy() {
+        return orchestratorService.generateStrategy(context);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mcp.marketing.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.infra.storage.FileSystemStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link FileSystemStorage#saveJson} (pretty-printed write of one envelope) on tmpfs versus a real disk
+ * <p>
+ * {@code tmpfs} writes under {@code -Dbench.tmpfs} (default {@code /dev/shm}); {@code disk} under
+ * {@code -Dbench.disk} (default {@code target/bench-disk}). The difference between the two is the
+ * filesystem cost; {@code tmpfs} alone is close to the serialization cost. Each trial writes into a
+ * fresh directory that is deleted afterwards.
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar PersistenceBenchmark -prof gc -rf json -rff target/jmh-persistence.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PersistenceBenchmark {
+
+    @Param({"tmpfs", "disk"})
+    public String target;
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public String payloadSize;
+
+    private Path directory;
+    private FileSystemStorage storage;
+    private StandardResponse<Map<String, Object>> envelope;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path base = Paths.get("tmpfs".equals(target)
+                ? System.getProperty("bench.tmpfs", "/dev/shm")
+                : System.getProperty("bench.disk", "target/bench-disk"));
+        Files.createDirectories(base);
+        directory = Files.createTempDirectory(base, "save-json-");
+
+        AppConfiguration appConfig = new AppConfiguration();
+        appConfig.getOutputs().setDirectory(directory.toString());
+        storage = new FileSystemStorage(appConfig, new ObjectMapper());
+        envelope = BenchmarkPayloads.of(payloadSize);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public String saveJson() {
+        return storage.saveJson("bench", envelope.getRequestId(), envelope);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mcp.marketing.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mcp.marketing.api.dto.StandardResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the JSON work on every generation call, in isolation
+ * <ul>
+ *     <li>{@code compact} / {@code pretty}: envelope to bytes, as the REST converter writes it with
+ *     and without {@code indent-output} and as {@code FileSystemStorage} writes it (pretty)</li>
+ *     <li>{@code convertToMap}: {@code objectMapper.convertValue(response, Map.class)}, which every
+ *     MCP tool runs before returning</li>
+ * </ul>
+ * Run with {@code -prof gc} for bytes allocated per operation:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar SerializationBenchmark -prof gc -rf json -rff target/jmh-serialization.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE})
+    public String payloadSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter compactWriter;
+    private ObjectWriter prettyWriter;
+    private StandardResponse<Map<String, Object>> envelope;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        compactWriter = objectMapper.writer();
+        prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        envelope = BenchmarkPayloads.of(payloadSize);
+    }
+
+    @Benchmark
+    public byte[] compact() throws JsonProcessingException {
+        return compactWriter.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] pretty() throws JsonProcessingException {
+        return prettyWriter.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public Map convertToMap() {
+        return objectMapper.convertValue(envelope, Map.class);
+    }
+}
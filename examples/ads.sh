@@ -17,7 +17,7 @@ curl -X POST "$BASE_URL$ENDPOINT" \
     "audience": "Small Business Owners",
     "brandVoice": "Professional and Approachable",
     "goals": "Generate 100 qualified leads per month",
-    "language": "en",
+    "language": "en-US",
     "platforms": ["google", "meta", "linkedin"],
     "budget": "5000",
     "duration": "3 months"
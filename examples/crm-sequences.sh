@@ -17,7 +17,7 @@ curl -X POST "$BASE_URL$ENDPOINT" \
     "audience": "Data Analysts",
     "brandVoice": "Technical and Helpful",
     "goals": "Convert trial users to paying customers",
-    "language": "en",
+    "language": "en-US",
     "sequenceLength": 5,
     "channels": ["email", "in-app"],
     "conversionGoal": "Upgrade to premium plan"
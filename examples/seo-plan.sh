@@ -17,7 +17,7 @@ curl -X POST "$BASE_URL$ENDPOINT" \
     "audience": "Online Retailers",
     "brandVoice": "Trustworthy and Efficient",
     "goals": "Increase organic traffic by 200%",
-    "language": "en",
+    "language": "en-US",
     "domain": "ecommerce-platform.com",
     "keywords": ["e-commerce", "online store", "sell online", "shopping cart"],
     "monthlyBudget": 5000
@@ -17,7 +17,7 @@ curl -X POST "$BASE_URL$ENDPOINT" \
     "audience": "Team Leads and Project Managers",
     "brandVoice": "Collaborative and Empowering",
     "goals": "Acquire 1000 customers in Q1 2026",
-    "language": "en",
+    "language": "en-US",
     "marketSegment": "Mid-market companies (50-500 employees)",
     "competitorAnalysis": "Main competitors: Asana, Monday.com, Jira",
     "channels": ["content-marketing", "paid-ads", "partnerships", "email"],
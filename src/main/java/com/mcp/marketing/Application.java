@@ -1,8 +1,10 @@
 package com.mcp.marketing;
 
+import com.mcp.marketing.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * MCP Marketing Suite - Main Application
@@ -18,6 +20,7 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
  */
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@ImportRuntimeHints(NativeImageHints.class)
 public class Application {
 
     public static void main(String[] args) {
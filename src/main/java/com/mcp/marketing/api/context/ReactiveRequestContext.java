@@ -0,0 +1,61 @@
+package com.mcp.marketing.api.context;
+
+import com.mcp.marketing.domain.model.Deadline;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Keys and accessors for request information carried in the Reactor Context of the reactive API.
+ * <p>
+ * Counterpart of {@link RequestContextAttributes}: the reactive stack has no servlet request to
+ * hang attributes on, and a request hops across event-loop threads, so neither attributes nor MDC
+ * follow it.
+ */
+public final class ReactiveRequestContext {
+
+    private ReactiveRequestContext() {
+    }
+
+    public static final String REQUEST_ID = RequestContextAttributes.REQUEST_ID;
+    public static final String START_TIME = RequestContextAttributes.START_TIME;
+    public static final String DEADLINE = RequestContextAttributes.DEADLINE;
+
+    public static Context of(String requestId, long startTime) {
+        return Context.of(REQUEST_ID, requestId, START_TIME, startTime);
+    }
+
+    /**
+     * @param deadline caller deadline, or {@code null} when the request has none
+     */
+    public static Context of(String requestId, long startTime, Deadline deadline) {
+        Context context = of(requestId, startTime);
+        return deadline != null ? context.put(DEADLINE, deadline) : context;
+    }
+
+    /**
+     * @return the request id, or {@code null} outside a request
+     */
+    public static String requestId(ContextView context) {
+        return context.getOrDefault(REQUEST_ID, null);
+    }
+
+    /**
+     * @return the request start time, or now outside a request
+     */
+    public static long startTime(ContextView context) {
+        Long startTime = context.getOrDefault(START_TIME, null);
+        return startTime != null ? startTime : System.currentTimeMillis();
+    }
+
+    /**
+     * @return the caller deadline, or one that never expires when none was set
+     */
+    public static Deadline deadline(ContextView context) {
+        Deadline deadline = context.getOrDefault(DEADLINE, null);
+        return deadline != null ? deadline : Deadline.none();
+    }
+
+    public static long executionTime(ContextView context) {
+        return Math.max(0, System.currentTimeMillis() - startTime(context));
+    }
+}
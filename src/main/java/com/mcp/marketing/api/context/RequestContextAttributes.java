@@ -10,4 +10,7 @@ public final class RequestContextAttributes {
 
     public static final String REQUEST_ID = "mcp.request_id";
     public static final String START_TIME = "mcp.request_start_time";
+    public static final String DEADLINE = "mcp.request_deadline";
+    public static final String STAGE_TIMINGS = "mcp.request_stage_timings";
+    public static final String BODY_READ_START = "mcp.request_body_read_start";
 }
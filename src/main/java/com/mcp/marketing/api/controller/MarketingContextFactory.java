@@ -0,0 +1,84 @@
+package com.mcp.marketing.api.controller;
+
+import com.mcp.marketing.api.dto.AdsRequest;
+import com.mcp.marketing.api.dto.CrmSequencesRequest;
+import com.mcp.marketing.api.dto.SeoPlanRequest;
+import com.mcp.marketing.api.dto.StrategyRequest;
+import com.mcp.marketing.domain.model.MarketingContext;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Maps REST request DTOs to {@link MarketingContext}, shared by the servlet and reactive controllers
+ */
+final class MarketingContextFactory {
+
+    private MarketingContextFactory() {
+    }
+
+    static MarketingContext ads(String requestId, AdsRequest request) {
+        return baseBuilder(requestId, request.getProduct(), request.getAudience(),
+                request.getBrandVoice(), request.getGoals(), request.getLanguage())
+                .platforms(request.getPlatforms())
+                .budget(request.getBudget())
+                .duration(request.getDuration())
+                .build();
+    }
+
+    static MarketingContext seoPlan(String requestId, SeoPlanRequest request) {
+        return baseBuilder(requestId, request.getProduct(), request.getAudience(),
+                request.getBrandVoice(), request.getGoals(), request.getLanguage())
+                .keywords(request.getKeywords())
+                .domain(request.getDomain())
+                .monthlyBudget(request.getMonthlyBudget())
+                .build();
+    }
+
+    static MarketingContext crmSequences(String requestId, CrmSequencesRequest request) {
+        return baseBuilder(requestId, request.getProduct(), request.getAudience(),
+                request.getBrandVoice(), request.getGoals(), request.getLanguage())
+                .sequenceLength(request.getSequenceLength())
+                .channels(request.getChannels())
+                .conversionGoal(request.getConversionGoal())
+                .build();
+    }
+
+    static MarketingContext strategy(String requestId, StrategyRequest request) {
+        return baseBuilder(requestId, request.getProduct(), request.getAudience(),
+                request.getBrandVoice(), request.getGoals(), request.getLanguage())
+                .marketSegment(request.getMarketSegment())
+                .competitorAnalysis(request.getCompetitorAnalysis())
+                .channels(request.getChannels())
+                .timeframe(request.getTimeframe())
+                .build();
+    }
+
+    private static MarketingContext.MarketingContextBuilder baseBuilder(String requestId,
+                                                                        String product,
+                                                                        String audience,
+                                                                        String brandVoice,
+                                                                        String goals,
+                                                                        String language) {
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product(product)
+                .audience(audience)
+                .brandVoice(brandVoice)
+                .goals(goals)
+                .language(normalizeLanguage(language));
+    }
+
+    private static String normalizeLanguage(String language) {
+        if (!StringUtils.hasText(language)) {
+            return "en-US";
+        }
+        String normalized = language.trim().toLowerCase(Locale.ROOT);
+        return switch (normalized) {
+            case "pt-br" -> "pt-BR";
+            case "en-us" -> "en-US";
+            case "es-es" -> "es-ES";
+            default -> language.trim();
+        };
+    }
+}
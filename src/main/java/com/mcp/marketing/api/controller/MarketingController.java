@@ -1,16 +1,31 @@
 package com.mcp.marketing.api.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.mcp.marketing.api.context.RequestContextAttributes;
 import com.mcp.marketing.api.dto.*;
 import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.domain.model.Deadline;
 import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.StageTimings;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.GenerationProgress;
 import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import com.mcp.marketing.infra.idempotency.IdempotencyStore;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.infra.scheduling.Lane;
+import com.mcp.marketing.infra.scheduling.LanePolicy;
+import com.mcp.marketing.infra.scheduling.PriorityLaneScheduler;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,35 +33,77 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.management.ManagementFactory;
 import java.time.Instant;
 import java.util.LinkedHashMap;
-import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * REST controller responsible for deterministic marketing payload generation.
+ * <p>
+ * Generation endpoints honor an {@code Idempotency-Key} header: a repeated key from the same
+ * client (its API key, else its address, as in admission control) replays the first response
+ * (flagged with {@code Idempotent-Replayed: true}) instead of generating again.
+ * <p>
+ * A deadline set by {@code RequestContextFilter} is carried into generation and persistence;
+ * sections dropped to meet it are listed under {@code data.skipped} with {@code data.partial: true}.
+ * <p>
+ * Generation runs in the interactive or bulk lane of {@link PriorityLaneScheduler}; a strategy
+ * in the bulk lane yields its slot between sections while interactive calls are waiting.
+ * <p>
+ * Each generation is timed per stage ({@link StageTimings}); with {@code ?timings=true} the
+ * durations up to persistence are returned under {@code data.timings}.
+ * <p>
+ * With {@code app.capture.enabled} every generation is also recorded by {@link TrafficCapture}
+ * for later replay.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 public class MarketingController {
 
     private static final Logger logger = LoggerFactory.getLogger(MarketingController.class);
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String TIMINGS_PARAMETER = "timings";
+    private static final TypeReference<StandardResponse<Map<String, Object>>> ENVELOPE = new TypeReference<>() {
+    };
 
     private final OrchestratorService orchestratorService;
     private final StoragePort storagePort;
     private final RequestIdResolver requestIdResolver;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final AppConfiguration appConfig;
+    private final PriorityLaneScheduler laneScheduler;
+    private final LanePolicy lanePolicy;
+    private final TrafficCapture trafficCapture;
     private final String serviceName;
     private final String serviceVersion;
 
     public MarketingController(OrchestratorService orchestratorService,
                                StoragePort storagePort,
                                RequestIdResolver requestIdResolver,
+                               IdempotencyStore idempotencyStore,
+                               ObjectMapper objectMapper,
+                               AppConfiguration appConfig,
+                               ObjectProvider<PriorityLaneScheduler> laneScheduler,
+                               ObjectProvider<LanePolicy> lanePolicy,
+                               ObjectProvider<TrafficCapture> trafficCapture,
                                @Value("${spring.application.name:mcp-marketing-suite}") String serviceName,
                                @Value("${app.version:0.1.0}") String serviceVersion) {
         this.orchestratorService = orchestratorService;
         this.storagePort = storagePort;
         this.requestIdResolver = requestIdResolver;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.appConfig = appConfig;
+        this.laneScheduler = laneScheduler.getIfAvailable();
+        this.lanePolicy = lanePolicy.getIfAvailable(() -> new LanePolicy(null, null));
+        this.trafficCapture = trafficCapture.getIfAvailable();
         this.serviceName = serviceName;
         this.serviceVersion = serviceVersion;
     }
@@ -54,58 +111,33 @@ public class MarketingController {
     @PostMapping("/api/marketing/ads")
     public ResponseEntity<StandardResponse<Map<String, Object>>> generateAds(@Valid @RequestBody AdsRequest request,
                                                                              HttpServletRequest httpRequest) {
-        return processRequest(httpRequest, "ads", requestId -> {
-            MarketingContext context = baseBuilder(requestId, request.getProduct(), request.getAudience(),
-                    request.getBrandVoice(), request.getGoals(), request.getLanguage())
-                    .platforms(request.getPlatforms())
-                    .budget(request.getBudget())
-                    .duration(request.getDuration())
-                    .build();
-            return orchestratorService.generateAds(context);
-        });
+        return processRequest(httpRequest, "ads", request,
+                requestId -> MarketingContextFactory.ads(requestId, request),
+                (context, progress) -> orchestratorService.generateAds(context));
     }
 
     @PostMapping("/api/marketing/seo-plan")
     public ResponseEntity<StandardResponse<Map<String, Object>>> generateSeoPlan(@Valid @RequestBody SeoPlanRequest request,
                                                                                  HttpServletRequest httpRequest) {
-        return processRequest(httpRequest, "seo-plan", requestId -> {
-            MarketingContext context = baseBuilder(requestId, request.getProduct(), request.getAudience(),
-                    request.getBrandVoice(), request.getGoals(), request.getLanguage())
-                    .keywords(request.getKeywords())
-                    .domain(request.getDomain())
-                    .monthlyBudget(request.getMonthlyBudget())
-                    .build();
-            return orchestratorService.generateSeoPlan(context);
-        });
+        return processRequest(httpRequest, "seo-plan", request,
+                requestId -> MarketingContextFactory.seoPlan(requestId, request),
+                (context, progress) -> orchestratorService.generateSeoPlan(context));
     }
 
     @PostMapping("/api/marketing/crm-sequences")
     public ResponseEntity<StandardResponse<Map<String, Object>>> generateCrmSequences(@Valid @RequestBody CrmSequencesRequest request,
                                                                                       HttpServletRequest httpRequest) {
-        return processRequest(httpRequest, "crm-sequences", requestId -> {
-            MarketingContext context = baseBuilder(requestId, request.getProduct(), request.getAudience(),
-                    request.getBrandVoice(), request.getGoals(), request.getLanguage())
-                    .sequenceLength(request.getSequenceLength())
-                    .channels(request.getChannels())
-                    .conversionGoal(request.getConversionGoal())
-                    .build();
-            return orchestratorService.generateCrmSequences(context);
-        });
+        return processRequest(httpRequest, "crm-sequences", request,
+                requestId -> MarketingContextFactory.crmSequences(requestId, request),
+                (context, progress) -> orchestratorService.generateCrmSequences(context));
     }
 
     @PostMapping("/api/marketing/strategy")
     public ResponseEntity<StandardResponse<Map<String, Object>>> generateStrategy(@Valid @RequestBody StrategyRequest request,
                                                                                   HttpServletRequest httpRequest) {
-        return processRequest(httpRequest, "strategy", requestId -> {
-            MarketingContext context = baseBuilder(requestId, request.getProduct(), request.getAudience(),
-                    request.getBrandVoice(), request.getGoals(), request.getLanguage())
-                    .marketSegment(request.getMarketSegment())
-                    .competitorAnalysis(request.getCompetitorAnalysis())
-                    .channels(request.getChannels())
-                    .timeframe(request.getTimeframe())
-                    .build();
-            return orchestratorService.generateStrategy(context);
-        });
+        return processRequest(httpRequest, "strategy", request,
+                requestId -> MarketingContextFactory.strategy(requestId, request),
+                orchestratorService::generateStrategy);
     }
 
     @GetMapping("/health")
@@ -125,57 +157,149 @@ public class MarketingController {
         return payload;
     }
 
-    private MarketingContext.MarketingContextBuilder baseBuilder(String requestId,
-                                                                 String product,
-                                                                 String audience,
-                                                                 String brandVoice,
-                                                                 String goals,
-                                                                 String language) {
-        return MarketingContext.builder()
-                .requestId(requestId)
-                .product(product)
-                .audience(audience)
-                .brandVoice(brandVoice)
-                .goals(goals)
-                .language(normalizeLanguage(language));
-    }
+    private <T> ResponseEntity<StandardResponse<Map<String, Object>>> processRequest(HttpServletRequest servletRequest,
+                                                                                     String artifactType,
+                                                                                     Object request,
+                                                                                     Function<String, MarketingContext> contextFactory,
+                                                                                     BiFunction<MarketingContext, GenerationProgress, T> generator) {
+        String idempotencyKey = servletRequest.getHeader(IdempotencyStore.HEADER);
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return ResponseEntity.ok(generate(servletRequest, artifactType, contextFactory, generator));
+        }
 
-    private String normalizeLanguage(String language) {
-        if (!StringUtils.hasText(language)) {
-            return "en-US";
+        IdempotencyStore.Claim claim = claim(clientKey(servletRequest) + ":" + artifactType + ":" + idempotencyKey, request);
+        if (claim.isReplay()) {
+            logger.info("request replayed artifact={} idempotency_key={} output_path={}", artifactType, idempotencyKey,
+                    claim.getOutputPath() != null ? claim.getOutputPath() : "n/a");
+            return ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(replay(claim));
+        }
+        try {
+            StandardResponse<Map<String, Object>> response = generate(servletRequest, artifactType, contextFactory, generator);
+            if (response.getData().containsKey("skipped")) {
+                // A deadline-trimmed response is not what a retry with more time should replay
+                claim.abandon();
+            } else {
+                claim.complete((String) response.getData().get("output_path"), () -> compact(response));
+            }
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            claim.abandon();
+            throw e;
         }
-        String normalized = language.trim().toLowerCase(Locale.ROOT);
-        return switch (normalized) {
-            case "pt-br" -> "pt-BR";
-            case "en-us" -> "en-US";
-            case "es-es" -> "es-ES";
-            default -> language.trim();
-        };
     }
 
-    private <T> ResponseEntity<StandardResponse<Map<String, Object>>> processRequest(HttpServletRequest servletRequest,
-                                                                                     String artifactType,
-                                                                                     Function<String, T> handler) {
+    private <T> StandardResponse<Map<String, Object>> generate(HttpServletRequest servletRequest,
+                                                               String artifactType,
+                                                               Function<String, MarketingContext> contextFactory,
+                                                               BiFunction<MarketingContext, GenerationProgress, T> generator) {
         String requestId = resolveRequestId(servletRequest);
         long startTime = getOrInitStartTime(servletRequest);
+        Deadline deadline = servletRequest.getAttribute(RequestContextAttributes.DEADLINE) instanceof Deadline requested
+                ? requested : Deadline.none();
+
+        StageTimings timings = StageTimings.start(artifactType);
+        if (servletRequest.getAttribute(RequestContextAttributes.BODY_READ_START) instanceof Long readStart) {
+            timings.record(StageTimings.PARSE, System.nanoTime() - readStart);
+        }
+        servletRequest.setAttribute(RequestContextAttributes.STAGE_TIMINGS, timings);
 
-        T result = handler.apply(requestId);
+        MarketingContext context = contextFactory.apply(requestId);
+        context.setDeadline(deadline);
+        context.setTimings(timings);
+        T result;
+        if (laneScheduler == null) {
+            result = generator.apply(context, GenerationProgress.NONE);
+        } else {
+            try (PriorityLaneScheduler.Permit permit = acquire(resolveLane(servletRequest))) {
+                result = generator.apply(context, stage -> checkpoint(permit));
+            }
+        }
         long executionTime = System.currentTimeMillis() - startTime;
 
         Map<String, Object> data = new LinkedHashMap<>();
-        data.put("artifact_type", artifactType);
-        data.put("execution_time_ms", executionTime);
-        data.put("result", result);
-
-        StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
-        String outputPath = storagePort.saveJson(artifactType, requestId, response);
+        StandardResponse<Map<String, Object>> response = timings.time(StageTimings.ENVELOPE, () -> {
+            data.put("artifact_type", artifactType);
+            data.put("execution_time_ms", executionTime);
+            data.put("result", result);
+            return StandardResponse.success(requestId, data);
+        });
+        String outputPath = timings.time(StageTimings.PERSIST,
+                () -> StoragePort.saveJsonBefore(deadline, storagePort, artifactType, requestId, response));
         if (StringUtils.hasText(outputPath)) {
             data.put("output_path", outputPath);
         }
+        if (deadline.isPartial()) {
+            data.put("partial", true);
+            data.put("skipped", deadline.getSkipped());
+            logger.info("request trimmed to deadline artifact={} skipped={}", artifactType, deadline.getSkipped());
+        }
+        if (trafficCapture != null) {
+            trafficCapture.record(StageMetrics.REST, artifactType, context, result, startTime, deadline.isPartial(), outputPath);
+        }
+        if (Boolean.parseBoolean(servletRequest.getParameter(TIMINGS_PARAMETER))) {
+            data.put("timings", timings.toMillis());
+        }
 
         logger.info("request processed artifact={} status=success execution_time_ms={} output_path={}", artifactType, executionTime, StringUtils.hasText(outputPath) ? outputPath : "n/a");
 
-        return ResponseEntity.ok(response);
+        return response;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        return IdempotencyStore.clientScope(request.getHeader(appConfig.getAdmission().getApiKeyHeader()),
+                request.getRemoteAddr());
+    }
+
+    private Lane resolveLane(HttpServletRequest request) {
+        return lanePolicy.resolve(request.getHeader(appConfig.getLanes().getPriorityHeader()),
+                request.getHeader(appConfig.getAdmission().getApiKeyHeader()), request.getRequestURI());
+    }
+
+    private PriorityLaneScheduler.Permit acquire(Lane lane) {
+        try {
+            return laneScheduler.acquire(lane);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + lane.getId() + " generation slot", e);
+        }
+    }
+
+    private void checkpoint(PriorityLaneScheduler.Permit permit) {
+        try {
+            permit.checkpoint();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while yielding to interactive generation");
+        }
+    }
+
+    private IdempotencyStore.Claim claim(String key, Object request) {
+        try {
+            return idempotencyStore.claim(key, IdempotencyStore.fingerprint(request));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the first request with this idempotency key", e);
+        }
+    }
+
+    private StandardResponse<Map<String, Object>> replay(IdempotencyStore.Claim claim) {
+        try {
+            StandardResponse<Map<String, Object>> response = objectMapper.readValue(claim.getReplayBody(), ENVELOPE);
+            if (claim.getOutputPath() != null) {
+                response.getData().put("output_path", claim.getOutputPath());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stored response cannot be read", e);
+        }
+    }
+
+    private byte[] compact(StandardResponse<Map<String, Object>> response) {
+        try {
+            return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response cannot be stored", e);
+        }
     }
 
     private String resolveRequestId(HttpServletRequest request) {
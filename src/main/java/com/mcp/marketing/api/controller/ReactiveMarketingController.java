@@ -0,0 +1,256 @@
+package com.mcp.marketing.api.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mcp.marketing.api.context.ReactiveRequestContext;
+import com.mcp.marketing.api.dto.*;
+import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.domain.model.Deadline;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.ports.AsyncStoragePort;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.infra.idempotency.IdempotencyStore;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Reactive counterpart of {@link MarketingController}, active when the application runs on WebFlux
+ * ({@code reactive} profile).
+ * <p>
+ * Same paths and envelopes; request id, start time and deadline come from the Reactor Context and
+ * artifacts are persisted through {@link AsyncStoragePort}. Sections dropped to meet the deadline
+ * are listed under {@code data.skipped} with {@code data.partial: true}.
+ * <p>
+ * {@code Idempotency-Key} is honored as in the servlet variant, sharing its key scope. Claiming a
+ * key may wait for the first attempt and read its artifact back, so it runs on the bounded elastic
+ * scheduler rather than on an event-loop thread.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMarketingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMarketingController.class);
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final TypeReference<StandardResponse<Map<String, Object>>> ENVELOPE = new TypeReference<>() {
+    };
+
+    private final OrchestratorService orchestratorService;
+    private final AsyncStoragePort storagePort;
+    private final RequestIdResolver requestIdResolver;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final AppConfiguration appConfig;
+    private final String serviceName;
+    private final String serviceVersion;
+
+    public ReactiveMarketingController(OrchestratorService orchestratorService,
+                                       AsyncStoragePort storagePort,
+                                       RequestIdResolver requestIdResolver,
+                                       IdempotencyStore idempotencyStore,
+                                       ObjectMapper objectMapper,
+                                       AppConfiguration appConfig,
+                                       @Value("${spring.application.name:mcp-marketing-suite}") String serviceName,
+                                       @Value("${app.version:0.1.0}") String serviceVersion) {
+        this.orchestratorService = orchestratorService;
+        this.storagePort = storagePort;
+        this.requestIdResolver = requestIdResolver;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.appConfig = appConfig;
+        this.serviceName = serviceName;
+        this.serviceVersion = serviceVersion;
+    }
+
+    @PostMapping("/api/marketing/ads")
+    public Mono<ResponseEntity<StandardResponse<Map<String, Object>>>> generateAds(@Valid @RequestBody AdsRequest request,
+                                                                                   ServerHttpRequest httpRequest) {
+        return processRequest(httpRequest, "ads", request, requestId -> MarketingContextFactory.ads(requestId, request),
+                orchestratorService::generateAds);
+    }
+
+    @PostMapping("/api/marketing/seo-plan")
+    public Mono<ResponseEntity<StandardResponse<Map<String, Object>>>> generateSeoPlan(@Valid @RequestBody SeoPlanRequest request,
+                                                                                       ServerHttpRequest httpRequest) {
+        return processRequest(httpRequest, "seo-plan", request, requestId -> MarketingContextFactory.seoPlan(requestId, request),
+                orchestratorService::generateSeoPlan);
+    }
+
+    @PostMapping("/api/marketing/crm-sequences")
+    public Mono<ResponseEntity<StandardResponse<Map<String, Object>>>> generateCrmSequences(@Valid @RequestBody CrmSequencesRequest request,
+                                                                                            ServerHttpRequest httpRequest) {
+        return processRequest(httpRequest, "crm-sequences", request, requestId -> MarketingContextFactory.crmSequences(requestId, request),
+                orchestratorService::generateCrmSequences);
+    }
+
+    @PostMapping("/api/marketing/strategy")
+    public Mono<ResponseEntity<StandardResponse<Map<String, Object>>>> generateStrategy(@Valid @RequestBody StrategyRequest request,
+                                                                                        ServerHttpRequest httpRequest) {
+        return processRequest(httpRequest, "strategy", request, requestId -> MarketingContextFactory.strategy(requestId, request),
+                orchestratorService::generateStrategy);
+    }
+
+    @GetMapping("/health")
+    public Mono<Map<String, Object>> health() {
+        return Mono.deferContextual(context -> {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("status", "UP");
+            payload.put("service", serviceName);
+            payload.put("version", serviceVersion);
+            payload.put("timestamp", Instant.now().toString());
+            payload.put("request_id", requestId(context));
+            payload.put("execution_time_ms", ReactiveRequestContext.executionTime(context));
+            payload.put("uptime_seconds", ManagementFactory.getRuntimeMXBean().getUptime() / 1000);
+            return Mono.just(payload);
+        });
+    }
+
+    private <T> Mono<ResponseEntity<StandardResponse<Map<String, Object>>>> processRequest(ServerHttpRequest httpRequest,
+                                                                                            String artifactType,
+                                                                                            Object request,
+                                                                                            Function<String, MarketingContext> contextFactory,
+                                                                                            Function<MarketingContext, T> generator) {
+        String idempotencyKey = httpRequest.getHeaders().getFirst(IdempotencyStore.HEADER);
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return generate(artifactType, contextFactory, generator).map(ResponseEntity::ok);
+        }
+
+        String key = clientKey(httpRequest) + ":" + artifactType + ":" + idempotencyKey;
+        return Mono.fromCallable(() -> claim(key, request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(claim -> {
+                    if (claim.isReplay()) {
+                        logger.info("request replayed artifact={} idempotency_key={} output_path={}", artifactType, idempotencyKey,
+                                claim.getOutputPath() != null ? claim.getOutputPath() : "n/a");
+                        return Mono.just(ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(replay(claim)));
+                    }
+                    AtomicBoolean settled = new AtomicBoolean();
+                    return generate(artifactType, contextFactory, generator)
+                            .doOnNext(response -> {
+                                settled.set(true);
+                                if (response.getData().containsKey("skipped")) {
+                                    // A deadline-trimmed response is not what a retry with more time should replay
+                                    claim.abandon();
+                                } else {
+                                    claim.complete((String) response.getData().get("output_path"), () -> compact(response));
+                                }
+                            })
+                            .doOnError(e -> claim.abandon())
+                            .doOnCancel(() -> {
+                                // Client gone before the response: let a retry run instead of waiting
+                                if (!settled.get()) {
+                                    claim.abandon();
+                                }
+                            })
+                            .map(ResponseEntity::ok);
+                });
+    }
+
+    private <T> Mono<StandardResponse<Map<String, Object>>> generate(String artifactType,
+                                                                      Function<String, MarketingContext> contextFactory,
+                                                                      Function<MarketingContext, T> generator) {
+        return Mono.deferContextual(context -> {
+            String requestId = requestId(context);
+            long startTime = ReactiveRequestContext.startTime(context);
+            Deadline deadline = ReactiveRequestContext.deadline(context);
+
+            // Generation is CPU-only; MDC is set just for its synchronous span so its logs keep request_id
+            T result;
+            MDC.put("request_id", requestId);
+            try {
+                MarketingContext marketingContext = contextFactory.apply(requestId);
+                marketingContext.setDeadline(deadline);
+                result = generator.apply(marketingContext);
+            } finally {
+                MDC.remove("request_id");
+            }
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("artifact_type", artifactType);
+            data.put("execution_time_ms", executionTime);
+            data.put("result", result);
+
+            StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
+            return AsyncStoragePort.saveJsonBefore(deadline, storagePort, artifactType, requestId, response)
+                    .doOnNext(outputPath -> data.put("output_path", outputPath))
+                    .defaultIfEmpty("n/a")
+                    .map(outputPath -> {
+                        if (deadline.isPartial()) {
+                            data.put("partial", true);
+                            data.put("skipped", deadline.getSkipped());
+                            logger.info("request trimmed to deadline request_id={} artifact={} skipped={}",
+                                    requestId, artifactType, deadline.getSkipped());
+                        }
+                        logger.info("request processed request_id={} artifact={} status=success execution_time_ms={} output_path={}",
+                                requestId, artifactType, executionTime, outputPath);
+                        return response;
+                    });
+        });
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return IdempotencyStore.clientScope(request.getHeaders().getFirst(appConfig.getAdmission().getApiKeyHeader()),
+                remoteAddress != null ? remoteAddress.getHostString() : null);
+    }
+
+    private IdempotencyStore.Claim claim(String key, Object request) {
+        try {
+            return idempotencyStore.claim(key, IdempotencyStore.fingerprint(request));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the first request with this idempotency key", e);
+        }
+    }
+
+    private StandardResponse<Map<String, Object>> replay(IdempotencyStore.Claim claim) {
+        try {
+            StandardResponse<Map<String, Object>> response = objectMapper.readValue(claim.getReplayBody(), ENVELOPE);
+            if (claim.getOutputPath() != null) {
+                response.getData().put("output_path", claim.getOutputPath());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stored response cannot be read", e);
+        }
+    }
+
+    private byte[] compact(StandardResponse<Map<String, Object>> response) {
+        try {
+            return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response cannot be stored", e);
+        }
+    }
+
+    private String requestId(ContextView context) {
+        String requestId = ReactiveRequestContext.requestId(context);
+        return requestId != null ? requestId : requestIdResolver.generate();
+    }
+}
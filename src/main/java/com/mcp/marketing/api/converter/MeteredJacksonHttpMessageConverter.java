@@ -0,0 +1,142 @@
+package com.mcp.marketing.api.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mcp.marketing.api.context.RequestContextAttributes;
+import com.mcp.marketing.domain.events.SerializationEvent;
+import com.mcp.marketing.domain.model.StageTimings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Jackson message converter for one wire format that records body size and encode time
+ * <p>
+ * Used for JSON, Smile and CBOR so every format is measured the same way. For JSON the
+ * {@code pretty} query parameter overrides {@code spring.jackson.serialization.indent-output}
+ * per request ({@code ?pretty=true} / {@code ?pretty=false}). Encode time is also added to the
+ * request {@link StageTimings} as the {@code serialize} stage and emitted as a
+ * {@link SerializationEvent}.
+ */
+public class MeteredJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final String PRETTY_PARAMETER = "pretty";
+
+    private final String format;
+    private final WireFormatMetrics metrics;
+
+    public MeteredJacksonHttpMessageConverter(String format,
+                                              ObjectMapper objectMapper,
+                                              WireFormatMetrics metrics,
+                                              List<MediaType> supportedMediaTypes) {
+        super(objectMapper, supportedMediaTypes.toArray(MediaType[]::new));
+        this.format = format;
+        this.metrics = metrics;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, counting);
+        } finally {
+            long encodeNanos = System.nanoTime() - start;
+            metrics.record(format, counting.bytes, encodeNanos);
+            StageTimings timings = currentRequestAttribute(RequestContextAttributes.STAGE_TIMINGS) instanceof StageTimings requestTimings
+                    ? requestTimings : null;
+            if (timings != null) {
+                timings.record(StageTimings.SERIALIZE, encodeNanos);
+            }
+            event.format = format;
+            event.bytes = counting.bytes;
+            event.commit((String) currentRequestAttribute(RequestContextAttributes.REQUEST_ID),
+                    timings != null ? timings.getArtifactType() : null);
+        }
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        if (!isJson()) {
+            return writer;
+        }
+        Boolean pretty = prettyParameter();
+        if (pretty == null) {
+            return writer;
+        }
+        return pretty ? writer.with(SerializationFeature.INDENT_OUTPUT) : writer.without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    protected List<MediaType> getMediaTypesForProblemDetail() {
+        return isJson() ? List.of(MediaType.APPLICATION_PROBLEM_JSON) : List.of();
+    }
+
+    private boolean isJson() {
+        return "json".equals(format);
+    }
+
+    private static Boolean prettyParameter() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        String value = servletAttributes.getRequest().getParameter(PRETTY_PARAMETER);
+        return value != null ? Boolean.valueOf(value) : null;
+    }
+
+    private static Object currentRequestAttribute(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null ? attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST) : null;
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private long bytes;
+
+        private CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
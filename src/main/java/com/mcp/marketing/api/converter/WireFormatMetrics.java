@@ -0,0 +1,55 @@
+package com.mcp.marketing.api.converter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response size and encode time per wire format (json, smile, cbor)
+ * <p>
+ * Sizes are measured before server compression is applied.
+ */
+public class WireFormatMetrics {
+
+    static final String BYTES = "http.server.response.bytes";
+    static final String ENCODE = "http.server.response.encode";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry registry to publish to, or {@code null} to record nothing
+     */
+    public WireFormatMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String format, long bytes, long encodeNanos) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Meters formatMeters = meters.computeIfAbsent(format, this::register);
+        formatMeters.bytes.record(bytes);
+        formatMeters.encode.record(encodeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Meters register(String format) {
+        return new Meters(
+                DistributionSummary.builder(BYTES)
+                        .description("Serialized response body size, before compression")
+                        .baseUnit("bytes")
+                        .tag("format", format)
+                        .register(meterRegistry),
+                Timer.builder(ENCODE)
+                        .description("Time spent serializing response bodies")
+                        .tag("format", format)
+                        .register(meterRegistry));
+    }
+
+    private record Meters(DistributionSummary bytes, Timer encode) {
+    }
+}
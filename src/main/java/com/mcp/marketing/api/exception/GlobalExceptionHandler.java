@@ -3,11 +3,16 @@ package com.mcp.marketing.api.exception;
 import com.mcp.marketing.api.context.RequestContextAttributes;
 import com.mcp.marketing.api.dto.ErrorResponse;
 import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
+import com.mcp.marketing.infra.idempotency.IdempotencyException;
+import com.mcp.marketing.infra.scheduling.LaneRejectedException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -22,6 +27,7 @@ import java.util.stream.Collectors;
 /**
  * Global exception handler translating validation/runtime errors into a consistent envelope.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -67,6 +73,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(IdempotencyException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotency(IdempotencyException ex, HttpServletRequest request) {
+        HttpStatus status = IdempotencyException.KEY_REUSED.equals(ex.getCode())
+                ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CONFLICT;
+        logger.warn("idempotency key rejected path={} code={} key={}", request.getRequestURI(), ex.getCode(), ex.getKey());
+        ErrorResponse errorResponse = ErrorResponse.of(resolveRequestId(request), status.value(),
+                ex.getCode(), ex.getMessage(), request.getRequestURI(), executionTime(request));
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException ex, HttpServletRequest request) {
+        logger.info("request deadline exceeded path={} stage={}", request.getRequestURI(), ex.getStage());
+        ErrorResponse errorResponse = ErrorResponse.of(resolveRequestId(request), HttpStatus.GATEWAY_TIMEOUT.value(),
+                DeadlineExceededException.CODE, ex.getMessage(), request.getRequestURI(), executionTime(request));
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+
+    @ExceptionHandler(LaneRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleLaneRejected(LaneRejectedException ex, HttpServletRequest request) {
+        logger.warn("generation lane saturated path={} lane={}", request.getRequestURI(), ex.getLane().getId());
+        ErrorResponse errorResponse = ErrorResponse.of(resolveRequestId(request), HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LaneRejectedException.CODE, ex.getMessage(), request.getRequestURI(), executionTime(request));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfterMillis() / 1000)))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntime(RuntimeException ex, HttpServletRequest request) {
         logger.error("runtime error path={} message={}", request.getRequestURI(), ex.getMessage(), ex);
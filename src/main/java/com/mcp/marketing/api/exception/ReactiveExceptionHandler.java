@@ -0,0 +1,132 @@
+package com.mcp.marketing.api.exception;
+
+import com.mcp.marketing.api.context.ReactiveRequestContext;
+import com.mcp.marketing.api.dto.ErrorResponse;
+import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
+import com.mcp.marketing.infra.idempotency.IdempotencyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Reactive counterpart of {@link GlobalExceptionHandler}, producing the same error envelope
+ * with request id and execution time read from the Reactor Context.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    private final RequestIdResolver requestIdResolver;
+
+    public ReactiveExceptionHandler(RequestIdResolver requestIdResolver) {
+        this.requestIdResolver = requestIdResolver;
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleValidation(WebExchangeBindException ex, ServerWebExchange exchange) {
+        List<ErrorResponse.FieldError> fieldErrors = ex.getFieldErrors().stream()
+                .map(this::toFieldError)
+                .toList();
+        return respond(HttpStatus.BAD_REQUEST, (requestId, executionTime) ->
+                ErrorResponse.validation(requestId, path(exchange), fieldErrors, executionTime));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleUnreadable(ServerWebInputException ex, ServerWebExchange exchange) {
+        logger.warn("invalid payload path={}", path(exchange), ex);
+        return respond(HttpStatus.BAD_REQUEST, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, HttpStatus.BAD_REQUEST.value(), "INVALID_PAYLOAD",
+                        "Request body is missing or malformed", path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleResponseStatus(ResponseStatusException ex, ServerWebExchange exchange) {
+        HttpStatusCode status = ex.getStatusCode();
+        String error = status instanceof HttpStatus httpStatus ? httpStatus.name() : "HTTP_" + status.value();
+        return respond(status, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, status.value(), error, ex.getReason(), path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleIllegalArgument(IllegalArgumentException ex, ServerWebExchange exchange) {
+        logger.warn("invalid argument path={}", path(exchange), ex);
+        return respond(HttpStatus.BAD_REQUEST, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, HttpStatus.BAD_REQUEST.value(), "INVALID_ARGUMENT",
+                        ex.getMessage(), path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(IdempotencyException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleIdempotency(IdempotencyException ex, ServerWebExchange exchange) {
+        HttpStatus status = IdempotencyException.KEY_REUSED.equals(ex.getCode())
+                ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.CONFLICT;
+        logger.warn("idempotency key rejected path={} code={} key={}", path(exchange), ex.getCode(), ex.getKey());
+        return respond(status, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, status.value(), ex.getCode(), ex.getMessage(), path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDeadlineExceeded(DeadlineExceededException ex, ServerWebExchange exchange) {
+        logger.info("request deadline exceeded path={} stage={}", path(exchange), ex.getStage());
+        return respond(HttpStatus.GATEWAY_TIMEOUT, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, HttpStatus.GATEWAY_TIMEOUT.value(), DeadlineExceededException.CODE,
+                        ex.getMessage(), path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleRuntime(RuntimeException ex, ServerWebExchange exchange) {
+        logger.error("runtime error path={} message={}", path(exchange), ex.getMessage(), ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, HttpStatus.INTERNAL_SERVER_ERROR.value(), "INTERNAL_ERROR",
+                        ex.getMessage(), path(exchange), executionTime));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleGeneric(Exception ex, ServerWebExchange exchange) {
+        logger.error("unexpected error path={} message={}", path(exchange), ex.getMessage(), ex);
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR, (requestId, executionTime) ->
+                ErrorResponse.of(requestId, HttpStatus.INTERNAL_SERVER_ERROR.value(), "UNEXPECTED_ERROR",
+                        ex.getMessage(), path(exchange), executionTime));
+    }
+
+    private Mono<ResponseEntity<ErrorResponse>> respond(HttpStatusCode status,
+                                                        BiFunction<String, Long, ErrorResponse> body) {
+        return Mono.deferContextual(context ->
+                Mono.just(ResponseEntity.status(status).body(body.apply(requestId(context),
+                        ReactiveRequestContext.executionTime(context)))));
+    }
+
+    private ErrorResponse.FieldError toFieldError(FieldError fieldError) {
+        return ErrorResponse.FieldError.builder()
+                .field(fieldError.getField())
+                .rejectedValue(fieldError.getRejectedValue() == null ? null : fieldError.getRejectedValue().toString())
+                .message(fieldError.getDefaultMessage())
+                .build();
+    }
+
+    private String requestId(ContextView context) {
+        String requestId = ReactiveRequestContext.requestId(context);
+        return requestId != null ? requestId : requestIdResolver.generate();
+    }
+
+    private static String path(ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().value();
+    }
+}
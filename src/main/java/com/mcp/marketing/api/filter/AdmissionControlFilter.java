@@ -0,0 +1,161 @@
+package com.mcp.marketing.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.context.RequestContextAttributes;
+import com.mcp.marketing.api.dto.ErrorResponse;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.infra.admission.AdaptiveConcurrencyLimiter;
+import com.mcp.marketing.infra.admission.TokenBucketQuotas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admission control for the generation endpoints ({@code /api/marketing/**})
+ * <p>
+ * A request first takes a token from its API key's bucket (when quotas are configured), then a
+ * slot from the adaptive concurrency limit. Requests that fit neither are rejected before any work
+ * is done: 429 {@code QUOTA_EXCEEDED} or 503 {@code OVERLOADED}, both with {@code Retry-After}.
+ * Runs right after {@link RequestContextFilter} so rejections still carry a {@code request_id}.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Order(RequestContextFilter.ORDER + 1)
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String QUOTA_EXCEEDED = "QUOTA_EXCEEDED";
+    public static final String OVERLOADED = "OVERLOADED";
+
+    static final String LIMIT = "http.server.admission.limit";
+    static final String IN_FLIGHT = "http.server.admission.inflight";
+    static final String REJECTED = "http.server.admission.rejected";
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFilter.class);
+    private static final String GUARDED_PATH = "/api/marketing/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final TokenBucketQuotas quotas;
+    private final String apiKeyHeader;
+    private final ObjectMapper objectMapper;
+    private final Counter quotaRejections;
+    private final Counter overloadRejections;
+
+    public AdmissionControlFilter(AppConfiguration appConfig,
+                                  ObjectMapper objectMapper,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        AppConfiguration.Admission admission = appConfig.getAdmission();
+        this.limiter = new AdaptiveConcurrencyLimiter(admission.getInitialLimit(), admission.getMinLimit(), admission.getMaxLimit());
+        this.quotas = admission.getRequestsPerSecond() > 0
+                ? new TokenBucketQuotas(admission.getRequestsPerSecond(), admission.getBurst(), admission.getMaxKeys())
+                : null;
+        this.apiKeyHeader = admission.getApiKeyHeader();
+        this.objectMapper = objectMapper;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder(LIMIT, limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit for generation requests")
+                    .register(registry);
+            Gauge.builder(IN_FLIGHT, limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Generation requests currently admitted")
+                    .register(registry);
+            this.quotaRejections = rejections(registry, "quota");
+            this.overloadRejections = rejections(registry, "overload");
+        } else {
+            this.quotaRejections = null;
+            this.overloadRejections = null;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(GUARDED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (quotas != null) {
+            long waitNanos = quotas.tryConsume(clientKey(request));
+            if (waitNanos > 0) {
+                increment(quotaRejections);
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS, QUOTA_EXCEEDED,
+                        "Request quota exceeded for this API key", waitNanos);
+                return;
+            }
+        }
+        if (!limiter.tryAcquire()) {
+            increment(overloadRejections);
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, OVERLOADED,
+                    "Server is at its concurrency limit", limiter.getShortRttNanos());
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return StringUtils.hasText(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request,
+                        HttpServletResponse response,
+                        HttpStatus status,
+                        String code,
+                        String message,
+                        long retryAfterNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        Object requestId = request.getAttribute(RequestContextAttributes.REQUEST_ID);
+        Object startTime = request.getAttribute(RequestContextAttributes.START_TIME);
+        long executionTime = startTime instanceof Long start ? Math.max(0, System.currentTimeMillis() - start) : 0;
+
+        logger.debug("request rejected error={} path={} retry_after_s={} limit={} in_flight={}",
+                code, request.getRequestURI(), retryAfterSeconds, limiter.getLimit(), limiter.getInFlight());
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+                requestId instanceof String id ? id : null, status.value(), code, message,
+                request.getRequestURI(), executionTime));
+    }
+
+    private static Counter rejections(MeterRegistry registry, String reason) {
+        return Counter.builder(REJECTED)
+                .description("Generation requests rejected by admission control")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
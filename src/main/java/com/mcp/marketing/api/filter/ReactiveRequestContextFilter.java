@@ -0,0 +1,50 @@
+package com.mcp.marketing.api.filter;
+
+import com.mcp.marketing.api.context.ReactiveRequestContext;
+import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.domain.model.Deadline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFilter that initializes contextual information for each reactive HTTP request.
+ * <p>
+ * Request id, start time and the caller deadline are written to the Reactor Context instead of
+ * request attributes. The deadline headers are read as in {@link RequestContextFilter}.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Component("marketingReactiveRequestContextFilter")
+public class ReactiveRequestContextFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRequestContextFilter.class);
+
+    private final RequestIdResolver requestIdResolver;
+
+    public ReactiveRequestContextFilter(RequestIdResolver requestIdResolver) {
+        this.requestIdResolver = requestIdResolver;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long startTime = System.currentTimeMillis();
+        String requestId = requestIdResolver.resolve(exchange.getRequest());
+        exchange.getResponse().getHeaders().set("X-Request-Id", requestId);
+
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        Deadline deadline = RequestContextFilter.resolveDeadline(headers.getFirst(RequestContextFilter.DEADLINE_HEADER),
+                headers.getFirst(RequestContextFilter.TIMEOUT_HEADER), startTime);
+
+        logger.debug("Initialized request context: request_id={} path={} deadline_ms={}", requestId, exchange.getRequest().getPath(),
+                deadline != null ? deadline.remainingMillis() : "none");
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveRequestContext.of(requestId, startTime, deadline));
+    }
+}
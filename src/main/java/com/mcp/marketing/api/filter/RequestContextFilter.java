@@ -2,6 +2,9 @@ package com.mcp.marketing.api.filter;
 
 import com.mcp.marketing.api.context.RequestContextAttributes;
 import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.domain.model.Deadline;
+import com.mcp.marketing.domain.model.StageTimings;
+import com.mcp.marketing.infra.metrics.StageMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,23 +12,44 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 
 /**
  * Filter that initializes contextual information for each HTTP request.
+ * <p>
+ * Also records the caller deadline, if any: {@code X-Request-Deadline} (epoch milliseconds or an
+ * ISO-8601 instant) and/or {@code X-Request-Timeout} (milliseconds from arrival). When both are
+ * sent the earlier one applies; malformed values are ignored.
+ * <p>
+ * Once the response is written, the stage timings of a generation request are published to
+ * {@link StageMetrics}, so they include response serialization.
  */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(RequestContextFilter.ORDER)
 @Component("marketingRequestContextFilter")
 public class RequestContextFilter extends OncePerRequestFilter {
 
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
     private static final Logger logger = LoggerFactory.getLogger(RequestContextFilter.class);
 
     private final RequestIdResolver requestIdResolver;
+    private final StageMetrics stageMetrics;
 
-    public RequestContextFilter(RequestIdResolver requestIdResolver) {
+    public RequestContextFilter(RequestIdResolver requestIdResolver, ObjectProvider<StageMetrics> stageMetrics) {
         this.requestIdResolver = requestIdResolver;
+        this.stageMetrics = stageMetrics.getIfAvailable();
     }
 
     @Override
@@ -40,12 +64,47 @@ public class RequestContextFilter extends OncePerRequestFilter {
         response.setHeader("X-Request-Id", requestId);
         MDC.put("request_id", requestId);
 
-        logger.debug("Initialized request context: request_id={} path={}", requestId, request.getRequestURI());
+        Deadline deadline = resolveDeadline(request.getHeader(DEADLINE_HEADER), request.getHeader(TIMEOUT_HEADER), startTime);
+        if (deadline != null) {
+            request.setAttribute(RequestContextAttributes.DEADLINE, deadline);
+        }
+
+        logger.debug("Initialized request context: request_id={} path={} deadline_ms={}", requestId, request.getRequestURI(),
+                deadline != null ? deadline.remainingMillis() : "none");
 
         try {
             filterChain.doFilter(request, response);
         } finally {
+            if (stageMetrics != null && request.getAttribute(RequestContextAttributes.STAGE_TIMINGS) instanceof StageTimings timings) {
+                stageMetrics.record(StageMetrics.REST, timings);
+            }
             MDC.remove("request_id");
         }
     }
+
+    /**
+     * Deadline from the header values, or {@code null} when neither is set (shared with
+     * {@link ReactiveRequestContextFilter})
+     */
+    static Deadline resolveDeadline(String deadlineHeader, String timeoutHeader, long startTime) {
+        Long expiresAt = null;
+        if (deadlineHeader != null && !deadlineHeader.isBlank()) {
+            try {
+                expiresAt = deadlineHeader.chars().allMatch(Character::isDigit)
+                        ? Long.parseLong(deadlineHeader)
+                        : Instant.parse(deadlineHeader.trim()).toEpochMilli();
+            } catch (NumberFormatException | DateTimeParseException e) {
+                logger.debug("Ignoring malformed {} header: {}", DEADLINE_HEADER, deadlineHeader);
+            }
+        }
+        if (timeoutHeader != null && !timeoutHeader.isBlank()) {
+            try {
+                long timeoutExpiresAt = startTime + Math.max(0, Long.parseLong(timeoutHeader.trim()));
+                expiresAt = expiresAt != null ? Math.min(expiresAt, timeoutExpiresAt) : timeoutExpiresAt;
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed {} header: {}", TIMEOUT_HEADER, timeoutHeader);
+            }
+        }
+        return expiresAt != null ? Deadline.at(expiresAt) : null;
+    }
 }
@@ -0,0 +1,65 @@
+package com.mcp.marketing.api.filter;
+
+import com.mcp.marketing.api.context.RequestContextAttributes;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.domain.model.StageTimings;
+import com.mcp.marketing.infra.metrics.RequestCost;
+import com.mcp.marketing.infra.metrics.RequestCostRecorder;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Charges the CPU time and heap allocation of each generation request to its artifact type and
+ * tenant ({@code X-Tenant-Id} by default)
+ * <p>
+ * Runs inside admission control, so rejected requests are not counted. Only requests that reached
+ * a generation endpoint (and so carry {@link StageTimings}) are recorded.
+ */
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "app.cost", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Order(RequestContextFilter.ORDER + 2)
+@Component
+public class RequestCostFilter extends OncePerRequestFilter {
+
+    private static final String MEASURED_PATH = "/api/marketing/";
+
+    private final RequestCostRecorder recorder;
+    private final String tenantHeader;
+
+    public RequestCostFilter(ObjectProvider<RequestCostRecorder> recorder, AppConfiguration appConfig) {
+        this.recorder = recorder.getIfAvailable();
+        this.tenantHeader = appConfig.getCost().getTenantHeader();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return recorder == null || !request.getRequestURI().startsWith(MEASURED_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestCost cost = new RequestCost();
+        try (RequestCost.Segment ignored = cost.begin()) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(RequestContextAttributes.STAGE_TIMINGS) instanceof StageTimings timings
+                    && timings.getArtifactType() != null) {
+                recorder.record(StageMetrics.REST, timings.getArtifactType(), request.getHeader(tenantHeader),
+                        (String) request.getAttribute(RequestContextAttributes.REQUEST_ID), cost);
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.mcp.marketing.api.util;
 
+import com.mcp.marketing.infra.id.TimeOrderedIds;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -12,7 +14,7 @@ import java.util.UUID;
  * <p>
  * Follows the pattern:
  * - If X-Request-Id header exists, use it
- * - Otherwise, generate a new UUID
+ * - Otherwise, generate a new time-ordered UUID (version 7, see {@link TimeOrderedIds})
  * <p>
  * This enables request tracing across distributed systems
  */
@@ -29,25 +31,37 @@ public class RequestIdResolver {
      * @return request ID from header or newly generated UUID
      */
     public String resolve(HttpServletRequest request) {
-        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        return resolveHeader(request.getHeader(REQUEST_ID_HEADER));
+    }
+
+    /**
+     * Resolve request ID from a reactive HTTP request
+     *
+     * @param request reactive HTTP request
+     * @return request ID from header or newly generated UUID
+     */
+    public String resolve(ServerHttpRequest request) {
+        return resolveHeader(request.getHeaders().getFirst(REQUEST_ID_HEADER));
+    }
 
+    private String resolveHeader(String requestId) {
         if (requestId != null && !requestId.isBlank()) {
             logger.debug("Using existing request_id from header: {}", requestId);
             return requestId;
         }
 
-        requestId = UUID.randomUUID().toString();
+        requestId = TimeOrderedIds.next();
         logger.debug("Generated new request_id: {}", requestId);
         return requestId;
     }
 
     /**
-     * Generate a new request ID (UUID)
+     * Generate a new request ID (time-ordered UUID)
      *
      * @return newly generated UUID string
      */
     public String generate() {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = TimeOrderedIds.next();
         logger.debug("Generated request_id: {}", requestId);
         return requestId;
     }
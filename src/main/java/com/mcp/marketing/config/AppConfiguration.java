@@ -4,6 +4,11 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Application configuration properties
@@ -15,6 +20,13 @@ import org.springframework.context.annotation.Configuration;
 public class AppConfiguration {
 
     private Outputs outputs = new Outputs();
+    private Idempotency idempotency = new Idempotency();
+    private Admission admission = new Admission();
+    private Lanes lanes = new Lanes();
+    private Timings timings = new Timings();
+    private Cost cost = new Cost();
+    private Jfr jfr = new Jfr();
+    private Capture capture = new Capture();
 
     @Setter
     @Getter
@@ -22,4 +34,74 @@ public class AppConfiguration {
         private String directory = "./outputs";
         private boolean enabled = true;
     }
+
+    @Setter
+    @Getter
+    public static class Idempotency {
+        private Duration ttl = Duration.ofHours(24);
+        private int maxKeys = 10_000;
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+
+    @Setter
+    @Getter
+    public static class Admission {
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private String apiKeyHeader = "X-Api-Key";
+        private double requestsPerSecond = 0;
+        private int burst = 20;
+        private int maxKeys = 10_000;
+    }
+
+    @Setter
+    @Getter
+    public static class Lanes {
+        private boolean enabled = true;
+        private int maxConcurrent = 0;
+        private int reservedInteractive = -1;
+        private Duration maxWait = Duration.ofSeconds(10);
+        private String priorityHeader = "X-Priority";
+        private List<String> bulkClients = new ArrayList<>();
+        private List<String> bulkPaths = new ArrayList<>();
+    }
+
+    @Setter
+    @Getter
+    public static class Timings {
+        private List<Duration> slo = new ArrayList<>(List.of(
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10),
+                Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100)));
+    }
+
+    @Setter
+    @Getter
+    public static class Cost {
+        private boolean enabled = true;
+        private String tenantHeader = "X-Tenant-Id";
+        private int maxTenants = 100;
+        private int topN = 10;
+        private Duration reportInterval = Duration.ofMinutes(1);
+    }
+
+    @Setter
+    @Getter
+    public static class Jfr {
+        private Duration maxDuration = Duration.ofMinutes(5);
+        private DataSize maxSize = DataSize.ofMegabytes(100);
+        private String settings = "default";
+    }
+
+    @Setter
+    @Getter
+    public static class Capture {
+        private boolean enabled = false;
+        private String directory = "./captures";
+        private DataSize maxFileSize = DataSize.ofMegabytes(64);
+        private int maxFiles = 8;
+        private double sampleRate = 1.0;
+        private int queueCapacity = 10_000;
+    }
 }
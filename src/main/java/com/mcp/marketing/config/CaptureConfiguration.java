@@ -0,0 +1,26 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+/**
+ * Opt-in traffic capture for replay ({@code app.capture.*})
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.capture", name = "enabled", havingValue = "true")
+public class CaptureConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public TrafficCapture trafficCapture(AppConfiguration appConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        AppConfiguration.Capture capture = appConfig.getCapture();
+        return new TrafficCapture(Paths.get(capture.getDirectory()), capture.getMaxFileSize().toBytes(),
+                capture.getMaxFiles(), capture.getSampleRate(), capture.getQueueCapacity(),
+                meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,23 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.metrics.RequestCostRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-request CPU and allocation accounting ({@code app.cost.*})
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cost", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CostConfiguration {
+
+    @Bean
+    public RequestCostRecorder requestCostRecorder(AppConfiguration appConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        AppConfiguration.Cost cost = appConfig.getCost();
+        return new RequestCostRecorder(meterRegistry.getIfAvailable(), cost.getMaxTenants(), cost.getTopN(),
+                cost.getReportInterval());
+    }
+}
@@ -0,0 +1,48 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.api.controller.MarketingController;
+import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * {@code fast-start} profile: lazy initialization with the generation request path kept eager
+ * <p>
+ * {@code application-fast-start.yml} turns on {@code spring.main.lazy-initialization}, so springdoc,
+ * the info contributors, most actuator endpoints and {@link McpMarketingServer} are created on first
+ * use instead of before the application reports ready. The REST controller and what it needs are
+ * excluded so the first generation request does not pay for them; the MCP server is built in the
+ * background once the application is ready.
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastStartConfiguration.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter generationPathEager() {
+        return LazyInitializationExcludeFilter.forBeanTypes(MarketingController.class, OrchestratorService.class,
+                StoragePort.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMcpServerAfterReady(ApplicationReadyEvent event) {
+        ObjectProvider<McpMarketingServer> mcpServer = event.getApplicationContext().getBeanProvider(McpMarketingServer.class);
+        Thread.ofPlatform().name("mcp-server-init").daemon().start(() -> {
+            long start = System.nanoTime();
+            if (mcpServer.getIfAvailable() != null) {
+                logger.info("MCP server initialized after ready in {} ms", (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.jfr.FlightRecordingEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * On-demand JFR recordings through {@code /actuator/flightrecording} ({@code app.jfr.*})
+ */
+@Configuration
+public class FlightRecordingConfiguration {
+
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnAvailableEndpoint
+    public FlightRecordingEndpoint flightRecordingEndpoint(AppConfiguration appConfig) {
+        AppConfiguration.Jfr jfr = appConfig.getJfr();
+        return new FlightRecordingEndpoint(jfr.getMaxDuration(), jfr.getMaxSize(), jfr.getSettings());
+    }
+}
@@ -0,0 +1,18 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.idempotency.IdempotencyStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key index for the REST generation endpoints ({@code app.idempotency.*})
+ */
+@Configuration
+public class IdempotencyConfiguration {
+
+    @Bean
+    public IdempotencyStore restIdempotencyStore(AppConfiguration appConfig) {
+        AppConfiguration.Idempotency idempotency = appConfig.getIdempotency();
+        return new IdempotencyStore(idempotency.getTtl(), idempotency.getMaxKeys(), idempotency.getMaxWait());
+    }
+}
@@ -0,0 +1,30 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.scheduling.LanePolicy;
+import com.mcp.marketing.infra.scheduling.PriorityLaneScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Interactive and bulk generation lanes shared by REST and MCP ({@code app.lanes.*})
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.lanes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LaneConfiguration {
+
+    @Bean
+    public PriorityLaneScheduler priorityLaneScheduler(AppConfiguration appConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        AppConfiguration.Lanes lanes = appConfig.getLanes();
+        return new PriorityLaneScheduler(lanes.getMaxConcurrent(), lanes.getReservedInteractive(), lanes.getMaxWait(),
+                meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    public LanePolicy lanePolicy(AppConfiguration appConfig) {
+        AppConfiguration.Lanes lanes = appConfig.getLanes();
+        return new LanePolicy(lanes.getBulkClients(), lanes.getBulkPaths());
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * MCP SDK configuration properties
  */
@@ -18,6 +20,10 @@ public class McpConfiguration {
     private Server server = new Server();
     private Resources resources = new Resources();
     private Tools tools = new Tools();
+    private Sessions sessions = new Sessions();
+    private Scheduler scheduler = new Scheduler();
+    private Idempotency idempotency = new Idempotency();
+    private Stdio stdio = new Stdio();
 
     @Setter
     @Getter
@@ -31,11 +37,45 @@ public class McpConfiguration {
     @Getter
     public static class Resources {
         private boolean enabled = true;
+        private String catalogDirectory = "./catalogs";
+        private boolean watch = true;
     }
 
     @Setter
     @Getter
     public static class Tools {
         private boolean enabled = true;
+        private int bundleParallelism = 0;
+    }
+
+    @Setter
+    @Getter
+    public static class Sessions {
+        private int maxSessions = 1000;
+        private long maxMemoryBytes = 16L * 1024 * 1024;
+        private Duration idleTimeout = Duration.ofMinutes(30);
+    }
+
+    @Setter
+    @Getter
+    public static class Scheduler {
+        private int maxConcurrent = 0;
+        private int maxInFlightPerClient = 4;
+        private int maxQueuedPerClient = 32;
+        private Duration maxWait = Duration.ofSeconds(10);
+    }
+
+    @Setter
+    @Getter
+    public static class Idempotency {
+        private Duration ttl = Duration.ofHours(24);
+        private int maxKeys = 10_000;
+        private Duration maxWait = Duration.ofSeconds(30);
+    }
+
+    @Setter
+    @Getter
+    public static class Stdio {
+        private boolean enabled = false;
     }
 }
@@ -0,0 +1,46 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import com.mcp.marketing.mcp.transport.McpStdioTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MCP stdio entry point, used by the {@code mcp-stdio} profile and the native executable
+ * <p>
+ * The runner is always registered and checks {@code mcp.sdk.stdio.enabled} when it runs: an
+ * AOT-processed or native application fixes its bean conditions at build time, so one binary
+ * can then serve both HTTP and stdio. When enabled it serves stdin/stdout until the client
+ * closes stdin and then exits the application.
+ */
+@Configuration
+public class McpStdioConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(McpStdioConfiguration.class);
+
+    @Bean
+    public ApplicationRunner mcpStdioRunner(@Value("${mcp.sdk.stdio.enabled:false}") boolean enabled,
+                                            ObjectProvider<McpMarketingServer> mcpServer,
+                                            ConfigurableApplicationContext context) {
+        return args -> {
+            if (!enabled) {
+                return;
+            }
+            McpMarketingServer server = mcpServer.getIfAvailable();
+            if (server == null) {
+                logger.warn("MCP stdio transport enabled but no MCP server is available");
+                return;
+            }
+            logger.info("Serving MCP over stdio: tools={}", server.getToolNames());
+            new McpStdioTransport(server, System.in, System.out).run();
+            System.exit(SpringApplication.exit(context));
+        };
+    }
+}
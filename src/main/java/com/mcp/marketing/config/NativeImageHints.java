@@ -0,0 +1,44 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.api.dto.ErrorResponse;
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.CrmSequencesResult;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.OutputArtifact;
+import com.mcp.marketing.domain.model.SeoPlanResult;
+import com.mcp.marketing.domain.model.StrategyResult;
+import com.mcp.marketing.infra.capture.CapturedRequest;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image metadata Spring AOT cannot infer
+ * <p>
+ * The MCP tools, storage and traffic capture serialize the Lombok models with their own
+ * {@code ObjectMapper}s rather than through a controller signature, so their binding reflection
+ * (accessors, constructors and nested types) is registered here. The resource catalogs are read
+ * from the classpath by name.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    static final Class<?>[] JSON_TYPES = {
+            MarketingContext.class,
+            AdsResult.class,
+            SeoPlanResult.class,
+            CrmSequencesResult.class,
+            StrategyResult.class,
+            OutputArtifact.class,
+            StandardResponse.class,
+            ErrorResponse.class,
+            CapturedRequest.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+        hints.resources().registerPattern("catalogs/*.json");
+        hints.resources().registerPattern("META-INF/build-info.properties");
+    }
+}
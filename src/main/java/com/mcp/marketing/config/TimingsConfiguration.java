@@ -0,0 +1,19 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-stage generation timers shared by REST and MCP ({@code app.timings.*})
+ */
+@Configuration
+public class TimingsConfiguration {
+
+    @Bean
+    public StageMetrics stageMetrics(AppConfiguration appConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new StageMetrics(meterRegistry.getIfAvailable(), appConfig.getTimings().getSlo());
+    }
+}
@@ -0,0 +1,59 @@
+package com.mcp.marketing.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.mcp.marketing.api.converter.MeteredJacksonHttpMessageConverter;
+import com.mcp.marketing.api.converter.WireFormatMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wire format configuration for the servlet API
+ * <p>
+ * Replaces the Jackson converters with metered ones: JSON stays first and remains the default,
+ * Smile ({@code application/x-jackson-smile}) and CBOR ({@code application/cbor}) are served to callers
+ * that ask for them and share the application ObjectMapper settings.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WireFormatConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final WireFormatMetrics metrics;
+
+    public WireFormatConfiguration(ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.metrics = new WireFormatMetrics(meterRegistry.getIfAvailable());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(this::metered);
+    }
+
+    private HttpMessageConverter<?> metered(HttpMessageConverter<?> converter) {
+        if (converter instanceof MappingJackson2SmileHttpMessageConverter smile) {
+            return new MeteredJacksonHttpMessageConverter("smile", objectMapper.copyWith(new SmileFactory()),
+                    metrics, smile.getSupportedMediaTypes());
+        }
+        if (converter instanceof MappingJackson2CborHttpMessageConverter cbor) {
+            return new MeteredJacksonHttpMessageConverter("cbor", objectMapper.copyWith(new CBORFactory()),
+                    metrics, cbor.getSupportedMediaTypes());
+        }
+        if (converter instanceof MappingJackson2HttpMessageConverter json) {
+            return new MeteredJacksonHttpMessageConverter("json", json.getObjectMapper(),
+                    metrics, json.getSupportedMediaTypes());
+        }
+        return converter;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One orchestrator generation: validation plus every section built for the artifact
+ */
+@Name("com.mcp.marketing.Build")
+@Label("Generation Build")
+@Description("Orchestrator generation of one artifact, strategy or bundle part")
+public class BuildEvent extends GenerationEvent {
+}
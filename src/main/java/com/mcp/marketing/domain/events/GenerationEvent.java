@@ -0,0 +1,38 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Java Flight Recorder events emitted on the generation and persistence paths
+ * <p>
+ * Usage is {@code begin()} before the work and {@link #commit(String, String)} after it. While no
+ * recording enables the event, {@code begin()} and {@code shouldCommit()} are no-ops the JIT
+ * removes, and the event object itself is scalar-replaced, so instrumented code costs nothing
+ * measurable. Stack traces are off: the events are tied to requests, not call sites. The shared
+ * fields are package-private because JFR ignores private fields declared in a superclass.
+ */
+@Category({"MCP Marketing", "Generation"})
+@StackTrace(false)
+public abstract class GenerationEvent extends Event {
+
+    @Label("Request Id")
+    String requestId;
+
+    @Label("Artifact Type")
+    String artifactType;
+
+    /**
+     * End the event and commit it if a recording wants it
+     */
+    public void commit(String requestId, String artifactType) {
+        end();
+        if (shouldCommit()) {
+            this.requestId = requestId;
+            this.artifactType = artifactType;
+            commit();
+        }
+    }
+}
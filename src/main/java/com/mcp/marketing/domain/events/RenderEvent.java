@@ -0,0 +1,14 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One deterministic section builder filling its templates from the context
+ */
+@Name("com.mcp.marketing.Render")
+@Label("Template Render")
+@Description("Rule-based template rendering of one section (ads, seo, crm)")
+public class RenderEvent extends GenerationEvent {
+}
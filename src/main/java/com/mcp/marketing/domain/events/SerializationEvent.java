@@ -0,0 +1,24 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Encoding of a response envelope
+ */
+@Name("com.mcp.marketing.Serialization")
+@Label("Response Serialization")
+@Description("Encoding of a response envelope; bytes is 0 when the envelope is handed on as a map")
+@Category({"MCP Marketing", "Serialization"})
+public class SerializationEvent extends GenerationEvent {
+
+    @Label("Format")
+    public String format;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,24 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One artifact written through a {@link com.mcp.marketing.domain.ports.StoragePort}
+ */
+@Name("com.mcp.marketing.StorageWrite")
+@Label("Storage Write")
+@Description("Serialization and write of one artifact to storage")
+@Category({"MCP Marketing", "Persistence"})
+public class StorageWriteEvent extends GenerationEvent {
+
+    @Label("Storage")
+    public String storage;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
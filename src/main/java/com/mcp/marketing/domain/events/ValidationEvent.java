@@ -0,0 +1,17 @@
+package com.mcp.marketing.domain.events;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Validation of a marketing context
+ */
+@Name("com.mcp.marketing.Validation")
+@Label("Context Validation")
+@Description("Validation of the marketing context before generation")
+public class ValidationEvent extends GenerationEvent {
+
+    @Label("Errors")
+    public int errors;
+}
@@ -0,0 +1,48 @@
+package com.mcp.marketing.domain.model;
+
+/**
+ * Artifact types that can be generated together in a bundle
+ * <p>
+ * Each type carries the identifier used by its standalone tool and output files.
+ */
+public enum ArtifactType {
+
+    /**
+     * Multi-platform ads
+     */
+    ADS("ads"),
+
+    /**
+     * SEO plan
+     */
+    SEO_PLAN("seo-plan"),
+
+    /**
+     * CRM sequences
+     */
+    CRM_SEQUENCES("crm-sequences");
+
+    private final String id;
+
+    ArtifactType(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Artifact type by its tool identifier
+     *
+     * @throws IllegalArgumentException if the identifier is unknown
+     */
+    public static ArtifactType fromId(String id) {
+        for (ArtifactType type : values()) {
+            if (type.id.equalsIgnoreCase(id)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown artifact type: " + id);
+    }
+}
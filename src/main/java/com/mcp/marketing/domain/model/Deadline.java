@@ -0,0 +1,88 @@
+package com.mcp.marketing.domain.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Time budget of one request, as set by the caller
+ * <p>
+ * Generation and persistence check it between sections: once it has passed, the remaining
+ * sections are skipped and recorded here so the response can report what is missing. A request
+ * without a deadline never expires.
+ */
+public final class Deadline {
+
+    private final long expiresAtMillis;
+    private final List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+
+    private Deadline(long expiresAtMillis) {
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * Deadline that never expires
+     */
+    public static Deadline none() {
+        return new Deadline(Long.MAX_VALUE);
+    }
+
+    /**
+     * Deadline at an absolute wall-clock time
+     */
+    public static Deadline at(long epochMillis) {
+        return new Deadline(epochMillis);
+    }
+
+    /**
+     * Deadline {@code timeout} from now
+     */
+    public static Deadline in(Duration timeout) {
+        return new Deadline(System.currentTimeMillis() + Math.max(0, timeout.toMillis()));
+    }
+
+    public boolean isBounded() {
+        return expiresAtMillis != Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return isBounded() && System.currentTimeMillis() >= expiresAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Milliseconds left, 0 once expired, {@link Long#MAX_VALUE} when unbounded
+     */
+    public long remainingMillis() {
+        return isBounded() ? Math.max(0, expiresAtMillis - System.currentTimeMillis()) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Record a section that was not produced because the deadline had passed
+     */
+    public void skip(String section) {
+        skipped.add(section);
+    }
+
+    public boolean isPartial() {
+        return !skipped.isEmpty();
+    }
+
+    /**
+     * Sections skipped so far, in the order they were dropped
+     */
+    public List<String> getSkipped() {
+        synchronized (skipped) {
+            return List.copyOf(skipped);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isBounded() ? "Deadline[expiresAt=" + expiresAtMillis + ", skipped=" + getSkipped() + "]" : "Deadline[none]";
+    }
+}
@@ -3,6 +3,7 @@ package com.mcp.marketing.domain.model;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
@@ -55,6 +56,20 @@ public class MarketingContext {
     @Builder.Default
     private ExecutionMode executionMode = ExecutionMode.DETERMINISTIC;
 
+    /**
+     * Caller deadline; sections that cannot start before it are skipped
+     */
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private Deadline deadline = Deadline.none();
+
+    /**
+     * Per-stage durations of this request; records nothing unless an entry point starts it
+     */
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private StageTimings timings = StageTimings.none();
+
     // Additional context fields (optional)
 
     /**
@@ -82,6 +97,11 @@ public class MarketingContext {
      */
     private String domain;
 
+    /**
+     * Precomputed ads display URL (derived from product when no domain is given)
+     */
+    private String displayUrl;
+
     /**
      * Monthly budget for SEO initiatives
      */
@@ -0,0 +1,106 @@
+package com.mcp.marketing.domain.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Nanosecond durations of the stages of one generation request
+ * <p>
+ * Entry points time parsing, envelope building, serialization and persistence; the orchestrator
+ * times validation (unless the entry point already validated the context) and each builder. A
+ * stage recorded more than once accumulates. Stages appear in the order they first ran.
+ */
+public final class StageTimings {
+
+    public static final String PARSE = "parse";
+    public static final String VALIDATE = "validate";
+    public static final String BUILD_PREFIX = "build.";
+    public static final String ENVELOPE = "envelope";
+    public static final String SERIALIZE = "serialize";
+    public static final String PERSIST = "persist";
+
+    private static final StageTimings NONE = new StageTimings(null, false);
+
+    private final String artifactType;
+    private final boolean enabled;
+    private final Map<String, Long> nanos = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private StageTimings(String artifactType, boolean enabled) {
+        this.artifactType = artifactType;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Shared instance that records nothing
+     */
+    public static StageTimings none() {
+        return NONE;
+    }
+
+    /**
+     * New recorder for one request producing {@code artifactType}
+     */
+    public static StageTimings start(String artifactType) {
+        return new StageTimings(artifactType, true);
+    }
+
+    /**
+     * Stage name of the builder for {@code artifact}, e.g. {@code build.seo-plan}
+     */
+    public static String build(ArtifactType artifact) {
+        return BUILD_PREFIX + artifact.getId();
+    }
+
+    public <T> T time(String stage, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void time(String stage, Runnable work) {
+        time(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public void record(String stage, long durationNanos) {
+        if (enabled) {
+            nanos.merge(stage, Math.max(0, durationNanos), Long::sum);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getArtifactType() {
+        return artifactType;
+    }
+
+    /**
+     * Copy of the recorded durations in nanoseconds
+     */
+    public Map<String, Long> getNanos() {
+        synchronized (nanos) {
+            return new LinkedHashMap<>(nanos);
+        }
+    }
+
+    /**
+     * Recorded durations in milliseconds with microsecond precision, for response bodies
+     */
+    public Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        getNanos().forEach((stage, duration) -> millis.put(stage, Math.round(duration / 1_000.0) / 1_000.0));
+        return millis;
+    }
+}
@@ -0,0 +1,40 @@
+package com.mcp.marketing.domain.ports;
+
+import com.mcp.marketing.domain.model.Deadline;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking port for storage operations
+ * <p>
+ * Reactive counterpart of {@link StoragePort} for callers running on event-loop threads,
+ * which must not wait on IO.
+ */
+public interface AsyncStoragePort {
+
+    /**
+     * Save a JSON artifact to storage
+     *
+     * @param artifactType Type of artifact (ads, seo, crm, strategy)
+     * @param requestId    Unique request identifier for tracking
+     * @param payload      Data to be saved (typically StandardResponse envelope), serialized on subscription
+     * @return Path where the artifact was saved, empty when storage is disabled
+     */
+    Mono<String> saveJson(String artifactType, String requestId, Object payload);
+
+    /**
+     * Save unless the deadline has passed by subscription time, as {@link StoragePort#saveJsonBefore}
+     * <p>
+     * A skipped save is recorded on the deadline as {@value StoragePort#PERSIST_SECTION}.
+     *
+     * @return Path where the artifact was saved, empty when skipped or storage is disabled
+     */
+    static Mono<String> saveJsonBefore(Deadline deadline, AsyncStoragePort storage, String artifactType, String requestId, Object payload) {
+        return Mono.defer(() -> {
+            if (deadline.isExpired()) {
+                deadline.skip(StoragePort.PERSIST_SECTION);
+                return Mono.empty();
+            }
+            return storage.saveJson(artifactType, requestId, payload);
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.mcp.marketing.domain.ports;
 
+import com.mcp.marketing.domain.model.Deadline;
+
 /**
  * Port for storage operations
  * <p>
@@ -17,4 +19,24 @@ public interface StoragePort {
      * @return Path where the artifact was saved
      */
     String saveJson(String artifactType, String requestId, Object payload);
+
+    /**
+     * Section name recorded on a {@link Deadline} when persistence is skipped
+     */
+    String PERSIST_SECTION = "persist";
+
+    /**
+     * Save a JSON artifact through {@code storage} unless the request deadline has already passed
+     * <p>
+     * A skipped save is recorded on the deadline as {@value #PERSIST_SECTION}.
+     *
+     * @return Path where the artifact was saved, or {@code null} when skipped or storage is disabled
+     */
+    static String saveJsonBefore(Deadline deadline, StoragePort storage, String artifactType, String requestId, Object payload) {
+        if (deadline.isExpired()) {
+            deadline.skip(PERSIST_SECTION);
+            return null;
+        }
+        return storage.saveJson(artifactType, requestId, payload);
+    }
 }
@@ -0,0 +1,19 @@
+package com.mcp.marketing.domain.service;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request's deadline passes before any part of its result could be produced
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+    public static final String CODE = "DEADLINE_EXCEEDED";
+
+    private final String stage;
+
+    public DeadlineExceededException(String stage) {
+        super("Deadline exceeded before " + stage);
+        this.stage = stage;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mcp.marketing.domain.service;
+
+/**
+ * Callback invoked by {@link OrchestratorService} before each generation stage
+ * <p>
+ * Lets callers report progress per builder and abort long-running generation:
+ * an implementation may throw {@link java.util.concurrent.CancellationException}
+ * to stop before the next stage starts.
+ */
+@FunctionalInterface
+public interface GenerationProgress {
+
+    /**
+     * No-op callback
+     */
+    GenerationProgress NONE = stage -> {
+    };
+
+    /**
+     * @param stage artifact identifier of the stage about to run (ads, seo-plan, crm-sequences)
+     */
+    void onStage(String stage);
+}
@@ -1,21 +1,39 @@
 package com.mcp.marketing.domain.service;
 
+import com.mcp.marketing.domain.events.BuildEvent;
+import com.mcp.marketing.domain.events.RenderEvent;
+import com.mcp.marketing.domain.events.ValidationEvent;
 import com.mcp.marketing.domain.model.*;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Deterministic orchestrator responsible for building marketing payloads.
+ * <p>
+ * Honors the context {@link Deadline}: a generation that cannot start in time fails with
+ * {@link DeadlineExceededException}, and strategy or bundle sections that would start after it
+ * are skipped and recorded on the deadline instead of being built.
+ * <p>
+ * Validation and each builder are timed into the context {@link StageTimings} and emitted as
+ * JFR events: {@link ValidationEvent}, one {@link RenderEvent} per section builder and one
+ * {@link BuildEvent} per generation (or bundle part).
  */
 @Service
 public class OrchestratorService {
 
     private static final List<String> DEFAULT_PLATFORMS = List.of("google", "meta", "linkedin");
+    private static final String STRATEGY = "strategy";
+    private static final String BUNDLE = "bundle";
 
     private final ValidationService validationService;
 
@@ -24,34 +42,155 @@ public class OrchestratorService {
     }
 
     public AdsResult generateAds(MarketingContext context) {
-        ensureValidContext(context);
-        return buildAds(context);
+        return generateAds(context, false);
+    }
+
+    /**
+     * @param validated true when the caller has already validated {@code context} and nothing
+     *                  changed it since; the orchestrator then does not validate it again
+     */
+    public AdsResult generateAds(MarketingContext context, boolean validated) {
+        return built(context, ArtifactType.ADS.getId(), () -> {
+            ensureValidContext(context, ArtifactType.ADS.getId(), validated);
+            ensureWithinDeadline(context, ArtifactType.ADS.getId());
+            return timed(context, ArtifactType.ADS, () -> buildAds(context));
+        });
     }
 
     public SeoPlanResult generateSeoPlan(MarketingContext context) {
-        ensureValidContext(context);
-        return buildSeoPlan(context);
+        return generateSeoPlan(context, false);
+    }
+
+    /**
+     * @param validated see {@link #generateAds(MarketingContext, boolean)}
+     */
+    public SeoPlanResult generateSeoPlan(MarketingContext context, boolean validated) {
+        return built(context, ArtifactType.SEO_PLAN.getId(), () -> {
+            ensureValidContext(context, ArtifactType.SEO_PLAN.getId(), validated);
+            ensureWithinDeadline(context, ArtifactType.SEO_PLAN.getId());
+            return timed(context, ArtifactType.SEO_PLAN, () -> buildSeoPlan(context));
+        });
     }
 
     public CrmSequencesResult generateCrmSequences(MarketingContext context) {
-        ensureValidContext(context);
-        return buildCrmSequences(context);
+        return generateCrmSequences(context, false);
+    }
+
+    /**
+     * @param validated see {@link #generateAds(MarketingContext, boolean)}
+     */
+    public CrmSequencesResult generateCrmSequences(MarketingContext context, boolean validated) {
+        return built(context, ArtifactType.CRM_SEQUENCES.getId(), () -> {
+            ensureValidContext(context, ArtifactType.CRM_SEQUENCES.getId(), validated);
+            ensureWithinDeadline(context, ArtifactType.CRM_SEQUENCES.getId());
+            return timed(context, ArtifactType.CRM_SEQUENCES, () -> buildCrmSequences(context));
+        });
+    }
+
+    /**
+     * Generate several artifacts for one context, validating it only once
+     * <p>
+     * Each builder runs on the given executor; a failing builder completes its own
+     * future exceptionally without affecting the others. A part that would start after the
+     * context deadline completes with {@link DeadlineExceededException}.
+     *
+     * @return one future per requested artifact, in {@link ArtifactType} order
+     */
+    public Map<ArtifactType, CompletableFuture<Object>> generateBundle(MarketingContext context,
+                                                                       Set<ArtifactType> artifacts,
+                                                                       Executor executor) {
+        return generateBundle(context, artifacts, executor, GenerationProgress.NONE);
+    }
+
+    /**
+     * Same as {@link #generateBundle(MarketingContext, Set, Executor)}, reporting each
+     * part to {@code progress} right before its builder runs
+     */
+    public Map<ArtifactType, CompletableFuture<Object>> generateBundle(MarketingContext context,
+                                                                       Set<ArtifactType> artifacts,
+                                                                       Executor executor,
+                                                                       GenerationProgress progress) {
+        return generateBundle(context, artifacts, executor, progress, false);
+    }
+
+    /**
+     * Same as {@link #generateBundle(MarketingContext, Set, Executor, GenerationProgress)}
+     *
+     * @param validated see {@link #generateAds(MarketingContext, boolean)}
+     */
+    public Map<ArtifactType, CompletableFuture<Object>> generateBundle(MarketingContext context,
+                                                                       Set<ArtifactType> artifacts,
+                                                                       Executor executor,
+                                                                       GenerationProgress progress,
+                                                                       boolean validated) {
+        ensureValidContext(context, BUNDLE, validated);
+
+        Map<ArtifactType, CompletableFuture<Object>> parts = new EnumMap<>(ArtifactType.class);
+        for (ArtifactType artifact : artifacts) {
+            parts.put(artifact, CompletableFuture.supplyAsync(() -> {
+                if (context.getDeadline().isExpired()) {
+                    context.getDeadline().skip(artifact.getId());
+                    throw new DeadlineExceededException(artifact.getId());
+                }
+                progress.onStage(artifact.getId());
+                return built(context, artifact.getId(), () -> build(artifact, context));
+            }, executor));
+        }
+        return parts;
     }
 
     public StrategyResult generateStrategy(MarketingContext context) {
-        ensureValidContext(context);
+        return generateStrategy(context, GenerationProgress.NONE);
+    }
+
+    /**
+     * Generate the strategy, reporting each builder to {@code progress} before it runs
+     * <p>
+     * Ads are always built; once the context deadline has passed, the SEO and CRM sections are
+     * left {@code null}, the QA score averages the sections that were built and the metadata
+     * lists the skipped ones.
+     */
+    public StrategyResult generateStrategy(MarketingContext context, GenerationProgress progress) {
+        return generateStrategy(context, progress, false);
+    }
+
+    /**
+     * Same as {@link #generateStrategy(MarketingContext, GenerationProgress)}
+     *
+     * @param validated see {@link #generateAds(MarketingContext, boolean)}
+     */
+    public StrategyResult generateStrategy(MarketingContext context, GenerationProgress progress, boolean validated) {
+        return built(context, STRATEGY, () -> strategy(context, progress, validated));
+    }
 
-        AdsResult adsResult = buildAds(context);
-        SeoPlanResult seoPlanResult = buildSeoPlan(context);
-        CrmSequencesResult crmSequencesResult = buildCrmSequences(context);
+    private StrategyResult strategy(MarketingContext context, GenerationProgress progress, boolean validated) {
+        ensureValidContext(context, STRATEGY, validated);
+        ensureWithinDeadline(context, ArtifactType.ADS.getId());
 
-        int qaScore = (adsResult.getQaScore() + seoPlanResult.getQaScore() + crmSequencesResult.getQaScore()) / 3;
+        progress.onStage(ArtifactType.ADS.getId());
+        AdsResult adsResult = timed(context, ArtifactType.ADS, () -> buildAds(context));
+        List<String> skippedSections = new ArrayList<>();
+        SeoPlanResult seoPlanResult = section(context, ArtifactType.SEO_PLAN, progress, skippedSections, () -> buildSeoPlan(context));
+        CrmSequencesResult crmSequencesResult = section(context, ArtifactType.CRM_SEQUENCES, progress, skippedSections,
+                () -> buildCrmSequences(context));
 
+        List<Integer> sectionScores = new ArrayList<>();
+        sectionScores.add(adsResult.getQaScore());
         List<String> combinedRecommendations = new ArrayList<>();
         combinedRecommendations.add("Keep a consistent tone of voice across every channel");
         combinedRecommendations.addAll(adsResult.getRecommendations());
-        combinedRecommendations.addAll(seoPlanResult.getRecommendations());
-        combinedRecommendations.addAll(crmSequencesResult.getRecommendations());
+        if (seoPlanResult != null) {
+            sectionScores.add(seoPlanResult.getQaScore());
+            combinedRecommendations.addAll(seoPlanResult.getRecommendations());
+        }
+        if (crmSequencesResult != null) {
+            sectionScores.add(crmSequencesResult.getQaScore());
+            combinedRecommendations.addAll(crmSequencesResult.getRecommendations());
+        }
+        if (!skippedSections.isEmpty()) {
+            combinedRecommendations.add("Retry with a longer deadline to include " + String.join(", ", skippedSections));
+        }
+        int qaScore = sectionScores.stream().mapToInt(Integer::intValue).sum() / sectionScores.size();
         List<String> uniqueRecommendations = combinedRecommendations.stream()
                 .distinct()
                 .collect(Collectors.toList());
@@ -80,10 +219,14 @@ public class OrchestratorService {
                 : "Define a clear conversion target");
         kpis.put("brand_reach", "Grow presence in " + safeString(context.getMarketSegment(), "priority segments"));
 
-        Map<String, Object> metadata = Map.of(
-                "artifact", "strategy",
-                "requestId", safeString(context.getRequestId(), "n/a"),
-                "executionMode", context.getExecutionMode().name());
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("artifact", "strategy");
+        metadata.put("requestId", safeString(context.getRequestId(), "n/a"));
+        metadata.put("executionMode", context.getExecutionMode().name());
+        if (!skippedSections.isEmpty()) {
+            metadata.put("partial", true);
+            metadata.put("skippedSections", List.copyOf(skippedSections));
+        }
 
         return StrategyResult.builder()
                 .executiveSummary(buildExecutiveSummary(context))
@@ -319,24 +462,94 @@ public class OrchestratorService {
         if (hasText(context.getDomain())) {
             return context.getDomain();
         }
-        return context.getProduct().toLowerCase().replaceAll("\\s+", "") + ".com";
+        if (hasText(context.getDisplayUrl())) {
+            return context.getDisplayUrl();
+        }
+        return displayUrlFor(context.getProduct());
     }
 
     private List<String> defaultKeywords(MarketingContext context) {
         if (context.getKeywords() != null && !context.getKeywords().isEmpty()) {
             return context.getKeywords();
         }
-        String base = context.getProduct().toLowerCase().replaceAll("[^a-z0-9]", "-");
+        return defaultKeywordsFor(context.getProduct());
+    }
+
+    /**
+     * Display URL used when no domain is provided
+     */
+    public static String displayUrlFor(String product) {
+        return product.toLowerCase().replaceAll("\\s+", "") + ".com";
+    }
+
+    /**
+     * Keywords used when the context does not provide any
+     */
+    public static List<String> defaultKeywordsFor(String product) {
+        String base = product.toLowerCase().replaceAll("[^a-z0-9]", "-");
         return List.of(base + "-solution", base + "-offer", base + "-case-studies");
     }
 
-    private void ensureValidContext(MarketingContext context) {
-        List<String> errors = validationService.validateContext(context);
+    private <T> T section(MarketingContext context, ArtifactType section, GenerationProgress progress,
+                          List<String> skippedSections, Supplier<T> builder) {
+        if (context.getDeadline().isExpired()) {
+            context.getDeadline().skip(section.getId());
+            skippedSections.add(section.getId());
+            return null;
+        }
+        progress.onStage(section.getId());
+        return timed(context, section, builder);
+    }
+
+    private Object build(ArtifactType artifact, MarketingContext context) {
+        return timed(context, artifact, () -> switch (artifact) {
+            case ADS -> buildAds(context);
+            case SEO_PLAN -> buildSeoPlan(context);
+            case CRM_SEQUENCES -> buildCrmSequences(context);
+        });
+    }
+
+    private static <T> T built(MarketingContext context, String artifactType, Supplier<T> generation) {
+        BuildEvent event = new BuildEvent();
+        event.begin();
+        try {
+            return generation.get();
+        } finally {
+            event.commit(context.getRequestId(), artifactType);
+        }
+    }
+
+    private <T> T timed(MarketingContext context, ArtifactType artifact, Supplier<T> builder) {
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        try {
+            return context.getTimings().time(StageTimings.build(artifact), builder);
+        } finally {
+            event.commit(context.getRequestId(), artifact.getId());
+        }
+    }
+
+    private void ensureValidContext(MarketingContext context, String artifactType, boolean validated) {
+        if (validated) {
+            return;
+        }
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        List<String> errors = context.getTimings().time(StageTimings.VALIDATE, () -> validationService.validateContext(context));
+        event.errors = errors.size();
+        event.commit(context.getRequestId(), artifactType);
         if (!errors.isEmpty()) {
             throw new IllegalArgumentException("Invalid context: " + String.join(", ", errors));
         }
     }
 
+    private void ensureWithinDeadline(MarketingContext context, String stage) {
+        if (context.getDeadline().isExpired()) {
+            context.getDeadline().skip(stage);
+            throw new DeadlineExceededException(stage);
+        }
+    }
+
     private int qualityBonus(boolean... flags) {
         int bonus = 0;
         for (boolean flag : flags) {
@@ -0,0 +1,90 @@
+package com.mcp.marketing.infra.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient algorithm)
+ * <p>
+ * Two moving averages of request latency are kept: a short one (last ~10 requests) and a long
+ * one (last ~600). While the short average stays within {@code tolerance} of the long one, the
+ * limit grows by about {@code sqrt(limit)} per update; when latency climbs above it, the limit is
+ * scaled down by {@code long/short} (at most halved per update). Updates are smoothed and skipped
+ * while fewer than half of the slots are in use, since an idle server says nothing about capacity.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    static final double TOLERANCE = 1.5;
+    static final double SMOOTHING = 0.2;
+    static final double SHORT_WINDOW = 10;
+    static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // Guarded by this
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    /**
+     * Take a slot if the current limit allows it; every successful call must be paired with {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a slot and feed the request latency to the limit
+     */
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        update(Math.max(1, latencyNanos), inFlightBefore);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Recent average latency, used to hint when a rejected client may retry
+     */
+    public synchronized long getShortRttNanos() {
+        return (long) shortRttNanos;
+    }
+
+    private synchronized void update(long rttNanos, int inFlightBefore) {
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos + (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+        if (longRttNanos / shortRttNanos > 2) {
+            // Latency dropped back after prolonged overload: let the baseline follow
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightBefore < current / 2) {
+            return;
+        }
+        double gradient = Math.clamp(TOLERANCE * longRttNanos / shortRttNanos, 0.5, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        limit = Math.clamp(current * (1 - SMOOTHING) + target * SMOOTHING, minLimit, maxLimit);
+    }
+}
@@ -0,0 +1,112 @@
+package com.mcp.marketing.infra.admission;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket request quota per API key
+ * <p>
+ * Each key refills at {@code ratePerSecond} up to {@code burst} tokens and every request takes one.
+ * At most {@code maxKeys} keys are tracked. Buckets that are full again carry no state worth
+ * keeping, so once the limit is reached they are swept, at most once per refill period (the time
+ * an empty bucket takes to fill). A new key that finds no room is refused until the next sweep.
+ */
+public class TokenBucketQuotas {
+
+    private final double ratePerNano;
+    private final double burst;
+    private final int maxKeys;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    public TokenBucketQuotas(double ratePerSecond, int burst, int maxKeys) {
+        this(ratePerSecond, burst, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketQuotas(double ratePerSecond, int burst, int maxKeys, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive");
+        }
+        this.ratePerNano = ratePerSecond / 1e9;
+        this.burst = Math.max(1, burst);
+        this.maxKeys = Math.max(1, maxKeys);
+        this.sweepIntervalNanos = Math.max(1, (long) Math.ceil(this.burst / ratePerNano));
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Take one token for the key
+     *
+     * @return 0 if admitted, otherwise the nanoseconds until a token is available (or, for a new
+     * key past {@code maxKeys}, until the next sweep)
+     */
+    public long tryConsume(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !sweep()) {
+                return Math.max(1, nextSweepAt.get() - nanoClock.getAsLong());
+            }
+            bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(burst, nanoClock.getAsLong()));
+        }
+        return bucket.tryConsume();
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    /**
+     * Drop the full buckets unless another sweep ran within the refill period
+     *
+     * @return whether there is room for a new key afterwards
+     */
+    private boolean sweep() {
+        long now = nanoClock.getAsLong();
+        long due = nextSweepAt.get();
+        if (now - due >= 0 && nextSweepAt.compareAndSet(due, now + sweepIntervalNanos)) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isFull()) {
+                    iterator.remove();
+                }
+            }
+        }
+        return buckets.size() < maxKeys;
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        private synchronized long tryConsume() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / ratePerNano);
+        }
+
+        private synchronized boolean isFull() {
+            refill();
+            return tokens >= burst;
+        }
+
+        private void refill() {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * ratePerNano);
+            refilledAt = now;
+        }
+    }
+}
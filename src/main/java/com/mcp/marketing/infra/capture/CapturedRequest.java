@@ -0,0 +1,143 @@
+package com.mcp.marketing.infra.capture;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One captured generation request: one line of a capture file
+ * <p>
+ * {@code context} holds the normalized {@link MarketingContext} fields (after defaults, session
+ * merge and catalog references were applied) under the same names as the REST request bodies,
+ * so an entry can be replayed in-process or as {@code POST /api/marketing/<artifactType>}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CapturedRequest {
+
+    /**
+     * When the request arrived (epoch milliseconds)
+     */
+    private long receivedAt;
+
+    /**
+     * End-to-end duration as measured by the entry point, in milliseconds
+     */
+    private long durationMs;
+
+    /**
+     * {@code rest} or {@code mcp}
+     */
+    private String entryPoint;
+
+    private String artifactType;
+
+    private String requestId;
+
+    /**
+     * Whether sections were dropped to meet a deadline; such results are not compared on replay
+     */
+    private boolean partial;
+
+    /**
+     * Artifact written for the original request, if any
+     */
+    private String outputPath;
+
+    /**
+     * SHA-256 of the canonical result JSON (see {@link ResultDigest})
+     */
+    private String digest;
+
+    private Map<String, Object> context;
+
+    /**
+     * Normalized context fields, skipping unset ones
+     */
+    public static Map<String, Object> contextOf(MarketingContext context) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        put(fields, "product", context.getProduct());
+        put(fields, "audience", context.getAudience());
+        put(fields, "brandVoice", context.getBrandVoice());
+        put(fields, "goals", context.getGoals());
+        put(fields, "language", context.getLanguage());
+        put(fields, "executionMode", context.getExecutionMode() != null ? context.getExecutionMode().name() : null);
+        put(fields, "platforms", context.getPlatforms());
+        put(fields, "budget", context.getBudget());
+        put(fields, "duration", context.getDuration());
+        put(fields, "keywords", context.getKeywords());
+        put(fields, "domain", context.getDomain());
+        put(fields, "displayUrl", context.getDisplayUrl());
+        put(fields, "monthlyBudget", context.getMonthlyBudget());
+        put(fields, "sequenceLength", context.getSequenceLength());
+        put(fields, "conversionGoal", context.getConversionGoal());
+        put(fields, "channels", context.getChannels());
+        put(fields, "marketSegment", context.getMarketSegment());
+        put(fields, "competitorAnalysis", context.getCompetitorAnalysis());
+        put(fields, "timeframe", context.getTimeframe());
+        return fields;
+    }
+
+    /**
+     * Rebuild the context under the original request id, without deadline or timings
+     */
+    public MarketingContext toContext() {
+        Map<String, Object> fields = context != null ? context : Map.of();
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product(string(fields, "product"))
+                .audience(string(fields, "audience"))
+                .brandVoice(string(fields, "brandVoice"))
+                .goals(string(fields, "goals"))
+                .language(string(fields, "language"))
+                .executionMode(fields.get("executionMode") != null
+                        ? ExecutionMode.valueOf(fields.get("executionMode").toString())
+                        : ExecutionMode.DETERMINISTIC)
+                .platforms(list(fields, "platforms"))
+                .budget(string(fields, "budget"))
+                .duration(string(fields, "duration"))
+                .keywords(list(fields, "keywords"))
+                .domain(string(fields, "domain"))
+                .displayUrl(string(fields, "displayUrl"))
+                .monthlyBudget(integer(fields, "monthlyBudget"))
+                .sequenceLength(integer(fields, "sequenceLength"))
+                .conversionGoal(string(fields, "conversionGoal"))
+                .channels(list(fields, "channels"))
+                .marketSegment(string(fields, "marketSegment"))
+                .competitorAnalysis(string(fields, "competitorAnalysis"))
+                .timeframe(string(fields, "timeframe"))
+                .build();
+    }
+
+    private static void put(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+
+    private static String string(Map<String, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Integer integer(Map<String, Object> fields, String name) {
+        return fields.get(name) instanceof Number number ? number.intValue() : null;
+    }
+
+    private static List<String> list(Map<String, Object> fields, String name) {
+        return fields.get(name) instanceof List<?> values
+                ? values.stream().map(String::valueOf).toList()
+                : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.mcp.marketing.infra.capture;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Canonical form of a generation result, used to check that a replay reproduces the original
+ * <p>
+ * A result is converted to a JSON tree with object keys sorted, so a domain object and the same
+ * result read back from a REST response or a stored artifact give the same digest.
+ */
+public final class ResultDigest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResultDigest() {
+    }
+
+    /**
+     * SHA-256 (hex) of the canonical JSON of {@code result}
+     */
+    public static String of(Object result) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(tree(result));
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Result cannot be serialized", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Canonical JSON tree of {@code result} (a domain object or an already parsed {@link JsonNode})
+     */
+    public static JsonNode tree(Object result) {
+        return sorted(result instanceof JsonNode node ? node : objectMapper.valueToTree(result));
+    }
+
+    /**
+     * JSON pointer of the first difference between two results, or {@code null} when they are equal
+     */
+    public static String firstDifference(Object expected, Object actual) {
+        return difference(tree(expected), tree(actual), "");
+    }
+
+    private static String difference(JsonNode expected, JsonNode actual, String path) {
+        if (expected.getNodeType() != actual.getNodeType()) {
+            return path.isEmpty() ? "/" : path;
+        }
+        if (expected.isObject()) {
+            List<String> names = new ArrayList<>();
+            expected.fieldNames().forEachRemaining(names::add);
+            actual.fieldNames().forEachRemaining(name -> {
+                if (!expected.has(name)) {
+                    names.add(name);
+                }
+            });
+            Collections.sort(names);
+            for (String name : names) {
+                String child = path + "/" + name.replace("~", "~0").replace("/", "~1");
+                if (!expected.has(name) || !actual.has(name)) {
+                    return child;
+                }
+                String found = difference(expected.get(name), actual.get(name), child);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return null;
+        }
+        if (expected.isArray()) {
+            for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+                String found = difference(expected.get(i), actual.get(i), path + "/" + i);
+                if (found != null) {
+                    return found;
+                }
+            }
+            return expected.size() == actual.size() ? null : path + "/" + Math.min(expected.size(), actual.size());
+        }
+        return expected.asText().equals(actual.asText()) ? null : (path.isEmpty() ? "/" : path);
+    }
+
+    private static JsonNode sorted(JsonNode node) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            ObjectNode copy = objectMapper.createObjectNode();
+            for (String name : names) {
+                copy.set(name, sorted(node.get(name)));
+            }
+            return copy;
+        }
+        if (node.isArray()) {
+            ArrayNode copy = objectMapper.createArrayNode();
+            for (Iterator<JsonNode> elements = node.elements(); elements.hasNext(); ) {
+                copy.add(sorted(elements.next()));
+            }
+            return copy;
+        }
+        return node;
+    }
+}
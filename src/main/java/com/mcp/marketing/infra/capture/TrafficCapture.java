@@ -0,0 +1,241 @@
+package com.mcp.marketing.infra.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.domain.model.MarketingContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in capture of generation traffic for replay ({@code app.capture.*})
+ * <p>
+ * Each successful generation is recorded as one {@link CapturedRequest}: the normalized context,
+ * when it arrived, how long it took and a digest of its result. The request thread only enqueues
+ * the entry; one background thread computes the digest and appends compact JSON lines. When the
+ * queue is full the entry is dropped and counted ({@code capture.entries{outcome=dropped}}).
+ * Files are named {@code capture-<epoch-ms>-<seq>.jsonl}, rotate at {@code maxFileBytes} and only
+ * the newest {@code maxFiles} are kept.
+ */
+public class TrafficCapture implements AutoCloseable {
+
+    public static final String FILE_PREFIX = "capture-";
+    public static final String FILE_SUFFIX = ".jsonl";
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficCapture.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int BATCH = 256;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final double sampleRate;
+    private final BlockingQueue<Pending> queue;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Thread writer;
+
+    private volatile boolean closed;
+    private OutputStream out;
+    private long fileBytes;
+    private int sequence;
+
+    public TrafficCapture(Path directory, long maxFileBytes, int maxFiles, double sampleRate,
+                          int queueCapacity, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.maxFileBytes = Math.max(1, maxFileBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+        this.sampleRate = sampleRate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create capture directory " + directory, e);
+        }
+        this.writer = Thread.ofPlatform().name("traffic-capture").daemon().start(this::drain);
+        logger.info("Traffic capture enabled: directory={} sample_rate={}", directory.toAbsolutePath(), sampleRate);
+    }
+
+    /**
+     * Queue one generation for capture
+     *
+     * @param entryPoint   {@code rest} or {@code mcp}
+     * @param artifactType e.g. {@code strategy}
+     * @param context      normalized context the result was generated from
+     * @param result       generated result (read on the capture thread, so it must not change afterwards)
+     * @param startMillis  when the request arrived (epoch milliseconds)
+     * @param partial      whether the result was trimmed to a deadline
+     * @param outputPath   artifact written for the request, if any
+     */
+    public void record(String entryPoint, String artifactType, MarketingContext context, Object result,
+                       long startMillis, boolean partial, String outputPath) {
+        if (closed || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        CapturedRequest entry = CapturedRequest.builder()
+                .receivedAt(startMillis)
+                .durationMs(Math.max(0, System.currentTimeMillis() - startMillis))
+                .entryPoint(entryPoint)
+                .artifactType(artifactType)
+                .requestId(context.getRequestId())
+                .partial(partial)
+                .outputPath(outputPath)
+                .context(CapturedRequest.contextOf(context))
+                .build();
+        if (!queue.offer(new Pending(entry, result))) {
+            increment(dropped);
+        }
+    }
+
+    /**
+     * Read every entry of a capture file, or of all capture files in a directory, in arrival order
+     */
+    public static List<CapturedRequest> read(Path path) throws IOException {
+        List<Path> files = Files.isDirectory(path) ? captureFiles(path) : List.of(path);
+        List<CapturedRequest> entries = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        entries.add(objectMapper.readValue(line, CapturedRequest.class));
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(CapturedRequest::getReceivedAt));
+        return entries;
+    }
+
+    /**
+     * Stop accepting entries, write what is queued and close the current file
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(BATCH);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH - 1);
+                batch.forEach(this::write);
+                batch.clear();
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(Pending pending) {
+        try {
+            CapturedRequest entry = pending.entry();
+            entry.setDigest(ResultDigest.of(pending.result()));
+            byte[] line = objectMapper.writeValueAsBytes(entry);
+            if (out == null || (fileBytes > 0 && fileBytes + line.length + 1 > maxFileBytes)) {
+                rotate();
+            }
+            out.write(line);
+            out.write('\n');
+            fileBytes += line.length + 1;
+            increment(written);
+        } catch (IOException | RuntimeException e) {
+            increment(failed);
+            logger.warn("Failed to capture request_id={}", pending.entry().getRequestId(), e);
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        Path file = directory.resolve(String.format("%s%d-%04d%s", FILE_PREFIX, System.currentTimeMillis(),
+                sequence++ % 10_000, FILE_SUFFIX));
+        out = new BufferedOutputStream(Files.newOutputStream(file));
+        fileBytes = 0;
+        List<Path> files = captureFiles(directory);
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            logger.warn("Failed to flush capture file", e);
+        }
+    }
+
+    private void closeFile() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close capture file", e);
+        }
+        out = null;
+    }
+
+    private static List<Path> captureFiles(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(file -> file.getFileName().toString()));
+        return files;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return meterRegistry == null ? null : Counter.builder("capture.entries")
+                .description("Generation requests offered to traffic capture, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Pending(CapturedRequest entry, Object result) {
+    }
+}
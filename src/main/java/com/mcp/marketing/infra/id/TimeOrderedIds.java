@@ -0,0 +1,76 @@
+package com.mcp.marketing.infra.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered identifiers in UUID version 7 layout
+ * <p>
+ * The first 48 bits are the Unix time in milliseconds, so the canonical strings sort by creation
+ * time and artifact names built from them can be range-scanned. The remaining 74 bits come from
+ * {@link ThreadLocalRandom}, which avoids the shared {@code SecureRandom} behind
+ * {@link UUID#randomUUID()}; the ids identify requests and are not meant to be unguessable.
+ */
+public final class TimeOrderedIds {
+
+    /**
+     * Length of the time prefix ({@code tttttttt-tttt}) of the canonical string
+     */
+    public static final int TIME_PREFIX_LENGTH = 13;
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    private TimeOrderedIds() {
+    }
+
+    /**
+     * @return new identifier as a canonical UUID string
+     */
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    /**
+     * @return new version 7 UUID stamped with the current time
+     */
+    public static UUID nextUuid() {
+        return at(System.currentTimeMillis());
+    }
+
+    /**
+     * @return new version 7 UUID stamped with {@code epochMillis}
+     */
+    public static UUID at(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Creation time of an identifier minted by this class
+     *
+     * @return epoch milliseconds, or {@code -1} for anything that is not a version 7 UUID
+     * (e.g. a caller-supplied {@code X-Request-Id})
+     */
+    public static long timestampMillis(String id) {
+        if (id == null || id.length() != CANONICAL_LENGTH) {
+            return -1;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.version() == 7 ? uuid.getMostSignificantBits() >>> 16 : -1;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Time prefix every identifier minted in {@code epochMillis} starts with; comparing prefixes
+     * as strings orders identifiers by time
+     */
+    public static String timePrefix(long epochMillis) {
+        String hex = String.format("%012x", epochMillis & 0xFFFFFFFFFFFFL);
+        return hex.substring(0, 8) + "-" + hex.substring(8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.mcp.marketing.infra.idempotency;
+
+import lombok.Getter;
+
+/**
+ * Raised when an idempotency key cannot be honored
+ */
+@Getter
+public class IdempotencyException extends RuntimeException {
+
+    /**
+     * The key was already used with a different request payload
+     */
+    public static final String KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+
+    /**
+     * The first attempt with this key is still running after the maximum wait
+     */
+    public static final String IN_PROGRESS = "IDEMPOTENCY_IN_PROGRESS";
+
+    private final String code;
+    private final String key;
+
+    public IdempotencyException(String code, String key, String message) {
+        super(message);
+        this.code = code;
+        this.key = key;
+    }
+}
@@ -0,0 +1,256 @@
+package com.mcp.marketing.infra.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of idempotency keys for generation requests
+ * <p>
+ * The first request with a key {@link #claim claims} it, runs and {@link Claim#complete completes}
+ * it with the path of the artifact it persisted. Repeats of the key within the TTL get the stored
+ * envelope back from that artifact instead of running the orchestrator again; only when storage is
+ * disabled is the (compact) envelope kept in memory. Repeats that arrive while the first attempt is
+ * still running wait for it. A failed attempt {@link Claim#abandon abandons} the key so the next
+ * retry runs again. Keys are bound to a fingerprint of the request payload.
+ */
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    static final int DEFAULT_MAX_KEYS = 10_000;
+    static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final ObjectMapper FINGERPRINT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final long ttlMillis;
+    private final int maxKeys;
+    private final long maxWaitMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>();
+
+    public IdempotencyStore(Duration ttl, int maxKeys, Duration maxWait) {
+        this(ttl, maxKeys, maxWait, System::currentTimeMillis);
+    }
+
+    IdempotencyStore(Duration ttl, int maxKeys, Duration maxWait, LongSupplier clock) {
+        this.ttlMillis = positiveOr(ttl, DEFAULT_TTL).toMillis();
+        this.maxKeys = maxKeys > 0 ? maxKeys : DEFAULT_MAX_KEYS;
+        this.maxWaitMillis = positiveOr(maxWait, DEFAULT_MAX_WAIT).toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Claim a key, wait for its in-flight first attempt, or get its stored response
+     *
+     * @param key         idempotency key, scoped by the caller (e.g. {@code ads:<key>})
+     * @param fingerprint fingerprint of the request payload, see {@link #fingerprint}
+     * @throws IdempotencyException if the key was used with another payload, or its first
+     *                              attempt is still running after the maximum wait
+     * @throws InterruptedException if interrupted while waiting for the first attempt
+     */
+    public Claim claim(String key, String fingerprint) throws InterruptedException {
+        long deadline = clock.getAsLong() + maxWaitMillis;
+        while (true) {
+            Slot slot;
+            synchronized (slots) {
+                evict(clock.getAsLong());
+                slot = slots.get(key);
+                if (slot == null) {
+                    slot = new Slot(fingerprint);
+                    slots.put(key, slot);
+                    return new Claim(key, slot, null, null);
+                }
+                if (!slot.fingerprint.equals(fingerprint)) {
+                    throw new IdempotencyException(IdempotencyException.KEY_REUSED, key,
+                            "Idempotency key was already used with a different request payload");
+                }
+            }
+
+            StoredResponse stored = await(key, slot, deadline);
+            if (stored == null) {
+                // Abandoned by its owner: claim again
+                continue;
+            }
+            byte[] body = load(stored);
+            if (body != null) {
+                logger.debug("Idempotent replay: key={} output_path={}", key, stored.outputPath());
+                return new Claim(key, slot, stored.outputPath(), body);
+            }
+            // Artifact deleted since: forget the key and run again
+            release(key, slot);
+        }
+    }
+
+    public int size() {
+        synchronized (slots) {
+            return slots.size();
+        }
+    }
+
+    /**
+     * Client part of a REST key scope: a fingerprint of the API key, so the key itself never
+     * reaches logs or the index, else the caller's address
+     */
+    public static String clientScope(String apiKey, String remoteAddress) {
+        return apiKey != null && !apiKey.isBlank() ? "key:" + fingerprint(apiKey) : "ip:" + remoteAddress;
+    }
+
+    /**
+     * SHA-256 of the canonical JSON form of the payload (map keys sorted)
+     */
+    public static String fingerprint(Object payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(FINGERPRINT_MAPPER.writeValueAsBytes(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Request payload cannot be fingerprinted", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StoredResponse await(String key, Slot slot, long deadline) throws InterruptedException {
+        try {
+            return slot.result.get(Math.max(0, deadline - clock.getAsLong()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyException(IdempotencyException.IN_PROGRESS, key,
+                    "A request with this idempotency key is still in progress");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Idempotency slot failed", e);
+        }
+    }
+
+    private static byte[] load(StoredResponse stored) {
+        if (stored.outputPath() == null) {
+            return stored.body();
+        }
+        try {
+            return Files.readAllBytes(Paths.get(stored.outputPath()));
+        } catch (IOException e) {
+            logger.warn("Idempotent artifact unreadable, running again: output_path={}", stored.outputPath());
+            return null;
+        }
+    }
+
+    private void release(String key, Slot slot) {
+        synchronized (slots) {
+            slots.remove(key, slot);
+        }
+    }
+
+    /**
+     * Drop expired keys, then the oldest completed keys beyond the cap; in-flight keys stay
+     */
+    private void evict(long now) {
+        Iterator<Slot> iterator = slots.values().iterator();
+        while (iterator.hasNext()) {
+            Slot slot = iterator.next();
+            boolean completed = slot.result.isDone();
+            if (completed && (slot.expiresAt <= now || slots.size() > maxKeys)) {
+                iterator.remove();
+            } else if (slots.size() <= maxKeys && (!completed || slot.expiresAt > now)) {
+                // Insertion order approximates completion order: the rest is fresh
+                break;
+            }
+        }
+    }
+
+    private static Duration positiveOr(Duration value, Duration fallback) {
+        return value != null && !value.isZero() && !value.isNegative() ? value : fallback;
+    }
+
+    /**
+     * Outcome of {@link #claim}: either a replay of the stored response, or ownership of the key
+     */
+    public final class Claim {
+
+        private final String key;
+        private final Slot slot;
+        private final String outputPath;
+        private final byte[] replayBody;
+
+        private Claim(String key, Slot slot, String outputPath, byte[] replayBody) {
+            this.key = key;
+            this.slot = slot;
+            this.outputPath = outputPath;
+            this.replayBody = replayBody;
+        }
+
+        public boolean isReplay() {
+            return replayBody != null;
+        }
+
+        /**
+         * Serialized envelope of the first attempt (as persisted, so without {@code output_path})
+         */
+        public byte[] getReplayBody() {
+            return replayBody;
+        }
+
+        /**
+         * Artifact the replayed envelope was read from, or null when it was kept in memory
+         */
+        public String getOutputPath() {
+            return outputPath;
+        }
+
+        /**
+         * Record the successful first attempt and release waiting duplicates
+         *
+         * @param outputPath artifact holding the envelope, or null when storage is disabled
+         * @param body       serialized envelope, only requested when there is no artifact
+         */
+        public void complete(String outputPath, Supplier<byte[]> body) {
+            StoredResponse stored = new StoredResponse(outputPath, outputPath == null ? body.get() : null);
+            synchronized (slots) {
+                slot.expiresAt = clock.getAsLong() + ttlMillis;
+            }
+            slot.result.complete(stored);
+        }
+
+        /**
+         * Forget the key after a failed first attempt; a waiting duplicate runs instead
+         */
+        public void abandon() {
+            release(key, slot);
+            slot.result.complete(null);
+        }
+    }
+
+    private record StoredResponse(String outputPath, byte[] body) {
+    }
+
+    private static final class Slot {
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        private long expiresAt = Long.MAX_VALUE;
+
+        private Slot(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
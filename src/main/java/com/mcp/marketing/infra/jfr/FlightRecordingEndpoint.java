@@ -0,0 +1,159 @@
+package com.mcp.marketing.infra.jfr;
+
+import com.mcp.marketing.domain.events.BuildEvent;
+import com.mcp.marketing.domain.events.RenderEvent;
+import com.mcp.marketing.domain.events.SerializationEvent;
+import com.mcp.marketing.domain.events.StorageWriteEvent;
+import com.mcp.marketing.domain.events.ValidationEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that runs one bounded Java Flight Recorder recording on demand
+ * <p>
+ * {@code POST /actuator/flightrecording} starts a recording (optional {@code duration}, capped at
+ * {@code app.jfr.max-duration}; size capped at {@code app.jfr.max-size}) with the JDK settings named
+ * by {@code app.jfr.settings} plus the generation events. {@code GET .../dump} downloads what has
+ * been recorded so far, {@code GET} shows the state and {@code DELETE} discards the recording.
+ * Starting a new recording discards the previous one.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    static final String DUMP = "dump";
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+    private static final List<Class<? extends jdk.jfr.Event>> GENERATION_EVENTS = List.of(
+            BuildEvent.class, RenderEvent.class, ValidationEvent.class, SerializationEvent.class, StorageWriteEvent.class);
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final String settings;
+
+    private Recording recording;
+    private Instant startedAt;
+    private Path lastDump;
+
+    public FlightRecordingEndpoint(Duration maxDuration, DataSize maxSize, String settings) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.settings = settings;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startedAt", startedAt.toString());
+            status.put("duration", recording.getDuration() != null ? recording.getDuration().toString() : null);
+            status.put("bytes", recording.getSize());
+        }
+        status.put("settings", settings);
+        status.put("maxDuration", maxDuration.toString());
+        status.put("maxSizeBytes", maxSize.toBytes());
+        return status;
+    }
+
+    /**
+     * Start a new recording, discarding any previous one
+     *
+     * @param duration how long to record; defaults to and is capped at the configured maximum
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Duration duration) {
+        Duration length = duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0
+                ? maxDuration : duration;
+        discard();
+        Recording next = new Recording(configuration());
+        for (Class<? extends jdk.jfr.Event> event : GENERATION_EVENTS) {
+            next.enable(event);
+        }
+        next.setName("mcp-marketing-on-demand");
+        next.setToDisk(true);
+        next.setDuration(length);
+        next.setMaxSize(maxSize.toBytes());
+        next.start();
+        recording = next;
+        startedAt = Instant.now();
+        logger.info("Flight recording started: duration={} max_size_bytes={} settings={}", length, maxSize.toBytes(), settings);
+        return status();
+    }
+
+    /**
+     * Copy of everything recorded so far; the recording keeps running
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String action) {
+        if (!DUMP.equals(action) || recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            deleteLastDump();
+            Path file = Files.createTempFile("mcp-marketing-", ".jfr");
+            recording.dump(file);
+            lastDump = file;
+            return new WebEndpointResponse<>(new FileSystemResource(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Flight recording could not be dumped", e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        discard();
+        deleteLastDump();
+        return status();
+    }
+
+    private Configuration configuration() {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Unknown JFR settings: " + settings, e);
+        }
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            startedAt = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException e) {
+                logger.debug("Could not delete previous flight recording dump {}", lastDump, e);
+            }
+            lastDump = null;
+        }
+    }
+}
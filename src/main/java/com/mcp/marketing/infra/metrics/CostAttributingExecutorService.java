@@ -0,0 +1,56 @@
+package com.mcp.marketing.infra.metrics;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutorService that charges each task's CPU time and allocation to the {@link RequestCost}
+ * of the submitting thread
+ * <p>
+ * Tasks submitted outside a measured request run unchanged.
+ */
+public class CostAttributingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    public CostAttributingExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        RequestCost cost = RequestCost.current();
+        if (cost == null) {
+            delegate.execute(command);
+            return;
+        }
+        delegate.execute(() -> cost.measure(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,191 @@
+package com.mcp.marketing.infra.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * CPU time and heap allocation of one request, summed over every thread that worked on it
+ * <p>
+ * Each thread contributes a {@link Segment}: the per-thread CPU time and allocated-bytes counters
+ * of {@code com.sun.management.ThreadMXBean} are sampled when it begins and when it ends. Work
+ * handed to a {@link CostAttributingExecutorService} is measured on the worker thread and added
+ * to the request that submitted it.
+ * <p>
+ * CPU time is not sampled on virtual threads: they move between carrier threads, so the carrier
+ * counter does not belong to the request. Allocation is sampled wherever the JVM reports it. A
+ * request with any segment that could not be sampled is flagged, per resource, as unmeasured.
+ */
+public final class RequestCost {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+    private static final ThreadLocal<RequestCost> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder cpuNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final AtomicBoolean cpuUnmeasured = new AtomicBoolean();
+    private final AtomicBoolean allocationUnmeasured = new AtomicBoolean();
+    private final AtomicInteger openSegments = new AtomicInteger();
+    private volatile Thread settler;
+
+    /**
+     * Request the current thread is working for, or {@code null}
+     */
+    public static RequestCost current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Start measuring the current thread for this request; close the segment on the same thread
+     */
+    public Segment begin() {
+        return new Segment(this);
+    }
+
+    public <T> T measure(Supplier<T> work) {
+        try (Segment segment = begin()) {
+            return work.get();
+        }
+    }
+
+    public void measure(Runnable work) {
+        try (Segment segment = begin()) {
+            work.run();
+        }
+    }
+
+    /**
+     * Wait, up to {@code timeoutMillis}, for segments still open on other threads
+     * <p>
+     * A worker completes its future before its segment closes, so a caller that has just joined
+     * offloaded work calls this before reading the totals. The caller parks until the last segment
+     * closes; an interrupted caller (e.g. a cancelled call) does not wait.
+     *
+     * @return {@code false} if a segment was still open at the timeout
+     */
+    public boolean settle(long timeoutMillis) {
+        if (openSegments.get() == 0) {
+            return true;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        settler = Thread.currentThread();
+        try {
+            while (openSegments.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return true;
+        } finally {
+            settler = null;
+        }
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos.sum();
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    public boolean isCpuMeasured() {
+        return !cpuUnmeasured.get();
+    }
+
+    public boolean isAllocationMeasured() {
+        return !allocationUnmeasured.get();
+    }
+
+    private static long cpuTime() {
+        if (THREADS == null || Thread.currentThread().isVirtual()) {
+            return -1;
+        }
+        try {
+            return THREADS.getCurrentThreadCpuTime();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static long allocated() {
+        if (THREADS == null) {
+            return -1;
+        }
+        try {
+            return THREADS.getCurrentThreadAllocatedBytes();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)) {
+            return null;
+        }
+        try {
+            if (threads.isThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+                threads.setThreadCpuTimeEnabled(true);
+            }
+            if (threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // Counters stay as configured; unsupported samples are reported as unmeasured
+        }
+        return threads;
+    }
+
+    /**
+     * Work done by one thread for a request
+     */
+    public static final class Segment implements AutoCloseable {
+
+        private final RequestCost cost;
+        private final RequestCost previous;
+        private final long cpuStart;
+        private final long allocatedStart;
+
+        private Segment(RequestCost cost) {
+            this.cost = cost;
+            this.previous = CURRENT.get();
+            CURRENT.set(cost);
+            cost.openSegments.incrementAndGet();
+            this.cpuStart = cpuTime();
+            this.allocatedStart = allocated();
+        }
+
+        @Override
+        public void close() {
+            long cpuEnd = cpuTime();
+            long allocatedEnd = allocated();
+            if (cpuStart >= 0 && cpuEnd >= cpuStart) {
+                cost.cpuNanos.add(cpuEnd - cpuStart);
+            } else {
+                cost.cpuUnmeasured.set(true);
+            }
+            if (allocatedStart >= 0 && allocatedEnd >= allocatedStart) {
+                cost.allocatedBytes.add(allocatedEnd - allocatedStart);
+            } else {
+                cost.allocationUnmeasured.set(true);
+            }
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            if (cost.openSegments.decrementAndGet() == 0) {
+                Thread waiting = cost.settler;
+                if (waiting != null) {
+                    LockSupport.unpark(waiting);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.mcp.marketing.infra.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Aggregates {@link RequestCost} per artifact type, entry point and tenant
+ * <p>
+ * CPU time and allocated bytes go to {@code generation.request.cpu} and
+ * {@code generation.request.allocated} distributions. The {@code topN} most CPU-expensive
+ * requests of each report interval are logged when the interval closes (on the next
+ * request after it, so no background thread is needed). Tenants beyond {@code maxTenants}
+ * are tagged {@code other} to bound metric cardinality.
+ */
+public class RequestCostRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCostRecorder.class);
+
+    static final String CPU = "generation.request.cpu";
+    static final String ALLOCATED = "generation.request.allocated";
+    static final String UNMEASURED = "generation.request.cost.unmeasured";
+    static final String OTHER_TENANT = "other";
+    static final String NO_TENANT = "none";
+    private static final long SETTLE_MILLIS = 50;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTenants;
+    private final int topN;
+    private final long reportIntervalNanos;
+    private final LongSupplier nanoClock;
+
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+    private final Map<List<String>, Meters> meters = new ConcurrentHashMap<>();
+    private final PriorityQueue<Entry> top = new PriorityQueue<>(Comparator.comparingLong(Entry::cpuNanos));
+    private volatile long windowStart;
+    private volatile long topThreshold = Long.MIN_VALUE;
+
+    /**
+     * @param meterRegistry  registry to publish to, or {@code null} to only keep the top-N log
+     * @param maxTenants     distinct tenant tags before further tenants are tagged {@code other}
+     * @param topN           requests listed per report; 0 disables the log
+     * @param reportInterval length of one top-N window
+     */
+    public RequestCostRecorder(MeterRegistry meterRegistry, int maxTenants, int topN, Duration reportInterval) {
+        this(meterRegistry, maxTenants, topN, reportInterval, System::nanoTime);
+    }
+
+    RequestCostRecorder(MeterRegistry meterRegistry, int maxTenants, int topN, Duration reportInterval,
+                        LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.maxTenants = Math.max(0, maxTenants);
+        this.topN = Math.max(0, topN);
+        this.reportIntervalNanos = reportInterval.toNanos();
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param entryPoint {@code rest} or {@code mcp}
+     * @param artifact   artifact type or tool name
+     * @param tenant     tenant or client id, or {@code null}
+     */
+    public void record(String entryPoint, String artifact, String tenant, String requestId, RequestCost cost) {
+        cost.settle(SETTLE_MILLIS);
+        String tenantTag = tenantTag(tenant);
+        if (meterRegistry != null) {
+            Meters requestMeters = meters.computeIfAbsent(List.of(entryPoint, artifact, tenantTag), this::register);
+            if (cost.isCpuMeasured()) {
+                requestMeters.cpu().record(cost.getCpuNanos() / 1e9);
+            } else {
+                requestMeters.cpuUnmeasured().increment();
+            }
+            if (cost.isAllocationMeasured()) {
+                requestMeters.allocated().record(cost.getAllocatedBytes());
+            } else {
+                requestMeters.allocationUnmeasured().increment();
+            }
+        }
+        if (topN > 0) {
+            offer(new Entry(requestId, entryPoint, artifact, tenantTag,
+                    cost.isCpuMeasured() ? cost.getCpuNanos() : -1,
+                    cost.isAllocationMeasured() ? cost.getAllocatedBytes() : -1));
+        }
+    }
+
+    /**
+     * Log and clear the current top-N window
+     */
+    public void report() {
+        List<Entry> entries;
+        synchronized (top) {
+            entries = new ArrayList<>(top);
+            top.clear();
+            topThreshold = Long.MIN_VALUE;
+            windowStart = nanoClock.getAsLong();
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(Entry::cpuNanos).thenComparingLong(Entry::allocatedBytes).reversed());
+        StringBuilder report = new StringBuilder("Most expensive generation requests:");
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            report.append(String.format(Locale.ROOT, "%n  %d) request_id=%s entry=%s artifact=%s tenant=%s cpu_ms=%s allocated_kb=%s",
+                    i + 1, entry.requestId(), entry.entryPoint(), entry.artifact(), entry.tenant(),
+                    entry.cpuNanos() >= 0 ? String.format(Locale.ROOT, "%.3f", entry.cpuNanos() / 1e6) : "n/a",
+                    entry.allocatedBytes() >= 0 ? String.valueOf(entry.allocatedBytes() / 1024) : "n/a"));
+        }
+        logger.info(report.toString());
+    }
+
+    /**
+     * Request ids in the current top-N window, most expensive first
+     */
+    List<String> window() {
+        synchronized (top) {
+            return top.stream()
+                    .sorted(Comparator.comparingLong(Entry::cpuNanos).reversed())
+                    .map(Entry::requestId)
+                    .toList();
+        }
+    }
+
+    private void offer(Entry entry) {
+        boolean due = nanoClock.getAsLong() - windowStart >= reportIntervalNanos;
+        if (!due && entry.cpuNanos() <= topThreshold) {
+            return;
+        }
+        synchronized (top) {
+            due = nanoClock.getAsLong() - windowStart >= reportIntervalNanos;
+            if (!due) {
+                top.offer(entry);
+                if (top.size() > topN) {
+                    top.poll();
+                }
+                topThreshold = top.size() == topN ? top.peek().cpuNanos() : Long.MIN_VALUE;
+                return;
+            }
+        }
+        report();
+        offer(entry);
+    }
+
+    private String tenantTag(String tenant) {
+        if (tenant == null || tenant.isBlank()) {
+            return NO_TENANT;
+        }
+        if (tenants.contains(tenant)) {
+            return tenant;
+        }
+        if (tenants.size() < maxTenants && tenants.add(tenant)) {
+            return tenant;
+        }
+        return tenants.contains(tenant) ? tenant : OTHER_TENANT;
+    }
+
+    private Meters register(List<String> key) {
+        String entryPoint = key.get(0);
+        String artifact = key.get(1);
+        String tenant = key.get(2);
+        return new Meters(
+                DistributionSummary.builder(CPU)
+                        .description("CPU time spent on one generation request")
+                        .baseUnit("seconds")
+                        .tags("entry", entryPoint, "artifact", artifact, "tenant", tenant)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                DistributionSummary.builder(ALLOCATED)
+                        .description("Heap bytes allocated by one generation request")
+                        .baseUnit("bytes")
+                        .tags("entry", entryPoint, "artifact", artifact, "tenant", tenant)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Counter.builder(UNMEASURED)
+                        .description("Generation requests whose cost could not be sampled on every thread")
+                        .tags("entry", entryPoint, "artifact", artifact, "resource", "cpu")
+                        .register(meterRegistry),
+                Counter.builder(UNMEASURED)
+                        .description("Generation requests whose cost could not be sampled on every thread")
+                        .tags("entry", entryPoint, "artifact", artifact, "resource", "allocation")
+                        .register(meterRegistry));
+    }
+
+    private record Meters(DistributionSummary cpu, DistributionSummary allocated,
+                          Counter cpuUnmeasured, Counter allocationUnmeasured) {
+    }
+
+    private record Entry(String requestId, String entryPoint, String artifact, String tenant,
+                         long cpuNanos, long allocatedBytes) {
+    }
+}
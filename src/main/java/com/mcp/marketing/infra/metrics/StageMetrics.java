@@ -0,0 +1,62 @@
+package com.mcp.marketing.infra.metrics;
+
+import com.mcp.marketing.domain.model.StageTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link StageTimings} as Micrometer timers
+ * <p>
+ * One timer per stage, artifact type and entry point ({@code rest} or {@code mcp}), with a
+ * percentile histogram and the configured SLO buckets so quantiles can be aggregated in Prometheus.
+ */
+public class StageMetrics {
+
+    public static final String REST = "rest";
+    public static final String MCP = "mcp";
+
+    static final String STAGE_DURATION = "generation.stage.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slos;
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry registry to publish to, or {@code null} to record nothing
+     * @param slos          SLO bucket boundaries added to every stage histogram
+     */
+    public StageMetrics(MeterRegistry meterRegistry, List<Duration> slos) {
+        this.meterRegistry = meterRegistry;
+        this.slos = slos == null ? new Duration[0] : slos.toArray(Duration[]::new);
+    }
+
+    public void record(String entryPoint, StageTimings timings) {
+        if (meterRegistry == null || !timings.isEnabled()) {
+            return;
+        }
+        String artifact = timings.getArtifactType() != null ? timings.getArtifactType() : "unknown";
+        timings.getNanos().forEach((stage, nanos) -> timers
+                .computeIfAbsent(new Key(stage, artifact, entryPoint), this::register)
+                .record(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    private Timer register(Key key) {
+        return Timer.builder(STAGE_DURATION)
+                .description("Time spent in one stage of a generation request")
+                .tag("stage", key.stage())
+                .tag("artifact", key.artifact())
+                .tag("entry", key.entryPoint())
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(slos)
+                .register(meterRegistry);
+    }
+
+    private record Key(String stage, String artifact, String entryPoint) {
+    }
+}
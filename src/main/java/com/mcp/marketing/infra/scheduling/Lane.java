@@ -0,0 +1,39 @@
+package com.mcp.marketing.infra.scheduling;
+
+/**
+ * Priority class of generation work
+ */
+public enum Lane {
+
+    /**
+     * Calls a user is waiting on; served first and never starved by bulk work
+     */
+    INTERACTIVE("interactive"),
+
+    /**
+     * Batch and campaign generation; runs on capacity interactive calls leave free
+     */
+    BULK("bulk");
+
+    private final String id;
+
+    Lane(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Lane by identifier, or {@code null} when the identifier is unknown
+     */
+    public static Lane fromId(String id) {
+        for (Lane lane : values()) {
+            if (lane.id.equalsIgnoreCase(id)) {
+                return lane;
+            }
+        }
+        return null;
+    }
+}
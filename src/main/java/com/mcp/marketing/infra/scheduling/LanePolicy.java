@@ -0,0 +1,41 @@
+package com.mcp.marketing.infra.scheduling;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decides which lane a generation call belongs to
+ * <p>
+ * A call is bulk when the caller asks for it, when its client (API key or MCP client id) is
+ * registered as a bulk client, or when it targets a bulk endpoint. Everything else is
+ * interactive; a caller can demote itself to bulk but never promote itself out of it.
+ */
+public class LanePolicy {
+
+    private final Set<String> bulkClients;
+    private final List<String> bulkPaths;
+
+    public LanePolicy(Collection<String> bulkClients, Collection<String> bulkPaths) {
+        this.bulkClients = bulkClients == null ? Set.of() : Set.copyOf(bulkClients);
+        this.bulkPaths = bulkPaths == null ? List.of() : List.copyOf(bulkPaths);
+    }
+
+    /**
+     * @param requested lane identifier sent by the caller, or {@code null}
+     * @param client    API key or client id, or {@code null}
+     * @param path      request path or tool name, or {@code null}
+     */
+    public Lane resolve(String requested, String client, String path) {
+        if (Lane.fromId(requested) == Lane.BULK) {
+            return Lane.BULK;
+        }
+        if (client != null && bulkClients.contains(client)) {
+            return Lane.BULK;
+        }
+        if (path != null && bulkPaths.contains(path)) {
+            return Lane.BULK;
+        }
+        return Lane.INTERACTIVE;
+    }
+}
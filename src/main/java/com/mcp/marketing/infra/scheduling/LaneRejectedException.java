@@ -0,0 +1,21 @@
+package com.mcp.marketing.infra.scheduling;
+
+import lombok.Getter;
+
+/**
+ * Raised when generation work waited longer than allowed for a slot in its lane
+ */
+@Getter
+public class LaneRejectedException extends RuntimeException {
+
+    public static final String CODE = "LANE_QUEUE_TIMEOUT";
+
+    private final Lane lane;
+    private final long retryAfterMillis;
+
+    public LaneRejectedException(Lane lane, long retryAfterMillis, String message) {
+        super(message);
+        this.lane = lane;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
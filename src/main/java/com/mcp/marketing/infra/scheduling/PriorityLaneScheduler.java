@@ -0,0 +1,257 @@
+package com.mcp.marketing.infra.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Execution slots for generation work, split into an interactive and a bulk lane
+ * <p>
+ * Up to {@code maxConcurrent} tasks run at once. Bulk tasks may hold at most
+ * {@code maxConcurrent - reservedInteractive} of them, so interactive calls always find
+ * capacity, and a free slot goes to a waiting interactive task before any bulk task. Long
+ * bulk tasks call {@link Permit#checkpoint()} between stages: when interactive work is
+ * waiting for a slot, the bulk task hands its slot over and resumes ahead of newer bulk work.
+ */
+public class PriorityLaneScheduler {
+
+    static final int DEFAULT_MAX_CONCURRENT = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+    static final String WAIT = "generation.lane.wait";
+    static final String RUNNING = "generation.lane.running";
+    static final String QUEUED = "generation.lane.queued";
+    static final String PREEMPTED = "generation.lane.preempted";
+
+    private final int maxConcurrent;
+    private final int maxBulk;
+    private final long maxWaitMillis;
+
+    private final Map<Lane, ArrayDeque<Permit>> waiting = new EnumMap<>(Lane.class);
+    private final Map<Lane, Integer> running = new EnumMap<>(Lane.class);
+    private final Map<Lane, Timer> waitTimers = new EnumMap<>(Lane.class);
+    private final Counter preemptions;
+
+    /**
+     * @param maxConcurrent       total slots; 0 or less = twice the available processors
+     * @param reservedInteractive slots bulk work may never take; negative = a quarter of the slots (at least 1)
+     * @param maxWait             longest wait for a slot before {@link LaneRejectedException}
+     * @param meterRegistry       registry for per-lane metrics, or {@code null}
+     */
+    public PriorityLaneScheduler(int maxConcurrent, int reservedInteractive, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : DEFAULT_MAX_CONCURRENT;
+        int reserved = reservedInteractive >= 0 ? reservedInteractive : Math.max(1, this.maxConcurrent / 4);
+        this.maxBulk = Math.max(1, this.maxConcurrent - reserved);
+        this.maxWaitMillis = (maxWait != null && !maxWait.isNegative() && !maxWait.isZero()
+                ? maxWait : DEFAULT_MAX_WAIT).toMillis();
+        for (Lane lane : Lane.values()) {
+            waiting.put(lane, new ArrayDeque<>());
+            running.put(lane, 0);
+        }
+
+        if (meterRegistry != null) {
+            for (Lane lane : Lane.values()) {
+                waitTimers.put(lane, Timer.builder(WAIT)
+                        .description("Time generation work waits for a slot in its lane")
+                        .tag("lane", lane.getId())
+                        .register(meterRegistry));
+                Gauge.builder(RUNNING, this, scheduler -> scheduler.running(lane))
+                        .description("Generation tasks running per lane")
+                        .tag("lane", lane.getId())
+                        .register(meterRegistry);
+                Gauge.builder(QUEUED, this, scheduler -> scheduler.queued(lane))
+                        .description("Generation tasks waiting for a slot per lane")
+                        .tag("lane", lane.getId())
+                        .register(meterRegistry);
+            }
+            this.preemptions = Counter.builder(PREEMPTED)
+                    .description("Bulk tasks that yielded their slot to interactive work at a stage boundary")
+                    .register(meterRegistry);
+        } else {
+            this.preemptions = null;
+        }
+    }
+
+    /**
+     * Run {@code task} on the caller thread once its lane grants a slot
+     *
+     * @throws LaneRejectedException if no slot is granted within the maximum wait
+     * @throws InterruptedException  if the caller is interrupted while waiting
+     */
+    public <T> T execute(Lane lane, Supplier<T> task) throws InterruptedException {
+        try (Permit permit = acquire(lane)) {
+            return task.get();
+        }
+    }
+
+    /**
+     * Wait for a slot in {@code lane}; the permit must be closed when the work is done
+     *
+     * @throws LaneRejectedException if no slot is granted within the maximum wait
+     * @throws InterruptedException  if the caller is interrupted while waiting
+     */
+    public Permit acquire(Lane lane) throws InterruptedException {
+        Permit permit = new Permit(lane);
+        enqueue(permit, false);
+        try {
+            permit.grant.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            synchronized (this) {
+                if (!permit.grant.isDone()) {
+                    waiting.get(lane).remove(permit);
+                    if (e instanceof InterruptedException interrupted) {
+                        throw interrupted;
+                    }
+                    throw new LaneRejectedException(lane, maxWaitMillis, "No " + lane.getId()
+                            + " generation slot became free within " + maxWaitMillis + " ms");
+                }
+            }
+            // Granted while timing out: the slot is ours
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Lane grant failed", e);
+        }
+        return permit;
+    }
+
+    public synchronized int running(Lane lane) {
+        return running.get(lane);
+    }
+
+    public synchronized int queued(Lane lane) {
+        return waiting.get(lane).size();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getMaxBulk() {
+        return maxBulk;
+    }
+
+    private synchronized void enqueue(Permit permit, boolean resume) {
+        permit.enqueuedNanos = System.nanoTime();
+        if (resume) {
+            waiting.get(permit.lane).addFirst(permit);
+        } else {
+            waiting.get(permit.lane).addLast(permit);
+        }
+        dispatch();
+    }
+
+    private synchronized void release(Permit permit) {
+        running.merge(permit.lane, -1, Integer::sum);
+        dispatch();
+    }
+
+    /**
+     * Hand free slots to interactive work first, then to bulk work within its cap
+     */
+    private void dispatch() {
+        while (total() < maxConcurrent) {
+            ArrayDeque<Permit> interactive = waiting.get(Lane.INTERACTIVE);
+            ArrayDeque<Permit> bulk = waiting.get(Lane.BULK);
+            if (!interactive.isEmpty()) {
+                grant(interactive.pollFirst());
+            } else if (!bulk.isEmpty() && running.get(Lane.BULK) < maxBulk) {
+                grant(bulk.pollFirst());
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void grant(Permit permit) {
+        running.merge(permit.lane, 1, Integer::sum);
+        Timer timer = waitTimers.get(permit.lane);
+        if (timer != null) {
+            timer.record(System.nanoTime() - permit.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+        permit.grant.complete(null);
+    }
+
+    private int total() {
+        return running.get(Lane.INTERACTIVE) + running.get(Lane.BULK);
+    }
+
+    /**
+     * A granted slot in one lane
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final Lane lane;
+        private CompletableFuture<Void> grant = new CompletableFuture<>();
+        private long enqueuedNanos;
+        private boolean closed;
+
+        private Permit(Lane lane) {
+            this.lane = lane;
+        }
+
+        public Lane getLane() {
+            return lane;
+        }
+
+        /**
+         * Stage boundary of a bulk task: if interactive work is waiting for a slot, give this
+         * slot to it and wait to be resumed. Does nothing for interactive permits.
+         *
+         * @throws InterruptedException if interrupted while waiting to resume (the slot is then released)
+         */
+        public void checkpoint() throws InterruptedException {
+            if (lane != Lane.BULK) {
+                return;
+            }
+            synchronized (PriorityLaneScheduler.this) {
+                if (closed || waiting.get(Lane.INTERACTIVE).isEmpty()) {
+                    return;
+                }
+                grant = new CompletableFuture<>();
+                running.merge(lane, -1, Integer::sum);
+                if (preemptions != null) {
+                    preemptions.increment();
+                }
+                enqueue(this, true);
+            }
+            try {
+                grant.get();
+            } catch (InterruptedException e) {
+                synchronized (PriorityLaneScheduler.this) {
+                    if (!grant.isDone()) {
+                        waiting.get(lane).remove(this);
+                        closed = true;
+                        throw e;
+                    }
+                }
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Lane grant failed", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (PriorityLaneScheduler.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(this);
+        }
+    }
+}
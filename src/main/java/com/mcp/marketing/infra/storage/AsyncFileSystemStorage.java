@@ -0,0 +1,125 @@
+package com.mcp.marketing.infra.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.domain.events.StorageWriteEvent;
+import com.mcp.marketing.domain.ports.AsyncStoragePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Filesystem implementation of AsyncStoragePort
+ * <p>
+ * Same layout and naming as {@link FileSystemStorage}, but the envelope is written through an
+ * {@link AsynchronousFileChannel}: the write is handed to the channel and the returned Mono
+ * completes from its completion handler, so the subscribing event-loop thread never waits on disk.
+ */
+@Component
+public class AsyncFileSystemStorage implements AsyncStoragePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncFileSystemStorage.class);
+
+    private final AppConfiguration appConfig;
+    private final ObjectMapper objectMapper;
+
+    public AsyncFileSystemStorage(AppConfiguration appConfig, ObjectMapper objectMapper) {
+        this.appConfig = appConfig;
+        this.objectMapper = objectMapper;
+        ensureOutputDirectory();
+    }
+
+    private void ensureOutputDirectory() {
+        if (!appConfig.getOutputs().isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(Paths.get(appConfig.getOutputs().getDirectory()));
+        } catch (IOException e) {
+            logger.error("Failed to create output directory", e);
+            throw new RuntimeException("Failed to initialize output directory", e);
+        }
+    }
+
+    @Override
+    public Mono<String> saveJson(String artifactType, String requestId, Object payload) {
+        if (!appConfig.getOutputs().isEnabled()) {
+            logger.warn("Output storage disabled, skipping save for request_id={}", requestId);
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+            StorageWriteEvent event = new StorageWriteEvent();
+            event.begin();
+            byte[] bytes;
+            try {
+                bytes = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(payload);
+            } catch (JsonProcessingException e) {
+                return Mono.error(new RuntimeException("Failed to serialize artifact", e));
+            }
+            Path outputPath = Paths.get(appConfig.getOutputs().getDirectory())
+                    .resolve(FileSystemStorage.filename(artifactType, requestId));
+
+            return write(outputPath, ByteBuffer.wrap(bytes))
+                    .then(Mono.fromCallable(() -> {
+                        logger.info("Artifact saved: {} (type={}, request_id={}, size={} bytes)",
+                                outputPath.toAbsolutePath(), artifactType, requestId, bytes.length);
+                        event.storage = "filesystem-async";
+                        event.bytes = bytes.length;
+                        event.commit(requestId, artifactType);
+                        return outputPath.toAbsolutePath().toString();
+                    }))
+                    .doOnError(e -> logger.error("Failed to save artifact: type={}, request_id={}", artifactType, requestId, e))
+                    .onErrorMap(IOException.class, e -> new RuntimeException("Failed to save artifact to filesystem", e));
+        });
+    }
+
+    private static Mono<Void> write(Path path, ByteBuffer buffer) {
+        return Mono.using(
+                () -> AsynchronousFileChannel.open(path, StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+                channel -> Mono.<Void>create(sink -> writeFrom(channel, buffer, 0, sink)),
+                AsyncFileSystemStorage::close);
+    }
+
+    /**
+     * Keep writing from the completion handler until the buffer is drained (writes may be partial)
+     */
+    private static void writeFrom(AsynchronousFileChannel channel, ByteBuffer buffer, long position, MonoSink<Void> sink) {
+        channel.write(buffer, position, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer written, Void attachment) {
+                if (buffer.hasRemaining()) {
+                    writeFrom(channel, buffer, position + written, sink);
+                } else {
+                    sink.success();
+                }
+            }
+
+            @Override
+            public void failed(Throwable error, Void attachment) {
+                sink.error(error);
+            }
+        });
+    }
+
+    private static void close(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close artifact channel", e);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.mcp.marketing.infra.storage;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.domain.events.StorageWriteEvent;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,8 +14,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Filesystem implementation of StoragePort
@@ -21,7 +26,9 @@ import java.time.format.DateTimeFormatter;
  * Saves JSON artifacts to ./outputs directory with standardized naming:
  * <artifactType>_<requestId>_<yyyyMMdd_HHmmss>.json
  * <p>
- * Saves the complete StandardResponse envelope for full audit trail
+ * Saves the complete StandardResponse envelope for full audit trail. Generated request ids are
+ * time-ordered, so {@link #find(String, Instant, Instant)} can select a time range from the
+ * file names alone.
  */
 @Component
 public class FileSystemStorage implements StoragePort {
@@ -66,13 +73,11 @@ public class FileSystemStorage implements StoragePort {
             return null;
         }
 
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
         try {
-            // Generate filename: <artifactType>_<requestId>_<yyyyMMdd_HHmmss>.json
-            String timestamp = LocalDateTime.now().format(FILENAME_DATE_FORMAT);
-            String filename = String.format("%s_%s_%s.json", artifactType, requestId, timestamp);
-
             Path outputDir = Paths.get(appConfig.getOutputs().getDirectory());
-            Path outputPath = outputDir.resolve(filename);
+            Path outputPath = outputDir.resolve(filename(artifactType, requestId));
 
             // Save complete envelope with pretty-print for audit
             objectMapper.writerWithDefaultPrettyPrinter()
@@ -85,6 +90,9 @@ public class FileSystemStorage implements StoragePort {
                     requestId,
                     savedFile.length());
 
+            event.storage = "filesystem";
+            event.bytes = savedFile.length();
+            event.commit(requestId, artifactType);
             return outputPath.toAbsolutePath().toString();
 
         } catch (IOException e) {
@@ -92,4 +100,48 @@ public class FileSystemStorage implements StoragePort {
             throw new RuntimeException("Failed to save artifact to filesystem", e);
         }
     }
+
+    /**
+     * Artifacts of one type whose request id was minted in {@code [from, to)}, oldest first
+     * <p>
+     * Works on file names only: the time prefix of each id is compared against the range bounds.
+     * Artifacts saved under caller-supplied ids that are not time-ordered are never returned.
+     */
+    public List<Path> find(String artifactType, Instant from, Instant to) {
+        Path outputDir = Paths.get(appConfig.getOutputs().getDirectory());
+        if (!Files.isDirectory(outputDir)) {
+            return List.of();
+        }
+        String prefix = artifactType + "_";
+        String lower = TimeOrderedIds.timePrefix(from.toEpochMilli());
+        String upper = TimeOrderedIds.timePrefix(to.toEpochMilli());
+        try (Stream<Path> files = Files.list(outputDir)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        if (!name.startsWith(prefix) || name.length() < prefix.length() + 36) {
+                            return false;
+                        }
+                        String requestId = name.substring(prefix.length(), prefix.length() + 36);
+                        if (TimeOrderedIds.timestampMillis(requestId) < 0) {
+                            return false;
+                        }
+                        String time = requestId.substring(0, TimeOrderedIds.TIME_PREFIX_LENGTH);
+                        return time.compareTo(lower) >= 0 && time.compareTo(upper) < 0;
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            logger.error("Failed to list artifacts: type={}", artifactType, e);
+            throw new RuntimeException("Failed to list artifacts in filesystem", e);
+        }
+    }
+
+    /**
+     * Generate filename: <artifactType>_<requestId>_<yyyyMMdd_HHmmss>.json
+     */
+    static String filename(String artifactType, String requestId) {
+        String timestamp = LocalDateTime.now().format(FILENAME_DATE_FORMAT);
+        return String.format("%s_%s_%s.json", artifactType, requestId, timestamp);
+    }
 }
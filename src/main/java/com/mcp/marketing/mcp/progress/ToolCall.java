@@ -0,0 +1,125 @@
+package com.mcp.marketing.mcp.progress;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * One in-flight MCP tool call
+ * <p>
+ * Emits {@value #PROGRESS} notifications for each phase when the client supplied a
+ * {@code progressToken}, and carries the cancellation state: cancelling interrupts the
+ * tracked work so it gives its executor thread back at the next phase boundary.
+ */
+public final class ToolCall {
+
+    /**
+     * MCP notification reporting the progress of a request
+     */
+    public static final String PROGRESS = "notifications/progress";
+
+    private final String requestId;
+    private final String clientId;
+    private final Object progressToken;
+    private final Object jsonRpcId;
+    private final int total;
+    private final BiConsumer<String, Map<String, Object>> notifier;
+    private final AtomicInteger progress = new AtomicInteger();
+    private final Set<Future<?>> work = ConcurrentHashMap.newKeySet();
+
+    private volatile String cancelReason;
+
+    ToolCall(String requestId, String clientId, Object progressToken, Object jsonRpcId, int total,
+             BiConsumer<String, Map<String, Object>> notifier) {
+        this.requestId = requestId;
+        this.clientId = clientId;
+        this.progressToken = progressToken;
+        this.jsonRpcId = jsonRpcId;
+        this.total = total;
+        this.notifier = notifier;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Client that opened the call; its progress token is only unique within this client
+     */
+    public String getClientId() {
+        return clientId;
+    }
+
+    public Object getProgressToken() {
+        return progressToken;
+    }
+
+    /**
+     * JSON-RPC id of the {@code tools/call} request, when the transport passed it on
+     */
+    public Object getJsonRpcId() {
+        return jsonRpcId;
+    }
+
+    /**
+     * Mark the start of a phase and report it to the client
+     *
+     * @throws CancellationException if the call was cancelled or the current thread interrupted
+     */
+    public void phase(String message) {
+        checkCancelled();
+        int current = progress.incrementAndGet();
+        if (progressToken == null) {
+            return;
+        }
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("progressToken", progressToken);
+        params.put("progress", current);
+        params.put("total", total);
+        params.put("message", message);
+        params.put("requestId", requestId);
+        notifier.accept(PROGRESS, params);
+    }
+
+    /**
+     * Register work to interrupt on cancellation; work registered after cancelling is cancelled right away
+     */
+    public <T extends Future<?>> T track(T future) {
+        work.add(future);
+        if (isCancelled()) {
+            future.cancel(true);
+        }
+        return future;
+    }
+
+    public boolean isCancelled() {
+        return cancelReason != null;
+    }
+
+    public String getCancelReason() {
+        return cancelReason;
+    }
+
+    public void checkCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("Tool call cancelled: " + cancelReason);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Tool call interrupted");
+        }
+    }
+
+    synchronized void cancel(String reason) {
+        if (cancelReason == null) {
+            cancelReason = reason != null && !reason.isBlank() ? reason : "cancelled by client";
+        }
+        for (Future<?> future : work) {
+            future.cancel(true);
+        }
+    }
+}
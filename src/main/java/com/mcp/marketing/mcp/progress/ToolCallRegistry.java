@@ -0,0 +1,163 @@
+package com.mcp.marketing.mcp.progress;
+
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Registry of in-flight MCP tool calls
+ * <p>
+ * Calls are addressable by the tool {@code requestId} and, when the client sent one, by
+ * the {@code _meta.progressToken} of the call, so a {@value #CANCELLED} notification can
+ * reach the work it refers to. Progress tokens are chosen by clients, so they are scoped by
+ * the client of the call ({@code _meta.clientId}, else the {@code sessionId}, else
+ * {@value #ANONYMOUS}): two clients using the same token do not overwrite or cancel each
+ * other's calls. Request ids, progress tokens and JSON-RPC ids are kept in separate maps, so
+ * one kind of id never matches another. A transport that addresses calls by JSON-RPC id passes it as
+ * {@code _meta.}{@value #JSON_RPC_ID}; the call is then also registered under that id, scoped
+ * the same way, so it can be cancelled without a progress token.
+ */
+public class ToolCallRegistry {
+
+    /**
+     * MCP notification sent by clients to cancel an in-flight request
+     */
+    public static final String CANCELLED = "notifications/cancelled";
+
+    /**
+     * Client of calls that carry neither {@code _meta.clientId} nor a {@code sessionId}
+     */
+    public static final String ANONYMOUS = "anonymous";
+
+    /**
+     * {@code _meta} key under which a transport passes the JSON-RPC id of a {@code tools/call}
+     */
+    public static final String JSON_RPC_ID = "jsonRpcId";
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolCallRegistry.class);
+
+    private final Map<String, ToolCall> byRequestId = new ConcurrentHashMap<>();
+    private final Map<ScopedId, ToolCall> byProgressToken = new ConcurrentHashMap<>();
+    private final Map<ScopedId, ToolCall> byJsonRpcId = new ConcurrentHashMap<>();
+    private final BiConsumer<String, Map<String, Object>> notifier;
+
+    public ToolCallRegistry(BiConsumer<String, Map<String, Object>> notifier) {
+        this.notifier = notifier;
+    }
+
+    /**
+     * Register a new call
+     *
+     * @param input tool input; {@code _meta.progressToken} enables progress notifications
+     * @param total number of phases the call will report
+     */
+    public ToolCall open(String requestId, Map<String, Object> input, int total) {
+        ToolCall call = new ToolCall(requestId, clientId(input), meta(input, "progressToken"),
+                meta(input, JSON_RPC_ID), total, notifier);
+        byRequestId.put(requestId, call);
+        if (call.getProgressToken() != null) {
+            byProgressToken.put(ScopedId.of(call.getClientId(), call.getProgressToken()), call);
+        }
+        if (call.getJsonRpcId() != null) {
+            byJsonRpcId.put(ScopedId.of(call.getClientId(), call.getJsonRpcId()), call);
+        }
+        return call;
+    }
+
+    public void close(ToolCall call) {
+        byRequestId.remove(call.getRequestId(), call);
+        if (call.getProgressToken() != null) {
+            byProgressToken.remove(ScopedId.of(call.getClientId(), call.getProgressToken()), call);
+        }
+        if (call.getJsonRpcId() != null) {
+            byJsonRpcId.remove(ScopedId.of(call.getClientId(), call.getJsonRpcId()), call);
+        }
+    }
+
+    /**
+     * Cancel a call of the {@value #ANONYMOUS} client by progress token, or any call by request id
+     *
+     * @return true if an in-flight call was found
+     */
+    public boolean cancel(Object id, String reason) {
+        return cancel(null, id, reason);
+    }
+
+    /**
+     * Cancel the call registered under a progress token of the given client, or under a
+     * server-issued request id
+     *
+     * @param clientId client that sent the progress token; {@code null} for {@value #ANONYMOUS}
+     * @return true if an in-flight call was found
+     */
+    public boolean cancel(String clientId, Object id, String reason) {
+        if (id == null) {
+            return false;
+        }
+        ToolCall call = byProgressToken.get(ScopedId.of(clientId, id));
+        if (call == null) {
+            call = byRequestId.get(id.toString());
+        }
+        return cancelCall(call, id, reason);
+    }
+
+    /**
+     * Cancel the call a client started with the given JSON-RPC {@code tools/call} id
+     *
+     * @param clientId client of the call; {@code null} for {@value #ANONYMOUS}
+     * @return true if an in-flight call was found
+     */
+    public boolean cancelJsonRpc(String clientId, Object jsonRpcId, String reason) {
+        return cancelCall(jsonRpcId != null ? byJsonRpcId.get(ScopedId.of(clientId, jsonRpcId)) : null,
+                jsonRpcId, reason);
+    }
+
+    /**
+     * Number of calls currently in flight
+     */
+    public int inFlight() {
+        return byRequestId.size();
+    }
+
+    /**
+     * Client a call is accounted to: {@code _meta.clientId}, else the {@code sessionId}, else
+     * {@value #ANONYMOUS}
+     */
+    public static String clientId(Map<String, Object> input) {
+        if (input.get("_meta") instanceof Map<?, ?> meta && meta.get("clientId") != null) {
+            return meta.get("clientId").toString();
+        }
+        Object sessionId = input.get(McpSessionContextStore.SESSION_ID);
+        return sessionId != null ? sessionId.toString() : ANONYMOUS;
+    }
+
+    private static boolean cancelCall(ToolCall call, Object id, String reason) {
+        if (call == null) {
+            return false;
+        }
+        logger.info("MCP tool call cancelled: request_id={} id={} reason={}", call.getRequestId(), id, reason);
+        call.cancel(reason);
+        return true;
+    }
+
+    private static Object meta(Map<String, Object> input, String name) {
+        if (input.get("_meta") instanceof Map<?, ?> meta) {
+            return meta.get(name);
+        }
+        return null;
+    }
+
+    /**
+     * Client-chosen id (progress token or JSON-RPC id) within the client that chose it
+     */
+    private record ScopedId(String clientId, String id) {
+
+        static ScopedId of(String clientId, Object id) {
+            return new ScopedId(clientId != null ? clientId : ANONYMOUS, id.toString());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+/**
+ * Callback invoked after a catalog published a new snapshot
+ */
+@FunctionalInterface
+public interface CatalogChangeListener {
+
+    /**
+     * @param catalog catalog whose snapshot changed
+     */
+    void onCatalogChanged(ResourceCatalog catalog);
+}
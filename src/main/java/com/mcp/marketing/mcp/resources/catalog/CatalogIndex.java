@@ -0,0 +1,238 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary indexes over a catalog snapshot
+ * <p>
+ * For every indexed field, values are normalized (trimmed, lower-cased, interned) and
+ * mapped to a sorted int[] posting list of entry positions in the snapshot. List-valued
+ * fields contribute one posting per element. Filters intersect posting lists, so query
+ * cost depends on the size of the matches rather than on the size of the catalog.
+ * <p>
+ * A catalog snapshot indexes each source file separately and {@link #compose composes} the
+ * file indexes with position offsets, so a reload re-indexes only the changed file.
+ */
+public final class CatalogIndex {
+
+    /**
+     * Fields that can be used as query filters
+     */
+    public static final List<String> INDEXED_FIELDS = List.of("category", "industry", "targetAudience");
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final Map<String, Map<String, int[]>> postings;
+    private final Map<String, List<String>> distinctValues;
+    private final Map<String, Integer> positions;
+    // Composed index: the parts and the position of the first entry of each
+    private final List<CatalogIndex> parts;
+    private final int[] offsets;
+
+    private CatalogIndex(Map<String, Map<String, int[]>> postings,
+                         Map<String, List<String>> distinctValues,
+                         Map<String, Integer> positions) {
+        this.postings = postings;
+        this.distinctValues = distinctValues;
+        this.positions = positions;
+        this.parts = null;
+        this.offsets = null;
+    }
+
+    private CatalogIndex(List<CatalogIndex> parts, int[] offsets) {
+        this.postings = Map.of();
+        this.positions = Map.of();
+        this.parts = List.copyOf(parts);
+        this.offsets = offsets;
+        Map<String, List<String>> distinct = new LinkedHashMap<>();
+        for (String field : INDEXED_FIELDS) {
+            Set<String> values = new LinkedHashSet<>();
+            parts.forEach(part -> values.addAll(part.distinctValues(field)));
+            distinct.put(field, List.copyOf(values));
+        }
+        this.distinctValues = distinct;
+    }
+
+    /**
+     * Index over consecutive parts; entry {@code i} of part {@code p} is at {@code offsets[p] + i}
+     */
+    static CatalogIndex compose(List<CatalogIndex> parts, int[] offsets) {
+        return new CatalogIndex(parts, offsets);
+    }
+
+    /**
+     * Build the indexes for the given entries (position = list index)
+     */
+    static CatalogIndex build(List<Map<String, Object>> entries) {
+        Map<String, Map<String, IntList>> building = new HashMap<>();
+        Map<String, Set<String>> displayValues = new HashMap<>();
+        Map<String, Integer> positions = new HashMap<>(entries.size() * 2);
+
+        for (int position = 0; position < entries.size(); position++) {
+            Map<String, Object> entry = entries.get(position);
+            positions.put(String.valueOf(entry.get("id")), position);
+            for (String field : INDEXED_FIELDS) {
+                Object value = entry.get(field);
+                if (value instanceof List<?> list) {
+                    for (Object element : list) {
+                        add(building, displayValues, field, element, position);
+                    }
+                } else {
+                    add(building, displayValues, field, value, position);
+                }
+            }
+        }
+
+        Map<String, Map<String, int[]>> postings = new HashMap<>();
+        building.forEach((field, byValue) -> {
+            Map<String, int[]> compact = new HashMap<>(byValue.size() * 2);
+            byValue.forEach((value, list) -> compact.put(value, list.toArray()));
+            postings.put(field, compact);
+        });
+
+        Map<String, List<String>> distinct = new LinkedHashMap<>();
+        for (String field : INDEXED_FIELDS) {
+            distinct.put(field, List.copyOf(displayValues.getOrDefault(field, Set.of())));
+        }
+        return new CatalogIndex(postings, distinct, positions);
+    }
+
+    private static void add(Map<String, Map<String, IntList>> building,
+                            Map<String, Set<String>> displayValues,
+                            String field,
+                            Object value,
+                            int position) {
+        if (value == null || value instanceof Map || value instanceof List) {
+            return;
+        }
+        String display = value.toString().trim();
+        if (display.isEmpty()) {
+            return;
+        }
+        IntList list = building.computeIfAbsent(field, key -> new HashMap<>())
+                .computeIfAbsent(normalize(display), key -> new IntList());
+        // Positions are visited in ascending order; skip duplicates from repeated list elements
+        if (list.size == 0 || list.values[list.size - 1] != position) {
+            list.add(position);
+        }
+        displayValues.computeIfAbsent(field, key -> new LinkedHashSet<>()).add(display.intern());
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).intern();
+    }
+
+    /**
+     * Sorted positions matching every filter (field -> value, case-insensitive)
+     *
+     * @throws IllegalArgumentException if a filter targets a field that is not indexed
+     */
+    int[] match(Map<String, String> filters) {
+        for (String field : filters.keySet()) {
+            if (!INDEXED_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unsupported filter: " + field
+                        + " (supported: " + String.join(", ", INDEXED_FIELDS) + ")");
+            }
+        }
+        if (parts != null) {
+            return matchParts(filters);
+        }
+        int[] result = null;
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            int[] posting = postings.getOrDefault(filter.getKey(), Map.of())
+                    .getOrDefault(normalize(filter.getValue()), NO_MATCHES);
+            result = result == null ? posting : intersect(result, posting);
+            if (result.length == 0) {
+                return NO_MATCHES;
+            }
+        }
+        return result;
+    }
+
+    private int[] matchParts(Map<String, String> filters) {
+        int[][] matches = new int[parts.size()][];
+        int total = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            matches[i] = parts.get(i).match(filters);
+            total += matches[i].length;
+        }
+        int[] result = new int[total];
+        int size = 0;
+        for (int i = 0; i < matches.length; i++) {
+            for (int position : matches[i]) {
+                result[size++] = offsets[i] + position;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Position of an entry in the snapshot, or -1 when absent
+     */
+    int position(String id) {
+        if (parts != null) {
+            for (int i = 0; i < parts.size(); i++) {
+                int position = parts.get(i).position(id);
+                if (position >= 0) {
+                    return offsets[i] + position;
+                }
+            }
+            return -1;
+        }
+        Integer position = positions.get(id);
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Distinct values of an indexed field, in first-seen order
+     */
+    public List<String> distinctValues(String field) {
+        return distinctValues.getOrDefault(field, Collections.emptyList());
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                out[size++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+
+    /**
+     * Growable primitive int list used while building posting lists
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
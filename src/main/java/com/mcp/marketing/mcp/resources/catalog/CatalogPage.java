@@ -0,0 +1,45 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of catalog query results
+ */
+@Getter
+@AllArgsConstructor
+public final class CatalogPage {
+
+    /**
+     * Entries of this page, in catalog order
+     */
+    private final List<Map<String, Object>> items;
+
+    /**
+     * Number of entries matching the filters across all pages
+     */
+    private final int total;
+
+    /**
+     * Opaque cursor for the next page, null on the last page
+     */
+    private final String nextCursor;
+
+    /**
+     * Resource content envelope: items under the given key plus pagination fields
+     */
+    public Map<String, Object> toContent(String itemsKey) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put(itemsKey, items);
+        content.put("count", items.size());
+        content.put("total", total);
+        if (nextCursor != null) {
+            content.put("nextCursor", nextCursor);
+        }
+        return content;
+    }
+}
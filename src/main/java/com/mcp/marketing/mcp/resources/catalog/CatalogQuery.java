@@ -0,0 +1,111 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import lombok.Getter;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filtered, cursor-paginated query over a catalog
+ * <p>
+ * Parsed from resource URIs such as
+ * {@code competitors/list?category=CRM&limit=20&cursor=MTk6Y29tcC0wMjA}. Every query
+ * parameter other than {@code limit} and {@code cursor} is treated as a field filter.
+ */
+@Getter
+public final class CatalogQuery {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String LIMIT_PARAM = "limit";
+    private static final String CURSOR_PARAM = "cursor";
+
+    /**
+     * URI without its query string
+     */
+    private final String path;
+    private final Map<String, String> filters;
+    private final String cursor;
+    private final int limit;
+
+    private CatalogQuery(String path, Map<String, String> filters, String cursor, int limit) {
+        this.path = path;
+        this.filters = Collections.unmodifiableMap(filters);
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Build a query from explicit arguments
+     *
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    public static CatalogQuery of(Map<String, String> filters, String cursor, Integer limit) {
+        return new CatalogQuery(null, new LinkedHashMap<>(filters), blankToNull(cursor),
+                validateLimit(limit != null ? limit : DEFAULT_LIMIT));
+    }
+
+    /**
+     * Parse a resource URI with an optional query string
+     *
+     * @throws IllegalArgumentException if the limit is not a number or out of range
+     */
+    public static CatalogQuery parse(String uri) {
+        if (uri == null) {
+            return new CatalogQuery(null, new LinkedHashMap<>(), null, DEFAULT_LIMIT);
+        }
+        int separator = uri.indexOf('?');
+        if (separator < 0) {
+            return new CatalogQuery(uri, new LinkedHashMap<>(), null, DEFAULT_LIMIT);
+        }
+
+        Map<String, String> filters = new LinkedHashMap<>();
+        String cursor = null;
+        int limit = DEFAULT_LIMIT;
+        for (String pair : uri.substring(separator + 1).split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String key = decode(equals < 0 ? pair : pair.substring(0, equals));
+            String value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+            switch (key) {
+                case LIMIT_PARAM -> limit = parseLimit(value);
+                case CURSOR_PARAM -> cursor = blankToNull(value);
+                default -> {
+                    if (!value.isBlank()) {
+                        filters.put(key, value);
+                    }
+                }
+            }
+        }
+        return new CatalogQuery(uri.substring(0, separator), filters, cursor, limit);
+    }
+
+    private static int parseLimit(String value) {
+        try {
+            return validateLimit(Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("limit must be a number between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    private static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be a number between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,135 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Resolves catalog references in MCP tool inputs
+ * <p>
+ * Lets clients send {@code productId}, {@code audienceId} and {@code brandId} instead of
+ * repeating the product name, audience description and brand voice on every call. An
+ * explicit text field always wins over its reference. Derived strings are cached per
+ * catalog snapshot, so a hot-reloaded catalog invalidates them automatically.
+ */
+public class CatalogReferenceResolver {
+
+    public static final String PRODUCT_ID = "productId";
+    public static final String AUDIENCE_ID = "audienceId";
+    public static final String BRAND_ID = "brandId";
+
+    private final Reference product;
+    private final Reference audience;
+    private final Reference brandVoice;
+
+    public CatalogReferenceResolver(ResourceCatalogs catalogs) {
+        this.product = new Reference("product", PRODUCT_ID, catalogs.products(),
+                entry -> text(entry.get("name")));
+        this.audience = new Reference("audience", AUDIENCE_ID, catalogs.audiences(),
+                entry -> text(entry.get("name")));
+        this.brandVoice = new Reference("brandVoice", BRAND_ID, catalogs.brands(),
+                CatalogReferenceResolver::describeBrandVoice);
+    }
+
+    public String resolveProduct(Map<String, Object> input) {
+        return product.resolve(input);
+    }
+
+    public String resolveAudience(Map<String, Object> input) {
+        return audience.resolve(input);
+    }
+
+    public String resolveBrandVoice(Map<String, Object> input) {
+        return brandVoice.resolve(input);
+    }
+
+    /**
+     * Brand voice text built from the brand tone and voice attributes
+     */
+    static String describeBrandVoice(Map<String, Object> brand) {
+        String tone = text(brand.get("tone"));
+        if (brand.get("voice") instanceof List<?> voice && !voice.isEmpty()) {
+            StringBuilder description = new StringBuilder(tone != null ? tone : "");
+            description.append(description.length() > 0 ? " - " : "");
+            for (int i = 0; i < voice.size(); i++) {
+                description.append(i > 0 ? ", " : "").append(voice.get(i));
+            }
+            return description.toString();
+        }
+        return tone;
+    }
+
+    private static String text(Object value) {
+        return value != null && !value.toString().isBlank() ? value.toString() : null;
+    }
+
+    /**
+     * One text field that may be supplied directly or through a catalog id
+     */
+    private static final class Reference {
+
+        private final String field;
+        private final String idField;
+        private final ResourceCatalog catalog;
+        private final Function<Map<String, Object>, String> derive;
+        private final AtomicReference<DerivedCache> cache = new AtomicReference<>();
+
+        private Reference(String field,
+                          String idField,
+                          ResourceCatalog catalog,
+                          Function<Map<String, Object>, String> derive) {
+            this.field = field;
+            this.idField = idField;
+            this.catalog = catalog;
+            this.derive = derive;
+        }
+
+        String resolve(Map<String, Object> input) {
+            Object explicit = input.get(field);
+            if (explicit != null && !explicit.toString().trim().isEmpty()) {
+                return explicit.toString();
+            }
+            Object id = input.get(idField);
+            if (id == null || id.toString().isBlank()) {
+                throw new IllegalArgumentException(field + " is required");
+            }
+
+            ResourceCatalog.Snapshot snapshot = catalog.snapshot();
+            DerivedCache current = cache.get();
+            if (current == null || current.snapshot != snapshot) {
+                DerivedCache fresh = new DerivedCache(snapshot);
+                current = cache.compareAndSet(current, fresh) ? fresh : cache.get();
+                if (current.snapshot != snapshot) {
+                    // Lost the race to an even newer snapshot's cache; use a private one
+                    current = fresh;
+                }
+            }
+
+            String key = id.toString().trim();
+            Map<String, Object> entry = snapshot.get(key);
+            if (entry == null) {
+                throw new IllegalArgumentException("Unknown " + idField + ": " + key);
+            }
+            String value = current.values.computeIfAbsent(key, missing -> {
+                String derived = derive.apply(entry);
+                return derived != null ? derived : "";
+            });
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(idField + " " + key + " has no " + field + " in the "
+                        + catalog.getName() + " catalog");
+            }
+            return value;
+        }
+    }
+
+    private static final class DerivedCache {
+        private final ResourceCatalog.Snapshot snapshot;
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        private DerivedCache(ResourceCatalog.Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background watcher applying incremental catalog reloads
+ * <p>
+ * Registers every existing catalog directory with a {@link WatchService}. Events of a
+ * batch are coalesced per file so each changed file is parsed once, and listeners are
+ * notified once per catalog after the new snapshot is published.
+ */
+public class CatalogWatcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, ResourceCatalog> catalogsByKey = new ConcurrentHashMap<>();
+    private final CatalogChangeListener listener;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public CatalogWatcher(Collection<ResourceCatalog> catalogs, CatalogChangeListener listener) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.listener = listener;
+
+        for (ResourceCatalog catalog : catalogs) {
+            Path directory = catalog.getDirectory();
+            if (directory == null || !Files.isDirectory(directory)) {
+                logger.debug("Catalog directory not found, not watching: catalog={} directory={}",
+                        catalog.getName(), directory);
+                continue;
+            }
+            WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            catalogsByKey.put(key, catalog);
+            logger.info("Watching catalog directory: catalog={} directory={}", catalog.getName(), directory);
+        }
+
+        this.thread = new Thread(this::run, "mcp-catalog-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        if (catalogsByKey.isEmpty()) {
+            logger.info("No catalog directories to watch");
+            return;
+        }
+        thread.start();
+    }
+
+    public boolean isWatching() {
+        return thread.isAlive();
+    }
+
+    private void run() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+
+            ResourceCatalog catalog = catalogsByKey.get(key);
+            if (catalog != null) {
+                try {
+                    if (apply(catalog, key)) {
+                        listener.onCatalogChanged(catalog);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Catalog reload failed: catalog={}", catalog.getName(), e);
+                }
+            }
+
+            if (!key.reset()) {
+                catalogsByKey.remove(key);
+                logger.warn("Catalog directory no longer accessible: catalog={}",
+                        catalog != null ? catalog.getName() : "unknown");
+            }
+        }
+    }
+
+    private boolean apply(ResourceCatalog catalog, WatchKey key) {
+        // Coalesce the batch: the last event kind per file wins
+        Map<Path, WatchEvent.Kind<?>> changes = new LinkedHashMap<>();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                return catalog.reloadAll();
+            }
+            Path file = catalog.getDirectory().resolve((Path) event.context());
+            if (ResourceCatalog.isCatalogFile(file)) {
+                changes.put(file, event.kind());
+            }
+        }
+
+        boolean changed = false;
+        for (Map.Entry<Path, WatchEvent.Kind<?>> change : changes.entrySet()) {
+            Path file = change.getKey();
+            if (change.getValue() == StandardWatchEventKinds.ENTRY_DELETE || !Files.exists(file)) {
+                changed |= catalog.remove(file);
+            } else {
+                changed |= catalog.reload(file);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        watchService.close();
+        thread.interrupt();
+    }
+}
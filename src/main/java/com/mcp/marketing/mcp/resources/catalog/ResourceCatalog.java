@@ -0,0 +1,638 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Copy-on-write catalog backing an MCP resource
+ * <p>
+ * Entries are parsed lazily on first access from the JSON/YAML files of the catalog
+ * directory, falling back to the bundled classpath seed (catalogs/&lt;name&gt;.json)
+ * when the directory does not exist. Every change publishes a new immutable
+ * {@link Snapshot}: readers only perform a volatile read and never wait for a reload,
+ * and a reload re-parses and re-indexes the changed file alone. Short string values are interned and
+ * each snapshot carries a lazily built {@link CatalogIndex} for filtered, paginated queries.
+ */
+public class ResourceCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceCatalog.class);
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+    private static final TypeReference<Map<String, Object>> ENTRY_TYPE = new TypeReference<>() {
+    };
+    private static final String CLASSPATH_LOCATION = "catalogs/";
+    private static final String ID_FIELD = "id";
+    private static final int INTERN_MAX_LENGTH = 64;
+
+    private final String name;
+    private final Path directory;
+    // Not a monitor: loading does file IO, which would pin virtual threads inside synchronized
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param name      catalog name (products, audiences, brands, competitors)
+     * @param directory directory holding the catalog files, or null to use the classpath seed only
+     */
+    public ResourceCatalog(String name, Path directory) {
+        this.name = name;
+        this.directory = directory;
+    }
+
+    /**
+     * Catalog served from the bundled classpath seed only
+     */
+    public static ResourceCatalog classpath(String name) {
+        return new ResourceCatalog(name, null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Current immutable snapshot, parsing the catalog on first access
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = loadAll();
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-parse a single catalog file and publish a new snapshot
+     *
+     * @return true if a new snapshot was published
+     */
+    public boolean reload(Path file) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                // Not parsed yet: the first read will pick the file up
+                return false;
+            }
+            try {
+                snapshot = current.replace(sourceKey(file), parseFile(file));
+                logger.info("Catalog reloaded: catalog={} file={} entries={} version={}",
+                        name, file.getFileName(), snapshot.size(), snapshot.version());
+                return true;
+            } catch (IOException e) {
+                logger.warn("Failed to reload catalog file, keeping previous snapshot: catalog={} file={} error={}",
+                        name, file, e.getMessage());
+                return false;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the entries contributed by a deleted catalog file
+     *
+     * @return true if a new snapshot was published
+     */
+    public boolean remove(Path file) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null || !current.hasSource(sourceKey(file))) {
+                return false;
+            }
+            snapshot = current.replace(sourceKey(file), List.of());
+            logger.info("Catalog file removed: catalog={} file={} entries={} version={}",
+                    name, file.getFileName(), snapshot.size(), snapshot.version());
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-scan the whole catalog (used when file events were lost)
+     *
+     * @return true if a new snapshot was published
+     */
+    public boolean reloadAll() {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return false;
+            }
+            Snapshot reloaded = loadAll();
+            snapshot = reloaded.withVersion(current.version() + 1);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Check whether a file has a supported catalog extension
+     */
+    public static boolean isCatalogFile(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".json") || fileName.endsWith(".yaml") || fileName.endsWith(".yml");
+    }
+
+    private Snapshot loadAll() {
+        Map<String, List<Map<String, Object>>> parsed = new LinkedHashMap<>();
+        if (directory != null && Files.isDirectory(directory)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(Files::isRegularFile)
+                        .filter(ResourceCatalog::isCatalogFile)
+                        .sorted()
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                logger.error("Failed to list catalog directory: catalog={} directory={}", name, directory, e);
+                return Snapshot.empty();
+            }
+            for (Path file : files) {
+                try {
+                    parsed.put(sourceKey(file), parseFile(file));
+                } catch (IOException e) {
+                    logger.warn("Skipping unreadable catalog file: catalog={} file={} error={}",
+                            name, file, e.getMessage());
+                }
+            }
+            Snapshot loaded = Snapshot.empty().replaceAll(parsed);
+            logger.info("Catalog loaded: catalog={} directory={} files={} entries={}",
+                    name, directory, files.size(), loaded.size());
+            return loaded;
+        }
+
+        String location = CLASSPATH_LOCATION + name + ".json";
+        try (InputStream in = ResourceCatalog.class.getClassLoader().getResourceAsStream(location)) {
+            if (in == null) {
+                logger.warn("No catalog source found: catalog={} directory={} classpath={}", name, directory, location);
+                return Snapshot.empty();
+            }
+            parsed.put("classpath:" + location, parse(JSON_MAPPER.readTree(in), location));
+        } catch (IOException e) {
+            logger.error("Failed to load classpath catalog: catalog={} location={}", name, location, e);
+        }
+        Snapshot loaded = Snapshot.empty().replaceAll(parsed);
+        logger.debug("Catalog loaded from classpath: catalog={} entries={}", name, loaded.size());
+        return loaded;
+    }
+
+    private List<Map<String, Object>> parseFile(Path file) throws IOException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        ObjectMapper mapper = fileName.endsWith(".json") ? JSON_MAPPER : YAML_MAPPER;
+        try (InputStream in = Files.newInputStream(file)) {
+            return parse(mapper.readTree(in), file.toString());
+        }
+    }
+
+    private List<Map<String, Object>> parse(JsonNode root, String source) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        if (root == null || root.isMissingNode() || root.isNull()) {
+            return entries;
+        }
+        List<JsonNode> nodes = new ArrayList<>();
+        if (root.isArray()) {
+            root.forEach(nodes::add);
+        } else {
+            nodes.add(root);
+        }
+        for (JsonNode node : nodes) {
+            if (!node.isObject() || !node.hasNonNull(ID_FIELD)) {
+                logger.warn("Ignoring catalog entry without '{}': catalog={} source={}", ID_FIELD, name, source);
+                continue;
+            }
+            entries.add(JSON_MAPPER.convertValue(node, ENTRY_TYPE));
+        }
+        return entries;
+    }
+
+    private String sourceKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Immutable view of the catalog at a given version
+     * <p>
+     * Entries are held in one {@link Segment} per source file, in file name order. A reload builds
+     * a new segment for the changed file and shares the others (with their indexes) with the
+     * previous snapshot, so its cost follows the size of that file rather than of the catalog.
+     * An id is owned by the first file in name order that declares it, whatever order the files
+     * were loaded or reloaded in; the same id in another file is ignored with a warning until the
+     * owning file drops it.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<Segment> segments;
+        // offsets[i] = position of the first entry of segments[i]; offsets[segments.size()] = size
+        private final int[] offsets;
+        private final List<Map<String, Object>> values;
+        private final Set<String> ids;
+
+        private volatile CatalogIndex index;
+
+        private Snapshot(long version, List<Segment> segments) {
+            this.version = version;
+            this.segments = List.copyOf(segments);
+            this.offsets = new int[segments.size() + 1];
+            for (int i = 0; i < segments.size(); i++) {
+                offsets[i + 1] = offsets[i] + segments.get(i).values.size();
+            }
+            this.values = new ValuesView();
+            this.ids = new IdsView();
+        }
+
+        static Snapshot empty() {
+            return new Snapshot(0, List.of());
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return offsets[segments.size()];
+        }
+
+        public boolean contains(String id) {
+            return get(id) != null;
+        }
+
+        public Map<String, Object> get(String id) {
+            Segment owner = id == null ? null : owner(segments, id);
+            return owner == null ? null : owner.byId.get(id);
+        }
+
+        public Set<String> ids() {
+            return ids;
+        }
+
+        public List<Map<String, Object>> values() {
+            return values;
+        }
+
+        boolean hasSource(String source) {
+            return segments.stream().anyMatch(segment -> segment.source.equals(source));
+        }
+
+        /**
+         * Secondary indexes of this snapshot, built on first use from the per-file indexes
+         */
+        public CatalogIndex index() {
+            CatalogIndex current = index;
+            if (current == null) {
+                // Benign race: concurrent first queries may both compose an identical index
+                List<CatalogIndex> parts = new ArrayList<>(segments.size());
+                segments.forEach(segment -> parts.add(segment.index()));
+                current = CatalogIndex.compose(parts, offsets);
+                index = current;
+            }
+            return current;
+        }
+
+        /**
+         * Run a filtered, paginated query against this snapshot
+         *
+         * @throws IllegalArgumentException on unsupported filters or malformed cursors
+         */
+        public CatalogPage query(CatalogQuery query) {
+            CatalogIndex catalogIndex = index();
+            int start = resolveCursor(query.getCursor(), catalogIndex);
+            int limit = query.getLimit();
+
+            if (query.getFilters().isEmpty()) {
+                int from = Math.min(start, values.size());
+                int end = Math.min(values.size(), from + limit);
+                String next = end < values.size() ? encodeCursor(end - 1) : null;
+                return new CatalogPage(values.subList(from, end), values.size(), next);
+            }
+
+            int[] matches = catalogIndex.match(query.getFilters());
+            int from = lowerBound(matches, start);
+            int end = Math.min(matches.length, from + limit);
+            List<Map<String, Object>> items = new ArrayList<>(end - from);
+            for (int i = from; i < end; i++) {
+                items.add(values.get(matches[i]));
+            }
+            String next = end < matches.length ? encodeCursor(matches[end - 1]) : null;
+            return new CatalogPage(Collections.unmodifiableList(items), matches.length, next);
+        }
+
+        /**
+         * First position to return: the entry after the cursor's entry, or its former slot if it was removed
+         */
+        private int resolveCursor(String cursor, CatalogIndex catalogIndex) {
+            if (cursor == null) {
+                return 0;
+            }
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                int position = Integer.parseInt(decoded.substring(0, separator));
+                int current = catalogIndex.position(decoded.substring(separator + 1));
+                return current >= 0 ? current + 1 : Math.max(0, position);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        private String encodeCursor(int position) {
+            String raw = position + ":" + values.get(position).get(ID_FIELD);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static int lowerBound(int[] sorted, int key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Copy-on-write replacement of the entries contributed by one source file
+         * <p>
+         * Only the changed file's segment is rebuilt. Ids it no longer provides pass to the next
+         * file (in name order) that also declares them; ids it declares ahead of a later-named
+         * owner are taken from that owner.
+         */
+        Snapshot replace(String source, List<Map<String, Object>> parsed) {
+            List<Segment> next = new ArrayList<>(segments.size() + 1);
+            Segment previous = null;
+            for (Segment segment : segments) {
+                if (segment.source.equals(source)) {
+                    previous = segment;
+                } else {
+                    next.add(segment);
+                }
+            }
+            Segment updated = Segment.of(source, parsed, next);
+            if (!updated.all.isEmpty()) {
+                int at = 0;
+                while (at < next.size() && next.get(at).source.compareTo(source) < 0) {
+                    at++;
+                }
+                next.add(at, updated);
+                for (String id : updated.byId.keySet()) {
+                    takeOver(next, updated, id);
+                }
+            }
+            if (previous != null) {
+                for (String id : previous.byId.keySet()) {
+                    if (!updated.byId.containsKey(id)) {
+                        release(next, id);
+                    }
+                }
+            }
+            return new Snapshot(version + 1, next);
+        }
+
+        /**
+         * Copy-on-write replacement of the entries of several source files
+         */
+        Snapshot replaceAll(Map<String, List<Map<String, Object>>> parsedBySource) {
+            Snapshot result = this;
+            for (Map.Entry<String, List<Map<String, Object>>> source : parsedBySource.entrySet()) {
+                result = result.replace(source.getKey(), source.getValue());
+            }
+            return new Snapshot(version + 1, result.segments);
+        }
+
+        Snapshot withVersion(long newVersion) {
+            return new Snapshot(newVersion, segments);
+        }
+
+        private static Segment owner(List<Segment> segments, String id) {
+            for (Segment segment : segments) {
+                if (segment.byId.containsKey(id)) {
+                    return segment;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Withdraw {@code id} from a later-named file that owned it before {@code owner} declared it
+         */
+        private static void takeOver(List<Segment> segments, Segment owner, String id) {
+            for (int i = 0; i < segments.size(); i++) {
+                Segment segment = segments.get(i);
+                if (segment != owner && segment.byId.containsKey(id)) {
+                    logger.warn("Ignoring duplicate catalog id: id={} source={} owner={}", id, segment.source, owner.source);
+                    segments.set(i, segment.disown(id));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Hand a released id to the first remaining file that declares it
+         */
+        private static void release(List<Segment> segments, String id) {
+            for (int i = 0; i < segments.size(); i++) {
+                Segment segment = segments.get(i);
+                if (segment.all.containsKey(id)) {
+                    segments.set(i, segment.claim(id));
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Entries of all segments in position order, without copying them
+         */
+        private final class ValuesView extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+            @Override
+            public Map<String, Object> get(int position) {
+                if (position < 0 || position >= size()) {
+                    throw new IndexOutOfBoundsException(position);
+                }
+                int segment = Arrays.binarySearch(offsets, position);
+                // Exact hits may land on an empty-segment boundary; take the last segment starting here
+                if (segment >= 0) {
+                    while (segment + 1 < segments.size() && offsets[segment + 1] == position) {
+                        segment++;
+                    }
+                } else {
+                    segment = -segment - 2;
+                }
+                return segments.get(segment).values.get(position - offsets[segment]);
+            }
+
+            @Override
+            public int size() {
+                return Snapshot.this.size();
+            }
+        }
+
+        /**
+         * Ids of all segments in position order
+         */
+        private final class IdsView extends AbstractSet<String> {
+
+            @Override
+            public Iterator<String> iterator() {
+                return segments.stream().flatMap(segment -> segment.byId.keySet().stream()).iterator();
+            }
+
+            @Override
+            public boolean contains(Object id) {
+                return id instanceof String key && Snapshot.this.contains(key);
+            }
+
+            @Override
+            public int size() {
+                return Snapshot.this.size();
+            }
+        }
+    }
+
+    /**
+     * Entries of one source file
+     */
+    private static final class Segment {
+
+        private final String source;
+        // Every entry of the file (last duplicate within the file wins), frozen once
+        private final Map<String, Map<String, Object>> all;
+        // The entries whose id this file owns, in file order
+        private final Map<String, Map<String, Object>> byId;
+        private final List<Map<String, Object>> values;
+
+        private volatile CatalogIndex index;
+
+        private Segment(String source, Map<String, Map<String, Object>> all, Set<String> owned) {
+            this.source = source;
+            this.all = all;
+            Map<String, Map<String, Object>> served = new LinkedHashMap<>();
+            all.forEach((id, entry) -> {
+                if (owned.contains(id)) {
+                    served.put(id, entry);
+                }
+            });
+            this.byId = Collections.unmodifiableMap(served);
+            this.values = List.copyOf(served.values());
+        }
+
+        /**
+         * Segment of a freshly parsed file; ids owned by an earlier-named file of {@code others}
+         * are not served
+         */
+        static Segment of(String source, List<Map<String, Object>> parsed, List<Segment> others) {
+            Map<String, Map<String, Object>> all = new LinkedHashMap<>();
+            for (Map<String, Object> entry : parsed) {
+                all.put(String.valueOf(entry.get(ID_FIELD)), freezeEntry(entry));
+            }
+            Set<String> owned = new LinkedHashSet<>();
+            for (String id : all.keySet()) {
+                Segment owner = Snapshot.owner(others, id);
+                if (owner == null || owner.source.compareTo(source) > 0) {
+                    owned.add(id);
+                } else {
+                    logger.warn("Ignoring duplicate catalog id: id={} source={} owner={}", id, source, owner.source);
+                }
+            }
+            return new Segment(source, Collections.unmodifiableMap(all), owned);
+        }
+
+        /**
+         * Same file also serving {@code id}, which its previous owner dropped
+         */
+        Segment claim(String id) {
+            Set<String> owned = new LinkedHashSet<>(byId.keySet());
+            owned.add(id);
+            return new Segment(source, all, owned);
+        }
+
+        /**
+         * Same file no longer serving {@code id}, which an earlier-named file declares
+         */
+        Segment disown(String id) {
+            Set<String> owned = new LinkedHashSet<>(byId.keySet());
+            owned.remove(id);
+            return new Segment(source, all, owned);
+        }
+
+        CatalogIndex index() {
+            CatalogIndex current = index;
+            if (current == null) {
+                current = CatalogIndex.build(values);
+                index = current;
+            }
+            return current;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> freezeEntry(Map<String, Object> entry) {
+        return (Map<String, Object>) freeze(entry);
+    }
+
+    private static Object freeze(Object value) {
+        if (value instanceof String text) {
+            // Short values (categories, audiences, tones) repeat across entries
+            return text.length() <= INTERN_MAX_LENGTH ? text.intern() : text;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>(Math.max(4, map.size() * 4 / 3 + 1));
+            map.forEach((key, nested) -> copy.put(String.valueOf(key).intern(), freeze(nested)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(nested -> copy.add(freeze(nested)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
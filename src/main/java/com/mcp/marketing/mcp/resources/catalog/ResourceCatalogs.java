@@ -0,0 +1,125 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import com.mcp.marketing.config.McpConfiguration;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the file-backed catalogs served as MCP resources
+ * <p>
+ * Each catalog lives in its own sub-directory of the configured catalog directory
+ * (e.g. ./catalogs/products/*.json). When watching is enabled a {@link CatalogWatcher}
+ * keeps the snapshots in sync and notifies registered listeners.
+ */
+@Component
+public class ResourceCatalogs {
+
+    public static final String PRODUCTS = "products";
+    public static final String AUDIENCES = "audiences";
+    public static final String BRANDS = "brands";
+    public static final String COMPETITORS = "competitors";
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceCatalogs.class);
+
+    private final Map<String, ResourceCatalog> catalogs = new LinkedHashMap<>();
+    private final List<CatalogChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final Path directory;
+    private final boolean watchEnabled;
+
+    private CatalogWatcher watcher;
+
+    @Autowired
+    public ResourceCatalogs(McpConfiguration mcpConfiguration) {
+        this(Paths.get(mcpConfiguration.getResources().getCatalogDirectory()),
+                mcpConfiguration.getResources().isWatch());
+    }
+
+    public ResourceCatalogs(Path directory, boolean watchEnabled) {
+        this.directory = directory;
+        this.watchEnabled = watchEnabled;
+        for (String name : List.of(PRODUCTS, AUDIENCES, BRANDS, COMPETITORS)) {
+            catalogs.put(name, new ResourceCatalog(name, directory != null ? directory.resolve(name) : null));
+        }
+    }
+
+    /**
+     * Catalogs served from the bundled classpath seeds, without watching
+     */
+    public static ResourceCatalogs classpathDefaults() {
+        return new ResourceCatalogs(null, false);
+    }
+
+    public ResourceCatalog products() {
+        return catalogs.get(PRODUCTS);
+    }
+
+    public ResourceCatalog audiences() {
+        return catalogs.get(AUDIENCES);
+    }
+
+    public ResourceCatalog brands() {
+        return catalogs.get(BRANDS);
+    }
+
+    public ResourceCatalog competitors() {
+        return catalogs.get(COMPETITORS);
+    }
+
+    public Collection<ResourceCatalog> all() {
+        return Collections.unmodifiableCollection(catalogs.values());
+    }
+
+    public void addListener(CatalogChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @PostConstruct
+    public void startWatching() {
+        if (!watchEnabled || directory == null) {
+            logger.debug("Catalog watching disabled: directory={}", directory);
+            return;
+        }
+        try {
+            watcher = new CatalogWatcher(catalogs.values(), this::fireChanged);
+            watcher.start();
+        } catch (IOException e) {
+            logger.warn("Unable to watch catalog directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            logger.debug("Error closing catalog watcher", e);
+        }
+    }
+
+    private void fireChanged(ResourceCatalog catalog) {
+        for (CatalogChangeListener listener : listeners) {
+            try {
+                listener.onCatalogChanged(catalog);
+            } catch (RuntimeException e) {
+                logger.warn("Catalog change listener failed: catalog={}", catalog.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mcp.marketing.mcp.scheduling;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Point-in-time scheduling statistics of one MCP client
+ */
+@Getter
+@AllArgsConstructor
+public class ClientStats {
+
+    private final String clientId;
+    private final int queued;
+    private final int inFlight;
+    private final long completed;
+    private final long rejected;
+    private final double averageWaitMillis;
+    private final double maxWaitMillis;
+}
@@ -0,0 +1,365 @@
+package com.mcp.marketing.mcp.scheduling;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Fair admission scheduler for MCP tool calls
+ * <p>
+ * Every call belongs to a client (MCP client or session id). A client may have at most
+ * {@code maxInFlightPerClient} calls running and {@code maxQueuedPerClient} waiting;
+ * free slots out of {@code maxConcurrent} are handed out across waiting clients with
+ * deficit round robin, so a client looping on expensive calls cannot starve the others.
+ * Calls run on the caller thread once admitted. Overflow and queue timeouts are reported
+ * as {@link ToolRejectedException}.
+ * <p>
+ * Wait time and queue depth are published per client for the first
+ * {@value #MAX_TAGGED_CLIENTS} clients tracked at once; further clients share the
+ * {@value #OTHER_CLIENTS} tag, and the meters of a forgotten client are removed, so client ids
+ * cannot grow metric cardinality without bound.
+ */
+public class ToolExecutionScheduler {
+
+    static final int DEFAULT_MAX_CONCURRENT = Math.max(2, Runtime.getRuntime().availableProcessors());
+    static final int DEFAULT_MAX_IN_FLIGHT_PER_CLIENT = 4;
+    static final int DEFAULT_MAX_QUEUED_PER_CLIENT = 32;
+    static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+    static final int DEFAULT_QUANTUM = 3;
+
+    /**
+     * Idle clients beyond this many are forgotten (statistics included)
+     */
+    static final int MAX_TRACKED_CLIENTS = 1024;
+
+    /**
+     * Clients with their own {@code client} meter tag; the rest are tagged {@value #OTHER_CLIENTS}
+     */
+    static final int MAX_TAGGED_CLIENTS = 100;
+    static final String OTHER_CLIENTS = "other";
+    private static final String WAIT = "mcp.tools.scheduler.wait";
+    private static final String QUEUED = "mcp.tools.scheduler.queued";
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolExecutionScheduler.class);
+
+    private final int maxConcurrent;
+    private final int maxInFlightPerClient;
+    private final int maxQueuedPerClient;
+    private final long maxWaitMillis;
+    private final int quantum;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ClientQueue> clients = new LinkedHashMap<>();
+    private final ArrayDeque<ClientQueue> active = new ArrayDeque<>();
+    private int running;
+    private int taggedClients;
+    private Timer otherWaitTimer;
+
+    public ToolExecutionScheduler(int maxConcurrent,
+                                  int maxInFlightPerClient,
+                                  int maxQueuedPerClient,
+                                  Duration maxWait,
+                                  MeterRegistry meterRegistry) {
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : DEFAULT_MAX_CONCURRENT;
+        this.maxInFlightPerClient = maxInFlightPerClient > 0 ? maxInFlightPerClient : DEFAULT_MAX_IN_FLIGHT_PER_CLIENT;
+        this.maxQueuedPerClient = maxQueuedPerClient >= 0 ? maxQueuedPerClient : DEFAULT_MAX_QUEUED_PER_CLIENT;
+        this.maxWaitMillis = (maxWait != null && !maxWait.isNegative() && !maxWait.isZero()
+                ? maxWait : DEFAULT_MAX_WAIT).toMillis();
+        this.quantum = DEFAULT_QUANTUM;
+        this.meterRegistry = meterRegistry;
+        if (meterRegistry != null) {
+            Gauge.builder("mcp.tools.scheduler.running", this, scheduler -> scheduler.running())
+                    .description("MCP tool calls currently running")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Run a tool call once the client is granted a slot
+     *
+     * @param clientId client the call is accounted to
+     * @param cost     relative cost of the call (number of generators it runs), at least 1
+     * @param task     the tool call, run on the caller thread
+     * @throws ToolRejectedException if the client queue is full or the wait exceeds the maximum
+     * @throws InterruptedException  if the caller is interrupted while waiting
+     */
+    public <T> T execute(String clientId, int cost, Supplier<T> task) throws InterruptedException {
+        Ticket ticket = enqueue(clientId, Math.max(1, cost));
+        awaitGrant(ticket);
+        try {
+            return task.get();
+        } finally {
+            release(ticket);
+        }
+    }
+
+    /**
+     * Statistics per known client
+     */
+    public List<ClientStats> snapshot() {
+        synchronized (this) {
+            List<ClientStats> stats = new ArrayList<>(clients.size());
+            for (ClientQueue queue : clients.values()) {
+                stats.add(queue.stats());
+            }
+            return stats;
+        }
+    }
+
+    public synchronized int running() {
+        return running;
+    }
+
+    public synchronized int queued() {
+        int queued = 0;
+        for (ClientQueue queue : active) {
+            queued += queue.waiting.size();
+        }
+        return queued;
+    }
+
+    /**
+     * Calls of one client waiting for a slot
+     */
+    public synchronized int queued(String clientId) {
+        ClientQueue queue = clients.get(clientId);
+        return queue != null ? queue.waiting.size() : 0;
+    }
+
+    private synchronized Ticket enqueue(String clientId, int cost) {
+        ClientQueue queue = clients.computeIfAbsent(clientId, this::newClientQueue);
+        if (queue.waiting.size() >= maxQueuedPerClient && !canStartNow(queue)) {
+            queue.rejected++;
+            throw new ToolRejectedException(ToolRejectedException.CLIENT_QUEUE_FULL, clientId, queue.waiting.size(),
+                    retryAfter(queue), "Client " + clientId + " already has " + queue.waiting.size()
+                    + " tool calls queued (limit " + maxQueuedPerClient + ")");
+        }
+        Ticket ticket = new Ticket(queue, cost, System.nanoTime());
+        if (queue.waiting.isEmpty()) {
+            active.addLast(queue);
+        }
+        queue.waiting.addLast(ticket);
+        dispatch();
+        return ticket;
+    }
+
+    private void awaitGrant(Ticket ticket) throws InterruptedException {
+        try {
+            ticket.grant.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            synchronized (this) {
+                if (!ticket.grant.isDone()) {
+                    withdraw(ticket);
+                    if (e instanceof InterruptedException interrupted) {
+                        throw interrupted;
+                    }
+                    ClientQueue queue = ticket.queue;
+                    queue.rejected++;
+                    throw new ToolRejectedException(ToolRejectedException.QUEUE_TIMEOUT, queue.clientId,
+                            queue.waiting.size(), retryAfter(queue), "Tool call for client " + queue.clientId
+                            + " waited more than " + maxWaitMillis + " ms for an execution slot");
+                }
+            }
+            // Granted while timing out: the slot is ours
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Scheduler grant failed", e);
+        }
+    }
+
+    private synchronized void release(Ticket ticket) {
+        ClientQueue queue = ticket.queue;
+        running--;
+        queue.inFlight--;
+        queue.completed++;
+        dispatch();
+        evictIdleClients();
+    }
+
+    /**
+     * Hand out free slots with deficit round robin across clients that have waiting calls
+     */
+    private void dispatch() {
+        int blocked = 0;
+        while (running < maxConcurrent && !active.isEmpty() && blocked < active.size()) {
+            ClientQueue queue = active.pollFirst();
+            if (queue.inFlight >= maxInFlightPerClient) {
+                active.addLast(queue);
+                blocked++;
+                continue;
+            }
+            Ticket head = queue.waiting.peekFirst();
+            if (queue.deficit < head.cost) {
+                // Topping up is progress: this client can start on a later pass
+                queue.deficit += quantum;
+                active.addLast(queue);
+                blocked = 0;
+                continue;
+            }
+            queue.deficit -= head.cost;
+            queue.waiting.pollFirst();
+            grant(head);
+            blocked = 0;
+            if (queue.waiting.isEmpty()) {
+                queue.deficit = 0;
+            } else {
+                active.addLast(queue);
+            }
+        }
+    }
+
+    private void grant(Ticket ticket) {
+        ClientQueue queue = ticket.queue;
+        running++;
+        queue.inFlight++;
+        long waitNanos = System.nanoTime() - ticket.enqueuedNanos;
+        queue.totalWaitNanos += waitNanos;
+        queue.maxWaitNanos = Math.max(queue.maxWaitNanos, waitNanos);
+        queue.granted++;
+        if (queue.waitTimer != null) {
+            queue.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+        ticket.grant.complete(null);
+    }
+
+    private void withdraw(Ticket ticket) {
+        ClientQueue queue = ticket.queue;
+        queue.waiting.remove(ticket);
+        if (queue.waiting.isEmpty()) {
+            active.remove(queue);
+            queue.deficit = 0;
+        }
+    }
+
+    private boolean canStartNow(ClientQueue queue) {
+        return running < maxConcurrent && queue.inFlight < maxInFlightPerClient && queue.waiting.isEmpty();
+    }
+
+    private long retryAfter(ClientQueue queue) {
+        double averageWaitMillis = queue.granted > 0 ? queue.totalWaitNanos / 1e6 / queue.granted : 0;
+        return Math.max(100L, Math.round(averageWaitMillis * (queue.waiting.size() + 1)));
+    }
+
+    private void evictIdleClients() {
+        if (clients.size() <= MAX_TRACKED_CLIENTS) {
+            return;
+        }
+        Iterator<ClientQueue> iterator = clients.values().iterator();
+        while (clients.size() > MAX_TRACKED_CLIENTS && iterator.hasNext()) {
+            ClientQueue queue = iterator.next();
+            if (queue.inFlight == 0 && queue.waiting.isEmpty()) {
+                iterator.remove();
+                removeMeters(queue);
+                logger.debug("MCP scheduler forgot idle client: client_id={}", queue.clientId);
+            }
+        }
+    }
+
+    private ClientQueue newClientQueue(String clientId) {
+        ClientQueue queue = new ClientQueue(clientId);
+        if (meterRegistry == null) {
+            return queue;
+        }
+        if (taggedClients < MAX_TAGGED_CLIENTS) {
+            taggedClients++;
+            queue.waitTimer = waitTimer(clientId);
+            queue.queuedGauge = Gauge.builder(QUEUED, this, scheduler -> scheduler.queued(clientId))
+                    .description("MCP tool calls waiting for an execution slot")
+                    .tag("client", clientId)
+                    .register(meterRegistry);
+        } else {
+            if (otherWaitTimer == null) {
+                otherWaitTimer = waitTimer(OTHER_CLIENTS);
+                Gauge.builder(QUEUED, this, ToolExecutionScheduler::queuedUntagged)
+                        .description("MCP tool calls waiting for an execution slot")
+                        .tag("client", OTHER_CLIENTS)
+                        .register(meterRegistry);
+            }
+            queue.waitTimer = otherWaitTimer;
+        }
+        return queue;
+    }
+
+    private Timer waitTimer(String clientTag) {
+        return Timer.builder(WAIT)
+                .description("Time MCP tool calls wait for an execution slot")
+                .tag("client", clientTag)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drop the meters of a forgotten client and free its tag for a new client
+     */
+    private void removeMeters(ClientQueue queue) {
+        if (queue.queuedGauge == null) {
+            return;
+        }
+        meterRegistry.remove(queue.queuedGauge);
+        meterRegistry.remove(queue.waitTimer);
+        taggedClients--;
+    }
+
+    private synchronized int queuedUntagged() {
+        int queued = 0;
+        for (ClientQueue queue : clients.values()) {
+            if (queue.queuedGauge == null) {
+                queued += queue.waiting.size();
+            }
+        }
+        return queued;
+    }
+
+    private final class ClientQueue {
+        private final String clientId;
+        private final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        private int inFlight;
+        private int deficit;
+        private long granted;
+        private long completed;
+        private long rejected;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+        private Timer waitTimer;
+        private Gauge queuedGauge;
+
+        private ClientQueue(String clientId) {
+            this.clientId = clientId;
+        }
+
+        private ClientStats stats() {
+            double averageWaitMillis = granted > 0 ? totalWaitNanos / 1e6 / granted : 0;
+            return new ClientStats(clientId, waiting.size(), inFlight, completed, rejected,
+                    averageWaitMillis, maxWaitNanos / 1e6);
+        }
+    }
+
+    private static final class Ticket {
+        private final ClientQueue queue;
+        private final int cost;
+        private final long enqueuedNanos;
+        private final CompletableFuture<Void> grant = new CompletableFuture<>();
+
+        private Ticket(ClientQueue queue, int cost, long enqueuedNanos) {
+            this.queue = queue;
+            this.cost = cost;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.mcp.marketing.mcp.scheduling;
+
+import lombok.Getter;
+
+/**
+ * Raised when the scheduler refuses to run a tool call for a client
+ * <p>
+ * Carries a machine-readable code so the rejection reaches the client as a structured
+ * MCP error instead of a transport timeout.
+ */
+@Getter
+public class ToolRejectedException extends RuntimeException {
+
+    /**
+     * The client already has the maximum number of calls waiting
+     */
+    public static final String CLIENT_QUEUE_FULL = "CLIENT_QUEUE_FULL";
+
+    /**
+     * The call waited longer than the configured maximum for a slot
+     */
+    public static final String QUEUE_TIMEOUT = "QUEUE_TIMEOUT";
+
+    private final String code;
+    private final String clientId;
+    private final int queueDepth;
+    private final long retryAfterMillis;
+
+    public ToolRejectedException(String code, String clientId, int queueDepth, long retryAfterMillis, String message) {
+        super(message);
+        this.code = code;
+        this.clientId = clientId;
+        this.queueDepth = queueDepth;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -1,23 +1,71 @@
 package com.mcp.marketing.mcp.server;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.domain.model.Deadline;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import com.mcp.marketing.infra.concurrent.MdcPropagatingExecutorService;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.infra.idempotency.IdempotencyException;
+import com.mcp.marketing.infra.idempotency.IdempotencyStore;
+import com.mcp.marketing.infra.metrics.CostAttributingExecutorService;
+import com.mcp.marketing.infra.metrics.RequestCost;
+import com.mcp.marketing.infra.metrics.RequestCostRecorder;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.infra.scheduling.Lane;
+import com.mcp.marketing.infra.scheduling.LanePolicy;
+import com.mcp.marketing.infra.scheduling.LaneRejectedException;
+import com.mcp.marketing.infra.scheduling.PriorityLaneScheduler;
+import com.mcp.marketing.mcp.progress.ToolCall;
+import com.mcp.marketing.mcp.progress.ToolCallRegistry;
 import com.mcp.marketing.mcp.resources.AudienceResource;
 import com.mcp.marketing.mcp.resources.BrandResource;
 import com.mcp.marketing.mcp.resources.CompetitorsResource;
 import com.mcp.marketing.mcp.resources.ProductResource;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.resources.catalog.ResourceCatalog;
+import com.mcp.marketing.mcp.resources.catalog.ResourceCatalogs;
+import com.mcp.marketing.mcp.scheduling.ToolExecutionScheduler;
+import com.mcp.marketing.mcp.scheduling.ToolRejectedException;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
 import com.mcp.marketing.mcp.tools.AdsGenerationTool;
 import com.mcp.marketing.mcp.tools.CrmSequencesTool;
+import com.mcp.marketing.mcp.tools.GenerateBundleTool;
 import com.mcp.marketing.mcp.tools.SeoPlanTool;
+import com.mcp.marketing.mcp.tools.SessionContextTool;
 import com.mcp.marketing.mcp.tools.StrategyTool;
+import com.mcp.marketing.mcp.tools.ToolDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * MCP Marketing Server
  * <p>
@@ -27,11 +75,41 @@ import org.springframework.stereotype.Component;
 @Component
 public class McpMarketingServer {
 
+    /**
+     * MCP notification emitted when the resource catalogs change
+     */
+    public static final String RESOURCES_LIST_CHANGED = "notifications/resources/list_changed";
+
     private static final Logger logger = LoggerFactory.getLogger(McpMarketingServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ENVELOPE = new TypeReference<>() {
+    };
 
     private final OrchestratorService orchestratorService;
     private final ValidationService validationService;
     private final StoragePort storagePort;
+    private final ResourceCatalogs resourceCatalogs;
+    private final List<BiConsumer<String, Map<String, Object>>> notificationHandlers = new CopyOnWriteArrayList<>();
+    private final Map<String, Function<Map<String, Object>, Map<String, Object>>> toolHandlers = new LinkedHashMap<>();
+    private ExecutorService toolExecutor;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private PriorityLaneScheduler laneScheduler;
+
+    @Autowired(required = false)
+    private LanePolicy lanePolicy;
+
+    @Autowired(required = false)
+    private StageMetrics stageMetrics;
+
+    @Autowired(required = false)
+    private RequestCostRecorder costRecorder;
+
+    @Autowired(required = false)
+    private TrafficCapture trafficCapture;
 
     @Getter
     @Value("${mcp.sdk.server.name}")
@@ -49,6 +127,42 @@ public class McpMarketingServer {
     @Value("${mcp.sdk.resources.enabled}")
     private boolean resourcesEnabled;
 
+    @Value("${mcp.sdk.tools.bundle-parallelism:0}")
+    private int bundleParallelism;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${mcp.sdk.scheduler.max-concurrent:0}")
+    private int schedulerMaxConcurrent;
+
+    @Value("${mcp.sdk.scheduler.max-in-flight-per-client:4}")
+    private int schedulerMaxInFlightPerClient;
+
+    @Value("${mcp.sdk.scheduler.max-queued-per-client:32}")
+    private int schedulerMaxQueuedPerClient;
+
+    @Value("${mcp.sdk.scheduler.max-wait:10s}")
+    private Duration schedulerMaxWait;
+
+    @Value("${mcp.sdk.sessions.max-sessions:1000}")
+    private int maxSessions;
+
+    @Value("${mcp.sdk.sessions.max-memory-bytes:16777216}")
+    private long maxSessionBytes;
+
+    @Value("${mcp.sdk.sessions.idle-timeout:30m}")
+    private Duration sessionIdleTimeout;
+
+    @Value("${mcp.sdk.idempotency.ttl:24h}")
+    private Duration idempotencyTtl;
+
+    @Value("${mcp.sdk.idempotency.max-keys:10000}")
+    private int idempotencyMaxKeys;
+
+    @Value("${mcp.sdk.idempotency.max-wait:30s}")
+    private Duration idempotencyMaxWait;
+
     // Getters for tools
     // MCP Tools
     @Getter
@@ -59,6 +173,18 @@ public class McpMarketingServer {
     private CrmSequencesTool crmTool;
     @Getter
     private StrategyTool strategyTool;
+    @Getter
+    private GenerateBundleTool bundleTool;
+    @Getter
+    private SessionContextTool sessionTool;
+    @Getter
+    private McpSessionContextStore sessionStore;
+    @Getter
+    private ToolCallRegistry callRegistry;
+    @Getter
+    private ToolExecutionScheduler toolScheduler;
+    @Getter
+    private IdempotencyStore idempotencyStore;
 
     // Getters for resources
     // MCP Resources
@@ -74,9 +200,18 @@ public class McpMarketingServer {
     public McpMarketingServer(OrchestratorService orchestratorService,
                               ValidationService validationService,
                               StoragePort storagePort) {
+        this(orchestratorService, validationService, storagePort, ResourceCatalogs.classpathDefaults());
+    }
+
+    @Autowired
+    public McpMarketingServer(OrchestratorService orchestratorService,
+                              ValidationService validationService,
+                              StoragePort storagePort,
+                              ResourceCatalogs resourceCatalogs) {
         this.orchestratorService = orchestratorService;
         this.validationService = validationService;
         this.storagePort = storagePort;
+        this.resourceCatalogs = resourceCatalogs;
     }
 
     @PostConstruct
@@ -109,12 +244,288 @@ public class McpMarketingServer {
     private void initializeTools() {
         logger.debug("Initializing MCP tools...");
 
-        adsTool = new AdsGenerationTool(orchestratorService, validationService, storagePort);
-        seoTool = new SeoPlanTool(orchestratorService, validationService, storagePort);
-        crmTool = new CrmSequencesTool(orchestratorService, validationService, storagePort);
-        strategyTool = new StrategyTool(orchestratorService, validationService, storagePort);
+        // Tools resolve productId/audienceId/brandId references against the shared catalogs
+        CatalogReferenceResolver referenceResolver = new CatalogReferenceResolver(resourceCatalogs);
+        // Session base contexts let clients send only overrides after the first call
+        sessionStore = new McpSessionContextStore(validationService, referenceResolver,
+                maxSessions, maxSessionBytes, sessionIdleTimeout);
+
+        toolExecutor = newToolExecutor(virtualThreads, bundleParallelism > 0
+                ? bundleParallelism : Runtime.getRuntime().availableProcessors());
+        // In-flight calls report notifications/progress and honor notifications/cancelled
+        callRegistry = new ToolCallRegistry(this::emit);
+
+        adsTool = new AdsGenerationTool(orchestratorService, validationService, storagePort,
+                referenceResolver, sessionStore, stageMetrics, trafficCapture);
+        seoTool = new SeoPlanTool(orchestratorService, validationService, storagePort,
+                referenceResolver, sessionStore, stageMetrics, trafficCapture);
+        crmTool = new CrmSequencesTool(orchestratorService, validationService, storagePort,
+                referenceResolver, sessionStore, stageMetrics, trafficCapture);
+        strategyTool = new StrategyTool(orchestratorService, validationService, storagePort,
+                referenceResolver, sessionStore, toolExecutor, callRegistry, stageMetrics, trafficCapture);
+        bundleTool = new GenerateBundleTool(orchestratorService, validationService, storagePort,
+                referenceResolver, sessionStore, toolExecutor, callRegistry, stageMetrics);
+        sessionTool = new SessionContextTool(sessionStore);
+
+        // Tool calls from different clients share the server fairly
+        toolScheduler = new ToolExecutionScheduler(schedulerMaxConcurrent, schedulerMaxInFlightPerClient,
+                schedulerMaxQueuedPerClient, schedulerMaxWait, meterRegistry);
+        // Retried generation calls replay the first result instead of generating again
+        idempotencyStore = new IdempotencyStore(idempotencyTtl, idempotencyMaxKeys, idempotencyMaxWait);
+        toolHandlers.put("ads", adsTool::execute);
+        toolHandlers.put("seo-plan", seoTool::execute);
+        toolHandlers.put("crm-sequences", crmTool::execute);
+        toolHandlers.put("strategy", strategyTool::execute);
+        toolHandlers.put("generate-bundle", bundleTool::execute);
+        toolHandlers.put("session-context", sessionTool::execute);
+
+        logger.info("Initialized 6 MCP tools: ads, seo-plan, crm-sequences, strategy, generate-bundle, session-context");
+    }
+
+    /**
+     * Names of the registered tools in registration order (empty when tools are disabled)
+     */
+    public Set<String> getToolNames() {
+        return Collections.unmodifiableSet(toolHandlers.keySet());
+    }
+
+    /**
+     * Execute a tool call through the per-client fair scheduler
+     * <p>
+     * The client is taken from {@code _meta.clientId}, else the {@code sessionId}, else
+     * {@code anonymous}. Calls rejected by the scheduler return a structured error envelope
+     * with status 429 and a {@code retryAfterMs} hint.
+     * <p>
+     * Generation tools honor {@code _meta.idempotencyKey}, scoped by client: a repeated key with
+     * the same arguments returns the stored result of the first call (waiting for it while it runs)
+     * without being scheduled again; the same key with different arguments is rejected.
+     * <p>
+     * A deadline in {@code _meta.deadline} or {@code _meta.timeoutMs} (counted from arrival) is
+     * passed to the tool; a call whose deadline passes while queued returns 504
+     * {@code DEADLINE_EXCEEDED} without running.
+     * <p>
+     * Generation tools then run in the interactive or bulk lane shared with the REST API: bulk
+     * when {@code _meta.priority} is {@code bulk} or the client is a configured bulk client. A call
+     * that waits too long for its lane returns 503 {@code LANE_QUEUE_TIMEOUT} with {@code retryAfterMs}.
+     *
+     * @param name  tool name (e.g. {@code strategy})
+     * @param input tool arguments
+     */
+    public Map<String, Object> callTool(String name, Map<String, Object> input) {
+        long startTime = System.currentTimeMillis();
+        Function<Map<String, Object>, Map<String, Object>> handler = toolHandlers.get(name);
+        if (handler == null) {
+            return buildErrorResponse(404, "TOOL_NOT_FOUND", "Unknown tool: " + name, startTime);
+        }
+        input = ToolDeadline.anchor(input, startTime);
+
+        String idempotencyKey = "session-context".equals(name) ? null : idempotencyKey(input);
+        if (idempotencyKey == null) {
+            return schedule(name, handler, input, startTime);
+        }
+
+        IdempotencyStore.Claim claim;
+        try {
+            Map<String, Object> arguments = new LinkedHashMap<>(input);
+            arguments.remove("_meta");
+            claim = idempotencyStore.claim(clientId(input) + ":" + name + ":" + idempotencyKey,
+                    IdempotencyStore.fingerprint(arguments));
+        } catch (IdempotencyException e) {
+            logger.warn("MCP tool call idempotency key rejected: tool={} key={} code={}", name, idempotencyKey, e.getCode());
+            int status = IdempotencyException.KEY_REUSED.equals(e.getCode()) ? 422 : 409;
+            return buildErrorResponse(status, e.getCode(), e.getMessage(), startTime);
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(400, "INVALID_INPUT", e.getMessage(), startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return buildErrorResponse(503, "CANCELLED", "Tool call interrupted while waiting for its first attempt", startTime);
+        }
+        if (claim.isReplay()) {
+            logger.info("MCP tool call replayed: tool={} key={}", name, idempotencyKey);
+            return replay(claim);
+        }
+
+        Map<String, Object> result = null;
+        try {
+            result = schedule(name, handler, input, startTime);
+            return result;
+        } finally {
+            settle(claim, result);
+        }
+    }
+
+    /**
+     * Store a successful, complete result under its idempotency key; anything else (including a
+     * result trimmed to a deadline) frees the key for a retry
+     */
+    private static void settle(IdempotencyStore.Claim claim, Map<String, Object> result) {
+        boolean trimmed = result != null && result.get("data") instanceof Map<?, ?> data && data.containsKey("skipped");
+        if (result != null && Boolean.TRUE.equals(result.get("success")) && !trimmed) {
+            try {
+                claim.complete(outputPath(result), () -> serialize(result));
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("MCP tool result not stored for idempotent replay", e);
+            }
+        }
+        claim.abandon();
+    }
+
+    private Map<String, Object> schedule(String name, Function<Map<String, Object>, Map<String, Object>> handler,
+                                         Map<String, Object> input, long startTime) {
+        String clientId = clientId(input);
+        Deadline deadline = ToolDeadline.from(input);
+        try {
+            return toolScheduler.execute(clientId, toolCost(name, input), () -> {
+                if (deadline.isExpired()) {
+                    logger.info("MCP tool call dropped after its deadline: tool={} client_id={}", name, clientId);
+                    return buildErrorResponse(504, DeadlineExceededException.CODE,
+                            "Deadline exceeded before the tool call could start", startTime);
+                }
+                return inLane(name, handler, input, clientId, startTime);
+            });
+        } catch (ToolRejectedException e) {
+            logger.warn("MCP tool call rejected: tool={} client_id={} code={} queue_depth={}",
+                    name, clientId, e.getCode(), e.getQueueDepth());
+            Map<String, Object> error = buildErrorResponse(429, e.getCode(), e.getMessage(), startTime);
+            error.put("clientId", e.getClientId());
+            error.put("queueDepth", e.getQueueDepth());
+            error.put("retryAfterMs", e.getRetryAfterMillis());
+            return error;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return buildErrorResponse(503, "CANCELLED", "Tool call interrupted while queued", startTime);
+        }
+    }
+
+    private Map<String, Object> inLane(String name, Function<Map<String, Object>, Map<String, Object>> handler,
+                                       Map<String, Object> input, String clientId, long startTime) {
+        if (laneScheduler == null || "session-context".equals(name)) {
+            return measured(name, handler, input);
+        }
+        Object requested = input.get("_meta") instanceof Map<?, ?> meta ? meta.get("priority") : null;
+        Lane lane = (lanePolicy != null ? lanePolicy : new LanePolicy(null, null))
+                .resolve(requested != null ? requested.toString() : null, clientId, name);
+        try {
+            return laneScheduler.execute(lane, () -> measured(name, handler, input));
+        } catch (LaneRejectedException e) {
+            logger.warn("MCP tool call lane saturated: tool={} client_id={} lane={}", name, clientId, lane.getId());
+            Map<String, Object> error = buildErrorResponse(503, LaneRejectedException.CODE, e.getMessage(), startTime);
+            error.put("lane", lane.getId());
+            error.put("retryAfterMs", e.getRetryAfterMillis());
+            return error;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return buildErrorResponse(503, "CANCELLED", "Tool call interrupted while waiting for its lane", startTime);
+        }
+    }
+
+    /**
+     * Run a tool call, charging its CPU time and allocation (including offloaded parts) to the
+     * tool and to {@code _meta.clientId}; calls without one are tenant {@code none}, since session
+     * ids would add a tenant tag per conversation
+     */
+    private Map<String, Object> measured(String name, Function<Map<String, Object>, Map<String, Object>> handler,
+                                         Map<String, Object> input) {
+        if (costRecorder == null || "session-context".equals(name)) {
+            return handler.apply(input);
+        }
+        RequestCost cost = new RequestCost();
+        Map<String, Object> result = cost.measure(() -> handler.apply(input));
+        Object requestId = result != null ? result.get("requestId") : null;
+        Object tenant = input.get("_meta") instanceof Map<?, ?> meta ? meta.get("clientId") : null;
+        costRecorder.record(StageMetrics.MCP, name, tenant != null ? tenant.toString() : null,
+                requestId != null ? requestId.toString() : null, cost);
+        return result;
+    }
+
+    private static String idempotencyKey(Map<String, Object> input) {
+        if (input.get("_meta") instanceof Map<?, ?> meta && meta.get("idempotencyKey") != null
+                && !meta.get("idempotencyKey").toString().isBlank()) {
+            return meta.get("idempotencyKey").toString();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> replay(IdempotencyStore.Claim claim) {
+        try {
+            Map<String, Object> response = objectMapper.readValue(claim.getReplayBody(), ENVELOPE);
+            if (claim.getOutputPath() != null && response.get("data") instanceof Map<?, ?> data) {
+                ((Map<String, Object>) data).put("output_path", claim.getOutputPath());
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Stored tool result cannot be read", e);
+        }
+    }
+
+    private static String outputPath(Map<String, Object> result) {
+        return result.get("data") instanceof Map<?, ?> data && data.get("output_path") instanceof String path
+                ? path : null;
+    }
+
+    private static byte[] serialize(Map<String, Object> result) {
+        try {
+            return objectMapper.writeValueAsBytes(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Tool result cannot be stored", e);
+        }
+    }
+
+    private static String clientId(Map<String, Object> input) {
+        return ToolCallRegistry.clientId(input);
+    }
+
+    /**
+     * Scheduling cost of a call: the number of generators it runs
+     */
+    private static int toolCost(String name, Map<String, Object> input) {
+        return switch (name) {
+            case "strategy" -> 3;
+            case "generate-bundle" -> input.get("artifacts") instanceof List<?> artifacts && !artifacts.isEmpty()
+                    ? artifacts.size() : 3;
+            default -> 1;
+        };
+    }
+
+    private static Map<String, Object> buildErrorResponse(int status, String errorCode, String message, long startTime) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("requestId", TimeOrderedIds.next());
+        error.put("timestamp", Instant.now().toString());
+        error.put("status", status);
+        error.put("success", false);
+        error.put("error", errorCode);
+        error.put("message", message);
+        error.put("executionTimeMs", System.currentTimeMillis() - startTime);
+        return error;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (toolExecutor != null) {
+            toolExecutor.shutdownNow();
+        }
+    }
 
-        logger.info("Initialized 4 MCP tools: ads, seo-plan, crm-sequences, strategy");
+    /**
+     * Executor running strategy generation and bundle parts off the caller thread
+     * <p>
+     * A virtual thread per task when virtual threads are enabled (concurrency is then bounded
+     * by the tool scheduler), otherwise a fixed pool of daemon threads. Tasks inherit the MDC
+     * of the submitting thread and are charged to its {@link RequestCost}.
+     */
+    private static ExecutorService newToolExecutor(boolean virtualThreads, int threads) {
+        if (virtualThreads) {
+            return new CostAttributingExecutorService(new MdcPropagatingExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mcp-tool-", 1).factory())));
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return new CostAttributingExecutorService(new MdcPropagatingExecutorService(Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mcp-tool-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        })));
     }
 
     /**
@@ -123,11 +534,74 @@ public class McpMarketingServer {
     private void initializeResources() {
         logger.debug("Initializing MCP resources...");
 
-        productResource = new ProductResource();
-        audienceResource = new AudienceResource();
-        brandResource = new BrandResource();
-        competitorsResource = new CompetitorsResource();
+        productResource = new ProductResource(resourceCatalogs.products());
+        audienceResource = new AudienceResource(resourceCatalogs.audiences());
+        brandResource = new BrandResource(resourceCatalogs.brands());
+        competitorsResource = new CompetitorsResource(resourceCatalogs.competitors());
+        resourceCatalogs.addListener(this::onCatalogChanged);
 
         logger.info("Initialized 4 MCP resources: product, audience, brand, competitors");
     }
+
+    /**
+     * Register a transport callback receiving MCP notification methods
+     * (e.g. {@value #RESOURCES_LIST_CHANGED})
+     */
+    public void addNotificationListener(Consumer<String> listener) {
+        notificationHandlers.add((method, params) -> listener.accept(method));
+    }
+
+    /**
+     * Register a transport callback receiving MCP notification methods with their params
+     * (e.g. {@value ToolCall#PROGRESS})
+     */
+    public void addNotificationHandler(BiConsumer<String, Map<String, Object>> handler) {
+        notificationHandlers.add(handler);
+    }
+
+    /**
+     * Handle a client {@value ToolCallRegistry#CANCELLED} notification from a client that sends
+     * neither {@code _meta.clientId} nor a session id
+     *
+     * @param requestId tool request id or progress token of the call to cancel
+     * @return true if an in-flight call was cancelled
+     */
+    public boolean cancelToolCall(Object requestId, String reason) {
+        return cancelToolCall(null, requestId, reason);
+    }
+
+    /**
+     * Handle a client {@value ToolCallRegistry#CANCELLED} notification for a call of the given client
+     *
+     * @param clientId  client of the call ({@code _meta.clientId} or session id); progress tokens
+     *                  are only matched against calls of this client
+     * @param requestId tool request id or progress token of the call to cancel
+     * @return true if an in-flight call was cancelled
+     */
+    public boolean cancelToolCall(String clientId, Object requestId, String reason) {
+        return callRegistry != null && callRegistry.cancel(clientId, requestId, reason);
+    }
+
+    /**
+     * Handle a client {@value ToolCallRegistry#CANCELLED} notification that names the JSON-RPC id
+     * of the {@code tools/call}; the transport must have passed that id as
+     * {@code _meta.}{@value ToolCallRegistry#JSON_RPC_ID}
+     *
+     * @return true if an in-flight call was cancelled
+     */
+    public boolean cancelJsonRpcRequest(String clientId, Object jsonRpcId, String reason) {
+        return callRegistry != null && callRegistry.cancelJsonRpc(clientId, jsonRpcId, reason);
+    }
+
+    private void onCatalogChanged(ResourceCatalog catalog) {
+        logger.info("Resource catalog changed: catalog={} version={} - emitting {}",
+                catalog.getName(), catalog.snapshot().version(), RESOURCES_LIST_CHANGED);
+        emit(RESOURCES_LIST_CHANGED, Map.of());
+    }
+
+    private void emit(String method, Map<String, Object> params) {
+        for (BiConsumer<String, Map<String, Object>> handler : notificationHandlers) {
+            handler.accept(method, params);
+        }
+    }
 }
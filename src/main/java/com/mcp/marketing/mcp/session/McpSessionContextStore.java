@@ -0,0 +1,291 @@
+package com.mcp.marketing.mcp.session;
+
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory store of MCP session contexts
+ * <p>
+ * A client registers its base marketing context once (resolving catalog references and
+ * validating it a single time) and then calls tools with a {@code sessionId} plus only
+ * the fields that change. Sessions are kept in access order and evicted when idle for
+ * longer than the configured timeout, or least-recently-used first when the session
+ * count or estimated memory exceeds the configured caps.
+ */
+public class McpSessionContextStore {
+
+    public static final String SESSION_ID = "sessionId";
+
+    static final int DEFAULT_MAX_SESSIONS = 1000;
+    static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final Logger logger = LoggerFactory.getLogger(McpSessionContextStore.class);
+
+    /**
+     * Fields whose override forces the merged context to be validated again
+     */
+    private static final Set<String> REQUIRED_FIELDS = Set.of(
+            "product", "audience", "brandVoice", "goals", "language",
+            CatalogReferenceResolver.PRODUCT_ID, CatalogReferenceResolver.AUDIENCE_ID, CatalogReferenceResolver.BRAND_ID);
+
+    private final ValidationService validationService;
+    private final CatalogReferenceResolver referenceResolver;
+    private final int maxSessions;
+    private final long maxBytes;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, SessionContext> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long evictions;
+
+    public McpSessionContextStore(ValidationService validationService,
+                                  CatalogReferenceResolver referenceResolver,
+                                  int maxSessions,
+                                  long maxBytes,
+                                  Duration idleTimeout) {
+        this(validationService, referenceResolver, maxSessions, maxBytes, idleTimeout, System::currentTimeMillis);
+    }
+
+    McpSessionContextStore(ValidationService validationService,
+                           CatalogReferenceResolver referenceResolver,
+                           int maxSessions,
+                           long maxBytes,
+                           Duration idleTimeout,
+                           LongSupplier clock) {
+        this.validationService = validationService;
+        this.referenceResolver = referenceResolver;
+        this.maxSessions = maxSessions > 0 ? maxSessions : DEFAULT_MAX_SESSIONS;
+        this.maxBytes = maxBytes > 0 ? maxBytes : DEFAULT_MAX_BYTES;
+        this.idleTimeoutMillis = (idleTimeout != null && !idleTimeout.isZero() && !idleTimeout.isNegative()
+                ? idleTimeout : DEFAULT_IDLE_TIMEOUT).toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Register (or replace) the base context of a session
+     *
+     * @param sessionId requested id, or null to generate one
+     * @param input     base tool input; catalog references are resolved once here
+     * @return the stored session
+     */
+    public SessionContext put(String sessionId, Map<String, Object> input) {
+        // Session ids address stored contexts, so they must be unguessable: no time-ordered ids here
+        String id = sessionId != null && !sessionId.isBlank() ? sessionId : UUID.randomUUID().toString();
+
+        Map<String, Object> base = new LinkedHashMap<>(input);
+        base.remove(SESSION_ID);
+        // _meta belongs to the call that stored the session (deadline, client, progress token,
+        // idempotency key), not to the calls that later resolve it
+        base.remove("_meta");
+        resolveReference(base, "product", referenceResolver::resolveProduct);
+        resolveReference(base, "audience", referenceResolver::resolveAudience);
+        resolveReference(base, "brandVoice", referenceResolver::resolveBrandVoice);
+
+        String product = text(base.get("product"));
+        List<String> defaultKeywords = product != null ? OrchestratorService.defaultKeywordsFor(product) : null;
+        String displayUrl = product != null ? OrchestratorService.displayUrlFor(product) : null;
+        boolean baseValid = validationService.validateContext(toContext(base)).isEmpty();
+
+        long now = clock.getAsLong();
+        SessionContext session = new SessionContext(id, base, defaultKeywords, displayUrl, baseValid,
+                estimateBytes(base), now);
+
+        synchronized (sessions) {
+            SessionContext previous = sessions.put(id, session);
+            if (previous != null) {
+                totalBytes -= previous.getEstimatedBytes();
+            }
+            totalBytes += session.getEstimatedBytes();
+            evict(now);
+        }
+        logger.info("MCP session context set: session_id={} valid_base={} estimated_bytes={}",
+                id, baseValid, session.getEstimatedBytes());
+        return session;
+    }
+
+    /**
+     * Session by id, or null when unknown or expired
+     */
+    public SessionContext get(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        synchronized (sessions) {
+            SessionContext session = sessions.get(sessionId);
+            if (session == null) {
+                return null;
+            }
+            if (isExpired(session, now)) {
+                removeLocked(sessionId);
+                evictions++;
+                return null;
+            }
+            session.touch(now);
+            return session;
+        }
+    }
+
+    public boolean remove(String sessionId) {
+        synchronized (sessions) {
+            return removeLocked(sessionId) != null;
+        }
+    }
+
+    /**
+     * Merge the tool input with the base context of its session, if any
+     *
+     * @throws IllegalArgumentException if the input references an unknown or expired session
+     */
+    public SessionInput resolve(Map<String, Object> input) {
+        Object sessionId = input.get(SESSION_ID);
+        if (sessionId == null || sessionId.toString().isBlank()) {
+            return SessionInput.direct(input);
+        }
+        SessionContext session = get(sessionId.toString());
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown or expired sessionId: " + sessionId);
+        }
+
+        Map<String, Object> merged = new LinkedHashMap<>(session.getBase());
+        boolean overridesRequired = false;
+        for (Map.Entry<String, Object> override : input.entrySet()) {
+            if (SESSION_ID.equals(override.getKey())) {
+                continue;
+            }
+            merged.put(override.getKey(), override.getValue());
+            overridesRequired |= REQUIRED_FIELDS.contains(override.getKey());
+        }
+        // A reference override must not be shadowed by the text resolved from the base reference
+        dropShadowedText(input, merged, CatalogReferenceResolver.PRODUCT_ID, "product");
+        dropShadowedText(input, merged, CatalogReferenceResolver.AUDIENCE_ID, "audience");
+        dropShadowedText(input, merged, CatalogReferenceResolver.BRAND_ID, "brandVoice");
+
+        return new SessionInput(merged, session, session.isBaseValid() && !overridesRequired);
+    }
+
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    public long estimatedBytes() {
+        synchronized (sessions) {
+            return totalBytes;
+        }
+    }
+
+    public long evictionCount() {
+        synchronized (sessions) {
+            return evictions;
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<String, SessionContext>> iterator = sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            SessionContext eldest = iterator.next().getValue();
+            boolean overCapacity = sessions.size() > maxSessions || totalBytes > maxBytes;
+            if (!overCapacity && !isExpired(eldest, now)) {
+                // Access order: once the eldest is fresh and we fit, everything after it is fresh too
+                break;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getEstimatedBytes();
+            evictions++;
+            logger.debug("MCP session context evicted: session_id={}", eldest.getSessionId());
+        }
+    }
+
+    private SessionContext removeLocked(String sessionId) {
+        SessionContext removed = sessions.remove(sessionId);
+        if (removed != null) {
+            totalBytes -= removed.getEstimatedBytes();
+        }
+        return removed;
+    }
+
+    private boolean isExpired(SessionContext session, long now) {
+        return now - session.getLastAccessMillis() > idleTimeoutMillis;
+    }
+
+    private void resolveReference(Map<String, Object> base, String field,
+                                  Function<Map<String, Object>, String> resolver) {
+        if (text(base.get(field)) == null && hasReference(base, field)) {
+            base.put(field, resolver.apply(base));
+        }
+    }
+
+    private boolean hasReference(Map<String, Object> base, String field) {
+        String idField = switch (field) {
+            case "product" -> CatalogReferenceResolver.PRODUCT_ID;
+            case "audience" -> CatalogReferenceResolver.AUDIENCE_ID;
+            default -> CatalogReferenceResolver.BRAND_ID;
+        };
+        return text(base.get(idField)) != null;
+    }
+
+    private void dropShadowedText(Map<String, Object> input, Map<String, Object> merged, String idField, String field) {
+        if (input.containsKey(idField) && !input.containsKey(field)) {
+            merged.remove(field);
+        }
+    }
+
+    private MarketingContext toContext(Map<String, Object> base) {
+        return MarketingContext.builder()
+                .product(text(base.get("product")))
+                .audience(text(base.get("audience")))
+                .brandVoice(text(base.get("brandVoice")))
+                .goals(text(base.get("goals")))
+                .language(text(base.get("language")))
+                .executionMode(ExecutionMode.DETERMINISTIC)
+                .build();
+    }
+
+    private static String text(Object value) {
+        return value != null && !value.toString().trim().isEmpty() ? value.toString() : null;
+    }
+
+    /**
+     * Rough retained-size estimate: object headers plus two bytes per character
+     */
+    static long estimateBytes(Object value) {
+        if (value instanceof CharSequence text) {
+            return 40L + 2L * text.length();
+        }
+        if (value instanceof Map<?, ?> map) {
+            long bytes = 48L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                bytes += 32L + estimateBytes(entry.getKey()) + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 24L;
+            for (Object element : collection) {
+                bytes += 8L + estimateBytes(element);
+            }
+            return bytes;
+        }
+        return 16L;
+    }
+}
@@ -0,0 +1,94 @@
+package com.mcp.marketing.mcp.session;
+
+import com.mcp.marketing.domain.model.MarketingContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base marketing context registered by an MCP client for a session
+ * <p>
+ * Holds the base tool input with catalog references already resolved, plus data
+ * derived from it once per session (default keywords, display URL) so subsequent
+ * tool calls only send overrides.
+ */
+public final class SessionContext {
+
+    private final String sessionId;
+    private final Map<String, Object> base;
+    private final List<String> defaultKeywords;
+    private final String displayUrl;
+    private final boolean baseValid;
+    private final long estimatedBytes;
+
+    private volatile long lastAccessMillis;
+
+    SessionContext(String sessionId,
+                   Map<String, Object> base,
+                   List<String> defaultKeywords,
+                   String displayUrl,
+                   boolean baseValid,
+                   long estimatedBytes,
+                   long createdAtMillis) {
+        this.sessionId = sessionId;
+        this.base = Collections.unmodifiableMap(base);
+        this.defaultKeywords = defaultKeywords;
+        this.displayUrl = displayUrl;
+        this.baseValid = baseValid;
+        this.estimatedBytes = estimatedBytes;
+        this.lastAccessMillis = createdAtMillis;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Map<String, Object> getBase() {
+        return base;
+    }
+
+    public List<String> getDefaultKeywords() {
+        return defaultKeywords;
+    }
+
+    public String getDisplayUrl() {
+        return displayUrl;
+    }
+
+    /**
+     * Whether the base context alone passed validation when the session was set
+     */
+    public boolean isBaseValid() {
+        return baseValid;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    /**
+     * Fill derived fields the caller did not provide, as long as the product still matches the base
+     */
+    public MarketingContext enrich(MarketingContext context) {
+        if (!Objects.equals(context.getProduct(), base.get("product"))) {
+            return context;
+        }
+        if (context.getKeywords() == null || context.getKeywords().isEmpty()) {
+            context.setKeywords(defaultKeywords);
+        }
+        if ((context.getDomain() == null || context.getDomain().isBlank()) && context.getDisplayUrl() == null) {
+            context.setDisplayUrl(displayUrl);
+        }
+        return context;
+    }
+}
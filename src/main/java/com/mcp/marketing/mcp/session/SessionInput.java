@@ -0,0 +1,53 @@
+package com.mcp.marketing.mcp.session;
+
+import com.mcp.marketing.domain.model.MarketingContext;
+
+import java.util.Map;
+
+/**
+ * Tool input after merging the session base context with the call overrides
+ */
+public final class SessionInput {
+
+    private final Map<String, Object> input;
+    private final SessionContext session;
+    private final boolean prevalidated;
+
+    SessionInput(Map<String, Object> input, SessionContext session, boolean prevalidated) {
+        this.input = input;
+        this.session = session;
+        this.prevalidated = prevalidated;
+    }
+
+    /**
+     * Input without a session: passed through untouched
+     */
+    static SessionInput direct(Map<String, Object> input) {
+        return new SessionInput(input, null, false);
+    }
+
+    /**
+     * Merged tool input (overrides win over the session base)
+     */
+    public Map<String, Object> input() {
+        return input;
+    }
+
+    public SessionContext session() {
+        return session;
+    }
+
+    /**
+     * True when the session base was already validated and the call overrides no required field
+     */
+    public boolean isPrevalidated() {
+        return prevalidated;
+    }
+
+    /**
+     * Apply session-derived data to a freshly built context
+     */
+    public MarketingContext enrich(MarketingContext context) {
+        return session != null ? session.enrich(context) : context;
+    }
+}
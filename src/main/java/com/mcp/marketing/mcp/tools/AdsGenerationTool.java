@@ -3,11 +3,20 @@ package com.mcp.marketing.mcp.tools;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mcp.marketing.api.dto.StandardResponse;
 import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.Deadline;
 import com.mcp.marketing.domain.model.ExecutionMode;
 import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.StageTimings;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import com.mcp.marketing.mcp.session.SessionInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +24,6 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * MCP Tool for Ads Generation
@@ -30,29 +38,50 @@ public class AdsGenerationTool {
     private final OrchestratorService orchestratorService;
     private final ValidationService validationService;
     private final StoragePort storagePort;
+    private final CatalogReferenceResolver referenceResolver;
+    private final McpSessionContextStore sessionStore;
+    private final StageMetrics stageMetrics;
+    private final TrafficCapture trafficCapture;
 
     public AdsGenerationTool(OrchestratorService orchestratorService,
                              ValidationService validationService,
-                             StoragePort storagePort) {
+                             StoragePort storagePort,
+                             CatalogReferenceResolver referenceResolver,
+                             McpSessionContextStore sessionStore,
+                             StageMetrics stageMetrics,
+                             TrafficCapture trafficCapture) {
         this.orchestratorService = orchestratorService;
         this.validationService = validationService;
         this.storagePort = storagePort;
+        this.referenceResolver = referenceResolver;
+        this.sessionStore = sessionStore;
+        this.stageMetrics = stageMetrics;
+        this.trafficCapture = trafficCapture;
     }
 
     /**
      * Execute the ads generation tool
      */
     public Map<String, Object> execute(Map<String, Object> input) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = TimeOrderedIds.next();
         long startTime = System.currentTimeMillis();
 
         logger.info("MCP Tool 'ads' called with request_id={}", requestId);
 
         try {
+            Deadline deadline = ToolDeadline.from(input);
+            boolean timingsRequested = ToolTimings.requested(input);
+            StageTimings timings = StageTimings.start("ads");
+            long parseStart = System.nanoTime();
+
+            // Merge with the session base context, if any
+            SessionInput sessionInput = sessionStore.resolve(input);
+            input = sessionInput.input();
+
             // Parse input
-            String product = getRequiredString(input, "product");
-            String audience = getRequiredString(input, "audience");
-            String brandVoice = getRequiredString(input, "brandVoice");
+            String product = referenceResolver.resolveProduct(input);
+            String audience = referenceResolver.resolveAudience(input);
+            String brandVoice = referenceResolver.resolveBrandVoice(input);
             String goals = getRequiredString(input, "goals");
             String language = getRequiredString(input, "language");
 
@@ -74,53 +103,75 @@ public class AdsGenerationTool {
                     .budget(budget)
                     .duration(duration)
                     .build();
-
-            // Validate
-            List<String> errors = validationService.validateContext(context);
+            context = sessionInput.enrich(context);
+            context.setDeadline(deadline);
+            context.setTimings(timings);
+            timings.record(StageTimings.PARSE, System.nanoTime() - parseStart);
+
+            // Validate (a validated session base needs no re-check unless required fields are overridden)
+            long validateStart = System.nanoTime();
+            List<String> errors = sessionInput.isPrevalidated()
+                    ? List.of()
+                    : validationService.validateContext(context);
+            timings.record(StageTimings.VALIDATE, System.nanoTime() - validateStart);
             if (!errors.isEmpty()) {
-                return buildErrorResponse(requestId, "VALIDATION_ERROR",
+                return buildErrorResponse(requestId, 400, "VALIDATION_ERROR",
                         "Validation failed: " + String.join(", ", errors), startTime);
             }
 
-            // Generate ads
-            AdsResult result = orchestratorService.generateAds(context);
+            // Generate ads (already validated above)
+            AdsResult result = orchestratorService.generateAds(context, true);
             long executionTime = System.currentTimeMillis() - startTime;
 
             // Build response
+            long envelopeStart = System.nanoTime();
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("artifact_type", "ads");
             data.put("execution_time_ms", executionTime);
             data.put("result", result);
 
             StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
+            timings.record(StageTimings.ENVELOPE, System.nanoTime() - envelopeStart);
 
             // Persist
-            String outputPath = storagePort.saveJson("ads", requestId, response);
+            String outputPath = timings.time(StageTimings.PERSIST,
+                    () -> StoragePort.saveJsonBefore(deadline, storagePort, "ads", requestId, response));
             if (outputPath != null) {
                 data.put("output_path", outputPath);
             }
+            if (deadline.isPartial()) {
+                data.put("partial", true);
+                data.put("skipped", deadline.getSkipped());
+            }
 
             logger.info("MCP Tool 'ads' completed successfully: request_id={} execution_time_ms={}",
                     requestId, executionTime);
 
-            return toMap(response);
+            if (trafficCapture != null) {
+                trafficCapture.record(StageMetrics.MCP, "ads", context, result, startTime, deadline.isPartial(), outputPath);
+            }
+
+            return ToolTimings.finish(timings, stageMetrics, timingsRequested, () -> toMap(response));
 
+        } catch (DeadlineExceededException e) {
+            logger.info("MCP Tool 'ads' deadline exceeded: request_id={} stage={}", requestId, e.getStage());
+            return buildErrorResponse(requestId, 504, DeadlineExceededException.CODE, e.getMessage(), startTime);
         } catch (IllegalArgumentException e) {
             logger.warn("MCP Tool 'ads' validation error: request_id={} error={}", requestId, e.getMessage());
-            return buildErrorResponse(requestId, "INVALID_INPUT", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INVALID_INPUT", e.getMessage(), startTime);
         } catch (Exception e) {
             logger.error("MCP Tool 'ads' failed: request_id={}", requestId, e);
-            return buildErrorResponse(requestId, "INTERNAL_ERROR", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INTERNAL_ERROR", e.getMessage(), startTime);
         }
     }
 
-    private Map<String, Object> buildErrorResponse(String requestId, String errorCode,
+    private Map<String, Object> buildErrorResponse(String requestId, int status, String errorCode,
                                                    String message, long startTime) {
         long executionTime = System.currentTimeMillis() - startTime;
         Map<String, Object> error = new LinkedHashMap<>();
         error.put("requestId", requestId);
         error.put("timestamp", Instant.now().toString());
-        error.put("status", 400);
+        error.put("status", status);
         error.put("success", false);
         error.put("error", errorCode);
         error.put("message", message);
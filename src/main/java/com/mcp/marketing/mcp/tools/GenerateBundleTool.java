@@ -0,0 +1,290 @@
+package com.mcp.marketing.mcp.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.ArtifactType;
+import com.mcp.marketing.domain.model.Deadline;
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.StageTimings;
+import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.mcp.progress.ToolCall;
+import com.mcp.marketing.mcp.progress.ToolCallRegistry;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import com.mcp.marketing.mcp.session.SessionInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * MCP Tool for Bundle Generation
+ * <p>
+ * Generates several artifacts (ads, SEO plan, CRM sequences) from one context in a
+ * single call: the context is validated once, the selected builders run concurrently
+ * and the combined response is persisted as one grouped artifact. A failing part is
+ * reported in its own entry without failing the bundle. Progress is reported per phase
+ * and a cancelled bundle stops scheduling parts and skips persistence.
+ */
+public class GenerateBundleTool {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerateBundleTool.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final OrchestratorService orchestratorService;
+    private final ValidationService validationService;
+    private final StoragePort storagePort;
+    private final CatalogReferenceResolver referenceResolver;
+    private final McpSessionContextStore sessionStore;
+    private final Executor executor;
+    private final ToolCallRegistry callRegistry;
+    private final StageMetrics stageMetrics;
+
+    public GenerateBundleTool(OrchestratorService orchestratorService,
+                              ValidationService validationService,
+                              StoragePort storagePort,
+                              CatalogReferenceResolver referenceResolver,
+                              McpSessionContextStore sessionStore,
+                              Executor executor,
+                              ToolCallRegistry callRegistry,
+                              StageMetrics stageMetrics) {
+        this.orchestratorService = orchestratorService;
+        this.validationService = validationService;
+        this.storagePort = storagePort;
+        this.referenceResolver = referenceResolver;
+        this.sessionStore = sessionStore;
+        this.executor = executor;
+        this.callRegistry = callRegistry;
+        this.stageMetrics = stageMetrics;
+    }
+
+    public Map<String, Object> execute(Map<String, Object> input) {
+        String requestId = TimeOrderedIds.next();
+        long startTime = System.currentTimeMillis();
+
+        logger.info("MCP Tool 'generate-bundle' called with request_id={}", requestId);
+
+        ToolCall call = null;
+        try {
+            Deadline deadline = ToolDeadline.from(input);
+            boolean timingsRequested = ToolTimings.requested(input);
+            StageTimings timings = StageTimings.start("bundle");
+            long parseStart = System.nanoTime();
+
+            // Merge with the session base context, if any; the call is registered under the
+            // caller's own input, which still names its session
+            Map<String, Object> callInput = input;
+            SessionInput sessionInput = sessionStore.resolve(input);
+            input = sessionInput.input();
+
+            Set<ArtifactType> artifacts = parseArtifacts(input);
+            call = callRegistry.open(requestId, callInput, artifacts.size() + 2);
+            ToolCall bundleCall = call;
+
+            // Build one context carrying the optional fields of every part
+            MarketingContext context = MarketingContext.builder()
+                    .requestId(requestId)
+                    .product(referenceResolver.resolveProduct(input))
+                    .audience(referenceResolver.resolveAudience(input))
+                    .brandVoice(referenceResolver.resolveBrandVoice(input))
+                    .goals(getRequiredString(input, "goals"))
+                    .language(getRequiredString(input, "language"))
+                    .executionMode(ExecutionMode.DETERMINISTIC)
+                    .platforms(getOptionalList(input, "platforms"))
+                    .budget(getOptionalString(input, "budget"))
+                    .duration(getOptionalString(input, "duration"))
+                    .keywords(getOptionalList(input, "keywords"))
+                    .domain(getOptionalString(input, "domain"))
+                    .monthlyBudget(getOptionalInteger(input, "monthlyBudget"))
+                    .sequenceLength(getOptionalInteger(input, "sequenceLength"))
+                    .channels(getOptionalList(input, "channels"))
+                    .conversionGoal(getOptionalString(input, "conversionGoal"))
+                    .build();
+            context = sessionInput.enrich(context);
+            context.setDeadline(deadline);
+            context.setTimings(timings);
+            timings.record(StageTimings.PARSE, System.nanoTime() - parseStart);
+
+            // Validate once for the whole bundle
+            call.phase("validate");
+            long validateStart = System.nanoTime();
+            List<String> errors = sessionInput.isPrevalidated()
+                    ? List.of()
+                    : validationService.validateContext(context);
+            timings.record(StageTimings.VALIDATE, System.nanoTime() - validateStart);
+            if (!errors.isEmpty()) {
+                return buildErrorResponse(requestId, 400, "VALIDATION_ERROR",
+                        "Validation failed: " + String.join(", ", errors), startTime);
+            }
+
+            // Generate parts concurrently (already validated above); cancelling the call abandons pending parts
+            Map<ArtifactType, CompletableFuture<Object>> futures =
+                    orchestratorService.generateBundle(context, artifacts, executor, bundleCall::phase, true);
+            futures.values().forEach(bundleCall::track);
+
+            Map<String, Object> parts = new LinkedHashMap<>();
+            List<String> failed = new ArrayList<>();
+            for (Map.Entry<ArtifactType, CompletableFuture<Object>> future : futures.entrySet()) {
+                String artifactId = future.getKey().getId();
+                parts.put(artifactId, collectPart(requestId, artifactId, future.getValue(), failed));
+            }
+            long executionTime = System.currentTimeMillis() - startTime;
+
+            // Build response
+            long envelopeStart = System.nanoTime();
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("artifact_type", "bundle");
+            data.put("artifacts", artifacts.stream().map(ArtifactType::getId).toList());
+            data.put("execution_time_ms", executionTime);
+            data.put("partial", !failed.isEmpty());
+            if (!failed.isEmpty()) {
+                data.put("failed_parts", failed);
+            }
+            data.put("parts", parts);
+
+            StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
+            timings.record(StageTimings.ENVELOPE, System.nanoTime() - envelopeStart);
+
+            // Persist all parts as one grouped artifact (skipped once the call is cancelled)
+            call.phase("persist");
+            String outputPath = timings.time(StageTimings.PERSIST,
+                    () -> StoragePort.saveJsonBefore(deadline, storagePort, "bundle", requestId, response));
+            if (outputPath != null) {
+                data.put("output_path", outputPath);
+            }
+            if (deadline.isPartial()) {
+                data.put("partial", true);
+                data.put("skipped", deadline.getSkipped());
+            }
+
+            logger.info("MCP Tool 'generate-bundle' completed: request_id={} parts={} failed={} execution_time_ms={}",
+                    requestId, parts.size(), failed.size(), executionTime);
+
+            return ToolTimings.finish(timings, stageMetrics, timingsRequested, () -> toMap(response));
+
+        } catch (CancellationException e) {
+            String reason = call != null && call.isCancelled() ? "Tool call cancelled: " + call.getCancelReason() : e.getMessage();
+            logger.info("MCP Tool 'generate-bundle' cancelled: request_id={} reason={}", requestId, reason);
+            return buildErrorResponse(requestId, 503, "CANCELLED", reason, startTime);
+        } catch (DeadlineExceededException e) {
+            logger.info("MCP Tool 'generate-bundle' deadline exceeded: request_id={} stage={}", requestId, e.getStage());
+            return buildErrorResponse(requestId, 504, DeadlineExceededException.CODE, e.getMessage(), startTime);
+        } catch (IllegalArgumentException e) {
+            logger.warn("MCP Tool 'generate-bundle' validation error: request_id={} error={}", requestId, e.getMessage());
+            return buildErrorResponse(requestId, 400, "INVALID_INPUT", e.getMessage(), startTime);
+        } catch (Exception e) {
+            logger.error("MCP Tool 'generate-bundle' failed: request_id={}", requestId, e);
+            return buildErrorResponse(requestId, 400, "INTERNAL_ERROR", e.getMessage(), startTime);
+        } finally {
+            if (call != null) {
+                callRegistry.close(call);
+            }
+        }
+    }
+
+    private Map<String, Object> collectPart(String requestId, String artifactId,
+                                            CompletableFuture<Object> future, List<String> failed) {
+        Map<String, Object> part = new LinkedHashMap<>();
+        try {
+            part.put("success", true);
+            part.put("result", future.join());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CancellationException cancellation) {
+                throw cancellation;
+            }
+            logger.warn("MCP Tool 'generate-bundle' part failed: request_id={} artifact={} error={}",
+                    requestId, artifactId, cause.getMessage());
+            failed.add(artifactId);
+            part.put("success", false);
+            part.put("error", cause instanceof DeadlineExceededException ? DeadlineExceededException.CODE
+                    : cause instanceof IllegalArgumentException ? "INVALID_INPUT" : "GENERATION_ERROR");
+            part.put("message", cause.getMessage());
+        }
+        return part;
+    }
+
+    private Set<ArtifactType> parseArtifacts(Map<String, Object> input) {
+        List<String> requested = getOptionalList(input, "artifacts");
+        if (requested == null || requested.isEmpty()) {
+            return EnumSet.allOf(ArtifactType.class);
+        }
+        Set<ArtifactType> artifacts = EnumSet.noneOf(ArtifactType.class);
+        for (Object artifact : requested) {
+            artifacts.add(ArtifactType.fromId(String.valueOf(artifact)));
+        }
+        return artifacts;
+    }
+
+    private Map<String, Object> buildErrorResponse(String requestId, int status, String errorCode,
+                                                   String message, long startTime) {
+        long executionTime = System.currentTimeMillis() - startTime;
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("requestId", requestId);
+        error.put("timestamp", Instant.now().toString());
+        error.put("status", status);
+        error.put("success", false);
+        error.put("error", errorCode);
+        error.put("message", message);
+        error.put("executionTimeMs", executionTime);
+        return error;
+    }
+
+    private String getRequiredString(Map<String, Object> input, String key) {
+        Object value = input.get(key);
+        if (value == null || value.toString().trim().isEmpty()) {
+            throw new IllegalArgumentException(key + " is required");
+        }
+        return value.toString();
+    }
+
+    private String getOptionalString(Map<String, Object> input, String key) {
+        Object value = input.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private Integer getOptionalInteger(Map<String, Object> input, String key) {
+        Object value = input.get(key);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.parseInt((String) value);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getOptionalList(Map<String, Object> input, String key) {
+        Object value = input.get(key);
+        if (value instanceof List) {
+            return (List<String>) value;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toMap(Object obj) {
+        return objectMapper.convertValue(obj, Map.class);
+    }
+}
@@ -2,12 +2,21 @@ package com.mcp.marketing.mcp.tools;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.Deadline;
 import com.mcp.marketing.domain.model.ExecutionMode;
 import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.StageTimings;
 import com.mcp.marketing.domain.model.SeoPlanResult;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import com.mcp.marketing.mcp.session.SessionInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,7 +24,6 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * MCP Tool for SEO Plan Generation
@@ -28,28 +36,49 @@ public class SeoPlanTool {
     private final OrchestratorService orchestratorService;
     private final ValidationService validationService;
     private final StoragePort storagePort;
+    private final CatalogReferenceResolver referenceResolver;
+    private final McpSessionContextStore sessionStore;
+    private final StageMetrics stageMetrics;
+    private final TrafficCapture trafficCapture;
 
     public SeoPlanTool(OrchestratorService orchestratorService,
                        ValidationService validationService,
-                       StoragePort storagePort) {
+                       StoragePort storagePort,
+                       CatalogReferenceResolver referenceResolver,
+                       McpSessionContextStore sessionStore,
+                       StageMetrics stageMetrics,
+                       TrafficCapture trafficCapture) {
         this.orchestratorService = orchestratorService;
         this.validationService = validationService;
         this.storagePort = storagePort;
+        this.referenceResolver = referenceResolver;
+        this.sessionStore = sessionStore;
+        this.stageMetrics = stageMetrics;
+        this.trafficCapture = trafficCapture;
     }
 
     public Map<String, Object> execute(Map<String, Object> input) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = TimeOrderedIds.next();
         long startTime = System.currentTimeMillis();
 
         logger.info("MCP Tool 'seo-plan' called with request_id={}", requestId);
 
         try {
+            Deadline deadline = ToolDeadline.from(input);
+            boolean timingsRequested = ToolTimings.requested(input);
+            StageTimings timings = StageTimings.start("seo-plan");
+            long parseStart = System.nanoTime();
+
+            // Merge with the session base context, if any
+            SessionInput sessionInput = sessionStore.resolve(input);
+            input = sessionInput.input();
+
             // Build context
             MarketingContext context = MarketingContext.builder()
                     .requestId(requestId)
-                    .product(getRequiredString(input, "product"))
-                    .audience(getRequiredString(input, "audience"))
-                    .brandVoice(getRequiredString(input, "brandVoice"))
+                    .product(referenceResolver.resolveProduct(input))
+                    .audience(referenceResolver.resolveAudience(input))
+                    .brandVoice(referenceResolver.resolveBrandVoice(input))
                     .goals(getRequiredString(input, "goals"))
                     .language(getRequiredString(input, "language"))
                     .executionMode(ExecutionMode.DETERMINISTIC)
@@ -57,53 +86,75 @@ public class SeoPlanTool {
                     .domain(getOptionalString(input, "domain"))
                     .monthlyBudget(getOptionalInteger(input, "monthlyBudget"))
                     .build();
-
-            // Validate
-            List<String> errors = validationService.validateContext(context);
+            context = sessionInput.enrich(context);
+            context.setDeadline(deadline);
+            context.setTimings(timings);
+            timings.record(StageTimings.PARSE, System.nanoTime() - parseStart);
+
+            // Validate (a validated session base needs no re-check unless required fields are overridden)
+            long validateStart = System.nanoTime();
+            List<String> errors = sessionInput.isPrevalidated()
+                    ? List.of()
+                    : validationService.validateContext(context);
+            timings.record(StageTimings.VALIDATE, System.nanoTime() - validateStart);
             if (!errors.isEmpty()) {
-                return buildErrorResponse(requestId, "VALIDATION_ERROR",
+                return buildErrorResponse(requestId, 400, "VALIDATION_ERROR",
                         "Validation failed: " + String.join(", ", errors), startTime);
             }
 
-            // Generate SEO plan
-            SeoPlanResult result = orchestratorService.generateSeoPlan(context);
+            // Generate SEO plan (already validated above)
+            SeoPlanResult result = orchestratorService.generateSeoPlan(context, true);
             long executionTime = System.currentTimeMillis() - startTime;
 
             // Build response
+            long envelopeStart = System.nanoTime();
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("artifact_type", "seo-plan");
             data.put("execution_time_ms", executionTime);
             data.put("result", result);
 
             StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
+            timings.record(StageTimings.ENVELOPE, System.nanoTime() - envelopeStart);
 
             // Persist
-            String outputPath = storagePort.saveJson("seo-plan", requestId, response);
+            String outputPath = timings.time(StageTimings.PERSIST,
+                    () -> StoragePort.saveJsonBefore(deadline, storagePort, "seo-plan", requestId, response));
             if (outputPath != null) {
                 data.put("output_path", outputPath);
             }
+            if (deadline.isPartial()) {
+                data.put("partial", true);
+                data.put("skipped", deadline.getSkipped());
+            }
 
             logger.info("MCP Tool 'seo-plan' completed successfully: request_id={} execution_time_ms={}",
                     requestId, executionTime);
 
-            return toMap(response);
+            if (trafficCapture != null) {
+                trafficCapture.record(StageMetrics.MCP, "seo-plan", context, result, startTime, deadline.isPartial(), outputPath);
+            }
+
+            return ToolTimings.finish(timings, stageMetrics, timingsRequested, () -> toMap(response));
 
+        } catch (DeadlineExceededException e) {
+            logger.info("MCP Tool 'seo-plan' deadline exceeded: request_id={} stage={}", requestId, e.getStage());
+            return buildErrorResponse(requestId, 504, DeadlineExceededException.CODE, e.getMessage(), startTime);
         } catch (IllegalArgumentException e) {
             logger.warn("MCP Tool 'seo-plan' validation error: request_id={} error={}", requestId, e.getMessage());
-            return buildErrorResponse(requestId, "INVALID_INPUT", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INVALID_INPUT", e.getMessage(), startTime);
         } catch (Exception e) {
             logger.error("MCP Tool 'seo-plan' failed: request_id={}", requestId, e);
-            return buildErrorResponse(requestId, "INTERNAL_ERROR", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INTERNAL_ERROR", e.getMessage(), startTime);
         }
     }
 
-    private Map<String, Object> buildErrorResponse(String requestId, String errorCode,
+    private Map<String, Object> buildErrorResponse(String requestId, int status, String errorCode,
                                                    String message, long startTime) {
         long executionTime = System.currentTimeMillis() - startTime;
         Map<String, Object> error = new LinkedHashMap<>();
         error.put("requestId", requestId);
         error.put("timestamp", Instant.now().toString());
-        error.put("status", 400);
+        error.put("status", status);
         error.put("success", false);
         error.put("error", errorCode);
         error.put("message", message);
@@ -0,0 +1,108 @@
+package com.mcp.marketing.mcp.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import com.mcp.marketing.mcp.session.SessionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MCP Tool for Session Context management
+ * <p>
+ * Lets a client set the base marketing context of a session once ({@code action=set}),
+ * inspect it ({@code get}) or drop it ({@code clear}). Generation tools then accept a
+ * {@code sessionId} and only the fields that differ from the base.
+ */
+public class SessionContextTool {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionContextTool.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final McpSessionContextStore sessionStore;
+
+    public SessionContextTool(McpSessionContextStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    public Map<String, Object> execute(Map<String, Object> input) {
+        String requestId = TimeOrderedIds.next();
+        long startTime = System.currentTimeMillis();
+
+        String action = input.get("action") != null ? input.get("action").toString() : "set";
+        Object sessionIdValue = input.get(McpSessionContextStore.SESSION_ID);
+        String sessionId = sessionIdValue != null ? sessionIdValue.toString() : null;
+
+        logger.info("MCP Tool 'session-context' called with request_id={} action={} session_id={}",
+                requestId, action, sessionId);
+
+        try {
+            Map<String, Object> data = new LinkedHashMap<>();
+            switch (action) {
+                case "set" -> {
+                    Map<String, Object> base = new LinkedHashMap<>(input);
+                    base.remove("action");
+                    SessionContext session = sessionStore.put(sessionId, base);
+                    describe(session, data);
+                }
+                case "get" -> {
+                    SessionContext session = sessionStore.get(sessionId);
+                    if (session == null) {
+                        return buildErrorResponse(requestId, "SESSION_NOT_FOUND",
+                                "Unknown or expired sessionId: " + sessionId, startTime);
+                    }
+                    describe(session, data);
+                    data.put("context", session.getBase());
+                }
+                case "clear" -> {
+                    data.put("session_id", sessionId);
+                    data.put("removed", sessionStore.remove(sessionId));
+                }
+                default -> throw new IllegalArgumentException("action must be 'set', 'get' or 'clear'");
+            }
+            data.put("active_sessions", sessionStore.size());
+            data.put("execution_time_ms", System.currentTimeMillis() - startTime);
+
+            return toMap(StandardResponse.success(requestId, data));
+
+        } catch (IllegalArgumentException e) {
+            logger.warn("MCP Tool 'session-context' validation error: request_id={} error={}", requestId, e.getMessage());
+            return buildErrorResponse(requestId, "INVALID_INPUT", e.getMessage(), startTime);
+        } catch (Exception e) {
+            logger.error("MCP Tool 'session-context' failed: request_id={}", requestId, e);
+            return buildErrorResponse(requestId, "INTERNAL_ERROR", e.getMessage(), startTime);
+        }
+    }
+
+    private void describe(SessionContext session, Map<String, Object> data) {
+        data.put("session_id", session.getSessionId());
+        data.put("base_valid", session.isBaseValid());
+        data.put("fields", session.getBase().keySet());
+        data.put("default_keywords", session.getDefaultKeywords());
+        data.put("display_url", session.getDisplayUrl());
+    }
+
+    private Map<String, Object> buildErrorResponse(String requestId, String errorCode,
+                                                   String message, long startTime) {
+        long executionTime = System.currentTimeMillis() - startTime;
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("requestId", requestId);
+        error.put("timestamp", Instant.now().toString());
+        error.put("status", 400);
+        error.put("success", false);
+        error.put("error", errorCode);
+        error.put("message", message);
+        error.put("executionTimeMs", executionTime);
+        return error;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toMap(Object obj) {
+        return objectMapper.convertValue(obj, Map.class);
+    }
+}
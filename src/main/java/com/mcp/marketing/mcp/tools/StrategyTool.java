@@ -2,12 +2,23 @@ package com.mcp.marketing.mcp.tools;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.Deadline;
 import com.mcp.marketing.domain.model.ExecutionMode;
 import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.model.StageTimings;
 import com.mcp.marketing.domain.model.StrategyResult;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+import com.mcp.marketing.mcp.progress.ToolCall;
+import com.mcp.marketing.mcp.progress.ToolCallRegistry;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.session.McpSessionContextStore;
+import com.mcp.marketing.mcp.session.SessionInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,10 +26,17 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * MCP Tool for Strategy Generation
+ * <p>
+ * Reports progress for each phase (validate, ads, seo-plan, crm-sequences, persist) and
+ * runs generation on the tool executor so a client cancellation interrupts it and skips
+ * persistence.
  */
 public class StrategyTool {
 
@@ -28,28 +46,56 @@ public class StrategyTool {
     private final OrchestratorService orchestratorService;
     private final ValidationService validationService;
     private final StoragePort storagePort;
+    private final CatalogReferenceResolver referenceResolver;
+    private final McpSessionContextStore sessionStore;
+    private final ExecutorService executor;
+    private final ToolCallRegistry callRegistry;
+    private final StageMetrics stageMetrics;
+    private final TrafficCapture trafficCapture;
 
     public StrategyTool(OrchestratorService orchestratorService,
                         ValidationService validationService,
-                        StoragePort storagePort) {
+                        StoragePort storagePort,
+                        CatalogReferenceResolver referenceResolver,
+                        McpSessionContextStore sessionStore,
+                        ExecutorService executor,
+                        ToolCallRegistry callRegistry,
+                        StageMetrics stageMetrics,
+                        TrafficCapture trafficCapture) {
         this.orchestratorService = orchestratorService;
         this.validationService = validationService;
         this.storagePort = storagePort;
+        this.referenceResolver = referenceResolver;
+        this.sessionStore = sessionStore;
+        this.executor = executor;
+        this.callRegistry = callRegistry;
+        this.stageMetrics = stageMetrics;
+        this.trafficCapture = trafficCapture;
     }
 
     public Map<String, Object> execute(Map<String, Object> input) {
-        String requestId = UUID.randomUUID().toString();
+        String requestId = TimeOrderedIds.next();
         long startTime = System.currentTimeMillis();
 
         logger.info("MCP Tool 'strategy' called with request_id={}", requestId);
 
+        ToolCall call = callRegistry.open(requestId, input, 5);
         try {
+            Deadline deadline = ToolDeadline.from(input);
+            boolean timingsRequested = ToolTimings.requested(input);
+            StageTimings timings = StageTimings.start("strategy");
+            long parseStart = System.nanoTime();
+
+            // Merge with the session base context, if any
+            SessionInput sessionInput = sessionStore.resolve(input);
+            input = sessionInput.input();
+
             // Build context
             MarketingContext context = MarketingContext.builder()
                     .requestId(requestId)
-                    .product(getRequiredString(input, "product"))
-                    .audience(getRequiredString(input, "audience"))
-                    .brandVoice(getRequiredString(input, "brandVoice"))
+                    .product(referenceResolver.resolveProduct(input))
+                    .audience(referenceResolver.resolveAudience(input))
+                    .brandVoice(referenceResolver.resolveBrandVoice(input))
                     .goals(getRequiredString(input, "goals"))
                     .language(getRequiredString(input, "language"))
                     .executionMode(ExecutionMode.DETERMINISTIC)
@@ -58,53 +104,98 @@ public class StrategyTool {
                     .channels(getOptionalList(input, "channels"))
                     .timeframe(getOptionalString(input, "timeframe"))
                     .build();
-
-            // Validate
-            List<String> errors = validationService.validateContext(context);
+            context = sessionInput.enrich(context);
+            context.setDeadline(deadline);
+            context.setTimings(timings);
+            timings.record(StageTimings.PARSE, System.nanoTime() - parseStart);
+
+            // Validate (a validated session base needs no re-check unless required fields are overridden)
+            call.phase("validate");
+            long validateStart = System.nanoTime();
+            List<String> errors = sessionInput.isPrevalidated()
+                    ? List.of()
+                    : validationService.validateContext(context);
+            timings.record(StageTimings.VALIDATE, System.nanoTime() - validateStart);
             if (!errors.isEmpty()) {
-                return buildErrorResponse(requestId, "VALIDATION_ERROR",
+                return buildErrorResponse(requestId, 400, "VALIDATION_ERROR",
                         "Validation failed: " + String.join(", ", errors), startTime);
             }
 
-            // Generate strategy
-            StrategyResult result = orchestratorService.generateStrategy(context);
+            // Generate strategy on the tool executor (already validated above); cancelling the call interrupts it
+            MarketingContext validated = context;
+            Future<StrategyResult> generation = call.track(
+                    executor.submit(() -> orchestratorService.generateStrategy(validated, call::phase, true)));
+            StrategyResult result = await(generation);
             long executionTime = System.currentTimeMillis() - startTime;
 
             // Build response
+            long envelopeStart = System.nanoTime();
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("artifact_type", "strategy");
             data.put("execution_time_ms", executionTime);
             data.put("result", result);
 
             StandardResponse<Map<String, Object>> response = StandardResponse.success(requestId, data);
+            timings.record(StageTimings.ENVELOPE, System.nanoTime() - envelopeStart);
 
-            // Persist
-            String outputPath = storagePort.saveJson("strategy", requestId, response);
+            // Persist (skipped once the call is cancelled)
+            call.phase("persist");
+            String outputPath = timings.time(StageTimings.PERSIST,
+                    () -> StoragePort.saveJsonBefore(deadline, storagePort, "strategy", requestId, response));
             if (outputPath != null) {
                 data.put("output_path", outputPath);
             }
+            if (deadline.isPartial()) {
+                data.put("partial", true);
+                data.put("skipped", deadline.getSkipped());
+            }
 
             logger.info("MCP Tool 'strategy' completed successfully: request_id={} execution_time_ms={}",
                     requestId, executionTime);
 
-            return toMap(response);
+            if (trafficCapture != null) {
+                trafficCapture.record(StageMetrics.MCP, "strategy", context, result, startTime, deadline.isPartial(), outputPath);
+            }
+
+            return ToolTimings.finish(timings, stageMetrics, timingsRequested, () -> toMap(response));
 
+        } catch (CancellationException e) {
+            logger.info("MCP Tool 'strategy' cancelled: request_id={} reason={}", requestId, call.getCancelReason());
+            return buildErrorResponse(requestId, 503, "CANCELLED",
+                    call.isCancelled() ? "Tool call cancelled: " + call.getCancelReason() : e.getMessage(), startTime);
+        } catch (DeadlineExceededException e) {
+            logger.info("MCP Tool 'strategy' deadline exceeded: request_id={} stage={}", requestId, e.getStage());
+            return buildErrorResponse(requestId, 504, DeadlineExceededException.CODE, e.getMessage(), startTime);
         } catch (IllegalArgumentException e) {
             logger.warn("MCP Tool 'strategy' validation error: request_id={} error={}", requestId, e.getMessage());
-            return buildErrorResponse(requestId, "INVALID_INPUT", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INVALID_INPUT", e.getMessage(), startTime);
         } catch (Exception e) {
             logger.error("MCP Tool 'strategy' failed: request_id={}", requestId, e);
-            return buildErrorResponse(requestId, "INTERNAL_ERROR", e.getMessage(), startTime);
+            return buildErrorResponse(requestId, 400, "INTERNAL_ERROR", e.getMessage(), startTime);
+        } finally {
+            callRegistry.close(call);
+        }
+    }
+
+    private StrategyResult await(Future<StrategyResult> generation) throws Exception {
+        try {
+            return generation.get();
+        } catch (InterruptedException e) {
+            generation.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Tool call interrupted");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
         }
     }
 
-    private Map<String, Object> buildErrorResponse(String requestId, String errorCode,
+    private Map<String, Object> buildErrorResponse(String requestId, int status, String errorCode,
                                                    String message, long startTime) {
         long executionTime = System.currentTimeMillis() - startTime;
         Map<String, Object> error = new LinkedHashMap<>();
         error.put("requestId", requestId);
         error.put("timestamp", Instant.now().toString());
-        error.put("status", 400);
+        error.put("status", status);
         error.put("success", false);
         error.put("error", errorCode);
         error.put("message", message);
@@ -0,0 +1,78 @@
+package com.mcp.marketing.mcp.tools;
+
+import com.mcp.marketing.domain.model.Deadline;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads the caller deadline of an MCP tool call from its {@code _meta}
+ * <p>
+ * {@code _meta.deadline} is an absolute time in epoch milliseconds and {@code _meta.timeoutMs}
+ * a budget relative to when the call arrived; when both are sent the earlier one applies.
+ */
+public final class ToolDeadline {
+
+    public static final String META = "_meta";
+    public static final String DEADLINE = "deadline";
+    public static final String TIMEOUT_MS = "timeoutMs";
+
+    private ToolDeadline() {
+    }
+
+    /**
+     * Deadline of the call, or {@link Deadline#none()} when it has none
+     */
+    public static Deadline from(Map<String, Object> input) {
+        Long expiresAt = expiresAt(input, System.currentTimeMillis());
+        return expiresAt != null ? Deadline.at(expiresAt) : Deadline.none();
+    }
+
+    /**
+     * Copy of {@code input} whose {@code _meta.timeoutMs} is pinned to an absolute
+     * {@code _meta.deadline}, so time spent queued counts against the budget
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> anchor(Map<String, Object> input, long receivedAtMillis) {
+        if (!(input.get(META) instanceof Map<?, ?> meta) || meta.get(TIMEOUT_MS) == null) {
+            return input;
+        }
+        Long expiresAt = expiresAt(input, receivedAtMillis);
+        if (expiresAt == null) {
+            return input;
+        }
+        Map<String, Object> anchoredMeta = new LinkedHashMap<>((Map<String, Object>) meta);
+        anchoredMeta.remove(TIMEOUT_MS);
+        anchoredMeta.put(DEADLINE, expiresAt);
+        Map<String, Object> anchored = new LinkedHashMap<>(input);
+        anchored.put(META, anchoredMeta);
+        return anchored;
+    }
+
+    private static Long expiresAt(Map<String, Object> input, long nowMillis) {
+        if (!(input.get(META) instanceof Map<?, ?> meta)) {
+            return null;
+        }
+        Long deadline = toLong(meta.get(DEADLINE));
+        Long timeout = toLong(meta.get(TIMEOUT_MS));
+        Long relative = timeout != null ? nowMillis + Math.max(0, timeout) : null;
+        if (deadline == null) {
+            return relative;
+        }
+        return relative != null ? Math.min(deadline, relative) : deadline;
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
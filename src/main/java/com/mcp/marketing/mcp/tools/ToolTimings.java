@@ -0,0 +1,52 @@
+package com.mcp.marketing.mcp.tools;
+
+import com.mcp.marketing.domain.events.SerializationEvent;
+import com.mcp.marketing.domain.model.StageTimings;
+import com.mcp.marketing.infra.metrics.StageMetrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Stage timing helpers shared by the generation tools
+ * <p>
+ * A call with {@code _meta.timings: true} gets its stage durations back under {@code data.timings},
+ * in milliseconds; every call is published to {@link StageMetrics} with entry point {@code mcp}.
+ */
+public final class ToolTimings {
+
+    public static final String TIMINGS = "timings";
+
+    private static final String MAP_FORMAT = "map";
+
+    private ToolTimings() {
+    }
+
+    /**
+     * Whether the caller asked for the timings block
+     */
+    public static boolean requested(Map<String, Object> input) {
+        return input.get(ToolDeadline.META) instanceof Map<?, ?> meta && Boolean.parseBoolean(String.valueOf(meta.get(TIMINGS)));
+    }
+
+    /**
+     * Serialize the response envelope as the {@code serialize} stage (also emitted as a
+     * {@link SerializationEvent}), publish the timings and attach them to {@code data} when requested
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> finish(StageTimings timings, StageMetrics metrics, boolean requested,
+                                             Supplier<Map<String, Object>> serializer) {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        Map<String, Object> body = timings.time(StageTimings.SERIALIZE, serializer);
+        event.format = MAP_FORMAT;
+        event.commit(body.get("requestId") != null ? body.get("requestId").toString() : null, timings.getArtifactType());
+        if (metrics != null) {
+            metrics.record(StageMetrics.MCP, timings);
+        }
+        if (requested && body.get("data") instanceof Map<?, ?> data) {
+            ((Map<String, Object>) data).put(TIMINGS, timings.toMillis());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,239 @@
+package com.mcp.marketing.mcp.transport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.mcp.progress.ToolCallRegistry;
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MCP stdio transport: newline-delimited JSON-RPC 2.0 on stdin/stdout
+ * <p>
+ * Handles {@code initialize}, {@code ping}, {@code tools/list}, {@code tools/call} and
+ * {@value ToolCallRegistry#CANCELLED}; tool calls are dispatched through
+ * {@link McpMarketingServer#callTool} on a virtual thread each, so a long strategy or bundle call
+ * does not block the next request. Server notifications (progress, list changes) are written to
+ * the same stream. {@link #run()} returns when the client closes stdin.
+ * <p>
+ * Nothing else may write to stdout while the transport runs; the {@code mcp-stdio} profile sends
+ * logs to stderr and turns the banner off.
+ */
+public class McpStdioTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(McpStdioTransport.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MESSAGE = new TypeReference<>() {
+    };
+
+    public static final String PROTOCOL_VERSION = "2025-06-18";
+    public static final int PARSE_ERROR = -32700;
+    public static final int INVALID_REQUEST = -32600;
+    public static final int METHOD_NOT_FOUND = -32601;
+    public static final int INVALID_PARAMS = -32602;
+    public static final int INTERNAL_ERROR = -32603;
+
+    private static final Map<String, String> DESCRIPTIONS = Map.of(
+            "ads", "Generate Google and Meta ad copy for a marketing context",
+            "seo-plan", "Generate an SEO plan with keywords, content calendar and technical checks",
+            "crm-sequences", "Generate CRM nurture sequences for email, SMS and other channels",
+            "strategy", "Generate a full marketing strategy combining ads, SEO and CRM",
+            "generate-bundle", "Generate several artifacts from one context in a single call",
+            "session-context", "Set, get or clear the base marketing context of a session");
+
+    private final McpMarketingServer server;
+    private final InputStream in;
+    private final Writer out;
+    private final Map<Object, String> inFlight = new ConcurrentHashMap<>();
+
+    public McpStdioTransport(McpMarketingServer server, InputStream in, OutputStream out) {
+        this.server = server;
+        this.in = in;
+        this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serve requests until stdin is closed, then wait for in-flight tool calls to answer
+     */
+    public void run() throws IOException {
+        server.addNotificationHandler(this::notification);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try (ExecutorService calls = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("mcp-stdio-call-", 1).factory())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    receive(line, calls);
+                }
+            }
+        }
+        logger.info("MCP stdio client closed the input stream");
+    }
+
+    private void receive(String line, ExecutorService calls) {
+        Map<String, Object> message;
+        try {
+            message = objectMapper.readValue(line, MESSAGE);
+        } catch (JsonProcessingException e) {
+            write(error(null, PARSE_ERROR, "Parse error: " + e.getOriginalMessage()));
+            return;
+        }
+        Object id = message.get("id");
+        if (!(message.get("method") instanceof String method)) {
+            if (id != null) {
+                write(error(id, INVALID_REQUEST, "Missing method"));
+            }
+            return;
+        }
+        Map<String, Object> params = asMap(message.get("params"));
+
+        switch (method) {
+            case "initialize" -> write(result(id, initializeResult()));
+            case "ping" -> write(result(id, Map.of()));
+            case "tools/list" -> write(result(id, Map.of("tools", tools())));
+            case "tools/call" -> calls.execute(() -> write(callTool(id, params)));
+            case ToolCallRegistry.CANCELLED -> cancel(params);
+            default -> {
+                // Notifications (no id) such as notifications/initialized need no answer
+                if (id != null) {
+                    write(error(id, METHOD_NOT_FOUND, "Method not found: " + method));
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> initializeResult() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("protocolVersion", PROTOCOL_VERSION);
+        result.put("capabilities", Map.of("tools", Map.of("listChanged", false)));
+        result.put("serverInfo", Map.of("name", String.valueOf(server.getServerName()),
+                "version", String.valueOf(server.getServerVersion())));
+        return result;
+    }
+
+    private List<Map<String, Object>> tools() {
+        return server.getToolNames().stream()
+                .map(name -> Map.<String, Object>of(
+                        "name", name,
+                        "description", DESCRIPTIONS.getOrDefault(name, name),
+                        "inputSchema", Map.of("type", "object")))
+                .toList();
+    }
+
+    private Map<String, Object> callTool(Object id, Map<String, Object> params) {
+        if (!(params.get("name") instanceof String name)) {
+            return error(id, INVALID_PARAMS, "tools/call requires a tool name");
+        }
+        Map<String, Object> input = new LinkedHashMap<>(asMap(params.get("arguments")));
+        Map<String, Object> meta = asMap(params.get("_meta"));
+        if (!meta.isEmpty() || id != null) {
+            Map<String, Object> merged = new LinkedHashMap<>(asMap(input.get("_meta")));
+            merged.putAll(meta);
+            if (id != null) {
+                // Lets the registry find the call by the id a cancellation refers to
+                merged.put(ToolCallRegistry.JSON_RPC_ID, id);
+            }
+            input.put("_meta", merged);
+        }
+        if (id != null) {
+            inFlight.put(id, ToolCallRegistry.clientId(input));
+        }
+        try {
+            Map<String, Object> envelope = server.callTool(name, input);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("content", List.of(Map.of("type", "text", "text", json(envelope))));
+            result.put("structuredContent", envelope);
+            result.put("isError", !Boolean.TRUE.equals(envelope.get("success")));
+            return result(id, result);
+        } catch (RuntimeException e) {
+            logger.error("MCP stdio tool call failed: tool={}", name, e);
+            return error(id, INTERNAL_ERROR, "Tool call failed: " + e.getMessage());
+        } finally {
+            if (id != null) {
+                inFlight.remove(id);
+            }
+        }
+    }
+
+    /**
+     * A client cancels by JSON-RPC request id, which each call carries as
+     * {@code _meta.}{@value ToolCallRegistry#JSON_RPC_ID}, with or without a progress token
+     */
+    private void cancel(Map<String, Object> params) {
+        Object requestId = params.get("requestId");
+        String clientId = requestId != null ? inFlight.get(requestId) : null;
+        if (clientId == null) {
+            return;
+        }
+        String reason = params.get("reason") != null ? params.get("reason").toString() : "Cancelled by client";
+        boolean cancelled = server.cancelJsonRpcRequest(clientId, requestId, reason);
+        logger.info("MCP stdio cancel: request_id={} cancelled={}", requestId, cancelled);
+    }
+
+    private void notification(String method, Map<String, Object> params) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("jsonrpc", "2.0");
+        message.put("method", method);
+        message.put("params", params);
+        write(message);
+    }
+
+    private static Map<String, Object> result(Object id, Object result) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jsonrpc", "2.0");
+        response.put("id", id);
+        response.put("result", result);
+        return response;
+    }
+
+    private static Map<String, Object> error(Object id, int code, String message) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jsonrpc", "2.0");
+        response.put("id", id);
+        response.put("error", Map.of("code", code, "message", message));
+        return response;
+    }
+
+    private void write(Map<String, Object> message) {
+        String line = json(message);
+        synchronized (out) {
+            try {
+                out.write(line);
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("MCP stdio output closed", e);
+            }
+        }
+    }
+
+    private static String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("MCP message cannot be serialized", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+}
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mcp.marketing.api.exception.GlobalExceptionHandler;
 import com.mcp.marketing.api.controller.MarketingController;
 import com.mcp.marketing.api.util.RequestIdResolver;
+import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.config.IdempotencyConfiguration;
 import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.MarketingContext;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -19,11 +23,15 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests for health endpoint
  */
 @WebMvcTest(MarketingController.class)
-@Import({RequestIdResolver.class, GlobalExceptionHandler.class})
+@Import({RequestIdResolver.class, GlobalExceptionHandler.class, AppConfiguration.class, IdempotencyConfiguration.class})
 @TestPropertySource(properties = {
         "spring.application.name=test-suite",
         "app.version=0.0-test"
@@ -95,4 +103,151 @@ class HealthControllerTests {
         verify(storagePort).saveJson(eq("ads"), eq("test-request-id"), captor.capture());
         assertThat(captor.getValue()).isNotNull();
     }
+
+    @Test
+    void adsEndpointReplaysRepeatedIdempotencyKey() throws Exception {
+        when(orchestratorService.generateAds(any())).thenReturn(AdsResult.builder().qaScore(90).build());
+        String payload = objectMapper.writeValueAsString(java.util.Map.of(
+                "product", "SaaS",
+                "audience", "B2B",
+                "brandVoice", "Professional",
+                "goals", "Leads",
+                "language", "en-US"
+        ));
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Request-Id", "first-attempt")
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Request-Id", "second-attempt")
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.requestId").value("first-attempt"))
+                .andExpect(jsonPath("$.data.result.qaScore").value(90));
+
+        verify(orchestratorService, times(1)).generateAds(any());
+    }
+
+    @Test
+    void adsEndpointRejectsIdempotencyKeyReusedWithOtherPayload() throws Exception {
+        when(orchestratorService.generateAds(any())).thenReturn(AdsResult.builder().qaScore(90).build());
+        java.util.Map<String, String> payload = new java.util.HashMap<>(java.util.Map.of(
+                "product", "SaaS",
+                "audience", "B2B",
+                "brandVoice", "Professional",
+                "goals", "Leads",
+                "language", "en-US"
+        ));
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("Idempotency-Key", "retry-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isOk());
+        payload.put("goals", "Awareness");
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("Idempotency-Key", "retry-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payload)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    void adsEndpointScopesIdempotencyKeyByApiKey() throws Exception {
+        when(orchestratorService.generateAds(any())).thenReturn(AdsResult.builder().qaScore(90).build());
+        String payload = objectMapper.writeValueAsString(java.util.Map.of(
+                "product", "SaaS",
+                "audience", "B2B",
+                "brandVoice", "Professional",
+                "goals", "Leads",
+                "language", "en-US"
+        ));
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Api-Key", "tenant-a")
+                        .header("Idempotency-Key", "retry-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Api-Key", "tenant-b")
+                        .header("Idempotency-Key", "retry-3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(payload))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        verify(orchestratorService, times(2)).generateAds(any());
+    }
+
+    @Test
+    void adsEndpointSkipsPersistenceOnceDeadlinePassed() throws Exception {
+        when(orchestratorService.generateAds(any())).thenReturn(AdsResult.builder().qaScore(90).build());
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Request-Timeout", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(adsPayload()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.partial").value(true))
+                .andExpect(jsonPath("$.data.skipped[0]").value("persist"))
+                .andExpect(jsonPath("$.data.output_path").doesNotExist())
+                .andExpect(jsonPath("$.data.result.qaScore").value(90));
+
+        verify(storagePort, never()).saveJson(anyString(), anyString(), any());
+    }
+
+    @Test
+    void adsEndpointReturnsGatewayTimeoutWhenDeadlineExceeded() throws Exception {
+        when(orchestratorService.generateAds(any())).thenThrow(new DeadlineExceededException("ads"));
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .header("X-Request-Deadline", "2020-01-01T00:00:00Z")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(adsPayload()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error").value("DEADLINE_EXCEEDED"));
+    }
+
+    @Test
+    void adsEndpointReturnsStageTimingsWhenRequested() throws Exception {
+        when(orchestratorService.generateAds(any())).thenReturn(AdsResult.builder().qaScore(90).build());
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .param("timings", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(adsPayload()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.timings.parse").isNumber())
+                .andExpect(jsonPath("$.data.timings.envelope").isNumber())
+                .andExpect(jsonPath("$.data.timings.persist").isNumber());
+
+        mockMvc.perform(post("/api/marketing/ads")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(adsPayload()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.timings").doesNotExist());
+
+        ArgumentCaptor<MarketingContext> context = ArgumentCaptor.forClass(MarketingContext.class);
+        verify(orchestratorService, times(2)).generateAds(context.capture());
+        assertThat(context.getValue().getTimings().isEnabled()).isTrue();
+    }
+
+    private String adsPayload() throws Exception {
+        return objectMapper.writeValueAsString(java.util.Map.of(
+                "product", "SaaS",
+                "audience", "B2B",
+                "brandVoice", "Professional",
+                "goals", "Leads",
+                "language", "en-US"
+        ));
+    }
 }
@@ -0,0 +1,121 @@
+package com.mcp.marketing.api;
+
+import com.mcp.marketing.api.dto.AdsRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * Integration test for the reactive (WebFlux) variant of the REST API
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "app.outputs.directory=target/reactive-outputs",
+        "mcp.sdk.resources.watch=false"
+})
+@AutoConfigureWebTestClient
+class ReactiveApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testAdsEndpoint_CarriesRequestIdAndPersistsArtifact() {
+        webTestClient.post().uri("/api/marketing/ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Request-Id", "reactive-test-001")
+                .bodyValue(createAdsRequest())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Request-Id", "reactive-test-001")
+                .expectBody()
+                .jsonPath("$.requestId").isEqualTo("reactive-test-001")
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.artifact_type").isEqualTo("ads")
+                .jsonPath("$.data.execution_time_ms").isNumber()
+                .jsonPath("$.data.output_path").value(containsString("ads_reactive-test-001"))
+                .jsonPath("$.data.result.googleAds").exists();
+    }
+
+    @Test
+    void testAdsEndpoint_InvalidPayload_ReturnsValidationEnvelope() {
+        AdsRequest request = createAdsRequest();
+        request.setProduct(null);
+
+        webTestClient.post().uri("/api/marketing/ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Request-Id", "reactive-test-002")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.requestId").isEqualTo("reactive-test-002")
+                .jsonPath("$.error").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.path").isEqualTo("/api/marketing/ads")
+                .jsonPath("$.fieldErrors[0].field").isEqualTo("product");
+    }
+
+    @Test
+    void testAdsEndpoint_PassedDeadline_ReturnsGatewayTimeout() {
+        webTestClient.post().uri("/api/marketing/ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Request-Id", "reactive-test-003")
+                .header("X-Request-Timeout", "0")
+                .bodyValue(createAdsRequest())
+                .exchange()
+                .expectStatus().isEqualTo(504)
+                .expectBody()
+                .jsonPath("$.requestId").isEqualTo("reactive-test-003")
+                .jsonPath("$.error").isEqualTo("DEADLINE_EXCEEDED");
+    }
+
+    @Test
+    void testAdsEndpoint_RepeatedIdempotencyKey_ReplaysFirstResponse() {
+        webTestClient.post().uri("/api/marketing/ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Request-Id", "reactive-test-004")
+                .header("Idempotency-Key", "reactive-retry-1")
+                .bodyValue(createAdsRequest())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("Idempotent-Replayed");
+
+        webTestClient.post().uri("/api/marketing/ads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Request-Id", "reactive-test-005")
+                .header("Idempotency-Key", "reactive-retry-1")
+                .bodyValue(createAdsRequest())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody()
+                .jsonPath("$.requestId").isEqualTo("reactive-test-004")
+                .jsonPath("$.data.output_path").value(containsString("ads_reactive-test-004"));
+    }
+
+    @Test
+    void testHealthEndpoint_ReturnsRequestId() {
+        webTestClient.get().uri("/health")
+                .header("X-Request-Id", "reactive-health")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("UP")
+                .jsonPath("$.request_id").isEqualTo("reactive-health");
+    }
+
+    private AdsRequest createAdsRequest() {
+        AdsRequest request = new AdsRequest();
+        request.setProduct("SaaS Platform");
+        request.setAudience("B2B Tech Companies");
+        request.setBrandVoice("Professional");
+        request.setGoals("Lead Generation");
+        request.setLanguage("pt-BR");
+        return request;
+    }
+}
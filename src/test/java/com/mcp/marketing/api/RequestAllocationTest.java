@@ -0,0 +1,161 @@
+package com.mcp.marketing.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.benchmark.AllocationBudgets;
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Allocation-budget regression tests for every REST endpoint and MCP tool
+ * <p>
+ * Each request runs end to end (binding, validation, generation, persistence and response
+ * serialization) in a warmed-up context. Budgets live in {@code allocation-budgets.properties}
+ * under {@code rest.*} and {@code mcp.*}.
+ */
+@SpringBootTest(properties = {
+        "mcp.sdk.resources.watch=false",
+        "logging.level.com.mcp.marketing=WARN"
+})
+@AutoConfigureMockMvc
+class RequestAllocationTest {
+
+    @TempDir
+    static Path outputs;
+
+    @DynamicPropertySource
+    static void outputsDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.outputs.directory", () -> outputs.toAbsolutePath().toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private McpMarketingServer mcpServer;
+
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+
+    @Test
+    void testAdsEndpoint_AllocationWithinBudget() throws Exception {
+        assertRestWithinBudget("ads", adsInput());
+    }
+
+    @Test
+    void testSeoPlanEndpoint_AllocationWithinBudget() throws Exception {
+        assertRestWithinBudget("seo-plan", seoPlanInput());
+    }
+
+    @Test
+    void testCrmSequencesEndpoint_AllocationWithinBudget() throws Exception {
+        assertRestWithinBudget("crm-sequences", crmSequencesInput());
+    }
+
+    @Test
+    void testStrategyEndpoint_AllocationWithinBudget() throws Exception {
+        assertRestWithinBudget("strategy", strategyInput());
+    }
+
+    @Test
+    void testAdsTool_AllocationWithinBudget() {
+        assertMcpWithinBudget("ads", adsInput());
+    }
+
+    @Test
+    void testSeoPlanTool_AllocationWithinBudget() {
+        assertMcpWithinBudget("seo-plan", seoPlanInput());
+    }
+
+    @Test
+    void testCrmSequencesTool_AllocationWithinBudget() {
+        assertMcpWithinBudget("crm-sequences", crmSequencesInput());
+    }
+
+    @Test
+    void testStrategyTool_AllocationWithinBudget() {
+        assertMcpWithinBudget("strategy", strategyInput());
+    }
+
+    @Test
+    void testGenerateBundleTool_AllocationWithinBudget() {
+        Map<String, Object> input = adsInput();
+        input.putAll(seoPlanInput());
+        input.putAll(crmSequencesInput());
+        assertMcpWithinBudget("generate-bundle", input);
+    }
+
+    private void assertRestWithinBudget(String endpoint, Map<String, Object> input) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(input);
+        budgets.assertWithinBudget("rest." + endpoint, () -> mockMvc.perform(post("/api/marketing/" + endpoint)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk()));
+    }
+
+    private void assertMcpWithinBudget(String tool, Map<String, Object> input) {
+        budgets.assertWithinBudget("mcp." + tool, () -> {
+            Map<String, Object> result = mcpServer.callTool(tool, new LinkedHashMap<>(input));
+            assertEquals(Boolean.TRUE, result.get("success"), () -> tool + " failed: " + result);
+        });
+    }
+
+    private static Map<String, Object> baseInput() {
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("product", "Cloud CRM Platform");
+        input.put("audience", "Small Business Owners");
+        input.put("brandVoice", "Professional and Approachable");
+        input.put("goals", "Generate 100 qualified leads per month");
+        input.put("language", "en-US");
+        return input;
+    }
+
+    private static Map<String, Object> adsInput() {
+        Map<String, Object> input = baseInput();
+        input.put("platforms", List.of("google", "meta", "linkedin"));
+        input.put("budget", "5000");
+        input.put("duration", "Q1");
+        return input;
+    }
+
+    private static Map<String, Object> seoPlanInput() {
+        Map<String, Object> input = baseInput();
+        input.put("keywords", List.of("crm software", "sales pipeline", "customer management"));
+        input.put("domain", "cloudcrm.example.com");
+        return input;
+    }
+
+    private static Map<String, Object> crmSequencesInput() {
+        Map<String, Object> input = baseInput();
+        input.put("sequenceLength", 5);
+        input.put("conversionGoal", "Book a demo");
+        return input;
+    }
+
+    private static Map<String, Object> strategyInput() {
+        Map<String, Object> input = baseInput();
+        input.put("marketSegment", "Small and medium businesses");
+        input.put("competitorAnalysis", "Main competitors: HubSpot, Pipedrive");
+        input.put("channels", List.of("content-marketing", "paid-ads", "email"));
+        input.put("timeframe", "Q1 2026");
+        return input;
+    }
+}
@@ -1,6 +1,8 @@
 package com.mcp.marketing.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.mcp.marketing.api.dto.AdsRequest;
 import com.mcp.marketing.api.dto.CrmSequencesRequest;
 import com.mcp.marketing.api.dto.SeoPlanRequest;
@@ -21,8 +23,12 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -137,6 +143,36 @@ class RestApiIntegrationTest {
                 .andExpect(jsonPath("$.data.result.qaScore").isNumber());
     }
 
+    @Test
+    void testStrategyEndpointNegotiatesSmile() throws Exception {
+        StrategyRequest request = createStrategyRequest();
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] body = mockMvc.perform(post("/api/marketing/strategy")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(smile)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode envelope = objectMapper.copyWith(new SmileFactory()).readTree(body);
+        assertEquals("strategy", envelope.path("data").path("artifact_type").asText());
+    }
+
+    @Test
+    void testPrettyParameterControlsIndentation() throws Exception {
+        String pretty = mockMvc.perform(get("/health").param("pretty", "true"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String compact = mockMvc.perform(get("/health").param("pretty", "false"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(pretty.contains("\n"));
+        assertFalse(compact.contains("\n"));
+    }
+
     @Test
     void testHealthEndpointReturnsMetadata() throws Exception {
         mockMvc.perform(get("/health").header("X-Request-Id", "health-check"))
@@ -0,0 +1,72 @@
+package com.mcp.marketing.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-format metering and the pretty override of the Jackson converters
+ */
+class MeteredJacksonHttpMessageConverterTest {
+
+    private static final Map<String, Object> PAYLOAD = Map.of("requestId", "req-1", "status", 200);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final WireFormatMetrics metrics = new WireFormatMetrics(registry);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testWrite_RecordsBytesAndEncodeTimePerFormat() throws Exception {
+        MeteredJacksonHttpMessageConverter json = converter("json", new ObjectMapper(), MediaType.APPLICATION_JSON);
+        MeteredJacksonHttpMessageConverter cbor = converter("cbor", new ObjectMapper(new CBORFactory()),
+                MediaType.APPLICATION_CBOR);
+        MockHttpOutputMessage jsonMessage = new MockHttpOutputMessage();
+        MockHttpOutputMessage cborMessage = new MockHttpOutputMessage();
+
+        json.write(PAYLOAD, MediaType.APPLICATION_JSON, jsonMessage);
+        cbor.write(PAYLOAD, MediaType.APPLICATION_CBOR, cborMessage);
+
+        assertEquals(jsonMessage.getBodyAsBytes().length,
+                registry.get(WireFormatMetrics.BYTES).tag("format", "json").summary().totalAmount());
+        assertEquals(cborMessage.getBodyAsBytes().length,
+                registry.get(WireFormatMetrics.BYTES).tag("format", "cbor").summary().totalAmount());
+        assertTrue(cborMessage.getBodyAsBytes().length < jsonMessage.getBodyAsBytes().length);
+        assertEquals(1, registry.get(WireFormatMetrics.ENCODE).tag("format", "cbor").timer().count());
+    }
+
+    @Test
+    void testWrite_PrettyParameterOverridesIndentation() throws Exception {
+        MeteredJacksonHttpMessageConverter json = converter("json", new ObjectMapper(), MediaType.APPLICATION_JSON);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpOutputMessage compact = new MockHttpOutputMessage();
+        json.write(PAYLOAD, MediaType.APPLICATION_JSON, compact);
+        request.setParameter(MeteredJacksonHttpMessageConverter.PRETTY_PARAMETER, "true");
+        MockHttpOutputMessage pretty = new MockHttpOutputMessage();
+        json.write(PAYLOAD, MediaType.APPLICATION_JSON, pretty);
+
+        assertFalse(compact.getBodyAsString().contains("\n"));
+        assertTrue(pretty.getBodyAsString().contains("\n"));
+    }
+
+    private MeteredJacksonHttpMessageConverter converter(String format, ObjectMapper mapper, MediaType mediaType) {
+        return new MeteredJacksonHttpMessageConverter(format, mapper, metrics, List.of(mediaType));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mcp.marketing.api.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.context.RequestContextAttributes;
+import com.mcp.marketing.config.AppConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for admission control on the generation endpoints
+ */
+class AdmissionControlFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testDoFilter_WithinLimits_PassesThrough() throws Exception {
+        AdmissionControlFilter filter = filter(admission(4, 0));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/marketing/ads", "client-1"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(4.0, meterRegistry.get(AdmissionControlFilter.LIMIT).gauge().value());
+        assertEquals(0.0, meterRegistry.get(AdmissionControlFilter.IN_FLIGHT).gauge().value());
+    }
+
+    @Test
+    void testDoFilter_QuotaExhausted_Returns429WithRetryAfter() throws Exception {
+        AdmissionControlFilter filter = filter(admission(4, 1));
+        filter.doFilter(request("/api/marketing/ads", "client-1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/api/marketing/ads", "client-1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertEquals(AdmissionControlFilter.QUOTA_EXCEEDED, body.path("error").asText());
+        assertEquals("req-1", body.path("requestId").asText());
+        assertEquals(1.0, meterRegistry.get(AdmissionControlFilter.REJECTED).tag("reason", "quota").counter().count());
+
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(request("/api/marketing/ads", "client-2"), other, new MockFilterChain());
+        assertEquals(200, other.getStatus());
+    }
+
+    @Test
+    void testDoFilter_ConcurrencyLimitReached_Returns503WithRetryAfter() throws Exception {
+        AdmissionControlFilter filter = filter(admission(1, 0));
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain slowChain = (req, res) -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request("/api/marketing/strategy", "client-2"), response, new MockFilterChain());
+            nested.set(response);
+        };
+
+        filter.doFilter(request("/api/marketing/ads", "client-1"), new MockHttpServletResponse(), slowChain);
+
+        assertEquals(503, nested.get().getStatus());
+        assertNotNull(nested.get().getHeader("Retry-After"));
+        assertEquals(AdmissionControlFilter.OVERLOADED,
+                objectMapper.readTree(nested.get().getContentAsString()).path("error").asText());
+        assertEquals(1.0, meterRegistry.get(AdmissionControlFilter.REJECTED).tag("reason", "overload").counter().count());
+    }
+
+    @Test
+    void testDoFilter_OtherPaths_AreNotGuarded() throws Exception {
+        AdmissionControlFilter filter = filter(admission(1, 0));
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain slowChain = (req, res) -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("/health", "client-2"), response, chain);
+            assertNotNull(chain.getRequest());
+            nested.set(response);
+        };
+
+        filter.doFilter(request("/api/marketing/ads", "client-1"), new MockHttpServletResponse(), slowChain);
+
+        assertEquals(200, nested.get().getStatus());
+    }
+
+    private AdmissionControlFilter filter(AppConfiguration.Admission admission) {
+        AppConfiguration appConfig = new AppConfiguration();
+        appConfig.setAdmission(admission);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+        return new AdmissionControlFilter(appConfig, objectMapper, beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static AppConfiguration.Admission admission(int limit, double requestsPerSecond) {
+        AppConfiguration.Admission admission = new AppConfiguration.Admission();
+        admission.setInitialLimit(limit);
+        admission.setMinLimit(limit);
+        admission.setMaxLimit(limit);
+        admission.setRequestsPerSecond(requestsPerSecond);
+        admission.setBurst(1);
+        return admission;
+    }
+
+    private static MockHttpServletRequest request(String path, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader("X-Api-Key", apiKey);
+        request.setAttribute(RequestContextAttributes.REQUEST_ID, "req-1");
+        request.setAttribute(RequestContextAttributes.START_TIME, System.currentTimeMillis());
+        return request;
+    }
+}
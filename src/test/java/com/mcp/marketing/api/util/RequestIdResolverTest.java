@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -134,4 +136,13 @@ class RequestIdResolverTest {
         // Then
         assertFalse(isValid, "Empty string should return false");
     }
+
+    @Test
+    void testGenerate_ReturnsTimeOrderedUuid() {
+        // When
+        String requestId = resolver.generate();
+
+        // Then
+        assertEquals(7, UUID.fromString(requestId).version(), "Generated ID should be a version 7 UUID");
+    }
 }
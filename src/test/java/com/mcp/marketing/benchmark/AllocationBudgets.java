@@ -0,0 +1,143 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.infra.metrics.RequestCost;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checked-in allocation budgets ({@code allocation-budgets.properties}) and the measurement
+ * behind them
+ * <p>
+ * An operation is run {@code allocation.warmup} times (default 200) so the JIT has compiled it,
+ * then {@code allocation.samples} times (default 31), each inside a {@link RequestCost}. The median
+ * is compared with the budget. With {@code -Dallocation.record=true} nothing is asserted;
+ * the median plus 25% is written to {@code target/allocation-budgets.properties} instead, in the
+ * layout of the checked-in file and stamped with the JVM that measured it, so the recorded file
+ * replaces the checked-in one as-is.
+ */
+public final class AllocationBudgets {
+
+    public static final String RESOURCE = "/allocation-budgets.properties";
+
+    private static final int WARMUP = Integer.getInteger("allocation.warmup", 200);
+    private static final int SAMPLES = Integer.getInteger("allocation.samples", 31);
+    private static final boolean RECORD = Boolean.getBoolean("allocation.record");
+    private static final Path RECORDED = Paths.get("target", "allocation-budgets.properties");
+    private static final double RECORD_HEADROOM = 1.25;
+    private static final String MEASURED_ON = "# Measured on:";
+
+    private final Properties budgets = new Properties();
+
+    private AllocationBudgets() {
+        try (InputStream in = AllocationBudgets.class.getResourceAsStream(RESOURCE)) {
+            assertNotNull(in, RESOURCE + " is missing from the test classpath");
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static AllocationBudgets load() {
+        return new AllocationBudgets();
+    }
+
+    /**
+     * Work measured per request
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * Fail when the median bytes allocated by {@code operation} exceed the budget for {@code key}
+     */
+    public void assertWithinBudget(String key, Operation operation) {
+        String budget = budgets.getProperty(key);
+        assertTrue(RECORD || budget != null, "No allocation budget for " + key + " in " + RESOURCE);
+
+        for (int i = 0; i < WARMUP; i++) {
+            run(operation);
+        }
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            RequestCost cost = new RequestCost();
+            cost.measure(() -> run(operation));
+            cost.settle(1_000);
+            assumeTrue(cost.isAllocationMeasured(), "Thread allocation counters are not available on this JVM");
+            samples[i] = cost.getAllocatedBytes();
+        }
+        Arrays.sort(samples);
+        long median = samples[SAMPLES / 2];
+
+        System.out.printf("allocation %s: median=%d bytes min=%d max=%d budget=%s%n",
+                key, median, samples[0], samples[SAMPLES - 1], budget);
+        if (RECORD) {
+            record(key, (long) Math.ceil(median * RECORD_HEADROOM));
+            return;
+        }
+        long limit = Long.parseLong(budget.trim());
+        assertTrue(median <= limit, String.format(
+                "%s allocates %d bytes per request (median of %d), over its budget of %d bytes. "
+                        + "If the increase is intended, re-baseline %s (see the file header).",
+                key, median, SAMPLES, limit, RESOURCE));
+    }
+
+    private static void run(Operation operation) {
+        try {
+            operation.run();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static synchronized void record(String key, long bytes) {
+        try {
+            Files.createDirectories(RECORDED.getParent());
+            List<String> lines = Files.exists(RECORDED) ? Files.readAllLines(RECORDED) : checkedInLines();
+            boolean replaced = false;
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.startsWith(MEASURED_ON)) {
+                    lines.set(i, MEASURED_ON + " " + System.getProperty("java.vm.name") + " "
+                            + System.getProperty("java.vm.version") + ", " + System.getProperty("os.arch")
+                            + ", median of " + SAMPLES + " after " + WARMUP + " warm-up runs, + 25%");
+                } else if (line.startsWith(key + "=")) {
+                    lines.set(i, key + "=" + bytes);
+                    replaced = true;
+                }
+            }
+            if (!replaced) {
+                lines.add(key + "=" + bytes);
+            }
+            Files.write(RECORDED, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> checkedInLines() throws IOException {
+        try (InputStream in = AllocationBudgets.class.getResourceAsStream(RESOURCE);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return new ArrayList<>(reader.lines().toList());
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package com.mcp.marketing.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.Application;
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for the REST generation endpoints and the MCP tools
+ * <p>
+ * Drives a weighted mix of operations, {@code rest:<endpoint>} ({@code POST /api/marketing/<endpoint>})
+ * and {@code mcp:<tool>} ({@link McpMarketingServer#callTool}), with payloads read from a corpus
+ * directory: every {@code <name>-request*.json} file is a payload for {@code <name>}, used round
+ * robin ({@code generate-bundle} falls back to the strategy payloads). Arrival is either closed
+ * loop ({@code concurrency} clients each sending the next request when the previous one returns)
+ * or open loop ({@code rate} requests per second on a fixed schedule; latency is measured from the
+ * scheduled start, so a stalled server is not hidden by coordinated omission).
+ * <p>
+ * By default the application is started in-process on a random port with outputs in a temporary
+ * directory; {@code target=http://host:port} drives a running server instead (REST operations
+ * only). Options are {@code --name=value} arguments or {@code -Dload.<name>=value} properties:
+ * <pre>
+ * target       in-process | base URL                        (in-process)
+ * mix          op=weight,...                                (rest:ads=30,rest:seo-plan=15,...)
+ * arrival      closed | open                                (closed)
+ * concurrency  closed-loop clients                          (32)
+ * rate         open-loop requests per second                (200)
+ * max-in-flight open-loop cap; excess requests count as dropped (10000)
+ * warmup       discarded warm-up period                     (10s)
+ * duration     measured period                              (30s)
+ * corpus       payload directory                            (examples/payloads)
+ * report       markdown report file                         (target/benchmarks/load.md)
+ * hgrm         also write one .hgrm percentile file per op  (false)
+ * </pre>
+ * Any {@code --app.*}, {@code --server.*}, {@code --spring.*} or {@code --management.*} argument is
+ * passed to the in-process application. Latencies are HdrHistogram percentiles in milliseconds.
+ */
+public final class LoadHarness {
+
+    public static final String IN_PROCESS = "in-process";
+    static final String DEFAULT_MIX = "rest:ads=30,rest:seo-plan=15,rest:crm-sequences=15,rest:strategy=10,"
+            + "mcp:ads=15,mcp:strategy=10,mcp:generate-bundle=5";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final String DROPPED = "dropped";
+
+    private final Options options;
+    private final List<Operation> operations = new ArrayList<>();
+    private int[] cumulativeWeights;
+    private HttpClient http;
+    private McpMarketingServer mcpServer;
+    private String baseUrl;
+
+    public LoadHarness(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Report report = new LoadHarness(Options.parse(args)).run();
+        System.out.println(report.markdown());
+    }
+
+    /**
+     * Run warm-up and measurement and write the report
+     */
+    public Report run() throws Exception {
+        Path outputs = Files.createTempDirectory("load-harness-outputs-");
+        ConfigurableApplicationContext app = null;
+        try {
+            if (IN_PROCESS.equals(options.target())) {
+                app = start(outputs);
+                baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+                mcpServer = app.getBean(McpMarketingServer.class);
+            } else {
+                baseUrl = options.target().replaceAll("/+$", "");
+            }
+            loadOperations();
+            http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            drive(options.warmup());
+            operations.forEach(Operation::reset);
+            long started = System.nanoTime();
+            drive(options.duration());
+            long elapsed = System.nanoTime() - started;
+
+            Report report = new Report(options, operations, elapsed);
+            report.write();
+            return report;
+        } finally {
+            if (http != null) {
+                http.close();
+            }
+            if (app != null) {
+                app.close();
+            }
+            deleteRecursively(outputs);
+        }
+    }
+
+    private ConfigurableApplicationContext start(Path outputs) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "app.outputs.directory=" + outputs.toAbsolutePath(),
+                "mcp.sdk.resources.watch=false",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "logging.level.com.mcp.marketing=WARN"));
+        options.appProperties().forEach((name, value) -> properties.add(name + "=" + value));
+        return new SpringApplicationBuilder(Application.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    private void loadOperations() throws IOException {
+        int total = 0;
+        cumulativeWeights = new int[options.mix().size()];
+        for (Map.Entry<String, Integer> entry : options.mix().entrySet()) {
+            String[] parts = entry.getKey().split(":", 2);
+            if (parts.length != 2 || !(parts[0].equals("rest") || parts[0].equals("mcp"))) {
+                throw new IllegalArgumentException("Operation must be rest:<endpoint> or mcp:<tool>: " + entry.getKey());
+            }
+            if (parts[0].equals("mcp") && mcpServer == null) {
+                throw new IllegalArgumentException("MCP operations need target=" + IN_PROCESS + ": " + entry.getKey());
+            }
+            List<String> payloads = payloads(parts[1]);
+            Operation operation = new Operation(entry.getKey(), parts[0].equals("mcp"), parts[1], payloads,
+                    payloads.stream().map(LoadHarness::parse).toList());
+            operations.add(operation);
+            total += entry.getValue();
+            cumulativeWeights[operations.size() - 1] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Mix needs at least one operation with a positive weight");
+        }
+    }
+
+    private List<String> payloads(String name) throws IOException {
+        List<String> payloads = corpus(name);
+        if (payloads.isEmpty() && name.equals("generate-bundle")) {
+            payloads = corpus("strategy");
+        }
+        if (payloads.isEmpty()) {
+            throw new IllegalArgumentException("No " + name + "-request*.json payloads in " + options.corpus());
+        }
+        return payloads;
+    }
+
+    private List<String> corpus(String name) throws IOException {
+        List<String> payloads = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(options.corpus(), name + "-request*.json")) {
+            for (Path file : files) {
+                payloads.add(Files.readString(file));
+            }
+        }
+        return payloads;
+    }
+
+    private static Map<String, Object> parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, MAP);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Payload is not a JSON object", e);
+        }
+    }
+
+    private void drive(Duration length) throws InterruptedException {
+        if (length.isZero() || length.isNegative()) {
+            return;
+        }
+        long end = System.nanoTime() + length.toNanos();
+        if (options.arrival() == Arrival.OPEN) {
+            openLoop(end);
+        } else {
+            closedLoop(end);
+        }
+    }
+
+    private void closedLoop(long end) {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        long start = System.nanoTime();
+                        Operation operation = pick();
+                        operation.record(start, execute(operation));
+                    }
+                });
+            }
+        }
+    }
+
+    private void openLoop(long end) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        AtomicInteger inFlight = new AtomicInteger();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            long next = System.nanoTime();
+            while (next < end) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intended = next;
+                next += interval;
+                Operation operation = pick();
+                if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    operation.fail(DROPPED);
+                    continue;
+                }
+                requests.submit(() -> {
+                    try {
+                        operation.record(intended, execute(operation));
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, ticket + 1);
+        return operations.get(index >= 0 ? index : -index - 1);
+    }
+
+    /**
+     * @return {@code null} on success, else a short error code
+     */
+    private String execute(Operation operation) {
+        int index = operation.nextPayload();
+        if (operation.mcp()) {
+            Map<String, Object> result = mcpServer.callTool(operation.name(), new LinkedHashMap<>(operation.inputs().get(index)));
+            return Boolean.TRUE.equals(result.get("success")) ? null : "mcp_" + result.get("error");
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/marketing/" + operation.name()))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(operation.payloads().get(index)))
+                .build();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() / 100 == 2 ? null : "http_" + response.statusCode();
+        } catch (IOException e) {
+            return e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    public enum Arrival {
+        CLOSED, OPEN
+    }
+
+    /**
+     * Harness configuration; see the class documentation for names and defaults
+     */
+    public record Options(String target, Map<String, Integer> mix, Arrival arrival, int concurrency, double rate,
+                          int maxInFlight, Duration warmup, Duration duration, Path corpus, Path report,
+                          boolean hgrm, Map<String, String> appProperties) {
+
+        private static final List<String> APP_PREFIXES = List.of("app.", "server.", "spring.", "management.");
+
+        public static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            Map<String, String> appProperties = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (APP_PREFIXES.stream().anyMatch(name::startsWith)) {
+                    appProperties.put(name, value);
+                } else {
+                    values.put(name, value);
+                }
+            }
+            return new Options(
+                    value(values, "target", IN_PROCESS),
+                    mix(value(values, "mix", DEFAULT_MIX)),
+                    Arrival.valueOf(value(values, "arrival", "closed").toUpperCase(Locale.ROOT)),
+                    Integer.parseInt(value(values, "concurrency", "32")),
+                    Double.parseDouble(value(values, "rate", "200")),
+                    Integer.parseInt(value(values, "max-in-flight", "10000")),
+                    duration(value(values, "warmup", "10s")),
+                    duration(value(values, "duration", "30s")),
+                    Paths.get(value(values, "corpus", "examples/payloads")),
+                    Paths.get(value(values, "report", "target/benchmarks/load.md")),
+                    Boolean.parseBoolean(value(values, "hgrm", "false")),
+                    appProperties);
+        }
+
+        private static String value(Map<String, String> values, String name, String defaultValue) {
+            return values.getOrDefault(name, System.getProperty("load." + name, defaultValue));
+        }
+
+        private static Map<String, Integer> mix(String mix) {
+            Map<String, Integer> weights = new LinkedHashMap<>();
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split("=", 2);
+                weights.put(parts[0].trim(), parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1);
+            }
+            weights.values().removeIf(weight -> weight <= 0);
+            return weights;
+        }
+
+        private static Duration duration(String value) {
+            String trimmed = value.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+            }
+            if (trimmed.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+            }
+            if (trimmed.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+            }
+            return Duration.ofSeconds(Long.parseLong(trimmed));
+        }
+    }
+
+    /**
+     * One entry of the mix with its payloads and measurements
+     */
+    record Operation(String id, boolean mcp, String name, List<String> payloads, List<Map<String, Object>> inputs,
+                     Histogram latencies, AtomicInteger cursor, Map<String, AtomicInteger> errors) {
+
+        Operation(String id, boolean mcp, String name, List<String> payloads, List<Map<String, Object>> inputs) {
+            this(id, mcp, name, payloads, inputs, new ConcurrentHistogram(HIGHEST_MICROS, 3),
+                    new AtomicInteger(), new ConcurrentHashMap<>());
+        }
+
+        int nextPayload() {
+            return Math.floorMod(cursor.getAndIncrement(), payloads.size());
+        }
+
+        void record(long startNanos, String error) {
+            if (error != null) {
+                fail(error);
+                return;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            latencies.recordValue(Math.min(micros, HIGHEST_MICROS));
+        }
+
+        void fail(String error) {
+            errors.computeIfAbsent(error, code -> new AtomicInteger()).incrementAndGet();
+        }
+
+        int errorCount() {
+            return errors.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        void reset() {
+            latencies.reset();
+            errors.clear();
+        }
+    }
+
+    /**
+     * Measured results: throughput, error rate and latency percentiles per operation and overall
+     */
+    public static final class Report {
+
+        private final Options options;
+        private final List<Operation> operations;
+        private final double seconds;
+        private final Histogram total;
+
+        Report(Options options, List<Operation> operations, long elapsedNanos) {
+            this.options = options;
+            this.operations = operations;
+            this.seconds = elapsedNanos / 1e9;
+            this.total = new Histogram(HIGHEST_MICROS, 3);
+            operations.forEach(operation -> total.add(operation.latencies()));
+        }
+
+        public long completed() {
+            return total.getTotalCount();
+        }
+
+        public int errors() {
+            return operations.stream().mapToInt(Operation::errorCount).sum();
+        }
+
+        public String markdown() {
+            StringBuilder report = new StringBuilder()
+                    .append("## Load harness - ").append(options.target()).append("\n\n")
+                    .append(options.arrival() == Arrival.OPEN
+                            ? String.format(Locale.ROOT, "Open loop at %.0f req/s (max in flight %d)", options.rate(), options.maxInFlight())
+                            : "Closed loop with " + options.concurrency() + " clients")
+                    .append(", warm-up ").append(options.warmup().toSeconds()).append("s")
+                    .append(", measured ").append(String.format(Locale.ROOT, "%.1f", seconds)).append("s")
+                    .append(", JVM ").append(Runtime.version())
+                    .append(", CPUs ").append(Runtime.getRuntime().availableProcessors()).append("\n\n")
+                    .append("| Operation | OK | Errors | Error % | Throughput (req/s) | p50 (ms) | p90 (ms) | p99 (ms) | p99.9 (ms) | max (ms) |\n")
+                    .append("|-----------|----|--------|---------|--------------------|----------|----------|----------|------------|----------|\n");
+            for (Operation operation : operations) {
+                row(report, operation.id(), operation.latencies(), operation.errorCount());
+            }
+            row(report, "**total**", total, errors());
+            List<String> errorLines = new ArrayList<>();
+            for (Operation operation : operations) {
+                operation.errors().forEach((code, count) -> errorLines.add("- " + operation.id() + ": " + code + " x" + count.get()));
+            }
+            if (!errorLines.isEmpty()) {
+                report.append("\nErrors:\n").append(String.join("\n", errorLines)).append("\n");
+            }
+            return report.toString();
+        }
+
+        private void row(StringBuilder report, String name, Histogram latencies, int errors) {
+            long ok = latencies.getTotalCount();
+            long all = ok + errors;
+            report.append(String.format(Locale.ROOT, "| %s | %d | %d | %.2f | %.0f | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                    name, ok, errors, all > 0 ? errors * 100.0 / all : 0.0, ok / seconds,
+                    millis(latencies, 50), millis(latencies, 90), millis(latencies, 99), millis(latencies, 99.9),
+                    latencies.getMaxValue() / 1000.0));
+        }
+
+        private static double millis(Histogram latencies, double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        void write() throws IOException {
+            Path file = options.report();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, markdown());
+            if (!options.hgrm()) {
+                return;
+            }
+            for (Operation operation : operations) {
+                Path hgrm = file.resolveSibling("load-" + operation.id().replace(':', '-') + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                    operation.latencies().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+    }
+}
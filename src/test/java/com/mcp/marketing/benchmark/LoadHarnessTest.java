@@ -0,0 +1,25 @@
+package com.mcp.marketing.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link LoadHarness} from Maven with {@code -Dload.*} options. Disabled by default:
+ * <pre>
+ * mvn test -Dtest=LoadHarnessTest -Dbenchmark=load [-Dload.arrival=open -Dload.rate=500 -Dload.duration=60s]
+ * </pre>
+ * The report is printed and written to {@code target/benchmarks/load.md}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "load")
+class LoadHarnessTest {
+
+    @Test
+    void runConfiguredLoad() throws Exception {
+        LoadHarness.Report report = new LoadHarness(LoadHarness.Options.parse(new String[0])).run();
+
+        System.out.println(report.markdown());
+        assertTrue(report.completed() > 0, "The harness should complete requests");
+    }
+}
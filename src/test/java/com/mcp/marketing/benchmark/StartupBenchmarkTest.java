@@ -0,0 +1,255 @@
+package com.mcp.marketing.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Startup benchmark comparing the default profile with the {@code fast-start} variants
+ * <p>
+ * Launches the packaged jar in a fresh JVM per run and measures time to ready (process start until
+ * {@code /actuator/health/readiness} answers 200) and the latency of the first
+ * {@code POST /api/marketing/ads}. Modes: {@code default}, {@code fast-start} (lazy initialization),
+ * {@code fast-start+aot} (also {@code -Dspring.aot.enabled=true}, needs a jar built with
+ * {@code mvn -Pfast-start package}) and {@code fast-start+aot+cds} (also an AppCDS archive created
+ * by a training run on the extracted jar, as in {@code container/Dockerfile.fast-start}). Disabled
+ * by default; run with:
+ * <pre>
+ * mvn -Pfast-start package -DskipTests
+ * mvn test -Dtest=StartupBenchmarkTest -Dbenchmark=startup [-Dstartup.runs=5] [-Dstartup.jar=target/app.jar]
+ * </pre>
+ * The report is printed and written to {@code target/benchmarks/startup.md}; each value is the
+ * median over the runs.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "startup")
+class StartupBenchmarkTest {
+
+    private static final String PAYLOAD = """
+            {"product":"Cloud CRM Platform","audience":"Small Business Owners",\
+            "brandVoice":"Professional","goals":"Generate qualified leads","language":"en-US",\
+            "platforms":["google","meta"],"budget":"5000","duration":"3 months"}""";
+    private static final String AOT_INITIALIZER = "BOOT-INF/classes/com/mcp/marketing/Application__ApplicationContextInitializer.class";
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(120);
+
+    private final Path work = Paths.get("target", "startup");
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path jar = jar();
+        Files.createDirectories(work);
+
+        List<Mode> modes = new ArrayList<>(List.of(
+                new Mode("default", List.of("-jar", jar.toString())),
+                new Mode("fast-start", List.of("-Dspring.profiles.active=fast-start", "-jar", jar.toString()))));
+        List<String> notes = new ArrayList<>();
+        if (hasAotInitializer(jar)) {
+            modes.add(new Mode("fast-start+aot", List.of("-Dspring.profiles.active=fast-start",
+                    "-Dspring.aot.enabled=true", "-jar", jar.toString())));
+            Path extracted = extract(jar);
+            Path archive = train(extracted);
+            modes.add(new Mode("fast-start+aot+cds", List.of("-XX:SharedArchiveFile=" + archive,
+                    "-Dspring.profiles.active=fast-start", "-Dspring.aot.enabled=true",
+                    "-jar", extracted.resolve("app.jar").toString())));
+        } else {
+            notes.add("AOT modes skipped: " + jar + " was not built with -Pfast-start.");
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            long[] ready = new long[runs];
+            long[] first = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] measured = measure(mode, run);
+                ready[run] = measured[0];
+                first[run] = measured[1];
+            }
+            results.add(new Result(mode.name(), median(ready), median(first)));
+        }
+
+        String report = report(results, runs, jar, notes);
+        System.out.println(report);
+        Path reportFile = Paths.get("target", "benchmarks", "startup.md");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+        assertFalse(results.isEmpty(), "At least one mode should be measured");
+    }
+
+    /**
+     * @return time to ready and first-request latency, in nanoseconds
+     */
+    private long[] measure(Mode mode, int run) throws Exception {
+        int port = freePort();
+        Path outputs = Files.createDirectories(work.resolve("outputs"));
+        List<String> command = new ArrayList<>(List.of(java()));
+        command.addAll(mode.arguments());
+        command.addAll(List.of("--server.port=" + port, "--app.outputs.directory=" + outputs.toAbsolutePath(),
+                "--spring.main.banner-mode=off"));
+        Path log = work.resolve(mode.name().replace('+', '-') + "-" + run + ".log");
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            URI readiness = URI.create("http://localhost:" + port + "/actuator/health/readiness");
+            long deadline = start + READY_TIMEOUT.toNanos();
+            while (!ready(readiness)) {
+                assertTrue(process.isAlive(), mode.name() + " exited during startup, see " + log);
+                assertTrue(System.nanoTime() < deadline, mode.name() + " not ready in " + READY_TIMEOUT + ", see " + log);
+                Thread.sleep(5);
+            }
+            long ready = System.nanoTime() - start;
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/marketing/ads"))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(PAYLOAD))
+                    .build();
+            long firstStart = System.nanoTime();
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            long first = System.nanoTime() - firstStart;
+            assertTrue(response.statusCode() == 200, mode.name() + " first request returned " + response.statusCode());
+            return new long[]{ready, first};
+        } finally {
+            stop(process);
+        }
+    }
+
+    private boolean ready(URI readiness) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(readiness).timeout(Duration.ofSeconds(1)).GET().build();
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path extract(Path jar) throws Exception {
+        Path extracted = work.resolve("extracted");
+        deleteRecursively(extracted);
+        exec(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", extracted.toString()),
+                work.resolve("extract.log"));
+        return extracted;
+    }
+
+    private Path train(Path extracted) throws Exception {
+        Path archive = work.resolve("app.jsa").toAbsolutePath();
+        Files.deleteIfExists(archive);
+        exec(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.profiles.active=fast-start",
+                "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+                "-jar", extracted.resolve("app.jar").toString(),
+                "--app.outputs.directory=" + work.resolve("outputs").toAbsolutePath()), work.resolve("training.log"));
+        assertTrue(Files.exists(archive), "CDS training run did not write " + archive);
+        return archive;
+    }
+
+    private static void exec(List<String> command, Path log) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES) && process.exitValue() == 0, String.join(" ", command) + " failed, see " + log);
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static Path jar() throws IOException {
+        String configured = System.getProperty("startup.jar");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        try (DirectoryStream<Path> jars = Files.newDirectoryStream(Paths.get("target"), "mcp-marketing-suite-*.jar")) {
+            for (Path jar : jars) {
+                return jar;
+            }
+        }
+        throw new IllegalStateException("No packaged jar in target/; run mvn package first or set -Dstartup.jar");
+    }
+
+    private static boolean hasAotInitializer(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static String java() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String report(List<Result> results, int runs, Path jar, List<String> notes) {
+        Result baseline = results.get(0);
+        StringBuilder report = new StringBuilder()
+                .append("## Startup - default vs fast-start\n\n")
+                .append("Jar: ").append(jar.getFileName())
+                .append(", runs per mode: ").append(runs)
+                .append(", JVM: ").append(Runtime.version())
+                .append(", CPUs: ").append(Runtime.getRuntime().availableProcessors()).append("\n\n")
+                .append("| Mode | Time to ready (ms) | vs default | First request (ms) | vs default |\n")
+                .append("|------|--------------------|------------|--------------------|------------|\n");
+        for (Result result : results) {
+            report.append(String.format(Locale.ROOT, "| %s | %.0f | %+.0f%% | %.1f | %+.0f%% |%n",
+                    result.mode(), result.readyNanos() / 1e6, change(baseline.readyNanos(), result.readyNanos()),
+                    result.firstRequestNanos() / 1e6, change(baseline.firstRequestNanos(), result.firstRequestNanos())));
+        }
+        notes.forEach(note -> report.append("\n").append(note).append("\n"));
+        return report.toString();
+    }
+
+    private static double change(long baseline, long value) {
+        return baseline > 0 ? (value - baseline) * 100.0 / baseline : 0.0;
+    }
+
+    private record Mode(String name, List<String> arguments) {
+    }
+
+    private record Result(String mode, long readyNanos, long firstRequestNanos) {
+    }
+}
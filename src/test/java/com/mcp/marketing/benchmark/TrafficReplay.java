@@ -0,0 +1,365 @@
+package com.mcp.marketing.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.CapturedRequest;
+import com.mcp.marketing.infra.capture.ResultDigest;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays traffic recorded by {@link TrafficCapture} and checks that it is reproduced
+ * <p>
+ * Every captured request is generated again from its normalized context and original request id,
+ * either in-process through {@link OrchestratorService} or as {@code POST /api/marketing/<artifact>}
+ * against a running server ({@code target=http://host:port}; that server should write to its own
+ * outputs directory). The result digest is compared with the captured one; on a mismatch the first
+ * differing JSON pointer is reported when the original artifact is still readable. Deadline-trimmed
+ * captures are replayed but not compared.
+ * <p>
+ * With {@code speed > 0} requests are sent on the recorded schedule, compressed by that factor, and
+ * latency is measured from the scheduled start; with {@code speed=0} they are sent as fast as
+ * {@code concurrency} workers allow. Options are {@code --name=value} arguments or
+ * {@code -Dreplay.<name>=value} properties:
+ * <pre>
+ * capture      capture file or directory                    (captures)
+ * target       in-process | base URL                        (in-process)
+ * speed        recorded-time compression, 0 = unpaced       (1)
+ * concurrency  workers when unpaced                         (8)
+ * limit        replay only the first n captures, 0 = all    (0)
+ * check        compare result digests                       (true)
+ * report       markdown report file                         (target/benchmarks/replay.md)
+ * </pre>
+ * Recorded latencies are end to end at the original entry point, so an in-process replay is
+ * expected to be faster; compare like with like when looking for regressions.
+ */
+public final class TrafficReplay {
+
+    public static final String IN_PROCESS = "in-process";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int REPORTED_MISMATCHES = 20;
+
+    private final Options options;
+    private OrchestratorService orchestratorService;
+    private HttpClient http;
+    private String baseUrl;
+
+    public TrafficReplay(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Report report = new TrafficReplay(Options.parse(args)).run();
+        System.out.println(report.markdown());
+        if (report.mismatches() > 0 || report.errors() > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Replay the captures and write the report
+     */
+    public Report run() throws Exception {
+        List<CapturedRequest> captures = TrafficCapture.read(options.capture());
+        if (options.limit() > 0 && captures.size() > options.limit()) {
+            captures = captures.subList(0, options.limit());
+        }
+        if (captures.isEmpty()) {
+            throw new IllegalArgumentException("No captured requests in " + options.capture());
+        }
+
+        Map<String, Artifact> artifacts = new LinkedHashMap<>();
+        captures.forEach(capture -> artifacts.computeIfAbsent(capture.getArtifactType(), Artifact::new)
+                .recorded().recordValue(Math.min(TimeUnit.MILLISECONDS.toMicros(capture.getDurationMs()), HIGHEST_MICROS)));
+
+        try {
+            if (IN_PROCESS.equals(options.target())) {
+                orchestratorService = new OrchestratorService(new ValidationService());
+            } else {
+                baseUrl = options.target().replaceAll("/+$", "");
+                http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .executor(Executors.newVirtualThreadPerTaskExecutor())
+                        .build();
+            }
+
+            long started = System.nanoTime();
+            if (options.speed() > 0) {
+                paced(captures, artifacts);
+            } else {
+                unpaced(captures, artifacts);
+            }
+            long elapsed = System.nanoTime() - started;
+
+            Report report = new Report(options, captures.size(), List.copyOf(artifacts.values()), elapsed);
+            report.write();
+            return report;
+        } finally {
+            if (http != null) {
+                http.close();
+            }
+        }
+    }
+
+    private void paced(List<CapturedRequest> captures, Map<String, Artifact> artifacts) {
+        long origin = System.nanoTime();
+        long firstReceived = captures.get(0).getReceivedAt();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (CapturedRequest capture : captures) {
+                long offset = (long) (TimeUnit.MILLISECONDS.toNanos(capture.getReceivedAt() - firstReceived) / options.speed());
+                long intended = origin + offset;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                requests.submit(() -> replay(capture, intended, artifacts.get(capture.getArtifactType())));
+            }
+        }
+    }
+
+    private void unpaced(List<CapturedRequest> captures, Map<String, Artifact> artifacts) {
+        AtomicInteger cursor = new AtomicInteger();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                workers.submit(() -> {
+                    int index;
+                    while ((index = cursor.getAndIncrement()) < captures.size()) {
+                        CapturedRequest capture = captures.get(index);
+                        replay(capture, System.nanoTime(), artifacts.get(capture.getArtifactType()));
+                    }
+                });
+            }
+        }
+    }
+
+    private void replay(CapturedRequest capture, long intendedNanos, Artifact artifact) {
+        Object result;
+        try {
+            result = execute(capture);
+        } catch (Exception e) {
+            artifact.fail(e instanceof ReplayException ? e.getMessage() : e.getClass().getSimpleName());
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+        artifact.replayed().recordValue(Math.min(micros, HIGHEST_MICROS));
+
+        if (!options.check() || capture.isPartial() || capture.getDigest() == null) {
+            artifact.unchecked().incrementAndGet();
+            return;
+        }
+        artifact.checked().incrementAndGet();
+        if (!capture.getDigest().equals(ResultDigest.of(result))) {
+            artifact.mismatches().add(capture.getRequestId() + ": " + difference(capture, result));
+        }
+    }
+
+    private Object execute(CapturedRequest capture) throws IOException, InterruptedException {
+        if (orchestratorService != null) {
+            return switch (capture.getArtifactType()) {
+                case "ads" -> orchestratorService.generateAds(capture.toContext());
+                case "seo-plan" -> orchestratorService.generateSeoPlan(capture.toContext());
+                case "crm-sequences" -> orchestratorService.generateCrmSequences(capture.toContext());
+                case "strategy" -> orchestratorService.generateStrategy(capture.toContext());
+                default -> throw new ReplayException("unknown_artifact_" + capture.getArtifactType());
+            };
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/marketing/" + capture.getArtifactType()))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .header("X-Request-Id", capture.getRequestId())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(capture.getContext())))
+                .build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new ReplayException("http_" + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("data").path("result");
+    }
+
+    private static String difference(CapturedRequest capture, Object result) {
+        if (capture.getOutputPath() == null || !Files.isReadable(Paths.get(capture.getOutputPath()))) {
+            return "digest differs (original artifact not available)";
+        }
+        try {
+            JsonNode original = objectMapper.readTree(Paths.get(capture.getOutputPath()).toFile()).path("data").path("result");
+            String pointer = ResultDigest.firstDifference(original, result);
+            return pointer != null ? "first difference at " + pointer : "digest differs from capture but matches the artifact";
+        } catch (IOException e) {
+            return "digest differs (original artifact unreadable: " + e.getMessage() + ")";
+        }
+    }
+
+    /**
+     * A replay that failed with a short error code
+     */
+    private static final class ReplayException extends RuntimeException {
+        ReplayException(String code) {
+            super(code);
+        }
+    }
+
+    /**
+     * Replay configuration; see the class documentation for names and defaults
+     */
+    public record Options(Path capture, String target, double speed, int concurrency, int limit, boolean check,
+                          Path report) {
+
+        public static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value: " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            return new Options(
+                    Paths.get(value(values, "capture", "captures")),
+                    value(values, "target", IN_PROCESS),
+                    Double.parseDouble(value(values, "speed", "1")),
+                    Integer.parseInt(value(values, "concurrency", "8")),
+                    Integer.parseInt(value(values, "limit", "0")),
+                    Boolean.parseBoolean(value(values, "check", "true")),
+                    Paths.get(value(values, "report", "target/benchmarks/replay.md")));
+        }
+
+        private static String value(Map<String, String> values, String name, String defaultValue) {
+            return values.getOrDefault(name, System.getProperty("replay." + name, defaultValue));
+        }
+    }
+
+    /**
+     * Recorded and replayed measurements for one artifact type
+     */
+    record Artifact(String type, Histogram recorded, Histogram replayed, AtomicInteger checked,
+                    AtomicInteger unchecked, List<String> mismatches, Map<String, AtomicInteger> errors) {
+
+        Artifact(String type) {
+            this(type, new Histogram(HIGHEST_MICROS, 3), new ConcurrentHistogram(HIGHEST_MICROS, 3), new AtomicInteger(),
+                    new AtomicInteger(), Collections.synchronizedList(new ArrayList<>()), new ConcurrentHashMap<>());
+        }
+
+        void fail(String error) {
+            errors.computeIfAbsent(error, code -> new AtomicInteger()).incrementAndGet();
+        }
+
+        int errorCount() {
+            return errors.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+    }
+
+    /**
+     * Replay results: determinism and recorded vs replayed latency per artifact type
+     */
+    public static final class Report {
+
+        private final Options options;
+        private final int captures;
+        private final List<Artifact> artifacts;
+        private final double seconds;
+
+        Report(Options options, int captures, List<Artifact> artifacts, long elapsedNanos) {
+            this.options = options;
+            this.captures = captures;
+            this.artifacts = artifacts;
+            this.seconds = elapsedNanos / 1e9;
+        }
+
+        public long replayed() {
+            return artifacts.stream().mapToLong(artifact -> artifact.replayed().getTotalCount()).sum();
+        }
+
+        public int checked() {
+            return artifacts.stream().mapToInt(artifact -> artifact.checked().get()).sum();
+        }
+
+        public int mismatches() {
+            return artifacts.stream().mapToInt(artifact -> artifact.mismatches().size()).sum();
+        }
+
+        public int errors() {
+            return artifacts.stream().mapToInt(Artifact::errorCount).sum();
+        }
+
+        public List<String> mismatchDetails() {
+            List<String> details = new ArrayList<>();
+            artifacts.forEach(artifact -> artifact.mismatches().forEach(detail -> details.add(artifact.type() + " " + detail)));
+            return details;
+        }
+
+        public String markdown() {
+            StringBuilder report = new StringBuilder()
+                    .append("## Traffic replay - ").append(options.target()).append("\n\n")
+                    .append(captures).append(" captures from ").append(options.capture())
+                    .append(options.speed() > 0
+                            ? String.format(Locale.ROOT, ", paced at %.1fx recorded speed", options.speed())
+                            : ", unpaced with " + options.concurrency() + " workers")
+                    .append(", replayed in ").append(String.format(Locale.ROOT, "%.1f", seconds)).append("s")
+                    .append(", JVM ").append(Runtime.version()).append("\n\n")
+                    .append("| Artifact | Replayed | Errors | Checked | Mismatches | Recorded p50 (ms) | Recorded p99 (ms) | Replay p50 (ms) | Replay p99 (ms) | Replay max (ms) |\n")
+                    .append("|----------|----------|--------|---------|------------|-------------------|-------------------|-----------------|-----------------|-----------------|\n");
+            for (Artifact artifact : artifacts) {
+                report.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                        artifact.type(), artifact.replayed().getTotalCount(), artifact.errorCount(), artifact.checked().get(),
+                        artifact.mismatches().size(), millis(artifact.recorded(), 50), millis(artifact.recorded(), 99),
+                        millis(artifact.replayed(), 50), millis(artifact.replayed(), 99),
+                        artifact.replayed().getMaxValue() / 1000.0));
+            }
+            List<String> mismatches = mismatchDetails();
+            if (!mismatches.isEmpty()) {
+                report.append("\nMismatches:\n");
+                mismatches.stream().limit(REPORTED_MISMATCHES).forEach(line -> report.append("- ").append(line).append("\n"));
+                if (mismatches.size() > REPORTED_MISMATCHES) {
+                    report.append("- ... ").append(mismatches.size() - REPORTED_MISMATCHES).append(" more\n");
+                }
+            }
+            List<String> errorLines = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                artifact.errors().forEach((code, count) -> errorLines.add("- " + artifact.type() + ": " + code + " x" + count.get()));
+            }
+            if (!errorLines.isEmpty()) {
+                report.append("\nErrors:\n").append(String.join("\n", errorLines)).append("\n");
+            }
+            return report.toString();
+        }
+
+        private static double millis(Histogram latencies, double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        void write() throws IOException {
+            Path file = options.report();
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, markdown());
+        }
+    }
+}
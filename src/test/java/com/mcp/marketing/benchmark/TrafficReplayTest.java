@@ -0,0 +1,110 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.infra.capture.TrafficCapture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * In-process replay of captured traffic: deterministic generation is reproduced, a changed
+ * result is reported
+ * <p>
+ * {@link #runConfiguredReplay} replays real captures with {@code -Dreplay.*} options and is
+ * disabled by default:
+ * <pre>
+ * mvn test -Dtest=TrafficReplayTest#runConfiguredReplay -Dbenchmark=replay -Dreplay.capture=captures [-Dreplay.speed=0]
+ * </pre>
+ */
+class TrafficReplayTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRun_InProcessReplayReproducesCapturedResults() throws Exception {
+        Path captures = capture(false);
+
+        TrafficReplay.Report report = new TrafficReplay(options(captures)).run();
+
+        assertEquals(4, report.replayed());
+        assertEquals(4, report.checked());
+        assertEquals(0, report.mismatches());
+        assertEquals(0, report.errors());
+        assertThat(Files.readString(directory.resolve("replay.md"))).contains("| strategy | 1 | 0 | 1 | 0 |");
+    }
+
+    @Test
+    void testRun_ChangedResultIsReportedAsMismatch() throws Exception {
+        Path captures = capture(true);
+
+        TrafficReplay.Report report = new TrafficReplay(options(captures)).run();
+
+        assertEquals(1, report.mismatches());
+        assertThat(report.mismatchDetails()).singleElement().asString().startsWith("ads replay-ads:");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "replay")
+    void runConfiguredReplay() throws Exception {
+        TrafficReplay.Report report = new TrafficReplay(TrafficReplay.Options.parse(new String[0])).run();
+
+        System.out.println(report.markdown());
+        assertEquals(0, report.mismatches(), "Replayed results should match the captured digests");
+        assertEquals(0, report.errors(), "Replayed requests should not fail");
+    }
+
+    private Path capture(boolean alterAds) {
+        OrchestratorService orchestratorService = new OrchestratorService(new ValidationService());
+        Path captures = directory.resolve("captures");
+        try (TrafficCapture capture = new TrafficCapture(captures, 1024 * 1024, 2, 1.0, 100, null)) {
+            long now = System.currentTimeMillis();
+            MarketingContext ads = context("replay-ads");
+            capture.record("rest", "ads", ads, alterAds ? Map.of("changed", true) : orchestratorService.generateAds(ads),
+                    now, false, null);
+            MarketingContext seo = context("replay-seo");
+            capture.record("rest", "seo-plan", seo, orchestratorService.generateSeoPlan(seo), now + 1, false, null);
+            MarketingContext crm = context("replay-crm");
+            capture.record("mcp", "crm-sequences", crm, orchestratorService.generateCrmSequences(crm), now + 2, false, null);
+            MarketingContext strategy = context("replay-strategy");
+            capture.record("mcp", "strategy", strategy, orchestratorService.generateStrategy(strategy), now + 3, false, null);
+        }
+        return captures;
+    }
+
+    private TrafficReplay.Options options(Path captures) {
+        return TrafficReplay.Options.parse(new String[]{
+                "--capture=" + captures,
+                "--speed=0",
+                "--concurrency=2",
+                "--report=" + directory.resolve("replay.md")});
+    }
+
+    private static MarketingContext context(String requestId) {
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product("Cloud CRM Platform")
+                .audience("Small Business Owners")
+                .brandVoice("Professional and Approachable")
+                .goals("Generate 100 qualified leads per month")
+                .language("en-US")
+                .platforms(List.of("google", "meta"))
+                .keywords(List.of("crm software", "sales pipeline"))
+                .domain("cloudcrm.example.com")
+                .sequenceLength(5)
+                .conversionGoal("Book a demo")
+                .channels(List.of("email", "paid-ads"))
+                .timeframe("Q1 2026")
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.mcp.marketing.benchmark;
+
+import com.mcp.marketing.Application;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load benchmark comparing the platform-thread Tomcat pool with virtual threads
+ * <p>
+ * Boots the application once per mode and drives {@code POST /api/marketing/ads} (generation
+ * plus synchronous file persistence) with 1k, 5k and 10k concurrent clients, reporting
+ * throughput, p50 and p99 latency and errors. Disabled by default; run with:
+ * <pre>
+ * mvn test -Dtest=VirtualThreadsBenchmarkTest -Dbenchmark=virtual-threads [-Dbenchmark.requests-per-client=5]
+ * </pre>
+ * The report is printed and written to {@code target/benchmarks/virtual-threads.md}. Raise the
+ * open-file limit ({@code ulimit -n 65536}) before running the 10k level.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "virtual-threads")
+class VirtualThreadsBenchmarkTest {
+
+    private static final int[] CONCURRENCY_LEVELS = {1_000, 5_000, 10_000};
+    private static final String PAYLOAD = """
+            {"product":"Cloud CRM Platform","audience":"Small Business Owners",\
+            "brandVoice":"Professional","goals":"Generate qualified leads","language":"en-US",\
+            "platforms":["google","meta"],"budget":"5000","duration":"3 months"}""";
+
+    @TempDir
+    Path outputs;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        int requestsPerClient = Integer.getInteger("benchmark.requests-per-client", 5);
+        List<Result> results = new ArrayList<>();
+
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext app = start(virtualThreads)) {
+                int port = Integer.parseInt(app.getEnvironment().getProperty("local.server.port"));
+                URI uri = URI.create("http://localhost:" + port + "/api/marketing/ads");
+                // Warm up JIT and connection handling before measuring
+                run(uri, 200, 5, virtualThreads);
+                for (int clients : CONCURRENCY_LEVELS) {
+                    results.add(run(uri, clients, requestsPerClient, virtualThreads));
+                }
+            }
+        }
+
+        String report = report(results, requestsPerClient);
+        System.out.println(report);
+        Path reportFile = Paths.get("target", "benchmarks", "virtual-threads.md");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+        assertTrue(results.stream().allMatch(result -> result.completed() > 0), "Every level should complete requests");
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=1000",
+                        "app.outputs.directory=" + outputs.toAbsolutePath(),
+                        "app.admission.enabled=false",
+                        "app.lanes.enabled=false",
+                        "mcp.sdk.resources.watch=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "logging.level.com.mcp.marketing=WARN")
+                .run();
+    }
+
+    private Result run(URI uri, int clients, int requestsPerClient, boolean virtualThreads) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(PAYLOAD))
+                .build();
+
+        int total = clients * requestsPerClient;
+        AtomicLongArray latencies = new AtomicLongArray(total);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        long startedAt;
+        long elapsed;
+        try (ExecutorService load = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                load.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.set(completed.getAndIncrement(), System.nanoTime() - begin);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+        }
+        elapsed = System.nanoTime() - startedAt;
+        http.close();
+
+        long[] sorted = new long[completed.get()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return new Result(virtualThreads ? "virtual" : "platform", clients, sorted.length, errors.get(),
+                sorted.length / (elapsed / 1e9), percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String report(List<Result> results, int requestsPerClient) {
+        StringBuilder report = new StringBuilder()
+                .append("## Platform vs virtual threads - POST /api/marketing/ads\n\n")
+                .append("Requests per client: ").append(requestsPerClient)
+                .append(", JVM: ").append(Runtime.version())
+                .append(", CPUs: ").append(Runtime.getRuntime().availableProcessors()).append("\n\n")
+                .append("| Threads | Clients | Completed | Errors | Throughput (req/s) | p50 (ms) | p99 (ms) |\n")
+                .append("|---------|---------|-----------|--------|--------------------|----------|----------|\n");
+        for (Result result : results) {
+            report.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %.0f | %.1f | %.1f |%n",
+                    result.mode(), result.clients(), result.completed(), result.errors(),
+                    result.throughput(), result.p50Millis(), result.p99Millis()));
+        }
+        return report.toString();
+    }
+
+    private record Result(String mode, int clients, int completed, int errors,
+                          double throughput, double p50Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.mcp.marketing.config;
+
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.infra.capture.CapturedRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the native image reflection and resource hints
+ */
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeImageHintsTest() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void testRegisterHints_ModelsAndNestedTypesAreBindable() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(MarketingContext.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(StandardResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CapturedRequest.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AdsResult.GoogleAd.class).test(hints));
+    }
+
+    @Test
+    void testRegisterHints_CatalogsAreIncluded() {
+        for (String catalog : new String[]{"audiences", "brands", "competitors", "products"}) {
+            assertTrue(RuntimeHintsPredicates.resource().forResource("catalogs/" + catalog + ".json").test(hints),
+                    catalog);
+        }
+    }
+}
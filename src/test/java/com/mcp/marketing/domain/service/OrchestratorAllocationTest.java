@@ -0,0 +1,53 @@
+package com.mcp.marketing.domain.service;
+
+import com.mcp.marketing.benchmark.AllocationBudgets;
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Allocation-budget regression tests for OrchestratorService on its own
+ * <p>
+ * Budgets live in {@code allocation-budgets.properties} under {@code orchestrator.*}
+ */
+class OrchestratorAllocationTest {
+
+    private final OrchestratorService orchestratorService = new OrchestratorService(new ValidationService());
+    private final AllocationBudgets budgets = AllocationBudgets.load();
+
+    private final MarketingContext context = MarketingContext.builder()
+            .requestId("allocation-001")
+            .product("Cloud CRM Platform")
+            .audience("Small Business Owners")
+            .brandVoice("Professional and Approachable")
+            .goals("Generate 100 qualified leads per month")
+            .language("en-US")
+            .executionMode(ExecutionMode.DETERMINISTIC)
+            .platforms(List.of("google", "meta", "linkedin"))
+            .budget("5000")
+            .duration("Q1")
+            .build();
+
+    @Test
+    void testGenerateAds_AllocationWithinBudget() {
+        budgets.assertWithinBudget("orchestrator.ads", () -> orchestratorService.generateAds(context));
+    }
+
+    @Test
+    void testGenerateSeoPlan_AllocationWithinBudget() {
+        budgets.assertWithinBudget("orchestrator.seo-plan", () -> orchestratorService.generateSeoPlan(context));
+    }
+
+    @Test
+    void testGenerateCrmSequences_AllocationWithinBudget() {
+        budgets.assertWithinBudget("orchestrator.crm-sequences",
+                () -> orchestratorService.generateCrmSequences(context));
+    }
+
+    @Test
+    void testGenerateStrategy_AllocationWithinBudget() {
+        budgets.assertWithinBudget("orchestrator.strategy", () -> orchestratorService.generateStrategy(context));
+    }
+}
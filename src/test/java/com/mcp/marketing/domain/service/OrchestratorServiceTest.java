@@ -4,7 +4,12 @@ import com.mcp.marketing.domain.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -384,4 +389,151 @@ class OrchestratorServiceTest {
         assertThat(result.getRecommendations())
                 .noneMatch(r -> r.contains("Provide the domain"));
     }
+
+    @Test
+    void testGenerateBundle_SelectedArtifacts_MatchStandaloneResults() {
+        // Given
+        MarketingContext context = MarketingContext.builder()
+                .requestId("test-011")
+                .product("Test Product")
+                .audience("Test Audience")
+                .brandVoice("Test Voice")
+                .goals("Test Goals")
+                .language("en-US")
+                .build();
+
+        // When
+        Map<ArtifactType, CompletableFuture<Object>> parts = orchestratorService.generateBundle(
+                context, EnumSet.of(ArtifactType.SEO_PLAN, ArtifactType.ADS), Runnable::run);
+
+        // Then
+        assertThat(parts.keySet()).containsExactly(ArtifactType.ADS, ArtifactType.SEO_PLAN);
+        assertEquals(orchestratorService.generateAds(context), parts.get(ArtifactType.ADS).join());
+        assertEquals(orchestratorService.generateSeoPlan(context), parts.get(ArtifactType.SEO_PLAN).join());
+    }
+
+    @Test
+    void testGenerateBundle_InvalidContext_ThrowsBeforeScheduling() {
+        // Given - missing required field (audience)
+        MarketingContext context = MarketingContext.builder()
+                .requestId("test-012")
+                .product("Test Product")
+                .brandVoice("Professional")
+                .goals("Test Goals")
+                .language("en-US")
+                .build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> orchestratorService.generateBundle(
+                context, EnumSet.allOf(ArtifactType.class), task -> fail("Nothing should be scheduled")));
+    }
+
+    @Test
+    void testGenerateAds_DeadlinePassed_ThrowsDeadlineExceeded() {
+        // Given
+        MarketingContext context = deadlineContext("test-013", Deadline.at(System.currentTimeMillis() - 1));
+
+        // When & Then
+        DeadlineExceededException e = assertThrows(DeadlineExceededException.class,
+                () -> orchestratorService.generateAds(context));
+        assertEquals("ads", e.getStage());
+        assertEquals(List.of("ads"), context.getDeadline().getSkipped());
+    }
+
+    @Test
+    void testGenerateStrategy_DeadlinePassesAfterAds_ReturnsPartialStrategy() {
+        // Given - the deadline runs out while the ads section is being built
+        MarketingContext context = deadlineContext("test-014", Deadline.in(Duration.ofMillis(20)));
+
+        // When
+        StrategyResult result = orchestratorService.generateStrategy(context, stage -> {
+            if ("ads".equals(stage)) {
+                sleep(Duration.ofMillis(50));
+            }
+        });
+
+        // Then
+        assertNotNull(result.getAdsStrategy());
+        assertNull(result.getSeoStrategy());
+        assertNull(result.getCrmStrategy());
+        assertEquals(result.getAdsStrategy().getQaScore(), result.getQaScore());
+        assertEquals(true, result.getMetadata().get("partial"));
+        assertEquals(List.of("seo-plan", "crm-sequences"), result.getMetadata().get("skippedSections"));
+        assertEquals(List.of("seo-plan", "crm-sequences"), context.getDeadline().getSkipped());
+    }
+
+    @Test
+    void testGenerateBundle_DeadlinePassed_FailsEachPart() {
+        // Given
+        MarketingContext context = deadlineContext("test-015", Deadline.at(System.currentTimeMillis() - 1));
+
+        // When
+        Map<ArtifactType, CompletableFuture<Object>> parts = orchestratorService.generateBundle(
+                context, EnumSet.of(ArtifactType.ADS, ArtifactType.CRM_SEQUENCES), Runnable::run);
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, () -> parts.get(ArtifactType.ADS).join());
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertEquals(List.of("ads", "crm-sequences"), context.getDeadline().getSkipped());
+    }
+
+    @Test
+    void testGenerateStrategy_WithTimings_RecordsValidationAndEachBuilder() {
+        // Given
+        MarketingContext context = deadlineContext("test-016", Deadline.none());
+        context.setTimings(StageTimings.start("strategy"));
+
+        // When
+        orchestratorService.generateStrategy(context);
+
+        // Then
+        assertThat(context.getTimings().getNanos().keySet())
+                .containsExactly("validate", "build.ads", "build.seo-plan", "build.crm-sequences");
+        assertThat(context.getTimings().getNanos().values()).allMatch(nanos -> nanos > 0);
+    }
+
+    @Test
+    void testGenerateStrategy_ValidatedContext_SkipsRevalidation() {
+        // Given: validated by the entry point, so an invalid field is not re-checked
+        MarketingContext context = deadlineContext("test-017", Deadline.none());
+        context.setLanguage("xx-XX");
+        context.setTimings(StageTimings.start("strategy"));
+
+        // When
+        orchestratorService.generateStrategy(context, GenerationProgress.NONE, true);
+
+        // Then
+        assertThat(context.getTimings().getNanos().keySet())
+                .containsExactly("build.ads", "build.seo-plan", "build.crm-sequences");
+    }
+
+    @Test
+    void testGenerateAds_UnvalidatedContext_IsStillValidated() {
+        // Given
+        MarketingContext context = deadlineContext("test-018", Deadline.none());
+        context.setLanguage("xx-XX");
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> orchestratorService.generateAds(context));
+    }
+
+    private static MarketingContext deadlineContext(String requestId, Deadline deadline) {
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product("Test Product")
+                .audience("Test Audience")
+                .brandVoice("Test Voice")
+                .goals("Test Goals")
+                .language("en-US")
+                .deadline(deadline)
+                .build();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
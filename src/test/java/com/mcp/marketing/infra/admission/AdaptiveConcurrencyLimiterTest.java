@@ -0,0 +1,93 @@
+package com.mcp.marketing.infra.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the latency-gradient concurrency limit
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void testTryAcquire_AtLimit_Rejects() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getInFlight());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void testRelease_SteadyLatencyUnderFullLoad_GrowsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100);
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, FAST);
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit should grow while latency is stable: " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testRelease_LatencyRises_ShrinksLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 100);
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter, FAST);
+        }
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 10; i++) {
+            saturate(limiter, SLOW);
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit should shrink when latency rises: " + before + " -> " + limiter.getLimit());
+    }
+
+    @Test
+    void testRelease_SustainedOverload_StopsAtMinLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100);
+        saturate(limiter, FAST);
+
+        long latency = SLOW;
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, latency);
+            latency *= 2;
+        }
+
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testRelease_MostlyIdle_KeepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
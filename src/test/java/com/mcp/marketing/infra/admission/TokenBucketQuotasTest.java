@@ -0,0 +1,95 @@
+package com.mcp.marketing.infra.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-key token-bucket quotas
+ */
+class TokenBucketQuotasTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBucketQuotas quotas = new TokenBucketQuotas(2, 3, 100, now::get);
+
+    @Test
+    void testTryConsume_WithinBurst_Admits() {
+        assertEquals(0, quotas.tryConsume("key-a"));
+        assertEquals(0, quotas.tryConsume("key-a"));
+        assertEquals(0, quotas.tryConsume("key-a"));
+    }
+
+    @Test
+    void testTryConsume_BurstExhausted_ReturnsWaitUntilNextToken() {
+        for (int i = 0; i < 3; i++) {
+            quotas.tryConsume("key-a");
+        }
+
+        long wait = quotas.tryConsume("key-a");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+    }
+
+    @Test
+    void testTryConsume_AfterRefill_AdmitsAgain() {
+        for (int i = 0; i < 3; i++) {
+            quotas.tryConsume("key-a");
+        }
+        assertTrue(quotas.tryConsume("key-a") > 0);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertEquals(0, quotas.tryConsume("key-a"));
+        assertTrue(quotas.tryConsume("key-a") > 0);
+    }
+
+    @Test
+    void testTryConsume_KeysAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            quotas.tryConsume("key-a");
+        }
+
+        assertTrue(quotas.tryConsume("key-a") > 0);
+        assertEquals(0, quotas.tryConsume("key-b"));
+    }
+
+    @Test
+    void testTryConsume_OverMaxKeys_DropsRefilledBuckets() {
+        TokenBucketQuotas small = new TokenBucketQuotas(2, 3, 2, now::get);
+        small.tryConsume("key-a");
+        small.tryConsume("key-b");
+        small.tryConsume("key-c");
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        small.tryConsume("key-d");
+
+        assertEquals(1, small.trackedKeys());
+    }
+
+    @Test
+    void testTryConsume_NewKeyPastMaxKeys_RefusedUntilNextSweep() {
+        TokenBucketQuotas small = new TokenBucketQuotas(2, 3, 2, now::get);
+        small.tryConsume("key-a");
+        small.tryConsume("key-b");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1500), small.tryConsume("key-c"));
+
+        // key-a and key-b are full again after 500 ms, but the sweep that refused key-c is recent
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), small.tryConsume("key-c"));
+        assertEquals(0, small.tryConsume("key-a"));
+        assertEquals(2, small.trackedKeys());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(0, small.tryConsume("key-c"));
+        assertEquals(1, small.trackedKeys());
+    }
+
+    @Test
+    void testConstructor_NonPositiveRate_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketQuotas(0, 3, 10));
+    }
+}
@@ -0,0 +1,61 @@
+package com.mcp.marketing.infra.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for canonical result digests and first-difference reporting
+ */
+class ResultDigestTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testOf_DomainResultMatchesItsSerializedForm() throws Exception {
+        AdsResult result = new OrchestratorService(new ValidationService()).generateAds(MarketingContext.builder()
+                .requestId("digest-001")
+                .product("Cloud CRM Platform")
+                .audience("Small Business Owners")
+                .brandVoice("Professional")
+                .goals("Generate leads")
+                .language("en-US")
+                .build());
+
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(result);
+
+        assertEquals(ResultDigest.of(result), ResultDigest.of(objectMapper.readTree(json)));
+    }
+
+    @Test
+    void testOf_IgnoresKeyOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", List.of("x", "y"));
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", List.of("x", "y"));
+        second.put("a", 1);
+
+        assertEquals(ResultDigest.of(first), ResultDigest.of(second));
+        assertNull(ResultDigest.firstDifference(first, second));
+    }
+
+    @Test
+    void testFirstDifference_ReturnsJsonPointer() {
+        Map<String, Object> expected = Map.of("sections", List.of(Map.of("title", "Intro"), Map.of("title", "Plan")));
+        Map<String, Object> actual = Map.of("sections", List.of(Map.of("title", "Intro"), Map.of("title", "Roadmap")));
+
+        assertNotEquals(ResultDigest.of(expected), ResultDigest.of(actual));
+        assertEquals("/sections/1/title", ResultDigest.firstDifference(expected, actual));
+        assertEquals("/extra", ResultDigest.firstDifference(expected, Map.of("sections", expected.get("sections"), "extra", 1)));
+    }
+}
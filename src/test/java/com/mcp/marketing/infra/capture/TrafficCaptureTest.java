@@ -0,0 +1,90 @@
+package com.mcp.marketing.infra.capture;
+
+import com.mcp.marketing.domain.model.MarketingContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for capture files: round trip, rotation and sampling
+ */
+class TrafficCaptureTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecord_WritesNormalizedContextAndDigest() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MarketingContext context = context("capture-001");
+        Map<String, Object> result = Map.of("headline", "Cloud CRM Platform", "score", 0.9);
+
+        try (TrafficCapture capture = new TrafficCapture(directory, 1024 * 1024, 4, 1.0, 100, registry)) {
+            capture.record("rest", "ads", context, result, System.currentTimeMillis() - 25, false, "/tmp/ads.json");
+        }
+
+        List<CapturedRequest> entries = TrafficCapture.read(directory);
+        assertEquals(1, entries.size());
+        CapturedRequest entry = entries.get(0);
+        assertEquals("rest", entry.getEntryPoint());
+        assertEquals("ads", entry.getArtifactType());
+        assertEquals("capture-001", entry.getRequestId());
+        assertEquals("/tmp/ads.json", entry.getOutputPath());
+        assertThat(entry.getDurationMs()).isGreaterThanOrEqualTo(25);
+        assertEquals(ResultDigest.of(result), entry.getDigest());
+        assertThat(entry.getContext()).containsEntry("product", "Cloud CRM Platform").doesNotContainKey("domain");
+
+        MarketingContext replayed = entry.toContext();
+        assertEquals("capture-001", replayed.getRequestId());
+        assertEquals(context.getPlatforms(), replayed.getPlatforms());
+        assertEquals(context.getSequenceLength(), replayed.getSequenceLength());
+        assertEquals(1.0, registry.get("capture.entries").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void testRecord_RotatesAndKeepsNewestFiles() throws Exception {
+        try (TrafficCapture capture = new TrafficCapture(directory, 1, 2, 1.0, 100, null)) {
+            for (int i = 0; i < 5; i++) {
+                capture.record("mcp", "ads", context("rotate-" + i), Map.of("n", i), System.currentTimeMillis(), false, null);
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        assertThat(TrafficCapture.read(directory))
+                .extracting(CapturedRequest::getRequestId)
+                .containsExactly("rotate-3", "rotate-4");
+    }
+
+    @Test
+    void testRecord_ZeroSampleRateCapturesNothing() throws Exception {
+        try (TrafficCapture capture = new TrafficCapture(directory, 1024, 2, 0.0, 100, null)) {
+            capture.record("rest", "ads", context("sampled-out"), Map.of(), System.currentTimeMillis(), false, null);
+        }
+
+        assertTrue(TrafficCapture.read(directory).isEmpty());
+    }
+
+    private static MarketingContext context(String requestId) {
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product("Cloud CRM Platform")
+                .audience("Small Business Owners")
+                .brandVoice("Professional")
+                .goals("Generate leads")
+                .language("en-US")
+                .platforms(List.of("google", "meta"))
+                .sequenceLength(5)
+                .build();
+    }
+}
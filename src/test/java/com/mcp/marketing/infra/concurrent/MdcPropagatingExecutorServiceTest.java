@@ -0,0 +1,50 @@
+package com.mcp.marketing.infra.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MDC propagation to tool executor threads
+ */
+class MdcPropagatingExecutorServiceTest {
+
+    private final ExecutorService executor = new MdcPropagatingExecutorService(Executors.newSingleThreadExecutor());
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testSubmit_CopiesSubmitterContextAndRestoresWorkerContext() throws Exception {
+        executor.submit(() -> MDC.put("worker", "stale")).get(5, TimeUnit.SECONDS);
+
+        MDC.put("request_id", "req-42");
+        String seen = executor.submit(() -> MDC.get("request_id")).get(5, TimeUnit.SECONDS);
+        MDC.clear();
+        String leftover = executor.submit(() -> MDC.get("request_id")).get(5, TimeUnit.SECONDS);
+
+        assertEquals("req-42", seen);
+        assertNull(leftover);
+    }
+
+    @Test
+    void testSubmit_OnVirtualThreads_PropagatesContext() throws Exception {
+        try (ExecutorService virtual = new MdcPropagatingExecutorService(Executors.newVirtualThreadPerTaskExecutor())) {
+            MDC.put("request_id", "req-7");
+
+            String seen = virtual.submit(() -> Thread.currentThread().isVirtual() + ":" + MDC.get("request_id"))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals("true:req-7", seen);
+        }
+    }
+}
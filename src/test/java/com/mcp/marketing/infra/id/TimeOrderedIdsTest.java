@@ -0,0 +1,67 @@
+package com.mcp.marketing.infra.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for time-ordered identifier generation
+ */
+class TimeOrderedIdsTest {
+
+    @Test
+    void testNext_IsVersion7UuidWithCurrentTime() {
+        long before = System.currentTimeMillis();
+        String id = TimeOrderedIds.next();
+        long after = System.currentTimeMillis();
+
+        UUID uuid = UUID.fromString(id);
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertThat(TimeOrderedIds.timestampMillis(id)).isBetween(before, after);
+    }
+
+    @Test
+    void testAt_StringsSortByTime() {
+        List<String> ids = new ArrayList<>();
+        for (long millis = 1_700_000_000_000L; millis < 1_700_000_000_000L + 5_000; millis += 997) {
+            ids.add(TimeOrderedIds.at(millis).toString());
+        }
+
+        assertThat(ids).isSorted();
+        assertEquals(ids.get(0).substring(0, TimeOrderedIds.TIME_PREFIX_LENGTH),
+                TimeOrderedIds.timePrefix(1_700_000_000_000L));
+    }
+
+    @Test
+    void testNext_IsUniqueUnderConcurrentGeneration() throws Exception {
+        List<String> ids = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(TimeOrderedIds.next());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, new HashSet<>(ids).size());
+    }
+
+    @Test
+    void testTimestampMillis_RejectsIdsWithoutTimePrefix() {
+        assertEquals(-1, TimeOrderedIds.timestampMillis(UUID.randomUUID().toString()));
+        assertEquals(-1, TimeOrderedIds.timestampMillis("caller-supplied-id"));
+        assertEquals(-1, TimeOrderedIds.timestampMillis(null));
+    }
+}
@@ -0,0 +1,127 @@
+package com.mcp.marketing.infra.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for idempotency key claims, replay and in-flight waiting
+ */
+class IdempotencyStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(10), 100, Duration.ofSeconds(5), now::get);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testClaim_RepeatedKey_ReplaysFromArtifact() throws Exception {
+        Path artifact = Files.writeString(tempDir.resolve("ads_req-1.json"), "{\"requestId\":\"req-1\"}");
+        String fingerprint = IdempotencyStore.fingerprint(Map.of("product", "SaaS"));
+
+        IdempotencyStore.Claim first = store.claim("ads:k1", fingerprint);
+        assertFalse(first.isReplay());
+        first.complete(artifact.toString(), () -> fail("Artifact-backed responses are not kept in memory"));
+
+        IdempotencyStore.Claim repeat = store.claim("ads:k1", fingerprint);
+        assertTrue(repeat.isReplay());
+        assertEquals(artifact.toString(), repeat.getOutputPath());
+        assertEquals("{\"requestId\":\"req-1\"}", new String(repeat.getReplayBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testClaim_InFlightDuplicateWaitsForFirstAttempt() throws Exception {
+        IdempotencyStore.Claim first = store.claim("ads:k2", "fp");
+
+        Future<IdempotencyStore.Claim> duplicate = callers.submit(() -> store.claim("ads:k2", "fp"));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone(), "Duplicate should wait for the first attempt");
+
+        first.complete(null, () -> "{}".getBytes(StandardCharsets.UTF_8));
+
+        IdempotencyStore.Claim replay = duplicate.get(5, TimeUnit.SECONDS);
+        assertTrue(replay.isReplay());
+        assertNull(replay.getOutputPath());
+        assertArrayEquals("{}".getBytes(StandardCharsets.UTF_8), replay.getReplayBody());
+    }
+
+    @Test
+    void testClaim_AbandonedKey_RunsAgain() throws Exception {
+        IdempotencyStore.Claim first = store.claim("ads:k3", "fp");
+        Future<IdempotencyStore.Claim> duplicate = callers.submit(() -> store.claim("ads:k3", "fp"));
+        Thread.sleep(50);
+
+        first.abandon();
+
+        assertFalse(duplicate.get(5, TimeUnit.SECONDS).isReplay(), "The waiting duplicate takes over the key");
+    }
+
+    @Test
+    void testClaim_DifferentPayload_IsRejected() throws Exception {
+        store.claim("ads:k4", IdempotencyStore.fingerprint(Map.of("goals", "Leads")));
+
+        IdempotencyException error = assertThrows(IdempotencyException.class,
+                () -> store.claim("ads:k4", IdempotencyStore.fingerprint(Map.of("goals", "Awareness"))));
+
+        assertEquals(IdempotencyException.KEY_REUSED, error.getCode());
+    }
+
+    @Test
+    void testClaim_MissingArtifact_RunsAgain() throws Exception {
+        store.claim("ads:k5", "fp").complete(tempDir.resolve("deleted.json").toString(), () -> null);
+
+        assertFalse(store.claim("ads:k5", "fp").isReplay());
+    }
+
+    @Test
+    void testClaim_AfterTtl_RunsAgain() throws Exception {
+        store.claim("ads:k6", "fp").complete(null, () -> new byte[]{1});
+        assertTrue(store.claim("ads:k6", "fp").isReplay());
+
+        now.addAndGet(Duration.ofMinutes(11).toMillis());
+
+        assertFalse(store.claim("ads:k6", "fp").isReplay());
+    }
+
+    @Test
+    void testFingerprint_IgnoresMapKeyOrder() {
+        Map<String, Object> ordered = new java.util.LinkedHashMap<>();
+        ordered.put("a", 1);
+        ordered.put("b", 2);
+        Map<String, Object> reversed = new java.util.LinkedHashMap<>();
+        reversed.put("b", 2);
+        reversed.put("a", 1);
+
+        assertEquals(IdempotencyStore.fingerprint(ordered), IdempotencyStore.fingerprint(reversed));
+    }
+
+    @Test
+    void testClientScope_HidesApiKeyAndFallsBackToAddress() {
+        String scope = IdempotencyStore.clientScope("secret-key", "10.0.0.1");
+
+        assertFalse(scope.contains("secret-key"));
+        assertEquals(scope, IdempotencyStore.clientScope("secret-key", "10.0.0.2"));
+        assertNotEquals(scope, IdempotencyStore.clientScope("other-key", "10.0.0.1"));
+        assertEquals("ip:10.0.0.1", IdempotencyStore.clientScope(null, "10.0.0.1"));
+    }
+}
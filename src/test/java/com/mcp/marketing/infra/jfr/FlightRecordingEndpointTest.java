@@ -0,0 +1,79 @@
+package com.mcp.marketing.infra.jfr;
+
+import com.mcp.marketing.domain.model.ExecutionMode;
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.OrchestratorService;
+import com.mcp.marketing.domain.service.ValidationService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for on-demand flight recordings and the generation events they capture
+ */
+class FlightRecordingEndpointTest {
+
+    private final FlightRecordingEndpoint endpoint =
+            new FlightRecordingEndpoint(Duration.ofMinutes(1), DataSize.ofMegabytes(10), "default");
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    void testStart_CapsDurationAtConfiguredMaximum() {
+        Map<String, Object> status = endpoint.start(Duration.ofHours(1));
+
+        assertEquals("RUNNING", status.get("state"));
+        assertEquals("PT1M", status.get("duration"));
+    }
+
+    @Test
+    void testDump_ContainsGenerationEventsForRequest() throws Exception {
+        endpoint.start(null);
+        new OrchestratorService(new ValidationService()).generateStrategy(context("jfr-001"));
+
+        WebEndpointResponse<Resource> dump = endpoint.dump(FlightRecordingEndpoint.DUMP);
+
+        assertEquals(WebEndpointResponse.STATUS_OK, dump.getStatus());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getBody().getFile().toPath()).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.mcp.marketing."))
+                .filter(event -> "jfr-001".equals(event.getString("requestId")))
+                .toList();
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                .contains("com.mcp.marketing.Build", "com.mcp.marketing.Render", "com.mcp.marketing.Validation");
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.mcp.marketing.Render"))
+                .extracting(event -> event.getString("artifactType"))
+                .containsExactly("ads", "seo-plan", "crm-sequences");
+    }
+
+    @Test
+    void testDump_WithoutRecording_ReturnsNotFound() {
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.dump(FlightRecordingEndpoint.DUMP).getStatus());
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+
+    private static MarketingContext context(String requestId) {
+        return MarketingContext.builder()
+                .requestId(requestId)
+                .product("Cloud CRM Platform")
+                .audience("Small Business Owners")
+                .brandVoice("Professional and Approachable")
+                .goals("Generate 100 qualified leads per month")
+                .language("en-US")
+                .executionMode(ExecutionMode.DETERMINISTIC)
+                .build();
+    }
+}
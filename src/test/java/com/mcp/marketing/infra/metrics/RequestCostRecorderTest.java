@@ -0,0 +1,81 @@
+package com.mcp.marketing.infra.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for cost distributions per artifact and tenant
+ */
+class RequestCostRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testRecord_PublishesCpuAndAllocationPerArtifactAndTenant() {
+        RequestCostRecorder recorder = new RequestCostRecorder(registry, 10, 5, Duration.ofMinutes(1));
+
+        recorder.record(StageMetrics.REST, "ads", "acme", "r1", measured());
+        recorder.record(StageMetrics.REST, "ads", "acme", "r2", measured());
+        recorder.record(StageMetrics.MCP, "strategy", null, "r3", measured());
+
+        assertEquals(2, registry.get(RequestCostRecorder.ALLOCATED)
+                .tags("entry", "rest", "artifact", "ads", "tenant", "acme").summary().count());
+        assertEquals(2, registry.get(RequestCostRecorder.CPU)
+                .tags("entry", "rest", "artifact", "ads", "tenant", "acme").summary().count());
+        assertTrue(registry.get(RequestCostRecorder.ALLOCATED)
+                .tags("entry", "mcp", "artifact", "strategy", "tenant", "none").summary().totalAmount() > 0);
+    }
+
+    @Test
+    void testRecord_TenantsBeyondLimitShareOtherTag() {
+        RequestCostRecorder recorder = new RequestCostRecorder(registry, 1, 0, Duration.ofMinutes(1));
+
+        recorder.record(StageMetrics.REST, "ads", "acme", "r1", measured());
+        recorder.record(StageMetrics.REST, "ads", "globex", "r2", measured());
+        recorder.record(StageMetrics.REST, "ads", "initech", "r3", measured());
+
+        assertEquals(1, registry.get(RequestCostRecorder.ALLOCATED).tag("tenant", "acme").summary().count());
+        assertEquals(2, registry.get(RequestCostRecorder.ALLOCATED).tag("tenant", "other").summary().count());
+        assertTrue(registry.find(RequestCostRecorder.ALLOCATED).tag("tenant", "globex").summaries().isEmpty());
+    }
+
+    @Test
+    void testRecord_UnmeasuredCostIsCountedNotDistributed() throws InterruptedException {
+        RequestCostRecorder recorder = new RequestCostRecorder(registry, 10, 0, Duration.ofMinutes(1));
+        RequestCost cost = new RequestCost();
+        Thread.ofVirtual().start(() -> cost.measure(() -> { })).join();
+
+        recorder.record(StageMetrics.MCP, "ads", "client", "r1", cost);
+
+        assertEquals(1.0, registry.get(RequestCostRecorder.UNMEASURED).tag("resource", "cpu").counter().count());
+        assertEquals(0, registry.get(RequestCostRecorder.CPU).summary().count());
+    }
+
+    @Test
+    void testRecord_ReportsAfterIntervalAndStartsNewWindow() {
+        AtomicLong clock = new AtomicLong();
+        RequestCostRecorder recorder = new RequestCostRecorder(null, 10, 2, Duration.ofSeconds(60), clock::get);
+
+        recorder.record(StageMetrics.REST, "ads", "acme", "r1", measured());
+        recorder.record(StageMetrics.REST, "ads", "acme", "r2", measured());
+        recorder.record(StageMetrics.REST, "ads", "acme", "r3", measured());
+        assertEquals(2, recorder.window().size());
+
+        clock.set(Duration.ofSeconds(61).toNanos());
+        recorder.record(StageMetrics.REST, "ads", "acme", "r4", measured());
+
+        assertEquals(List.of("r4"), recorder.window());
+    }
+
+    private static RequestCost measured() {
+        RequestCost cost = new RequestCost();
+        cost.measure(() -> new byte[4096].length);
+        return cost;
+    }
+}
@@ -0,0 +1,108 @@
+package com.mcp.marketing.infra.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-request cost sampling and propagation to worker threads
+ */
+class RequestCostTest {
+
+    private final ExecutorService workers = new CostAttributingExecutorService(Executors.newSingleThreadExecutor());
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void testMeasure_PlatformThread_RecordsAllocationAndCpu() {
+        RequestCost cost = new RequestCost();
+
+        int total = cost.measure(() -> allocate(64));
+
+        assertTrue(total > 0);
+        assertTrue(cost.isAllocationMeasured());
+        assertTrue(cost.getAllocatedBytes() >= 64 * 1024);
+        assertTrue(cost.isCpuMeasured());
+        assertTrue(cost.getCpuNanos() >= 0);
+    }
+
+    @Test
+    void testBegin_BindsCurrentAndRestoresPrevious() {
+        RequestCost outer = new RequestCost();
+        RequestCost inner = new RequestCost();
+
+        try (RequestCost.Segment ignored = outer.begin()) {
+            try (RequestCost.Segment nested = inner.begin()) {
+                assertSame(inner, RequestCost.current());
+            }
+            assertSame(outer, RequestCost.current());
+        }
+        assertNull(RequestCost.current());
+    }
+
+    @Test
+    void testExecutor_ChargesWorkerAllocationToSubmittingRequest() throws Exception {
+        RequestCost cost = new RequestCost();
+        long onWorker;
+
+        try (RequestCost.Segment ignored = cost.begin()) {
+            onWorker = workers.submit(() -> {
+                assertSame(cost, RequestCost.current());
+                allocate(256);
+                return cost.getAllocatedBytes();
+            }).get(5, TimeUnit.SECONDS);
+        }
+
+        assertTrue(cost.settle(5_000));
+        assertTrue(cost.getAllocatedBytes() >= 256 * 1024);
+        assertTrue(onWorker < cost.getAllocatedBytes());
+    }
+
+    @Test
+    void testSettle_ParksUntilSegmentClosesAndSkipsWaitWhenInterrupted() throws Exception {
+        RequestCost cost = new RequestCost();
+        CountDownLatch opened = new CountDownLatch(1);
+        CountDownLatch close = new CountDownLatch(1);
+        Future<?> worker = workers.submit(() -> {
+            try (RequestCost.Segment ignored = cost.begin()) {
+                opened.countDown();
+                close.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+        assertTrue(opened.await(5, TimeUnit.SECONDS));
+
+        Thread.currentThread().interrupt();
+        assertFalse(cost.settle(5_000));
+        assertTrue(Thread.interrupted(), "Interrupt status is kept");
+
+        close.countDown();
+        assertTrue(cost.settle(5_000));
+        worker.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testExecutor_OutsideRequest_RunsUnmeasured() throws Exception {
+        assertNull(workers.submit(RequestCost::current).get(5, TimeUnit.SECONDS));
+    }
+
+    private static int allocate(int kilobytes) {
+        int total = 0;
+        for (int i = 0; i < kilobytes; i++) {
+            byte[] chunk = new byte[1024];
+            chunk[i % chunk.length] = 1;
+            total += chunk.length;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mcp.marketing.infra.metrics;
+
+import com.mcp.marketing.domain.model.StageTimings;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for publishing stage timings as tagged timers
+ */
+class StageMetricsTest {
+
+    @Test
+    void testRecord_PublishesOneTimerPerStageWithSloBuckets() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StageMetrics metrics = new StageMetrics(registry, List.of(Duration.ofMillis(5), Duration.ofMillis(50)));
+        StageTimings timings = StageTimings.start("ads");
+        timings.record(StageTimings.VALIDATE, TimeUnit.MILLISECONDS.toNanos(2));
+        timings.record(StageTimings.PERSIST, TimeUnit.MILLISECONDS.toNanos(20));
+
+        metrics.record(StageMetrics.MCP, timings);
+
+        Timer persist = registry.get("generation.stage.duration")
+                .tags("stage", "persist", "artifact", "ads", "entry", "mcp")
+                .timer();
+        assertEquals(1, persist.count());
+        assertEquals(20.0, persist.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        CountAtBucket[] buckets = persist.takeSnapshot().histogramCounts();
+        assertTrue(Arrays.stream(buckets).anyMatch(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 50.0 && bucket.count() == 1));
+        assertTrue(Arrays.stream(buckets).anyMatch(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 5.0 && bucket.count() == 0));
+        assertEquals(1, registry.get("generation.stage.duration").tag("stage", "validate").timer().count());
+    }
+
+    @Test
+    void testRecord_IgnoresDisabledTimings() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StageMetrics metrics = new StageMetrics(registry, List.of());
+        StageTimings.none().record(StageTimings.PARSE, 1_000);
+
+        metrics.record(StageMetrics.REST, StageTimings.none());
+
+        assertThat(registry.getMeters()).isEmpty();
+        assertThat(StageTimings.none().getNanos()).isEmpty();
+    }
+}
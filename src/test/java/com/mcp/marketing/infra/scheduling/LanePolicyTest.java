@@ -0,0 +1,32 @@
+package com.mcp.marketing.infra.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for lane selection by header, client and endpoint
+ */
+class LanePolicyTest {
+
+    private final LanePolicy policy = new LanePolicy(List.of("batch-key"), List.of("/api/marketing/strategy"));
+
+    @Test
+    void testResolve_DefaultsToInteractive() {
+        assertEquals(Lane.INTERACTIVE, policy.resolve(null, "web-key", "/api/marketing/ads"));
+    }
+
+    @Test
+    void testResolve_HeaderClientOrPathSelectsBulk() {
+        assertEquals(Lane.BULK, policy.resolve("BULK", "web-key", "/api/marketing/ads"));
+        assertEquals(Lane.BULK, policy.resolve(null, "batch-key", "/api/marketing/ads"));
+        assertEquals(Lane.BULK, policy.resolve(null, null, "/api/marketing/strategy"));
+    }
+
+    @Test
+    void testResolve_BulkClientCannotPromoteItself() {
+        assertEquals(Lane.BULK, policy.resolve("interactive", "batch-key", "/api/marketing/ads"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.mcp.marketing.infra.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for reserved interactive capacity and bulk preemption between lanes
+ */
+class PriorityLaneSchedulerTest {
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testExecute_BulkCannotTakeReservedInteractiveSlots() throws Exception {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(2, 1, Duration.ofSeconds(5), null);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        submit(scheduler, Lane.BULK, "B1", order, true);
+        awaitUntil(() -> scheduler.running(Lane.BULK) == 1);
+        submit(scheduler, Lane.BULK, "B2", order, false);
+        awaitUntil(() -> scheduler.queued(Lane.BULK) == 1);
+
+        assertEquals("I1", scheduler.execute(Lane.INTERACTIVE, () -> "I1"));
+        assertEquals(1, scheduler.queued(Lane.BULK));
+        assertEquals(1, scheduler.getMaxBulk());
+    }
+
+    @Test
+    void testExecute_FreeSlotGoesToInteractiveBeforeOlderBulk() throws Exception {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(1, 0, Duration.ofSeconds(5), null);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        Future<?> first = submit(scheduler, Lane.INTERACTIVE, "I1", order, true);
+        awaitUntil(() -> scheduler.running(Lane.INTERACTIVE) == 1);
+        Future<?> bulk = submit(scheduler, Lane.BULK, "B1", order, false);
+        awaitUntil(() -> scheduler.queued(Lane.BULK) == 1);
+        Future<?> second = submit(scheduler, Lane.INTERACTIVE, "I2", order, false);
+        awaitUntil(() -> scheduler.queued(Lane.INTERACTIVE) == 1);
+
+        release.countDown();
+        for (Future<?> call : List.of(first, bulk, second)) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(order).containsExactly("I1", "I2", "B1");
+    }
+
+    @Test
+    void testCheckpoint_BulkYieldsSlotToWaitingInteractive() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(1, 0, Duration.ofSeconds(5), registry);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        Future<?> bulk = callers.submit(() -> {
+            try (PriorityLaneScheduler.Permit permit = scheduler.acquire(Lane.BULK)) {
+                order.add("bulk-stage-1");
+                release.await(5, TimeUnit.SECONDS);
+                permit.checkpoint();
+                order.add("bulk-stage-2");
+            }
+            return null;
+        });
+        awaitUntil(() -> scheduler.running(Lane.BULK) == 1);
+        Future<?> interactive = submit(scheduler, Lane.INTERACTIVE, "interactive", order, false);
+        awaitUntil(() -> scheduler.queued(Lane.INTERACTIVE) == 1);
+
+        release.countDown();
+        bulk.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("bulk-stage-1", "interactive", "bulk-stage-2");
+        assertEquals(1.0, registry.get("generation.lane.preempted").counter().count());
+        assertEquals(0, scheduler.running(Lane.BULK));
+    }
+
+    @Test
+    void testCheckpoint_KeepsSlotWhenNoInteractiveWaits() throws Exception {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(1, 0, Duration.ofSeconds(5), null);
+
+        try (PriorityLaneScheduler.Permit permit = scheduler.acquire(Lane.BULK)) {
+            permit.checkpoint();
+            assertEquals(1, scheduler.running(Lane.BULK));
+        }
+        assertEquals(0, scheduler.running(Lane.BULK));
+    }
+
+    @Test
+    void testExecute_QueueTimeoutIsRejectedAndRecordedPerLane() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler(1, 0, Duration.ofMillis(50), registry);
+        List<String> order = new CopyOnWriteArrayList<>();
+        submit(scheduler, Lane.INTERACTIVE, "I1", order, true);
+        awaitUntil(() -> scheduler.running(Lane.INTERACTIVE) == 1);
+
+        LaneRejectedException rejection = assertThrows(LaneRejectedException.class,
+                () -> scheduler.execute(Lane.BULK, () -> "B1"));
+
+        assertEquals(Lane.BULK, rejection.getLane());
+        assertEquals(0, scheduler.queued(Lane.BULK));
+        assertEquals(1.0, registry.get("generation.lane.running").tag("lane", "interactive").gauge().value());
+        assertEquals(1, registry.get("generation.lane.wait").tag("lane", "interactive").timer().count());
+        assertEquals(0, registry.get("generation.lane.wait").tag("lane", "bulk").timer().count());
+    }
+
+    private Future<?> submit(PriorityLaneScheduler scheduler, Lane lane, String name,
+                             List<String> order, boolean block) {
+        return callers.submit(() -> scheduler.execute(lane, () -> {
+            order.add(name);
+            if (block) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return name;
+        }));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
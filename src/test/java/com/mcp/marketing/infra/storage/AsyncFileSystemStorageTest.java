@@ -0,0 +1,71 @@
+package com.mcp.marketing.infra.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.api.dto.StandardResponse;
+import com.mcp.marketing.config.AppConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncFileSystemStorage
+ */
+class AsyncFileSystemStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AppConfiguration appConfig;
+
+    @BeforeEach
+    void setUp() {
+        appConfig = new AppConfiguration();
+        appConfig.getOutputs().setDirectory(tempDir.toString());
+        appConfig.getOutputs().setEnabled(true);
+    }
+
+    @Test
+    void testSaveJson_WritesEnvelopeThroughAsyncChannel() throws Exception {
+        AsyncFileSystemStorage storage = new AsyncFileSystemStorage(appConfig, objectMapper);
+        StandardResponse<Map<String, Object>> payload = StandardResponse.success("req-async",
+                Map.of("artifact_type", "ads", "body", "x".repeat(200_000)));
+
+        String savedPath = storage.saveJson("ads", "req-async", payload).block(Duration.ofSeconds(5));
+
+        assertNotNull(savedPath);
+        Path saved = Paths.get(savedPath);
+        assertTrue(saved.getFileName().toString().matches("ads_req-async_\\d{8}_\\d{6}\\.json"));
+        JsonNode written = objectMapper.readTree(Files.readAllBytes(saved));
+        assertEquals("req-async", written.get("requestId").asText());
+        assertEquals(200_000, written.get("data").get("body").asText().length());
+    }
+
+    @Test
+    void testSaveJson_NothingHappensUntilSubscribed() throws Exception {
+        AsyncFileSystemStorage storage = new AsyncFileSystemStorage(appConfig, objectMapper);
+
+        storage.saveJson("ads", "req-lazy", Map.of("k", "v"));
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testSaveJson_StorageDisabled_CompletesEmpty() {
+        appConfig.getOutputs().setEnabled(false);
+        AsyncFileSystemStorage storage = new AsyncFileSystemStorage(appConfig, objectMapper);
+
+        assertNull(storage.saveJson("ads", "req-off", Map.of("k", "v")).block(Duration.ofSeconds(5)));
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.mcp.marketing.api.dto.StandardResponse;
 import com.mcp.marketing.config.AppConfiguration;
+import com.mcp.marketing.infra.id.TimeOrderedIds;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +16,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -305,4 +308,22 @@ class FileSystemStorageTest {
         assertTrue(Files.exists(newTempDir), "Directory should be created by constructor");
         assertTrue(Files.isDirectory(newTempDir), "Should be a directory");
     }
+
+    @Test
+    void testFind_SelectsTimeRangeFromRequestIds() {
+        long base = Instant.parse("2026-03-01T10:00:00Z").toEpochMilli();
+        String early = TimeOrderedIds.at(base).toString();
+        String inRange = TimeOrderedIds.at(base + 60_000).toString();
+        String late = TimeOrderedIds.at(base + 120_000).toString();
+        for (String requestId : List.of(late, early, inRange, "caller-supplied-id")) {
+            storage.saveJson("ads", requestId, Map.of("requestId", requestId));
+        }
+        storage.saveJson("seo-plan", inRange, Map.of("requestId", inRange));
+
+        List<Path> found = storage.find("ads", Instant.ofEpochMilli(base + 1), Instant.ofEpochMilli(base + 120_000));
+
+        assertEquals(1, found.size());
+        assertTrue(found.get(0).getFileName().toString().startsWith("ads_" + inRange));
+        assertEquals(3, storage.find("ads", Instant.ofEpochMilli(base), Instant.ofEpochMilli(base + 120_001)).size());
+    }
 }
@@ -2,12 +2,17 @@ package com.mcp.marketing.mcp;
 
 import com.mcp.marketing.api.dto.StandardResponse;
 import com.mcp.marketing.domain.model.AdsResult;
+import com.mcp.marketing.domain.model.ArtifactType;
 import com.mcp.marketing.domain.model.CrmSequencesResult;
+import com.mcp.marketing.domain.model.MarketingContext;
 import com.mcp.marketing.domain.model.SeoPlanResult;
 import com.mcp.marketing.domain.model.StrategyResult;
 import com.mcp.marketing.domain.ports.StoragePort;
+import com.mcp.marketing.domain.service.DeadlineExceededException;
+import com.mcp.marketing.domain.service.GenerationProgress;
 import com.mcp.marketing.domain.service.OrchestratorService;
 import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.mcp.progress.ToolCall;
 import com.mcp.marketing.mcp.server.McpMarketingServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,16 +22,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +72,8 @@ class McpServerSmokeTest {
         assertNotNull(server.getSeoTool());
         assertNotNull(server.getCrmTool());
         assertNotNull(server.getStrategyTool());
+        assertNotNull(server.getBundleTool());
+        assertNotNull(server.getSessionTool());
         assertNotNull(server.getProductResource());
         assertNotNull(server.getAudienceResource());
         assertNotNull(server.getBrandResource());
@@ -70,7 +83,7 @@ class McpServerSmokeTest {
     @Test
     void adsToolReturnsSuccessPayload() {
         when(validationService.validateContext(any())).thenReturn(List.of());
-        when(orchestratorService.generateAds(any())).thenReturn(sampleAdsResult());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
         when(storagePort.saveJson(eq("ads"), anyString(), any(StandardResponse.class))).thenReturn("/tmp/ads.json");
 
         Map<String, Object> result = server.getAdsTool().execute(validAdsInput());
@@ -85,6 +98,241 @@ class McpServerSmokeTest {
         verify(storagePort).saveJson(eq("ads"), anyString(), any(StandardResponse.class));
     }
 
+    @Test
+    void callToolRoutesThroughSchedulerPerClient() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("_meta", Map.of("clientId", "agent-1"));
+        Map<String, Object> result = server.callTool("ads", input);
+
+        assertTrue((Boolean) result.get("success"));
+        assertThat(server.getToolScheduler().snapshot())
+                .singleElement()
+                .satisfies(stats -> {
+                    assertEquals("agent-1", stats.getClientId());
+                    assertEquals(1, stats.getCompleted());
+                    assertEquals(0, stats.getInFlight());
+                });
+
+        Map<String, Object> unknown = server.callTool("podcast", Map.of());
+        assertEquals("TOOL_NOT_FOUND", unknown.get("error"));
+        assertEquals(404, unknown.get("status"));
+    }
+
+    @Test
+    void callToolDropsCallWhoseDeadlineHasPassed() {
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("_meta", Map.of("clientId", "agent-1", "timeoutMs", 0));
+
+        Map<String, Object> result = server.callTool("ads", input);
+
+        assertEquals("DEADLINE_EXCEEDED", result.get("error"));
+        assertEquals(504, result.get("status"));
+        verify(orchestratorService, never()).generateAds(any(), anyBoolean());
+    }
+
+    @Test
+    void adsToolSkipsPersistenceOnceDeadlinePassed() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("_meta", Map.of("deadline", System.currentTimeMillis() - 1));
+        Map<String, Object> result = server.getAdsTool().execute(input);
+
+        assertTrue((Boolean) result.get("success"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) result.get("data");
+        assertThat(data).containsEntry("partial", true)
+                .containsEntry("skipped", List.of("persist"))
+                .doesNotContainKey("output_path");
+        verify(storagePort, never()).saveJson(anyString(), anyString(), any());
+    }
+
+    @Test
+    void adsToolReportsDeadlineExceededAsGatewayTimeout() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenThrow(new DeadlineExceededException("ads"));
+
+        Map<String, Object> result = server.getAdsTool().execute(validAdsInput());
+
+        assertFalse((Boolean) result.get("success"));
+        assertEquals(DeadlineExceededException.CODE, result.get("error"));
+        assertEquals(504, result.get("status"));
+    }
+
+    @Test
+    void adsToolReturnsStageTimingsWhenRequested() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("_meta", Map.of("timings", true));
+        Map<String, Object> result = server.getAdsTool().execute(input);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) result.get("data");
+        assertThat(data.get("timings")).isInstanceOfSatisfying(Map.class, timings -> assertThat(timings)
+                .containsKeys("parse", "validate", "envelope", "persist", "serialize"));
+        assertThat(server.getAdsTool().execute(validAdsInput()).get("data"))
+                .isInstanceOfSatisfying(Map.class, plain -> assertThat(plain).doesNotContainKey("timings"));
+    }
+
+    @Test
+    void callToolReplaysRepeatedIdempotencyKey() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("_meta", Map.of("idempotencyKey", "retry-1"));
+        Map<String, Object> first = server.callTool("ads", input);
+        Map<String, Object> retry = server.callTool("ads", input);
+
+        assertTrue((Boolean) retry.get("success"));
+        assertEquals(first.get("requestId"), retry.get("requestId"));
+        verify(orchestratorService, times(1)).generateAds(any(), anyBoolean());
+
+        input.put("goals", "Something else");
+        Map<String, Object> reused = server.callTool("ads", input);
+        assertEquals("IDEMPOTENCY_KEY_REUSED", reused.get("error"));
+        assertEquals(422, reused.get("status"));
+    }
+
+    @Test
+    void callToolScopesIdempotencyKeyByClient() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> first = new LinkedHashMap<>(validAdsInput());
+        first.put("_meta", Map.of("clientId", "agent-1", "idempotencyKey", "retry-1"));
+        Map<String, Object> second = new LinkedHashMap<>(validAdsInput());
+        second.put("goals", "Something else");
+        second.put("_meta", Map.of("clientId", "agent-2", "idempotencyKey", "retry-1"));
+
+        Map<String, Object> fromFirst = server.callTool("ads", first);
+        Map<String, Object> fromSecond = server.callTool("ads", second);
+
+        assertTrue((Boolean) fromSecond.get("success"));
+        assertNotEquals(fromFirst.get("requestId"), fromSecond.get("requestId"));
+        verify(orchestratorService, times(2)).generateAds(any(), anyBoolean());
+    }
+
+    @Test
+    void adsToolResolvesCatalogReferences() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("productId", "crm-001");
+        input.put("audienceId", "aud-001");
+        input.put("brandId", "brand-001");
+        input.put("goals", "Acquire leads");
+        input.put("language", "en-US");
+
+        Map<String, Object> result = server.getAdsTool().execute(input);
+
+        assertTrue((Boolean) result.get("success"));
+        ArgumentCaptor<MarketingContext> captor = ArgumentCaptor.forClass(MarketingContext.class);
+        verify(orchestratorService).generateAds(captor.capture(), eq(true));
+        assertEquals("Cloud CRM Platform", captor.getValue().getProduct());
+        assertEquals("Small Business Owners", captor.getValue().getAudience());
+        assertThat(captor.getValue().getBrandVoice())
+                .startsWith("Professional, authoritative, yet approachable")
+                .contains("Clear and direct");
+    }
+
+    @Test
+    void bundleToolReportsPartFailuresWithoutFailingTheBundle() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        Map<ArtifactType, CompletableFuture<Object>> parts = new EnumMap<>(ArtifactType.class);
+        parts.put(ArtifactType.ADS, CompletableFuture.completedFuture(sampleAdsResult()));
+        parts.put(ArtifactType.CRM_SEQUENCES, CompletableFuture.failedFuture(new IllegalStateException("boom")));
+        when(orchestratorService.generateBundle(any(), eq(EnumSet.of(ArtifactType.ADS, ArtifactType.CRM_SEQUENCES)),
+                any(), any(), anyBoolean()))
+                .thenReturn(parts);
+        when(storagePort.saveJson(eq("bundle"), anyString(), any(StandardResponse.class))).thenReturn("/tmp/bundle.json");
+
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("artifacts", List.of("crm-sequences", "ads"));
+        Map<String, Object> result = server.getBundleTool().execute(input);
+
+        assertTrue((Boolean) result.get("success"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) result.get("data");
+        assertThat(data).containsEntry("artifact_type", "bundle")
+                .containsEntry("partial", true)
+                .containsEntry("failed_parts", List.of("crm-sequences"))
+                .containsEntry("output_path", "/tmp/bundle.json");
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> bundleParts = (Map<String, Map<String, Object>>) data.get("parts");
+        assertThat(bundleParts.get("ads")).containsEntry("success", true).containsKey("result");
+        assertThat(bundleParts.get("crm-sequences")).containsEntry("success", false)
+                .containsEntry("error", "GENERATION_ERROR")
+                .containsEntry("message", "boom");
+        // One validation and one grouped write for the whole bundle
+        verify(validationService, times(1)).validateContext(any());
+        verify(storagePort, times(1)).saveJson(eq("bundle"), anyString(), any(StandardResponse.class));
+    }
+
+    @Test
+    void bundleToolRejectsUnknownArtifactType() {
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.put("artifacts", List.of("ads", "podcast"));
+
+        Map<String, Object> result = server.getBundleTool().execute(input);
+
+        assertFalse((Boolean) result.get("success"));
+        assertEquals("INVALID_INPUT", result.get("error"));
+        assertEquals("Unknown artifact type: podcast", result.get("message"));
+    }
+
+    @Test
+    void sessionContextIsReusedAcrossToolCalls() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateAds(any(), anyBoolean())).thenReturn(sampleAdsResult());
+
+        Map<String, Object> setInput = new LinkedHashMap<>(validAdsInput());
+        setInput.put("action", "set");
+        setInput.put("sessionId", "session-1");
+        Map<String, Object> setResult = server.getSessionTool().execute(setInput);
+        assertTrue((Boolean) setResult.get("success"));
+
+        Map<String, Object> result = server.getAdsTool().execute(Map.of("sessionId", "session-1", "budget", "1000"));
+
+        assertTrue((Boolean) result.get("success"));
+        ArgumentCaptor<MarketingContext> captor = ArgumentCaptor.forClass(MarketingContext.class);
+        verify(orchestratorService).generateAds(captor.capture(), eq(true));
+        assertEquals(validAdsInput().get("product"), captor.getValue().getProduct());
+        assertEquals("1000", captor.getValue().getBudget());
+        assertNotNull(captor.getValue().getDisplayUrl());
+        // The base context was validated once when the session was set
+        verify(validationService, times(1)).validateContext(any());
+    }
+
+    @Test
+    void toolRejectsUnknownSession() {
+        Map<String, Object> result = server.getAdsTool().execute(Map.of("sessionId", "missing"));
+
+        assertFalse((Boolean) result.get("success"));
+        assertEquals("INVALID_INPUT", result.get("error"));
+    }
+
+    @Test
+    void toolRejectsUnknownCatalogReference() {
+        Map<String, Object> input = new LinkedHashMap<>(validAdsInput());
+        input.remove("brandVoice");
+        input.put("brandId", "brand-404");
+
+        Map<String, Object> result = server.getAdsTool().execute(input);
+
+        assertFalse((Boolean) result.get("success"));
+        assertEquals("INVALID_INPUT", result.get("error"));
+        assertEquals("Unknown brandId: brand-404", result.get("message"));
+        verify(orchestratorService, never()).generateAds(any(), anyBoolean());
+    }
+
     @Test
     void seoToolReturnsValidationError() {
         when(validationService.validateContext(any())).thenReturn(List.of("language missing"));
@@ -109,7 +357,7 @@ class McpServerSmokeTest {
     @Test
     void strategyToolHandlesInternalError() {
         when(validationService.validateContext(any())).thenReturn(List.of());
-        when(orchestratorService.generateStrategy(any())).thenThrow(new IllegalStateException("boom"));
+        when(orchestratorService.generateStrategy(any(), any(), anyBoolean())).thenThrow(new IllegalStateException("boom"));
 
         Map<String, Object> result = server.getStrategyTool().execute(validStrategyInput());
 
@@ -121,7 +369,7 @@ class McpServerSmokeTest {
     @Test
     void strategyToolPersistsSuccessfulResponse() {
         when(validationService.validateContext(any())).thenReturn(List.of());
-        when(orchestratorService.generateStrategy(any())).thenReturn(sampleStrategyResult());
+        when(orchestratorService.generateStrategy(any(), any(), anyBoolean())).thenReturn(sampleStrategyResult());
         when(storagePort.saveJson(eq("strategy"), anyString(), any(StandardResponse.class))).thenReturn("/tmp/strategy.json");
 
         Map<String, Object> result = server.getStrategyTool().execute(validStrategyInput());
@@ -134,10 +382,45 @@ class McpServerSmokeTest {
         verify(storagePort).saveJson(eq("strategy"), anyString(), any(StandardResponse.class));
     }
 
+    @Test
+    void strategyToolReportsProgressAndHonorsCancellation() {
+        when(validationService.validateContext(any())).thenReturn(List.of());
+        when(orchestratorService.generateStrategy(any(), any(), anyBoolean())).thenAnswer(invocation -> {
+            GenerationProgress progress = invocation.getArgument(1);
+            progress.onStage("ads");
+            Thread.sleep(10_000);
+            return sampleStrategyResult();
+        });
+        List<Map<String, Object>> notifications = new CopyOnWriteArrayList<>();
+        server.addNotificationHandler((method, params) -> {
+            if (ToolCall.PROGRESS.equals(method)) {
+                notifications.add(params);
+                if ("ads".equals(params.get("message"))) {
+                    server.cancelToolCall(params.get("progressToken"), "user aborted");
+                }
+            }
+        });
+
+        Map<String, Object> input = new LinkedHashMap<>(validStrategyInput());
+        input.put("_meta", Map.of("progressToken", "token-1"));
+        Map<String, Object> result = server.getStrategyTool().execute(input);
+
+        assertFalse((Boolean) result.get("success"));
+        assertEquals("CANCELLED", result.get("error"));
+        assertEquals(503, result.get("status"));
+        assertEquals("Tool call cancelled: user aborted", result.get("message"));
+        assertThat(notifications).extracting(params -> params.get("message")).containsExactly("validate", "ads");
+        assertThat(notifications).allSatisfy(params -> assertThat(params)
+                .containsEntry("progressToken", "token-1")
+                .containsEntry("total", 5));
+        assertEquals(0, server.getCallRegistry().inFlight());
+        verify(storagePort, never()).saveJson(anyString(), anyString(), any());
+    }
+
     @Test
     void crmToolSuccessPersistsEnvelope() {
         when(validationService.validateContext(any())).thenReturn(List.of());
-        when(orchestratorService.generateCrmSequences(any())).thenReturn(sampleCrmResult());
+        when(orchestratorService.generateCrmSequences(any(), anyBoolean())).thenReturn(sampleCrmResult());
         when(storagePort.saveJson(eq("crm-sequences"), anyString(), any(StandardResponse.class))).thenReturn("/tmp/crm.json");
 
         Map<String, Object> result = server.getCrmTool().execute(validCrmInput());
@@ -153,7 +436,7 @@ class McpServerSmokeTest {
     @Test
     void seoToolCastsOptionalInputs() {
         when(validationService.validateContext(any())).thenReturn(List.of());
-        when(orchestratorService.generateSeoPlan(any())).thenReturn(sampleSeoPlan());
+        when(orchestratorService.generateSeoPlan(any(), anyBoolean())).thenReturn(sampleSeoPlan());
         when(storagePort.saveJson(eq("seo-plan"), anyString(), any(StandardResponse.class))).thenReturn(null);
 
         Map<String, Object> result = server.getSeoTool().execute(validSeoInput());
@@ -0,0 +1,128 @@
+package com.mcp.marketing.mcp.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for tool call progress reporting and cancellation
+ */
+class ToolCallRegistryTest {
+
+    private final List<Map<String, Object>> notifications = new ArrayList<>();
+    private final ToolCallRegistry registry = new ToolCallRegistry((method, params) -> {
+        assertEquals(ToolCall.PROGRESS, method);
+        notifications.add(params);
+    });
+
+    @Test
+    void testPhase_WithProgressToken_EmitsNumberedNotifications() {
+        ToolCall call = registry.open("req-1", Map.of("_meta", Map.of("progressToken", 7)), 3);
+
+        call.phase("validate");
+        call.phase("ads");
+
+        assertThat(notifications).hasSize(2);
+        assertThat(notifications.get(1))
+                .containsEntry("progressToken", 7)
+                .containsEntry("progress", 2)
+                .containsEntry("total", 3)
+                .containsEntry("message", "ads");
+    }
+
+    @Test
+    void testPhase_WithoutProgressToken_EmitsNothing() {
+        ToolCall call = registry.open("req-1", Map.of(), 3);
+
+        call.phase("validate");
+
+        assertThat(notifications).isEmpty();
+    }
+
+    @Test
+    void testCancel_ByProgressTokenOrRequestId_CancelsTrackedWork() {
+        ToolCall call = registry.open("req-1", Map.of("_meta", Map.of("progressToken", "tok")), 3);
+        CompletableFuture<Object> work = call.track(new CompletableFuture<>());
+
+        assertTrue(registry.cancel("tok", "user aborted"));
+
+        assertTrue(work.isCancelled());
+        assertTrue(call.isCancelled());
+        CancellationException error = assertThrows(CancellationException.class, () -> call.phase("persist"));
+        assertEquals("Tool call cancelled: user aborted", error.getMessage());
+        assertTrue(call.track(new CompletableFuture<>()).isCancelled(), "Work tracked after cancelling is cancelled");
+        assertTrue(registry.cancel("req-1", null));
+        assertEquals("user aborted", call.getCancelReason());
+    }
+
+    @Test
+    void testCancel_SameProgressTokenFromTwoClients_OnlyCancelsThatClientsCall() {
+        ToolCall first = registry.open("req-1", Map.of("_meta", Map.of("progressToken", 1, "clientId", "a")), 3);
+        ToolCall second = registry.open("req-2", Map.of("_meta", Map.of("progressToken", 1), "sessionId", "s-b"), 3);
+        assertEquals(2, registry.inFlight());
+
+        assertFalse(registry.cancel(1, "no client"));
+        assertTrue(registry.cancel("s-b", 1, "user aborted"));
+
+        assertFalse(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertEquals("a", first.getClientId());
+
+        registry.close(second);
+        assertTrue(registry.cancel("a", 1, "user aborted"));
+        assertTrue(first.isCancelled());
+    }
+
+    @Test
+    void testCancelJsonRpc_WithoutProgressToken_CancelsCallOfThatClient() {
+        ToolCall call = registry.open("req-1", Map.of("_meta", Map.of("clientId", "agent", "jsonRpcId", 9)), 3);
+
+        assertFalse(registry.cancelJsonRpc(null, 9, "other client"));
+        assertFalse(registry.cancel("agent", 9, "not a progress token"));
+        assertTrue(registry.cancelJsonRpc("agent", 9, "user aborted"));
+
+        assertTrue(call.isCancelled());
+        assertEquals("user aborted", call.getCancelReason());
+        registry.close(call);
+        assertEquals(0, registry.inFlight());
+        assertFalse(registry.cancelJsonRpc("agent", 9, "late"));
+    }
+
+    @Test
+    void testCancel_OtherClientsScopedIds_AreNotReachableUnscoped() {
+        ToolCall victim = registry.open("req-1",
+                Map.of("_meta", Map.of("clientId", "victim", "progressToken", "p1", "jsonRpcId", 5)), 3);
+        ToolCall own = registry.open("req-2", Map.of("_meta", Map.of("clientId", "mallory", "progressToken", "jsonRpcId:5")), 3);
+
+        assertFalse(registry.cancel("mallory", "victim:p1", "cross-client"));
+        assertFalse(registry.cancel("victim:p1", "cross-client"));
+        assertFalse(registry.cancel("mallory", "p1", "cross-client"));
+        assertFalse(registry.cancelJsonRpc("mallory", 5, "cross-client"));
+        assertFalse(victim.isCancelled());
+
+        // A progress token spelled like a JSON-RPC key only matches the progress token
+        assertFalse(registry.cancel("victim", "jsonRpcId:5", "wrong kind"));
+        assertFalse(victim.isCancelled());
+        assertTrue(registry.cancel("mallory", "jsonRpcId:5", "own call"));
+        assertTrue(own.isCancelled());
+    }
+
+    @Test
+    void testClose_RemovesCall() {
+        ToolCall call = registry.open("req-1", Map.of("_meta", Map.of("progressToken", "tok")), 3);
+        assertEquals(1, registry.inFlight());
+
+        registry.close(call);
+
+        assertEquals(0, registry.inFlight());
+        assertFalse(registry.cancel("tok", "late"));
+        assertFalse(registry.cancel("req-1", "late"));
+    }
+}
@@ -0,0 +1,218 @@
+package com.mcp.marketing.mcp.resources.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResourceCatalog snapshots and incremental reloads
+ */
+class ResourceCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSnapshot_MissingDirectory_FallsBackToClasspathSeed() {
+        ResourceCatalog catalog = new ResourceCatalog("brands", tempDir.resolve("missing"));
+
+        ResourceCatalog.Snapshot snapshot = catalog.snapshot();
+
+        assertEquals(3, snapshot.size());
+        assertTrue(snapshot.contains("brand-001"));
+        assertSame(snapshot, catalog.snapshot(), "Unchanged catalog should reuse the same snapshot");
+    }
+
+    @Test
+    void testSnapshot_LoadsJsonAndYamlFiles() throws IOException {
+        Files.writeString(tempDir.resolve("a.json"), "[{\"id\":\"p-1\",\"name\":\"One\"}]");
+        Files.writeString(tempDir.resolve("b.yaml"), "id: p-2\nname: Two\nfeatures:\n  - Fast\n");
+        ResourceCatalog catalog = new ResourceCatalog("products", tempDir);
+
+        ResourceCatalog.Snapshot snapshot = catalog.snapshot();
+
+        assertThat(snapshot.ids()).containsExactly("p-1", "p-2");
+        assertEquals("Two", snapshot.get("p-2").get("name"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get("p-1").put("name", "changed"));
+    }
+
+    @Test
+    void testReload_OnlyReplacesEntriesOfChangedFile() throws IOException {
+        Path first = tempDir.resolve("first.json");
+        Path second = tempDir.resolve("second.json");
+        Files.writeString(first, "[{\"id\":\"b-1\",\"tone\":\"calm\"},{\"id\":\"b-2\",\"tone\":\"bold\"}]");
+        Files.writeString(second, "{\"id\":\"b-3\",\"tone\":\"warm\"}");
+        ResourceCatalog catalog = new ResourceCatalog("brands", tempDir);
+        ResourceCatalog.Snapshot before = catalog.snapshot();
+        Map<String, Object> untouched = before.get("b-3");
+
+        Files.writeString(first, "[{\"id\":\"b-1\",\"tone\":\"energetic\"}]");
+        assertTrue(catalog.reload(first));
+
+        ResourceCatalog.Snapshot after = catalog.snapshot();
+        assertThat(after.ids()).containsExactly("b-1", "b-3");
+        assertEquals("energetic", after.get("b-1").get("tone"));
+        assertSame(untouched, after.get("b-3"), "Entries of other files should not be re-parsed");
+        assertTrue(after.version() > before.version());
+        assertEquals("calm", before.get("b-1").get("tone"), "Published snapshots must stay immutable");
+    }
+
+    @Test
+    void testReload_MalformedFileKeepsPreviousSnapshot() throws IOException {
+        Path file = tempDir.resolve("brands.json");
+        Files.writeString(file, "{\"id\":\"b-1\"}");
+        ResourceCatalog catalog = new ResourceCatalog("brands", tempDir);
+        ResourceCatalog.Snapshot before = catalog.snapshot();
+
+        Files.writeString(file, "{ not json");
+
+        assertFalse(catalog.reload(file));
+        assertSame(before, catalog.snapshot());
+    }
+
+    @Test
+    void testRemove_DropsEntriesOfDeletedFile() throws IOException {
+        Path file = tempDir.resolve("competitors.json");
+        Files.writeString(file, "[{\"id\":\"c-1\"}]");
+        ResourceCatalog catalog = new ResourceCatalog("competitors", tempDir);
+        assertEquals(1, catalog.snapshot().size());
+
+        Files.delete(file);
+
+        assertTrue(catalog.remove(file));
+        assertEquals(0, catalog.snapshot().size());
+        assertFalse(catalog.remove(file));
+    }
+
+    @Test
+    void testReload_DuplicateIdStaysWithOwningFileUntilItDropsIt() throws IOException {
+        Path first = tempDir.resolve("a.json");
+        Path second = tempDir.resolve("b.json");
+        Files.writeString(first, "[{\"id\":\"p-1\",\"name\":\"From A\"},{\"id\":\"p-2\"}]");
+        Files.writeString(second, "[{\"id\":\"p-1\",\"name\":\"From B\"},{\"id\":\"p-3\"}]");
+        ResourceCatalog catalog = new ResourceCatalog("products", tempDir);
+
+        assertThat(catalog.snapshot().ids()).containsExactly("p-1", "p-2", "p-3");
+        assertEquals("From A", catalog.snapshot().get("p-1").get("name"));
+
+        Files.writeString(first, "[{\"id\":\"p-2\"}]");
+        assertTrue(catalog.reload(first));
+        assertEquals("From B", catalog.snapshot().get("p-1").get("name"), "Id still provided by another file");
+        assertThat(catalog.snapshot().ids()).containsExactlyInAnyOrder("p-1", "p-2", "p-3");
+
+        Files.delete(second);
+        assertTrue(catalog.remove(second));
+        assertThat(catalog.snapshot().ids()).containsExactly("p-2");
+    }
+
+    @Test
+    void testReload_EarlierNamedFileKeepsOrRegainsDuplicateId() throws IOException {
+        Path first = tempDir.resolve("a.json");
+        Path second = tempDir.resolve("b.json");
+        Files.writeString(first, "[{\"id\":\"p-1\",\"name\":\"From A\"}]");
+        Files.writeString(second, "[{\"id\":\"p-1\",\"name\":\"From B\"},{\"id\":\"p-2\"}]");
+        ResourceCatalog catalog = new ResourceCatalog("products", tempDir);
+        assertEquals("From A", catalog.snapshot().get("p-1").get("name"));
+
+        Files.writeString(first, "[{\"id\":\"p-1\",\"name\":\"From A, edited\"}]");
+        assertTrue(catalog.reload(first));
+        assertEquals("From A, edited", catalog.snapshot().get("p-1").get("name"));
+
+        Files.writeString(first, "[]");
+        assertTrue(catalog.reload(first));
+        assertEquals("From B", catalog.snapshot().get("p-1").get("name"));
+
+        Files.writeString(first, "[{\"id\":\"p-1\",\"name\":\"From A again\"}]");
+        assertTrue(catalog.reload(first));
+        assertEquals("From A again", catalog.snapshot().get("p-1").get("name"), "Name order wins over load order");
+        assertThat(catalog.snapshot().ids()).containsExactly("p-1", "p-2");
+        assertEquals(2, catalog.snapshot().size());
+    }
+
+    @Test
+    void testReload_QueriesSpanUnchangedAndReloadedFiles() throws IOException {
+        Path first = tempDir.resolve("a.json");
+        Files.writeString(first, "[{\"id\":\"c-1\",\"category\":\"CRM\"},{\"id\":\"c-2\",\"category\":\"Email\"}]");
+        Files.writeString(tempDir.resolve("b.json"), "[{\"id\":\"c-3\",\"category\":\"CRM\"}]");
+        ResourceCatalog catalog = new ResourceCatalog("competitors", tempDir);
+        assertEquals(2, catalog.snapshot().query(CatalogQuery.parse("competitors/list?category=crm")).getTotal());
+
+        Files.writeString(first, "[{\"id\":\"c-1\",\"category\":\"Email\"},{\"id\":\"c-4\",\"category\":\"CRM\"}]");
+        assertTrue(catalog.reload(first));
+
+        ResourceCatalog.Snapshot snapshot = catalog.snapshot();
+        CatalogPage crm = snapshot.query(CatalogQuery.of(Map.of("category", "crm"), null, 1));
+        assertEquals(2, crm.getTotal());
+        assertThat(ids(crm)).containsExactly("c-4");
+        assertThat(ids(snapshot.query(CatalogQuery.of(Map.of("category", "crm"), crm.getNextCursor(), 1))))
+                .containsExactly("c-3");
+        assertThat(snapshot.values()).extracting(entry -> entry.get("id")).containsExactly("c-1", "c-4", "c-3");
+        assertThat(snapshot.index().distinctValues("category")).containsExactly("Email", "CRM");
+    }
+
+    @Test
+    void testQuery_FiltersIntersectIndexedFieldsCaseInsensitively() throws IOException {
+        Files.writeString(tempDir.resolve("competitors.json"), "["
+                + "{\"id\":\"c-1\",\"category\":\"CRM\",\"industry\":\"SaaS\"},"
+                + "{\"id\":\"c-2\",\"category\":\"CRM\",\"industry\":\"Retail\"},"
+                + "{\"id\":\"c-3\",\"category\":\"Email\",\"industry\":\"SaaS\"},"
+                + "{\"id\":\"c-4\",\"category\":\"crm\",\"targetAudience\":[\"SMB\",\"Enterprise\"]}]");
+        ResourceCatalog.Snapshot snapshot = new ResourceCatalog("competitors", tempDir).snapshot();
+
+        CatalogPage crm = snapshot.query(CatalogQuery.parse("competitors/list?category=crm"));
+        CatalogPage crmSaas = snapshot.query(CatalogQuery.of(Map.of("category", "CRM", "industry", "saas"), null, 10));
+        CatalogPage enterprise = snapshot.query(CatalogQuery.parse("competitors/list?targetAudience=Enterprise"));
+
+        assertEquals(3, crm.getTotal());
+        assertThat(ids(crmSaas)).containsExactly("c-1");
+        assertThat(ids(enterprise)).containsExactly("c-4");
+        assertThat(snapshot.index().distinctValues("category")).containsExactly("CRM", "Email", "crm");
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.query(CatalogQuery.parse("competitors/list?pricing=free")));
+    }
+
+    @Test
+    void testQuery_CursorWalksEveryMatchExactlyOnce() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 25; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"id\":\"p-").append(i).append("\",\"category\":\"")
+                    .append(i % 2 == 0 ? "even" : "odd").append("\"}");
+        }
+        Files.writeString(tempDir.resolve("products.json"), json.append("]").toString());
+        ResourceCatalog.Snapshot snapshot = new ResourceCatalog("products", tempDir).snapshot();
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CatalogPage page = snapshot.query(CatalogQuery.of(Map.of("category", "even"), cursor, 5));
+            seen.addAll(ids(page));
+            assertEquals(13, page.getTotal());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(13, seen.size());
+        assertThat(seen).startsWith("p-0", "p-2").endsWith("p-24").doesNotHaveDuplicates();
+        assertThrows(IllegalArgumentException.class,
+                () -> snapshot.query(CatalogQuery.of(Map.of(), "not-a-cursor", 5)));
+        assertThrows(IllegalArgumentException.class, () -> CatalogQuery.parse("products/list?limit=0"));
+    }
+
+    private List<String> ids(CatalogPage page) {
+        List<String> ids = new ArrayList<>();
+        page.getItems().forEach(item -> ids.add((String) item.get("id")));
+        return ids;
+    }
+}
@@ -0,0 +1,160 @@
+package com.mcp.marketing.mcp.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-client limits and fair scheduling of MCP tool calls
+ */
+class ToolExecutionSchedulerTest {
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testExecute_InterleavesClientsInsteadOfFifo() throws Exception {
+        ToolExecutionScheduler scheduler = new ToolExecutionScheduler(1, 10, 10, Duration.ofSeconds(5), null);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        Future<?> first = submit(scheduler, "A", "A1", order, true);
+        awaitUntil(() -> scheduler.running() == 1);
+        Future<?> second = submit(scheduler, "A", "A2", order, false);
+        awaitUntil(() -> scheduler.queued("A") == 1);
+        Future<?> third = submit(scheduler, "A", "A3", order, false);
+        awaitUntil(() -> scheduler.queued("A") == 2);
+        Future<?> other = submit(scheduler, "B", "B1", order, false);
+        awaitUntil(() -> scheduler.queued("B") == 1);
+
+        release.countDown();
+        for (Future<?> call : List.of(first, second, third, other)) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(order).containsExactly("A1", "A2", "B1", "A3");
+    }
+
+    @Test
+    void testExecute_PerClientLimitDoesNotBlockOtherClients() throws Exception {
+        ToolExecutionScheduler scheduler = new ToolExecutionScheduler(4, 1, 10, Duration.ofSeconds(5), null);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        submit(scheduler, "A", "A1", order, true);
+        awaitUntil(() -> scheduler.running() == 1);
+        submit(scheduler, "A", "A2", order, false);
+        awaitUntil(() -> scheduler.queued("A") == 1);
+
+        assertEquals("B1", scheduler.execute("B", 1, () -> "B1"));
+        assertThat(order).containsExactly("A1");
+    }
+
+    @Test
+    void testExecute_FullClientQueueIsRejected() throws Exception {
+        ToolExecutionScheduler scheduler = new ToolExecutionScheduler(1, 1, 1, Duration.ofSeconds(5), null);
+        List<String> order = new CopyOnWriteArrayList<>();
+        submit(scheduler, "A", "A1", order, true);
+        awaitUntil(() -> scheduler.running() == 1);
+        submit(scheduler, "A", "A2", order, false);
+        awaitUntil(() -> scheduler.queued("A") == 1);
+
+        ToolRejectedException rejection = assertThrows(ToolRejectedException.class,
+                () -> scheduler.execute("A", 1, () -> "A3"));
+
+        assertEquals(ToolRejectedException.CLIENT_QUEUE_FULL, rejection.getCode());
+        assertEquals("A", rejection.getClientId());
+        assertEquals(1, rejection.getQueueDepth());
+        assertThat(rejection.getRetryAfterMillis()).isPositive();
+    }
+
+    @Test
+    void testExecute_QueueTimeoutIsRejectedAndRecorded() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ToolExecutionScheduler scheduler = new ToolExecutionScheduler(1, 1, 10, Duration.ofMillis(50), registry);
+        List<String> order = new CopyOnWriteArrayList<>();
+        submit(scheduler, "A", "A1", order, true);
+        awaitUntil(() -> scheduler.running() == 1);
+
+        ToolRejectedException rejection = assertThrows(ToolRejectedException.class,
+                () -> scheduler.execute("B", 1, () -> "B1"));
+
+        assertEquals(ToolRejectedException.QUEUE_TIMEOUT, rejection.getCode());
+        assertEquals(0, scheduler.queued("B"));
+        ClientStats stats = scheduler.snapshot().stream()
+                .filter(client -> client.getClientId().equals("B"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, stats.getRejected());
+        assertEquals(1.0, registry.get("mcp.tools.scheduler.running").gauge().value());
+        assertEquals(1, registry.get("mcp.tools.scheduler.wait").tag("client", "A").timer().count());
+    }
+
+    @Test
+    void testMeters_ClientTagIsCappedAndRemovedWhenClientIsForgotten() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ToolExecutionScheduler scheduler = new ToolExecutionScheduler(1, 1, 10, Duration.ofSeconds(5), registry);
+
+        for (int i = 0; i <= ToolExecutionScheduler.MAX_TAGGED_CLIENTS; i++) {
+            scheduler.execute("client-" + i, 1, () -> "ok");
+        }
+
+        assertEquals(1, registry.get("mcp.tools.scheduler.wait").tag("client", "client-0").timer().count());
+        assertEquals(1, registry.get("mcp.tools.scheduler.wait")
+                .tag("client", ToolExecutionScheduler.OTHER_CLIENTS).timer().count());
+        assertThat(registry.find("mcp.tools.scheduler.wait").timers())
+                .hasSize(ToolExecutionScheduler.MAX_TAGGED_CLIENTS + 1);
+        assertThat(registry.find("mcp.tools.scheduler.queued").gauges())
+                .hasSize(ToolExecutionScheduler.MAX_TAGGED_CLIENTS + 1);
+
+        // One client past the tracking limit makes the scheduler forget the oldest idle client
+        for (int i = ToolExecutionScheduler.MAX_TAGGED_CLIENTS + 1; i <= ToolExecutionScheduler.MAX_TRACKED_CLIENTS; i++) {
+            scheduler.execute("client-" + i, 1, () -> "ok");
+        }
+
+        assertNull(registry.find("mcp.tools.scheduler.wait").tag("client", "client-0").timer());
+        assertNull(registry.find("mcp.tools.scheduler.queued").tag("client", "client-0").gauge());
+        scheduler.execute("late", 1, () -> "ok");
+        assertEquals(1, registry.get("mcp.tools.scheduler.wait").tag("client", "late").timer().count());
+    }
+
+    private Future<?> submit(ToolExecutionScheduler scheduler, String client, String name,
+                             List<String> order, boolean block) {
+        return callers.submit(() -> scheduler.execute(client, 1, () -> {
+            order.add(name);
+            if (block) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return name;
+        }));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
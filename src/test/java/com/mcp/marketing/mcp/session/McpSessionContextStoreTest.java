@@ -0,0 +1,194 @@
+package com.mcp.marketing.mcp.session;
+
+import com.mcp.marketing.domain.model.MarketingContext;
+import com.mcp.marketing.domain.service.ValidationService;
+import com.mcp.marketing.mcp.resources.catalog.CatalogReferenceResolver;
+import com.mcp.marketing.mcp.resources.catalog.ResourceCatalogs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for session context merging and eviction
+ */
+class McpSessionContextStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000L);
+    private CatalogReferenceResolver referenceResolver;
+
+    @BeforeEach
+    void setUp() {
+        referenceResolver = new CatalogReferenceResolver(ResourceCatalogs.classpathDefaults());
+    }
+
+    @Test
+    void testPut_ResolvesReferencesAndDerivesDataOnce() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+
+        SessionContext session = store.put("s-1", Map.of(
+                "productId", "crm-001",
+                "audienceId", "aud-001",
+                "brandId", "brand-001",
+                "goals", "Generate leads",
+                "language", "en-US"));
+
+        assertEquals("Cloud CRM Platform", session.getBase().get("product"));
+        assertTrue(session.isBaseValid());
+        assertEquals("cloudcrmplatform.com", session.getDisplayUrl());
+        assertThat(session.getDefaultKeywords()).containsExactly(
+                "cloud-crm-platform-solution", "cloud-crm-platform-offer", "cloud-crm-platform-case-studies");
+    }
+
+    @Test
+    void testPut_WithoutId_GeneratesRandomUuid() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+
+        SessionContext session = store.put(null, baseInput());
+
+        assertEquals(4, UUID.fromString(session.getSessionId()).version(), "Session ids must not be time-ordered");
+    }
+
+    @Test
+    void testPut_DropsCallerMeta() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+        Map<String, Object> input = new HashMap<>(baseInput());
+        input.put("_meta", Map.of("deadline", 1_000L, "clientId", "agent", "progressToken", "p1",
+                "idempotencyKey", "k1"));
+
+        store.put("s-1", input);
+
+        assertFalse(store.get("s-1").getBase().containsKey("_meta"));
+        assertFalse(store.resolve(Map.of("sessionId", "s-1")).input().containsKey("_meta"));
+    }
+
+    @Test
+    void testResolve_OverridesWinAndSkipRevalidation() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+        store.put("s-1", baseInput());
+
+        SessionInput resolved = store.resolve(Map.of("sessionId", "s-1", "budget", "5000"));
+
+        assertEquals("5000", resolved.input().get("budget"));
+        assertEquals("Cloud CRM Platform", resolved.input().get("product"));
+        assertFalse(resolved.input().containsKey("sessionId"));
+        assertTrue(resolved.isPrevalidated());
+
+        SessionInput languageOverride = store.resolve(Map.of("sessionId", "s-1", "language", "pt-BR"));
+        assertFalse(languageOverride.isPrevalidated(), "Overriding a required field must re-validate");
+    }
+
+    @Test
+    void testResolve_ReferenceOverrideReplacesResolvedBaseText() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+        Map<String, Object> base = new HashMap<>(baseInput());
+        base.remove("product");
+        base.put("productId", "crm-001");
+        store.put("s-1", base);
+
+        SessionInput resolved = store.resolve(Map.of("sessionId", "s-1", "productId", "ecom-001"));
+
+        assertEquals("E-commerce Platform", referenceResolver.resolveProduct(resolved.input()));
+    }
+
+    @Test
+    void testEnrich_AppliesDerivedDataOnlyForBaseProduct() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+        store.put("s-1", baseInput());
+        SessionInput resolved = store.resolve(Map.of("sessionId", "s-1"));
+
+        MarketingContext same = resolved.enrich(MarketingContext.builder().product("Cloud CRM Platform").build());
+        MarketingContext other = resolved.enrich(MarketingContext.builder().product("Other").build());
+
+        assertEquals("cloudcrmplatform.com", same.getDisplayUrl());
+        assertThat(same.getKeywords()).hasSize(3);
+        assertNull(other.getDisplayUrl());
+        assertNull(other.getKeywords());
+    }
+
+    @Test
+    void testResolve_WithoutSessionPassesInputThrough() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+        Map<String, Object> input = baseInput();
+
+        SessionInput resolved = store.resolve(input);
+
+        assertSame(input, resolved.input());
+        assertFalse(resolved.isPrevalidated());
+    }
+
+    @Test
+    void testResolve_UnknownSessionIsRejected() {
+        McpSessionContextStore store = store(10, 0, Duration.ofMinutes(5));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> store.resolve(Map.of("sessionId", "missing")));
+        assertEquals("Unknown or expired sessionId: missing", error.getMessage());
+    }
+
+    @Test
+    void testGet_IdleSessionExpires() {
+        McpSessionContextStore store = store(10, 0, Duration.ofSeconds(30));
+        store.put("s-1", baseInput());
+
+        clock.addAndGet(29_000L);
+        assertNotNull(store.get("s-1"));
+        clock.addAndGet(31_000L);
+
+        assertNull(store.get("s-1"));
+        assertEquals(0, store.size());
+        assertEquals(0, store.estimatedBytes());
+        assertEquals(1, store.evictionCount());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsedOverSessionCap() {
+        McpSessionContextStore store = store(2, 0, Duration.ofMinutes(5));
+        store.put("s-1", baseInput());
+        store.put("s-2", baseInput());
+        store.get("s-1");
+
+        store.put("s-3", baseInput());
+
+        assertNotNull(store.get("s-1"));
+        assertNull(store.get("s-2"));
+        assertNotNull(store.get("s-3"));
+    }
+
+    @Test
+    void testPut_EvictsOverMemoryCap() {
+        long oneSession = McpSessionContextStore.estimateBytes(baseInput());
+        McpSessionContextStore store = store(100, oneSession * 2 + 1, Duration.ofMinutes(5));
+
+        store.put("s-1", baseInput());
+        store.put("s-2", baseInput());
+        store.put("s-3", baseInput());
+
+        assertEquals(2, store.size());
+        assertThat(store.estimatedBytes()).isLessThanOrEqualTo(oneSession * 2 + 1);
+        assertNull(store.get("s-1"));
+    }
+
+    private McpSessionContextStore store(int maxSessions, long maxBytes, Duration idleTimeout) {
+        return new McpSessionContextStore(new ValidationService(), referenceResolver,
+                maxSessions, maxBytes, idleTimeout, clock::get);
+    }
+
+    private Map<String, Object> baseInput() {
+        return Map.of(
+                "product", "Cloud CRM Platform",
+                "audience", "SMB owners",
+                "brandVoice", "Friendly",
+                "goals", "Generate leads",
+                "language", "en-US",
+                "channels", List.of("email"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.mcp.marketing.mcp.transport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mcp.marketing.mcp.server.McpMarketingServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the MCP stdio JSON-RPC transport
+ */
+@ExtendWith(MockitoExtension.class)
+class McpStdioTransportTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private McpMarketingServer server;
+
+    @Test
+    void testRun_InitializeAndToolsList_ReturnsServerInfoAndTools() throws Exception {
+        when(server.getServerName()).thenReturn("mcp-marketing-suite-server");
+        when(server.getServerVersion()).thenReturn("0.1.0");
+        when(server.getToolNames()).thenReturn(new LinkedHashSet<>(List.of("ads", "strategy")));
+
+        List<JsonNode> responses = run("""
+                {"jsonrpc":"2.0","id":1,"method":"initialize","params":{"protocolVersion":"2025-06-18"}}
+                {"jsonrpc":"2.0","method":"notifications/initialized"}
+                {"jsonrpc":"2.0","id":2,"method":"tools/list"}
+                {"jsonrpc":"2.0","id":3,"method":"ping"}
+                """);
+
+        assertEquals(3, responses.size());
+        assertEquals(McpStdioTransport.PROTOCOL_VERSION, responses.get(0).at("/result/protocolVersion").asText());
+        assertEquals("mcp-marketing-suite-server", responses.get(0).at("/result/serverInfo/name").asText());
+        assertTrue(responses.get(0).at("/result/capabilities/tools").isObject());
+        assertEquals("ads", responses.get(1).at("/result/tools/0/name").asText());
+        assertEquals("strategy", responses.get(1).at("/result/tools/1/name").asText());
+        assertEquals("object", responses.get(1).at("/result/tools/0/inputSchema/type").asText());
+        assertEquals(3, responses.get(2).get("id").asInt());
+        assertTrue(responses.get(2).get("result").isObject());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRun_ToolsCall_WrapsEnvelopeAndMergesMeta() throws Exception {
+        when(server.callTool(eq("ads"), anyMap())).thenReturn(Map.of("success", true, "status", 200,
+                "data", Map.of("output_path", "/tmp/ads.json")));
+
+        List<JsonNode> responses = run("""
+                {"jsonrpc":"2.0","id":"a1","method":"tools/call","params":{"name":"ads",\
+                "arguments":{"product":"Cloud CRM","_meta":{"clientId":"agent"}},"_meta":{"progressToken":"p1"}}}
+                """);
+
+        ArgumentCaptor<Map<String, Object>> input = ArgumentCaptor.forClass(Map.class);
+        verify(server).callTool(eq("ads"), input.capture());
+        assertEquals("Cloud CRM", input.getValue().get("product"));
+        assertEquals(Map.of("clientId", "agent", "progressToken", "p1", "jsonRpcId", "a1"),
+                input.getValue().get("_meta"));
+
+        JsonNode response = responses.get(0);
+        assertEquals("a1", response.get("id").asText());
+        assertFalse(response.at("/result/isError").asBoolean());
+        assertEquals(200, response.at("/result/structuredContent/status").asInt());
+        assertEquals("text", response.at("/result/content/0/type").asText());
+        assertThat(response.at("/result/content/0/text").asText()).contains("/tmp/ads.json");
+    }
+
+    @Test
+    void testRun_FailedToolEnvelope_IsReportedAsToolError() throws Exception {
+        when(server.callTool(eq("unknown"), anyMap())).thenReturn(Map.of("success", false, "status", 404,
+                "error", "TOOL_NOT_FOUND"));
+
+        JsonNode response = run("""
+                {"jsonrpc":"2.0","id":7,"method":"tools/call","params":{"name":"unknown","arguments":{}}}
+                """).get(0);
+
+        assertTrue(response.at("/result/isError").asBoolean());
+        assertEquals("TOOL_NOT_FOUND", response.at("/result/structuredContent/error").asText());
+    }
+
+    @Test
+    void testRun_BadJsonAndUnknownMethod_ReturnJsonRpcErrors() throws Exception {
+        List<JsonNode> responses = run("""
+                {not json
+                {"jsonrpc":"2.0","id":4,"method":"resources/templates/list"}
+                {"jsonrpc":"2.0","id":5,"method":"tools/call","params":{}}
+                """);
+
+        assertEquals(McpStdioTransport.PARSE_ERROR, responses.get(0).at("/error/code").asInt());
+        assertTrue(responses.get(0).get("id").isNull());
+        assertEquals(McpStdioTransport.METHOD_NOT_FOUND, responses.get(1).at("/error/code").asInt());
+        assertEquals(McpStdioTransport.INVALID_PARAMS, responses.get(2).at("/error/code").asInt());
+    }
+
+    @Test
+    void testRun_CancelledWithoutProgressToken_CancelsInFlightCallByJsonRpcId() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(server.callTool(eq("strategy"), anyMap())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("success", false, "status", 503, "error", "CANCELLED");
+        });
+        when(server.cancelJsonRpcRequest("agent", 9, "user aborted")).thenReturn(true);
+
+        PipedOutputStream client = new PipedOutputStream();
+        PipedInputStream in = new PipedInputStream(client);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        McpStdioTransport transport = new McpStdioTransport(server, in, out);
+        CompletableFuture<Void> serving = CompletableFuture.runAsync(() -> {
+            try {
+                transport.run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        send(client, """
+                {"jsonrpc":"2.0","id":9,"method":"tools/call","params":{"name":"strategy","arguments":{},\
+                "_meta":{"clientId":"agent"}}}
+                """);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        send(client, """
+                {"jsonrpc":"2.0","method":"notifications/cancelled","params":{"requestId":9,"reason":"user aborted"}}
+                """);
+        verify(server, timeout(5000)).cancelJsonRpcRequest("agent", 9, "user aborted");
+
+        release.countDown();
+        client.close();
+        serving.get(5, TimeUnit.SECONDS);
+        assertTrue(parse(out).get(0).at("/result/isError").asBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRun_ServerNotifications_AreWrittenAsJsonRpcNotifications() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        McpStdioTransport transport = new McpStdioTransport(server, new ByteArrayInputStream(new byte[0]), out);
+        transport.run();
+
+        ArgumentCaptor<BiConsumer<String, Map<String, Object>>> handler =
+                ArgumentCaptor.forClass(BiConsumer.class);
+        verify(server).addNotificationHandler(handler.capture());
+        handler.getValue().accept("notifications/progress", Map.of("progressToken", "p1", "progress", 1));
+
+        JsonNode notification = parse(out).get(0);
+        assertEquals("notifications/progress", notification.get("method").asText());
+        assertEquals("p1", notification.at("/params/progressToken").asText());
+        assertNull(notification.get("id"));
+    }
+
+    private List<JsonNode> run(String input) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new McpStdioTransport(server, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out).run();
+        return parse(out);
+    }
+
+    private static void send(PipedOutputStream client, String line) throws Exception {
+        client.write(line.getBytes(StandardCharsets.UTF_8));
+        client.flush();
+    }
+
+    private static List<JsonNode> parse(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> messages = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                messages.add(objectMapper.readTree(line));
+            }
+        }
+        return messages;
+    }
+}
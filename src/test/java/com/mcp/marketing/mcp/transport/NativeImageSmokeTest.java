@@ -0,0 +1,200 @@
+package com.mcp.marketing.mcp.transport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smoke test of the packaged MCP server over stdio
+ * <p>
+ * Starts the native executable (or a jar, run with {@code java -jar}) with the {@code mcp-stdio}
+ * profile, performs the MCP handshake, lists the tools and calls each one, asserting every call
+ * succeeds. Time to the {@code initialize} answer and the resident set size after the calls are
+ * printed and written to {@code target/benchmarks/native-smoke.md}. Disabled by default; run with:
+ * <pre>
+ * mvn -Pnative native:compile -DskipTests
+ * mvn test -Dtest=NativeImageSmokeTest -Dnative.binary=target/mcp-marketing-suite
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "native.binary", matches = ".+")
+class NativeImageSmokeTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private final Path work = Paths.get("target", "native-smoke");
+    private Process process;
+    private BufferedReader responses;
+    private OutputStream requests;
+    private int nextId = 1;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(work);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (process != null && process.isAlive()) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    @Test
+    void testStdio_EveryToolAnswersFromThePackagedBinary() throws Exception {
+        long start = System.nanoTime();
+        start();
+        JsonNode initialize = request("initialize", Map.of("protocolVersion", McpStdioTransport.PROTOCOL_VERSION,
+                "capabilities", Map.of(), "clientInfo", Map.of("name", "native-smoke", "version", "1")));
+        long readyMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(McpStdioTransport.PROTOCOL_VERSION, initialize.at("/result/protocolVersion").asText());
+        notify("notifications/initialized");
+
+        List<String> tools = new ArrayList<>();
+        request("tools/list", Map.of()).at("/result/tools").forEach(tool -> tools.add(tool.get("name").asText()));
+        assertEquals(List.of("ads", "seo-plan", "crm-sequences", "strategy", "generate-bundle", "session-context"), tools);
+
+        Map<String, Long> latencies = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Object>> call : calls().entrySet()) {
+            long callStart = System.nanoTime();
+            JsonNode response = request("tools/call", Map.of("name", call.getKey(), "arguments", call.getValue()));
+            latencies.put(call.getKey(), (System.nanoTime() - callStart) / 1_000_000);
+            assertFalse(response.at("/result/isError").asBoolean(true), call.getKey() + ": " + response);
+            assertTrue(response.at("/result/structuredContent/success").asBoolean(), call.getKey() + ": " + response);
+        }
+        long rssKb = residentSetKb(process.pid());
+
+        requests.close();
+        assertTrue(process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Server did not exit after stdin closed");
+        report(readyMs, rssKb, latencies);
+    }
+
+    private void start() throws IOException {
+        String binary = System.getProperty("native.binary");
+        List<String> command = new ArrayList<>();
+        if (binary.endsWith(".jar")) {
+            command.addAll(List.of(Paths.get(System.getProperty("java.home"), "bin", "java").toString(), "-jar"));
+        }
+        command.add(binary);
+        command.add("--spring.profiles.active=mcp-stdio");
+        command.add("--app.outputs.directory=" + work.resolve("outputs"));
+        command.add("--mcp.sdk.resources.watch=false");
+        process = new ProcessBuilder(command)
+                .redirectError(work.resolve("server.log").toFile())
+                .start();
+        requests = process.getOutputStream();
+        responses = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private JsonNode request(String method, Map<String, Object> params) throws Exception {
+        int id = nextId++;
+        send(Map.of("jsonrpc", "2.0", "id", id, "method", method, "params", params));
+        // Skip server notifications (e.g. progress) until the answer to this request arrives
+        while (true) {
+            String line = CompletableFuture.supplyAsync(this::readLine).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertNotNull(line, "Server closed stdout, see " + work.resolve("server.log"));
+            JsonNode message = objectMapper.readTree(line);
+            if (message.path("id").asInt(-1) == id) {
+                assertFalse(message.has("error"), method + ": " + message);
+                return message;
+            }
+        }
+    }
+
+    private void notify(String method) throws IOException {
+        send(Map.of("jsonrpc", "2.0", "method", method));
+    }
+
+    private void send(Map<String, Object> message) throws IOException {
+        requests.write(objectMapper.writeValueAsBytes(message));
+        requests.write('\n');
+        requests.flush();
+    }
+
+    private String readLine() {
+        try {
+            return responses.readLine();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Map<String, Object>> calls() {
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("product", "Cloud CRM Platform");
+        context.put("audience", "Small Business Owners");
+        context.put("brandVoice", "Professional");
+        context.put("goals", "Generate qualified leads");
+        context.put("language", "en-US");
+
+        Map<String, Map<String, Object>> calls = new LinkedHashMap<>();
+        calls.put("ads", with(context, Map.of("platforms", List.of("google", "meta"), "budget", "5000", "duration", "Q1")));
+        calls.put("seo-plan", with(context, Map.of("keywords", List.of("crm", "small business"),
+                "domain", "example.com", "monthlyBudget", 10000)));
+        calls.put("crm-sequences", with(context, Map.of("sequenceLength", 5, "channels", List.of("email", "sms"),
+                "conversionGoal", "Demos")));
+        calls.put("strategy", with(context, Map.of("marketSegment", "SaaS", "competitorAnalysis", "Strong incumbents",
+                "channels", List.of("linkedin", "events"), "timeframe", "H1")));
+        calls.put("generate-bundle", with(context, Map.of("artifacts", List.of("ads", "seo-plan", "crm-sequences"))));
+        calls.put("session-context", with(context, Map.of("action", "set", "sessionId", "native-smoke")));
+        return calls;
+    }
+
+    private static Map<String, Object> with(Map<String, Object> context, Map<String, Object> extra) {
+        Map<String, Object> arguments = new LinkedHashMap<>(context);
+        arguments.putAll(extra);
+        return arguments;
+    }
+
+    /**
+     * VmRSS of the server process from {@code /proc}; -1 where it is not available
+     */
+    private static long residentSetKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Paths.get("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D+", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux or the process is gone
+        }
+        return -1;
+    }
+
+    private void report(long readyMs, long rssKb, Map<String, Long> latencies) throws IOException {
+        StringBuilder report = new StringBuilder("# Native smoke test\n\n")
+                .append("Binary: `").append(System.getProperty("native.binary")).append("`\n\n")
+                .append("| Metric | Value |\n|---|---|\n")
+                .append("| Time to initialize | ").append(readyMs).append(" ms |\n")
+                .append("| RSS after calls | ").append(rssKb < 0 ? "n/a" : rssKb / 1024 + " MB").append(" |\n");
+        latencies.forEach((tool, ms) -> report.append("| ").append(tool).append(" | ").append(ms).append(" ms |\n"));
+        System.out.println(report);
+        Path file = Paths.get("target", "benchmarks", "native-smoke.md");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+    }
+}